@@ -67,6 +67,9 @@ class VaultAgentApplication:
     def reindex(self, force: bool) -> tuple[int, int, int]:
         return self.rag_graph.reindex(force=force)
 
+    def reindex_delta(self, changes: list[tuple[str, str, bool]]) -> tuple[int, int, int]:
+        return self.rag_graph.reindex_delta(changes)
+
     def source_excerpt(self, hit: SearchHit, question: str) -> str:
         return self.rag_graph.store.source_excerpt(hit, question)
 
@@ -75,6 +75,9 @@ class VaultRagGraph:
     def reindex(self, force: bool = False) -> tuple[int, int, int]:
         return self.store.reindex(force=force)
 
+    def reindex_delta(self, changes: list[tuple[str, str, bool]]) -> tuple[int, int, int]:
+        return self.store.reindex_delta(changes)
+
     def start_index_sync(self) -> None:
         if self._sync_thread is not None or self.config.index_sync_interval_seconds <= 0:
             return
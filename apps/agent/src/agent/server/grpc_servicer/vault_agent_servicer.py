@@ -101,6 +101,23 @@ class VaultAgentServicer(vault_agent_pb2_grpc.VaultAgentServiceServicer):
             skipped_notes=skipped,
         )
 
+    def ReindexDelta(self, request, context):
+        indexed, deleted, skipped = self.application.reindex_delta(
+            [
+                (
+                    delta.content_type,
+                    delta.document_id,
+                    delta.operation == vault_agent_pb2.IndexDelta.DELETE,
+                )
+                for delta in request.deltas
+            ]
+        )
+        return vault_agent_pb2.ReindexDeltaResponse(
+            indexed_documents=indexed,
+            deleted_documents=deleted,
+            skipped_documents=skipped,
+        )
+
     def start(self) -> None:
         self.application.start()
 
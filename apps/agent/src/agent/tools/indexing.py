@@ -3,9 +3,9 @@ from __future__ import annotations
 import hashlib
 import uuid
 
-from qdrant_client.http.models import PointStruct
+from qdrant_client.http.models import PointIdsList, PointStruct
 
-from agent.tools.models import VaultNote
+from agent.tools.models import ContentAccessScope, VaultNote
 
 
 class VaultIndexingMixin:
@@ -16,33 +16,67 @@ class VaultIndexingMixin:
         indexed = 0
         skipped = 0
         for note in notes:
-            text = self._embedding_text(note)
-            content_hash = hashlib.sha256(text.encode("utf-8")).hexdigest()
-            point_id = self._point_id(note)
-            if not force and self._is_current(point_id, content_hash, note):
+            if self._index_note(note, force):
+                indexed += 1
+            else:
                 skipped += 1
-                continue
-            self.qdrant.upsert(
+        return len(notes), indexed, skipped
+
+    def reindex_delta(self, changes: list[tuple[str, str, bool]]) -> tuple[int, int, int]:
+        """바뀐 문서만 다시 색인합니다. changes는 (content_type, document_id, deleted) 목록입니다.
+
+        삭제가 아닌 변경은 원본을 다시 읽어 색인하고, 원본이 없으면 삭제로 처리합니다.
+        """
+        upserts = [
+            (content_type, document_id)
+            for content_type, document_id, deleted in changes
+            if not deleted
+        ]
+        documents = self._fetch_index_documents(upserts, ContentAccessScope.full_access())
+        indexed = 0
+        skipped = 0
+        stale: list[str] = []
+        for content_type, document_id, deleted in changes:
+            note = None if deleted else documents.get(f"{content_type}:{document_id}")
+            if note is None:
+                stale.append(self._document_point_id(content_type, document_id))
+            elif self._index_note(note, force=False):
+                indexed += 1
+            else:
+                skipped += 1
+        if stale:
+            self.qdrant.delete(
                 collection_name=self.config.qdrant_collection,
-                points=[
-                    PointStruct(
-                        id=point_id,
-                        vector=self.embed_text(text),
-                        payload={
-                            "content_type": note.content_type,
-                            "document_id": note.id,
-                            "note_id": note.id,
-                            "path": note.path,
-                            "slug": note.slug,
-                            "title": note.title,
-                            "tags": note.tags,
-                            "content_hash": content_hash,
-                        },
-                    )
-                ],
+                points_selector=PointIdsList(points=stale),
             )
-            indexed += 1
-        return len(notes), indexed, skipped
+        return indexed, len(stale), skipped
+
+    def _index_note(self, note: VaultNote, force: bool) -> bool:
+        text = self._embedding_text(note)
+        content_hash = hashlib.sha256(text.encode("utf-8")).hexdigest()
+        point_id = self._point_id(note)
+        if not force and self._is_current(point_id, content_hash, note):
+            return False
+        self.qdrant.upsert(
+            collection_name=self.config.qdrant_collection,
+            points=[
+                PointStruct(
+                    id=point_id,
+                    vector=self.embed_text(text),
+                    payload={
+                        "content_type": note.content_type,
+                        "document_id": note.id,
+                        "note_id": note.id,
+                        "path": note.path,
+                        "slug": note.slug,
+                        "title": note.title,
+                        "tags": note.tags,
+                        "content_hash": content_hash,
+                    },
+                )
+            ],
+        )
+        return True
 
     def _is_current(self, point_id: str, content_hash: str, note: VaultNote) -> bool:
         existing = self.qdrant.retrieve(
@@ -70,7 +104,11 @@ class VaultIndexingMixin:
             f"content:\n{note.content}"
         )[:8000]
 
+    @classmethod
+    def _point_id(cls, note: VaultNote) -> str:
+        return cls._document_point_id(note.content_type, note.id)
+
     @staticmethod
-    def _point_id(note: VaultNote) -> str:
-        document_key = note.id if note.content_type == "vault" else f"{note.content_type}:{note.id}"
+    def _document_point_id(content_type: str, document_id: str) -> str:
+        document_key = document_id if content_type == "vault" else f"{content_type}:{document_id}"
         return str(uuid.uuid5(uuid.NAMESPACE_URL, f"kscold-vault-note:{document_key}"))
@@ -0,0 +1,52 @@
+package com.kscold.blog.analytics.domain.service;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** 고유 방문자 스케치 갱신·병합·직렬화 비용 측정. 수집 배치마다 add, 대시보드 조회마다 merge + estimate가 일어남. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HyperLogLogBenchmark {
+
+    private HyperLogLog sketch;
+    private HyperLogLog daily;
+    private String[] ipHashes;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sketch = new HyperLogLog();
+        daily = new HyperLogLog();
+        ipHashes = new String[4096];
+        for (int i = 0; i < ipHashes.length; i++) {
+            ipHashes[i] = Long.toHexString(HyperLogLog.hash64("visitor-" + i));
+        }
+        for (int i = 0; i < 50_000; i++) {
+            daily.add("daily-" + i);
+        }
+    }
+
+    @Benchmark
+    public boolean add() {
+        cursor = (cursor + 1) & (ipHashes.length - 1);
+        return sketch.add(ipHashes[cursor]);
+    }
+
+    @Benchmark
+    public long mergeAndEstimate() {
+        return new HyperLogLog().merge(daily).estimate();
+    }
+
+    @Benchmark
+    public HyperLogLog serializeRoundTrip() {
+        return HyperLogLog.fromBytes(daily.toBytes());
+    }
+}
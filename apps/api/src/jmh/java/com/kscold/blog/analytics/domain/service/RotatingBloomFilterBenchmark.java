@@ -0,0 +1,55 @@
+package com.kscold.blog.analytics.domain.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/** 조회 중복 판정 비용 측정. 새로고침 반복(이미 본 키)과 새 조회(처음 보는 키)를 나눠 봄. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RotatingBloomFilterBenchmark {
+
+    @Param({"200000"})
+    public long expectedViews;
+
+    private RotatingBloomFilter filter;
+    private String[] seenKeys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filter =
+                new RotatingBloomFilter(
+                        TimeUnit.HOURS.toMillis(1),
+                        4,
+                        expectedViews,
+                        0.001,
+                        System::currentTimeMillis);
+        seenKeys = new String[10_000];
+        for (int i = 0; i < seenKeys.length; i++) {
+            seenKeys[i] = "POST:" + i + ":" + Integer.toHexString(i * 31);
+            filter.putIfAbsent(seenKeys[i]);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean repeatedRefresh() {
+        return filter.putIfAbsent(seenKeys[ThreadLocalRandom.current().nextInt(seenKeys.length)]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean newView() {
+        return filter.putIfAbsent("FEED:" + ThreadLocalRandom.current().nextLong());
+    }
+}
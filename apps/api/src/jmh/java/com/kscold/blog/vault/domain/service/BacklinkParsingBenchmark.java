@@ -0,0 +1,77 @@
+package com.kscold.blog.vault.domain.service;
+
+import com.kscold.blog.shared.util.SlugUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 링크가 많은 노트의 백링크 파싱 CPU 비용 측정. DB 왕복은 맵 조회로 대체했으므로 이전 방식의 링크 수만큼 쿼리 비용은 포함되지 않음 (이전: 링크당 findBySlug
+ * 한 번, 현재: 노트당 $in 한 번).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BacklinkParsingBenchmark {
+
+    private static final Pattern BACKLINK_PATTERN = Pattern.compile("\\[\\[([^\\]]+)\\]\\]");
+
+    @Param({"100", "500"})
+    private int links;
+
+    private String content;
+    private Map<String, String> idsBySlug;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        idsBySlug = new HashMap<>();
+        StringBuilder sb = new StringBuilder();
+        int distinct = Math.max(1, links / 2);
+        for (int i = 0; i < links; i++) {
+            int target = i % distinct;
+            String title = "Linked Note " + target;
+            idsBySlug.put(SlugUtils.generate(title), "id-" + target);
+            sb.append("문단 ").append(i).append(" 본문과 함께 [[").append(title);
+            if (i % 3 == 0) sb.append("|별칭");
+            sb.append("]] 를 참조함.\n");
+        }
+        content = sb.toString();
+    }
+
+    @Benchmark
+    public List<String> batched() {
+        Set<String> slugs = BacklinkParsingService.collectLinkSlugs(content);
+        return BacklinkParsingService.orderedIds(slugs, idsBySlug);
+    }
+
+    /** 이전 구현: 링크마다 슬러그 변환 + 조회, List.contains로 중복 제거 */
+    @Benchmark
+    public List<String> perLinkLegacy() {
+        List<String> result = new ArrayList<>();
+        Matcher matcher = BACKLINK_PATTERN.matcher(content);
+        while (matcher.find()) {
+            String title = matcher.group(1).trim();
+            int pipe = title.indexOf('|');
+            if (pipe >= 0) title = title.substring(0, pipe).trim();
+            String id = idsBySlug.get(SlugUtils.generate(title));
+            if (id != null && !result.contains(id)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+}
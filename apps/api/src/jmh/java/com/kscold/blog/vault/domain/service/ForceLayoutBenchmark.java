@@ -0,0 +1,79 @@
+package com.kscold.blog.vault.domain.service;
+
+import com.kscold.blog.vault.domain.model.GraphLayout;
+import com.kscold.blog.vault.domain.model.VaultGraph;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 합성 그래프(기본 노드 10k · 링크 50k)에서 레이아웃 계산 시간 측정. cold는 나선 배치에서 300회, warm은 노드 10개가 추가된 그래프를 이전 결과에서 이어
+ * 60회 반복함. 링크 대상은 앞쪽 노드에 몰리도록 뽑아 허브가 있는 실제 볼트와 비슷하게 만듦.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ForceLayoutBenchmark {
+
+    @Param({"10000"})
+    private int nodes;
+
+    @Param({"5"})
+    private int linksPerNode;
+
+    private ForkJoinPool pool;
+    private VaultGraph graph;
+    private VaultGraph grown;
+    private GraphLayout previous;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(Math.min(4, Runtime.getRuntime().availableProcessors()));
+        graph = VaultGraph.build(1, synthetic(nodes));
+        grown = VaultGraph.build(2, synthetic(nodes + 10));
+        previous = ForceLayout.layout(graph, 300, pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public GraphLayout cold() {
+        return ForceLayout.layout(graph, 300, pool);
+    }
+
+    @Benchmark
+    public GraphLayout warm() {
+        return ForceLayout.relayout(grown, previous, 60, pool);
+    }
+
+    /** 같은 시드로 만들어 앞쪽 count개 노드는 크기가 달라도 같은 링크를 가짐 */
+    private List<VaultGraph.Node> synthetic(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<VaultGraph.Node> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<String> links = new ArrayList<>(linksPerNode);
+            for (int k = 0; k < linksPerNode; k++) {
+                // 제곱으로 치우친 분포: 앞쪽 노드가 허브가 됨
+                double r = random.nextDouble();
+                links.add("n" + (int) (r * r * nodes));
+            }
+            result.add(new VaultGraph.Node("n" + i, "Note " + i, "note-" + i, null, 0, links));
+        }
+        return result;
+    }
+}
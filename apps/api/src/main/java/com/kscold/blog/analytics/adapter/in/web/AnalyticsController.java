@@ -2,16 +2,18 @@ package com.kscold.blog.analytics.adapter.in.web;
 
 import com.kscold.blog.analytics.adapter.in.web.dto.request.PageVisitRequest;
 import com.kscold.blog.analytics.application.port.in.PageVisitUseCase;
-import com.kscold.blog.analytics.application.service.PageExistenceChecker;
+import com.kscold.blog.analytics.application.service.ViewDedupeFilter;
 import com.kscold.blog.analytics.domain.model.DailyStat;
+import com.kscold.blog.analytics.domain.model.PageVisitIngestionStats;
 import com.kscold.blog.analytics.domain.model.PathStat;
+import com.kscold.blog.analytics.domain.model.ViewDedupeStats;
 import com.kscold.blog.analytics.domain.model.VisitEntry;
-import com.kscold.blog.identity.application.port.in.UserQueryPort;
 import com.kscold.blog.shared.web.ApiResponse;
 import com.kscold.blog.shared.web.ClientIdentifierResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,26 +25,18 @@ import org.springframework.web.bind.annotation.*;
 public class AnalyticsController {
 
     private final PageVisitUseCase pageVisitService;
-    private final PageExistenceChecker pageExistenceChecker;
     private final ClientIdentifierResolver clientIdentifierResolver;
-    private final UserQueryPort userQueryPort;
+    private final ViewDedupeFilter viewDedupeFilter;
 
-    /** 프론트에서 페이지 방문 시 호출 (인증 불필요) - 실존 페이지만 집계 */
+    /** 프론트에서 페이지 방문 시 호출 (인증 불필요) - 큐에 넣고 바로 202 반환. 실존 페이지 검증과 저장은 백그라운드 배치에서 처리 */
     @PostMapping("/analytics/page-visit")
     public ResponseEntity<ApiResponse<Void>> trackPageVisit(
             @RequestBody PageVisitRequest body,
             @AuthenticationPrincipal String userId,
             HttpServletRequest request) {
-        String normalized = normalize(body.getPath());
-        if (!pageExistenceChecker.exists(normalized)) {
-            return ResponseEntity.ok(ApiResponse.success(null));
-        }
-
         String ip = clientIdentifierResolver.resolve(request);
-        String resolvedUserId = resolveUserId(userId);
-        String username = resolveUsername(resolvedUserId);
-        pageVisitService.record(body.getPath(), ip, resolvedUserId, username);
-        return ResponseEntity.ok(ApiResponse.success(null));
+        pageVisitService.submit(body.getPath(), ip, resolveUserId(userId));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(null));
     }
 
     /** 어드민: path별 TOP 방문 */
@@ -78,24 +72,31 @@ public class AnalyticsController {
                 ApiResponse.success(pageVisitService.recentVisits(path, loggedInOnly, limit)));
     }
 
-    private String resolveUserId(String raw) {
-        if (!StringUtils.hasText(raw) || "anonymousUser".equals(raw)) return null;
-        return raw;
+    /** 어드민: 원본 방문 로그로 시간별 롤업 재구성 (최대 90일) */
+    @PostMapping("/admin/analytics/rollups/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> backfillRollups(
+            @RequestParam(defaultValue = "90") int days) {
+        return ResponseEntity.ok(
+                ApiResponse.success(pageVisitService.backfillRollups(days), "롤업을 재구성했습니다"));
     }
 
-    private String resolveUsername(String userId) {
-        if (userId == null) return null;
-        try {
-            return userQueryPort.getUserById(userId).displayName();
-        } catch (Exception e) {
-            return null;
-        }
+    /** 어드민: 조회수 중복 필터 상태 (추정 오탐률, 메모리 사용량) */
+    @GetMapping("/admin/analytics/view-dedupe")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<ViewDedupeStats>> viewDedupeStats() {
+        return ResponseEntity.ok(ApiResponse.success(viewDedupeFilter.stats()));
     }
 
-    private String normalize(String path) {
-        if (path == null) return "/";
-        int q = path.indexOf('?');
-        String p = q >= 0 ? path.substring(0, q) : path;
-        return p.isEmpty() ? "/" : p;
+    /** 어드민: 페이지 방문 수집 큐 상태 (대기 수, 버려진 수) */
+    @GetMapping("/admin/analytics/page-visit-ingestion")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PageVisitIngestionStats>> pageVisitIngestionStats() {
+        return ResponseEntity.ok(ApiResponse.success(pageVisitService.ingestionStats()));
+    }
+
+    private String resolveUserId(String raw) {
+        if (!StringUtils.hasText(raw) || "anonymousUser".equals(raw)) return null;
+        return raw;
     }
 }
@@ -0,0 +1,34 @@
+package com.kscold.blog.analytics.adapter.out.persistence;
+
+import com.kscold.blog.analytics.domain.port.out.PageVisitBackfillMarkerRepository;
+import java.util.Date;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/** PageVisitBackfillMarkerRepository 포트 구현체 — 백필 이름을 _id로 하는 문서 하나가 완료 표시 */
+@Component
+@RequiredArgsConstructor
+public class MongoPageVisitBackfillMarkerAdapter implements PageVisitBackfillMarkerRepository {
+
+    private static final String COLLECTION = "page_visit_backfills";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean isDone(String name) {
+        return mongoTemplate.exists(byName(name), COLLECTION);
+    }
+
+    @Override
+    public void markDone(String name) {
+        mongoTemplate.upsert(byName(name), new Update().set("completedAt", new Date()), COLLECTION);
+    }
+
+    private static Query byName(String name) {
+        return Query.query(Criteria.where("_id").is(name));
+    }
+}
@@ -1,22 +1,23 @@
 package com.kscold.blog.analytics.adapter.out.persistence;
 
 import static org.springframework.data.domain.Sort.Direction.DESC;
-import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
 import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
-import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
 
-import com.kscold.blog.analytics.domain.model.DailyStat;
 import com.kscold.blog.analytics.domain.model.PageVisitLog;
-import com.kscold.blog.analytics.domain.model.PathStat;
+import com.kscold.blog.analytics.domain.model.PageVisitRollup;
+import com.kscold.blog.analytics.domain.model.PageVisitSketch;
 import com.kscold.blog.analytics.domain.model.VisitEntry;
 import com.kscold.blog.analytics.domain.port.out.PageVisitLogRepository;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -33,6 +34,12 @@ public class MongoPageVisitLogAdapter implements PageVisitLogRepository {
         mongoTemplate.insert(log);
     }
 
+    @Override
+    public void insertAll(List<PageVisitLog> logs) {
+        if (logs.isEmpty()) return;
+        mongoTemplate.insert(logs, PageVisitLog.class);
+    }
+
     /** 최근 방문 히스토리 (path 필터 가능, 로그인 유저만 or 전체) */
     @Override
     public List<VisitEntry> recentVisits(String path, boolean loggedInOnly, int limit) {
@@ -50,72 +57,69 @@ public class MongoPageVisitLogAdapter implements PageVisitLogRepository {
                 .toList();
     }
 
-    /** 최근 N일 동안 path별 방문수 (내림차순) */
     @Override
-    public List<PathStat> topPaths(int days, int limit) {
-        Instant after = Instant.now().minus(days, ChronoUnit.DAYS);
+    public Map<PageVisitRollup.Key, Long> countHourly(Instant from, Instant to) {
+        // $dateTrunc(hour)는 UTC 정시로 자르므로 PageVisitRollup.hourOf와 같은 구간이 나옴
+        Document hourBucket =
+                new Document("path", "$path")
+                        .append(
+                                "hour",
+                                new Document(
+                                        "$dateTrunc",
+                                        new Document("date", "$createdAt").append("unit", "hour")));
+        AggregationOperation groupByHour =
+                context ->
+                        new Document(
+                                "$group",
+                                new Document("_id", hourBucket)
+                                        .append("visits", new Document("$sum", 1)));
         Aggregation agg =
                 Aggregation.newAggregation(
-                        match(Criteria.where("createdAt").gte(after)),
-                        group("path").count().as("visits"),
-                        sort(DESC, "visits"),
-                        Aggregation.limit(limit));
-        AggregationResults<RawPathStat> results =
-                mongoTemplate.aggregate(agg, "page_visit_logs", RawPathStat.class);
-        return results.getMappedResults().stream()
-                .map(
-                        r ->
-                                new PathStat(
-                                        r.get_id(),
-                                        r.getVisits(),
-                                        countUniqueVisitors(r.get_id(), after)))
-                .toList();
+                        match(Criteria.where("createdAt").gte(from).lt(to)), groupByHour);
+        Map<PageVisitRollup.Key, Long> counts = new HashMap<>();
+        for (Document row :
+                mongoTemplate
+                        .aggregate(agg, "page_visit_logs", Document.class)
+                        .getMappedResults()) {
+            Document id = row.get("_id", Document.class);
+            Date hour = id.getDate("hour");
+            counts.put(
+                    new PageVisitRollup.Key(id.getString("path"), hour.toInstant()),
+                    ((Number) row.get("visits")).longValue());
+        }
+        return counts;
     }
 
-    /** 최근 N일 일별 방문수 (전체) */
     @Override
-    public List<DailyStat> dailyVisits(int days) {
-        Instant after = Instant.now().minus(days, ChronoUnit.DAYS);
+    public Map<PageVisitSketch.Key, List<String>> visitorsByDay(Instant from, Instant to) {
+        Document dayBucket =
+                new Document("path", "$path")
+                        .append(
+                                "day",
+                                new Document(
+                                        "$dateToString",
+                                        new Document("format", "%Y-%m-%d")
+                                                .append("date", "$createdAt")
+                                                .append("timezone", PageVisitRollup.ZONE.getId())));
+        AggregationOperation groupByDay =
+                context ->
+                        new Document(
+                                "$group",
+                                new Document("_id", dayBucket)
+                                        .append("visitors", new Document("$addToSet", "$ipHash")));
         Aggregation agg =
                 Aggregation.newAggregation(
-                        match(Criteria.where("createdAt").gte(after)),
-                        Aggregation.project()
-                                .andExpression(
-                                        "{ $dateToString: { format: '%Y-%m-%d', date: '$createdAt', timezone: 'Asia/Seoul' } }")
-                                .as("day"),
-                        group("day").count().as("visits"),
-                        sort(org.springframework.data.domain.Sort.Direction.ASC, "_id"));
-        return mongoTemplate
-                .aggregate(agg, "page_visit_logs", DailyRaw.class)
-                .getMappedResults()
-                .stream()
-                .map(r -> new DailyStat(r.get_id(), r.getVisits()))
-                .toList();
-    }
-
-    private long countUniqueVisitors(String path, Instant after) {
-        Aggregation agg =
-                Aggregation.newAggregation(
-                        match(Criteria.where("path").is(path).and("createdAt").gte(after)),
-                        group("ipHash"),
-                        Aggregation.count().as("uniques"));
-        AggregationResults<org.bson.Document> out =
-                mongoTemplate.aggregate(agg, "page_visit_logs", org.bson.Document.class);
-        List<org.bson.Document> list = out.getMappedResults();
-        return list.isEmpty() ? 0 : list.get(0).getInteger("uniques", 0);
-    }
-
-    @lombok.Getter
-    @lombok.Setter
-    public static class RawPathStat {
-        private String _id;
-        private long visits;
-    }
-
-    @lombok.Getter
-    @lombok.Setter
-    public static class DailyRaw {
-        private String _id;
-        private long visits;
+                        match(Criteria.where("createdAt").gte(from).lt(to)), groupByDay);
+        Map<PageVisitSketch.Key, List<String>> visitors = new HashMap<>();
+        for (Document row :
+                mongoTemplate
+                        .aggregate(agg, "page_visit_logs", Document.class)
+                        .getMappedResults()) {
+            Document id = row.get("_id", Document.class);
+            visitors.put(
+                    new PageVisitSketch.Key(id.getString("path"), id.getString("day")),
+                    row.getList("visitors", String.class));
+        }
+        return visitors;
     }
 }
@@ -0,0 +1,98 @@
+package com.kscold.blog.analytics.adapter.out.persistence;
+
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+
+import com.kscold.blog.analytics.domain.model.DailyStat;
+import com.kscold.blog.analytics.domain.model.PageVisitRollup;
+import com.kscold.blog.analytics.domain.model.PathVisits;
+import com.kscold.blog.analytics.domain.port.out.PageVisitRollupRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/** PageVisitRollupRepository 포트 구현체 — page_visit_rollups 누적 upsert 및 대시보드 집계를 수행함. */
+@Component
+@RequiredArgsConstructor
+public class MongoPageVisitRollupAdapter implements PageVisitRollupRepository {
+
+    private static final String COLLECTION = "page_visit_rollups";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void increment(Map<PageVisitRollup.Key, Long> increments) {
+        write(increments, false);
+    }
+
+    @Override
+    public void replace(Map<PageVisitRollup.Key, Long> counts) {
+        write(counts, true);
+    }
+
+    private void write(Map<PageVisitRollup.Key, Long> values, boolean overwrite) {
+        if (values.isEmpty()) return;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+        values.forEach(
+                (key, value) -> {
+                    Query query =
+                            Query.query(
+                                    Criteria.where("path")
+                                            .is(key.path())
+                                            .and("hour")
+                                            .is(key.hour()));
+                    Update update =
+                            new Update().setOnInsert("day", PageVisitRollup.dayOf(key.hour()));
+                    if (overwrite) {
+                        update.set("visits", value);
+                    } else {
+                        update.inc("visits", value);
+                    }
+                    bulk.upsert(query, update);
+                });
+        bulk.execute();
+    }
+
+    @Override
+    public List<PathVisits> topPaths(Instant after, int limit) {
+        Aggregation agg =
+                Aggregation.newAggregation(
+                        match(Criteria.where("hour").gte(PageVisitRollup.hourOf(after))),
+                        group("path").sum("visits").as("visits"),
+                        sort(DESC, "visits"),
+                        Aggregation.limit(limit));
+        return mongoTemplate.aggregate(agg, COLLECTION, RawTotal.class).getMappedResults().stream()
+                .map(r -> new PathVisits(r.get_id(), r.getVisits()))
+                .toList();
+    }
+
+    @Override
+    public List<DailyStat> dailyVisits(Instant after) {
+        Aggregation agg =
+                Aggregation.newAggregation(
+                        match(Criteria.where("hour").gte(PageVisitRollup.hourOf(after))),
+                        group("day").sum("visits").as("visits"),
+                        sort(ASC, "_id"));
+        return mongoTemplate.aggregate(agg, COLLECTION, RawTotal.class).getMappedResults().stream()
+                .map(r -> new DailyStat(r.get_id(), r.getVisits()))
+                .toList();
+    }
+
+    @lombok.Getter
+    @lombok.Setter
+    public static class RawTotal {
+        private String _id;
+        private long visits;
+    }
+}
@@ -0,0 +1,85 @@
+package com.kscold.blog.analytics.adapter.out.persistence;
+
+import com.kscold.blog.analytics.domain.model.PageVisitSketch;
+import com.kscold.blog.analytics.domain.port.out.PageVisitSketchRepository;
+import com.kscold.blog.analytics.domain.service.HyperLogLog;
+import com.mongodb.client.result.UpdateResult;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/** PageVisitSketchRepository 포트 구현체 — 스케치를 읽어 합친 뒤 version 조건부 update로 저장함. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoPageVisitSketchAdapter implements PageVisitSketchRepository {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void merge(Map<PageVisitSketch.Key, HyperLogLog> sketches) {
+        sketches.forEach(this::mergeOne);
+    }
+
+    private void mergeOne(PageVisitSketch.Key key, HyperLogLog sketch) {
+        Query byKey = Query.query(Criteria.where("path").is(key.path()).and("day").is(key.day()));
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            PageVisitSketch stored = mongoTemplate.findOne(byKey, PageVisitSketch.class);
+            if (stored == null) {
+                try {
+                    mongoTemplate.insert(
+                            PageVisitSketch.builder()
+                                    .path(key.path())
+                                    .day(key.day())
+                                    .registers(sketch.toBytes())
+                                    .version(0)
+                                    .build());
+                    return;
+                } catch (DuplicateKeyException e) {
+                    // 다른 인스턴스가 먼저 만들었으면 다시 읽어서 합침
+                    continue;
+                }
+            }
+
+            byte[] before = stored.getRegisters();
+            byte[] after = HyperLogLog.fromBytes(before).merge(sketch).toBytes();
+            if (Arrays.equals(before, after)) return;
+
+            UpdateResult result =
+                    mongoTemplate.updateFirst(
+                            Query.query(
+                                    Criteria.where("_id")
+                                            .is(stored.getId())
+                                            .and("version")
+                                            .is(stored.getVersion())),
+                            new Update().set("registers", after).inc("version", 1),
+                            PageVisitSketch.class);
+            if (result.getMatchedCount() > 0) return;
+        }
+        log.warn("고유 방문자 스케치 병합 경합으로 포기: path={}, day={}", key.path(), key.day());
+    }
+
+    @Override
+    public Map<String, HyperLogLog> mergedByPath(Collection<String> paths, String fromDay) {
+        Map<String, HyperLogLog> merged = new HashMap<>();
+        if (paths.isEmpty()) return merged;
+        Query query = Query.query(Criteria.where("path").in(paths).and("day").gte(fromDay));
+        query.fields().include("path", "registers");
+        for (PageVisitSketch stored : mongoTemplate.find(query, PageVisitSketch.class)) {
+            HyperLogLog sketch = HyperLogLog.fromBytes(stored.getRegisters());
+            merged.merge(stored.getPath(), sketch, HyperLogLog::merge);
+        }
+        return merged;
+    }
+}
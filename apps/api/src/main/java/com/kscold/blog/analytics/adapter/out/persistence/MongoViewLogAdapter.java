@@ -3,8 +3,10 @@ package com.kscold.blog.analytics.adapter.out.persistence;
 import com.kscold.blog.analytics.domain.model.ViewLog;
 import com.kscold.blog.analytics.domain.port.out.ViewLogRepository;
 import com.mongodb.DuplicateKeyException;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -37,6 +39,20 @@ public class MongoViewLogAdapter implements ViewLogRepository {
         mongoTemplate.updateFirst(query, update, collectionName);
     }
 
+    @Override
+    public void incrementViewsBatch(String collectionName, Map<String, Integer> increments) {
+        if (increments.isEmpty()) return;
+        // 순서 무관한 $inc 묶음이므로 unordered로 보내 한 건 실패가 나머지를 막지 않게 함
+        BulkOperations bulk =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName);
+        increments.forEach(
+                (entityId, delta) ->
+                        bulk.updateOne(
+                                Query.query(Criteria.where("_id").is(toObjectIdOrRaw(entityId))),
+                                new Update().inc("views", delta)));
+        bulk.execute();
+    }
+
     private Object toObjectIdOrRaw(String id) {
         try {
             return new ObjectId(id);
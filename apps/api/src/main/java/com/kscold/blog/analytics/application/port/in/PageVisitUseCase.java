@@ -1,6 +1,7 @@
 package com.kscold.blog.analytics.application.port.in;
 
 import com.kscold.blog.analytics.domain.model.DailyStat;
+import com.kscold.blog.analytics.domain.model.PageVisitIngestionStats;
 import com.kscold.blog.analytics.domain.model.PathStat;
 import com.kscold.blog.analytics.domain.model.VisitEntry;
 import java.util.List;
@@ -9,12 +10,15 @@ import org.springframework.lang.Nullable;
 /** 페이지 방문 집계 유스케이스 (방문 기록 + 어드민 조회) */
 public interface PageVisitUseCase {
 
-    /** 페이지 방문 기록 (실존 라우트만 집계) */
-    void record(
-            String path,
-            @Nullable String clientIp,
-            @Nullable String userId,
-            @Nullable String username);
+    /**
+     * 페이지 방문을 비동기 수집 큐에 넣음. 실존 라우트 검증과 저장은 백그라운드 배치에서 처리함.
+     *
+     * @return 큐에 들어갔으면 true (허용되지 않은 경로거나 큐가 넘쳐 버려지면 false)
+     */
+    boolean submit(String path, @Nullable String clientIp, @Nullable String userId);
+
+    /** 방문 수집 큐 상태 */
+    PageVisitIngestionStats ingestionStats();
 
     /** 최근 방문 히스토리 (path 필터 가능, 로그인 유저만 or 전체) */
     List<VisitEntry> recentVisits(String path, boolean loggedInOnly, int limit);
@@ -24,4 +28,7 @@ public interface PageVisitUseCase {
 
     /** 최근 N일 일별 방문수 (전체) */
     List<DailyStat> dailyVisits(int days);
+
+    /** 원본 로그로 최근 N일 시간별 롤업 재구성. 기록한 구간 수 반환 */
+    int backfillRollups(int days);
 }
@@ -1,8 +1,6 @@
 package com.kscold.blog.analytics.application.service;
 
-import com.kscold.blog.blog.application.port.in.PostUseCase;
-import com.kscold.blog.social.application.port.in.FeedUseCase;
-import com.kscold.blog.vault.application.port.in.VaultNoteUseCase;
+import com.kscold.blog.shared.domain.event.PageRouteChangedEvent.RouteType;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Set;
@@ -14,15 +12,14 @@ import org.springframework.stereotype.Component;
 
 /**
  * 실제 존재하는 페이지인지 검증. - 정적 라우트: 고정 세트 - 동적 라우트(/blog/{slug}, /feed/{id}, /vault/{slug}): 실존 리소스만 허용
+ * (메모리 인덱스 조회)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PageExistenceChecker {
 
-    private final PostUseCase postUseCase;
-    private final FeedUseCase feedUseCase;
-    private final VaultNoteUseCase vaultNoteUseCase;
+    private final PageExistenceIndex pageExistenceIndex;
 
     private static final Set<String> STATIC_PATHS =
             Set.of(
@@ -53,49 +50,22 @@ public class PageExistenceChecker {
 
         Matcher blog = BLOG_POST.matcher(path);
         if (blog.matches()) {
-            String slug = decode(blog.group(2));
-            return slugSafely(() -> postUseCase.existsBySlug(slug));
+            return pageExistenceIndex.exists(RouteType.POST, decode(blog.group(2)));
         }
 
         Matcher feed = FEED_DETAIL.matcher(path);
         if (feed.matches()) {
-            String id = feed.group(1);
-            return callSafely(
-                    () -> {
-                        feedUseCase.getById(id);
-                        return true;
-                    });
+            return pageExistenceIndex.exists(RouteType.FEED, feed.group(1));
         }
 
         Matcher vault = VAULT_DETAIL.matcher(path);
         if (vault.matches()) {
-            String slug = decode(vault.group(1));
-            return callSafely(
-                    () -> {
-                        vaultNoteUseCase.getBySlugWithView(slug);
-                        return true;
-                    });
+            return pageExistenceIndex.exists(RouteType.VAULT_NOTE, decode(vault.group(1)));
         }
 
         return false;
     }
 
-    private boolean slugSafely(java.util.function.Supplier<Boolean> supplier) {
-        try {
-            return Boolean.TRUE.equals(supplier.get());
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    private boolean callSafely(java.util.function.Supplier<Boolean> supplier) {
-        try {
-            return Boolean.TRUE.equals(supplier.get());
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     private String decode(String raw) {
         try {
             return URLDecoder.decode(raw, StandardCharsets.UTF_8);
@@ -0,0 +1,180 @@
+package com.kscold.blog.analytics.application.service;
+
+import com.kscold.blog.blog.application.port.in.PostUseCase;
+import com.kscold.blog.shared.domain.event.PageRouteChangedEvent;
+import com.kscold.blog.shared.domain.event.PageRouteChangedEvent.RouteType;
+import com.kscold.blog.social.application.port.in.FeedUseCase;
+import com.kscold.blog.vault.application.port.in.VaultNoteUseCase;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상세 페이지 존재 여부를 메모리에서 답하는 인덱스. 기동 시 포스트 slug · 피드 id · 볼트 노트 slug를 한 번 적재하고, 이후에는 각 서비스가 발행하는
+ * {@link PageRouteChangedEvent}로 갱신함.
+ *
+ * <p>인덱스에 없는 키는 DB에 한 번만 확인해 결과를 기억함. 있으면 인덱스에 넣고(다른 인스턴스에서 생성된 경우), 없으면 크기 제한 · 만료가 있는 부정 캐시에 넣어
+ * 같은 잡음 경로가 매번 DB를 치지 않게 함. 이벤트를 받지 못한 삭제는 주기적 재적재로 정리됨.
+ */
+@Slf4j
+@Component
+public class PageExistenceIndex {
+
+    static final int NEGATIVE_CACHE_SIZE = 10_000;
+    static final long NEGATIVE_TTL_MILLIS = 10 * 60 * 1000L;
+
+    private final PostUseCase postUseCase;
+    private final FeedUseCase feedUseCase;
+    private final VaultNoteUseCase vaultNoteUseCase;
+    private final LongSupplier clock;
+
+    private volatile Map<RouteType, Set<String>> keys = emptyKeys();
+    private volatile boolean warmed;
+
+    // 접근 순서 LinkedHashMap: 가장 오래 안 쓴 항목부터 밀려남. 값은 만료 시각(ms)
+    private final Map<String, Long> negative =
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > NEGATIVE_CACHE_SIZE;
+                }
+            };
+
+    @Autowired
+    public PageExistenceIndex(
+            PostUseCase postUseCase, FeedUseCase feedUseCase, VaultNoteUseCase vaultNoteUseCase) {
+        this(postUseCase, feedUseCase, vaultNoteUseCase, System::currentTimeMillis);
+    }
+
+    PageExistenceIndex(
+            PostUseCase postUseCase,
+            FeedUseCase feedUseCase,
+            VaultNoteUseCase vaultNoteUseCase,
+            LongSupplier clock) {
+        this.postUseCase = postUseCase;
+        this.feedUseCase = feedUseCase;
+        this.vaultNoteUseCase = vaultNoteUseCase;
+        this.clock = clock;
+    }
+
+    public boolean exists(RouteType type, String key) {
+        if (key == null || key.isEmpty()) return false;
+        if (keys.get(type).contains(key)) return true;
+
+        String negativeKey = type + ":" + key;
+        if (isKnownMissing(negativeKey)) return false;
+
+        boolean found = existsInStore(type, key);
+        if (found) {
+            keys.get(type).add(key);
+        } else if (warmed) {
+            // 적재 전에는 인덱스가 비어 있어 부정 캐시에 넣지 않음
+            rememberMissing(negativeKey);
+        }
+        return found;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    @Scheduled(
+            initialDelayString = "${analytics.page-existence.resync-interval-ms:600000}",
+            fixedDelayString = "${analytics.page-existence.resync-interval-ms:600000}")
+    public void resyncPeriodically() {
+        reload();
+    }
+
+    /** 전체 키를 새로 읽어 통째로 교체함. 적재 중 추가된 키는 교체 후 첫 조회 때 DB 확인으로 다시 들어옴 */
+    public void reload() {
+        try {
+            Map<RouteType, Set<String>> loaded = emptyKeys();
+            loaded.get(RouteType.POST).addAll(postUseCase.getAllSlugs());
+            loaded.get(RouteType.FEED).addAll(feedUseCase.getAllIds());
+            loaded.get(RouteType.VAULT_NOTE).addAll(vaultNoteUseCase.getAllSlugs());
+            keys = loaded;
+            synchronized (negative) {
+                negative.clear();
+            }
+            warmed = true;
+            log.info(
+                    "페이지 존재 인덱스 적재: post={}, feed={}, vault={}",
+                    loaded.get(RouteType.POST).size(),
+                    loaded.get(RouteType.FEED).size(),
+                    loaded.get(RouteType.VAULT_NOTE).size());
+        } catch (RuntimeException e) {
+            // 기존 인덱스를 유지하고 다음 주기에 다시 시도
+            log.warn("페이지 존재 인덱스 적재 실패", e);
+        }
+    }
+
+    @EventListener
+    public void onRouteChanged(PageRouteChangedEvent event) {
+        Set<String> set = keys.get(event.type());
+        if (event.previousKey() != null) {
+            set.remove(event.previousKey());
+        }
+        if (event.currentKey() != null) {
+            set.add(event.currentKey());
+            synchronized (negative) {
+                negative.remove(event.type() + ":" + event.currentKey());
+            }
+        }
+    }
+
+    public boolean isWarmed() {
+        return warmed;
+    }
+
+    public int negativeCacheSize() {
+        synchronized (negative) {
+            return negative.size();
+        }
+    }
+
+    private boolean isKnownMissing(String negativeKey) {
+        synchronized (negative) {
+            Long expiresAt = negative.get(negativeKey);
+            if (expiresAt == null) return false;
+            if (expiresAt > clock.getAsLong()) return true;
+            negative.remove(negativeKey);
+            return false;
+        }
+    }
+
+    private void rememberMissing(String negativeKey) {
+        synchronized (negative) {
+            negative.put(negativeKey, clock.getAsLong() + NEGATIVE_TTL_MILLIS);
+        }
+    }
+
+    private boolean existsInStore(RouteType type, String key) {
+        try {
+            return switch (type) {
+                case POST -> postUseCase.existsBySlug(key);
+                case FEED -> feedUseCase.existsById(key);
+                case VAULT_NOTE -> vaultNoteUseCase.existsBySlug(key);
+            };
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static Map<RouteType, Set<String>> emptyKeys() {
+        Map<RouteType, Set<String>> map = new EnumMap<>(RouteType.class);
+        for (RouteType type : RouteType.values()) {
+            map.put(type, ConcurrentHashMap.newKeySet());
+        }
+        return map;
+    }
+}
@@ -0,0 +1,229 @@
+package com.kscold.blog.analytics.application.service;
+
+import com.kscold.blog.analytics.domain.model.PageVisitIngestionStats;
+import com.kscold.blog.analytics.domain.model.PageVisitLog;
+import com.kscold.blog.analytics.domain.model.PageVisitOverflowPolicy;
+import com.kscold.blog.analytics.domain.model.PageVisitRollup;
+import com.kscold.blog.analytics.domain.model.PageVisitSketch;
+import com.kscold.blog.analytics.domain.port.out.PageVisitIngestionSettings;
+import com.kscold.blog.analytics.domain.port.out.PageVisitLogRepository;
+import com.kscold.blog.analytics.domain.port.out.PageVisitRollupRepository;
+import com.kscold.blog.analytics.domain.port.out.PageVisitSketchRepository;
+import com.kscold.blog.analytics.domain.service.HyperLogLog;
+import com.kscold.blog.identity.application.port.in.UserQueryPort;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 페이지 방문 비동기 수집 파이프라인. 요청 스레드는 고정 크기 큐에 넣기만 하고, 소비자가 주기마다 한 배치씩 꺼내 실존 경로 검증 · 사용자 이름 일괄 조회 후
+ * insertMany로 저장하고 시간별 롤업 · 고유 방문자 스케치를 갱신함. 큐가 가득 차면 overflowPolicy대로 버리고 dropped로 집계하며, 종료 시 남은
+ * 방문을 모두 저장함.
+ */
+@Slf4j
+@Component
+public class PageVisitIngestionPipeline {
+
+    private final PageVisitLogRepository pageVisitLogRepository;
+    private final PageVisitRollupRepository pageVisitRollupRepository;
+    private final PageVisitSketchRepository pageVisitSketchRepository;
+    private final PageExistenceChecker pageExistenceChecker;
+    private final UserQueryPort userQueryPort;
+    private final PageVisitIngestionSettings settings;
+    private final ArrayBlockingQueue<PendingVisit> queue;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+
+    public PageVisitIngestionPipeline(
+            PageVisitLogRepository pageVisitLogRepository,
+            PageVisitRollupRepository pageVisitRollupRepository,
+            PageVisitSketchRepository pageVisitSketchRepository,
+            PageExistenceChecker pageExistenceChecker,
+            UserQueryPort userQueryPort,
+            PageVisitIngestionSettings settings) {
+        this.pageVisitLogRepository = pageVisitLogRepository;
+        this.pageVisitRollupRepository = pageVisitRollupRepository;
+        this.pageVisitSketchRepository = pageVisitSketchRepository;
+        this.pageExistenceChecker = pageExistenceChecker;
+        this.userQueryPort = userQueryPort;
+        this.settings = settings;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, settings.getQueueCapacity()));
+    }
+
+    /**
+     * 방문을 큐에 넣음. 블로킹하지 않음.
+     *
+     * @return 새 방문이 큐에 들어갔으면 true, 버려졌으면 false
+     */
+    public boolean offer(String path, @Nullable String clientIp, @Nullable String userId) {
+        PendingVisit visit = new PendingVisit(path, clientIp, userId, Instant.now());
+        if (queue.offer(visit)) {
+            accepted.increment();
+            return true;
+        }
+        if (settings.getOverflowPolicy() == PageVisitOverflowPolicy.DROP_OLDEST) {
+            // 소비자와 경합해 poll이 비어도 다음 offer가 성공하면 충분함
+            if (queue.poll() != null) dropped.increment();
+            if (queue.offer(visit)) {
+                accepted.increment();
+                return true;
+            }
+        }
+        dropped.increment();
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.page-visit.flush-interval-ms:1000}")
+    public void drainPeriodically() {
+        drainBatch();
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        int saved = drain();
+        if (saved > 0) {
+            log.info("종료 전 페이지 방문 {}건 저장", saved);
+        }
+    }
+
+    /**
+     * 최대 batchSize개를 한 배치로 꺼내 저장함. 방문이 계속 들어와도 한 배치로 끝나 공용 스케줄러 스레드를 오래 잡지 않음. 주기당 처리량을 넘는 방문은 큐
+     * 상한과 overflowPolicy로 걸러짐.
+     *
+     * @return 저장한 방문 수
+     */
+    public synchronized int drainBatch() {
+        int batchSize = Math.max(1, settings.getBatchSize());
+        List<PendingVisit> batch = new ArrayList<>(batchSize);
+        if (queue.drainTo(batch, batchSize) == 0) return 0;
+        try {
+            return writeBatch(batch);
+        } catch (RuntimeException e) {
+            // 분석 로그라 재시도 없이 버리고 실패만 집계
+            failedBatches.increment();
+            log.warn("페이지 방문 {}건 저장 실패", batch.size(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * 지금 큐에 쌓인 만큼을 batchSize 단위로 꺼내 저장함. 종료 시 남은 방문을 저장할 때 쓰며, 그 사이 들어온 방문까지 쫓아가지는 않음.
+     *
+     * @return 저장한 방문 수
+     */
+    public synchronized int drain() {
+        int saved = 0;
+        int batchSize = Math.max(1, settings.getBatchSize());
+        for (int remaining = queue.size(); remaining > 0; remaining -= batchSize) {
+            saved += drainBatch();
+        }
+        return saved;
+    }
+
+    public PageVisitIngestionStats stats() {
+        return new PageVisitIngestionStats(
+                queue.size() + queue.remainingCapacity(),
+                queue.size(),
+                accepted.sum(),
+                dropped.sum(),
+                rejected.sum(),
+                written.sum(),
+                failedBatches.sum());
+    }
+
+    private int writeBatch(List<PendingVisit> batch) {
+        // 같은 배치 안의 같은 경로는 한 번만 검증
+        Map<String, Boolean> existence = new HashMap<>();
+        List<PendingVisit> valid = new ArrayList<>(batch.size());
+        for (PendingVisit visit : batch) {
+            if (existence.computeIfAbsent(visit.path(), pageExistenceChecker::exists)) {
+                valid.add(visit);
+            } else {
+                rejected.increment();
+            }
+        }
+        if (valid.isEmpty()) return 0;
+
+        Map<String, UserQueryPort.UserInfo> users = lookupUsers(valid);
+        List<PageVisitLog> logs =
+                valid.stream()
+                        .map(
+                                visit -> {
+                                    UserQueryPort.UserInfo user =
+                                            visit.userId() != null
+                                                    ? users.get(visit.userId())
+                                                    : null;
+                                    return PageVisitLog.builder()
+                                            .path(visit.path())
+                                            .ipHash(hash(visit.clientIp()))
+                                            .userId(visit.userId())
+                                            .username(user != null ? user.displayName() : null)
+                                            .createdAt(visit.createdAt())
+                                            .build();
+                                })
+                        .toList();
+        pageVisitLogRepository.insertAll(logs);
+        written.add(logs.size());
+
+        // 대시보드용 시간별 롤업과 날짜별 고유 방문자 스케치도 같은 배치에서 누적
+        Map<PageVisitRollup.Key, Long> increments = new HashMap<>();
+        Map<PageVisitSketch.Key, HyperLogLog> sketches = new HashMap<>();
+        for (PageVisitLog entry : logs) {
+            increments.merge(PageVisitRollup.Key.of(entry), 1L, Long::sum);
+            sketches.computeIfAbsent(PageVisitSketch.Key.of(entry), k -> new HyperLogLog())
+                    .add(entry.getIpHash());
+        }
+        pageVisitRollupRepository.increment(increments);
+        pageVisitSketchRepository.merge(sketches);
+        return logs.size();
+    }
+
+    private Map<String, UserQueryPort.UserInfo> lookupUsers(List<PendingVisit> visits) {
+        List<String> userIds =
+                visits.stream()
+                        .map(PendingVisit::userId)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList();
+        if (userIds.isEmpty()) return Map.of();
+        try {
+            return userQueryPort.getUsersByIds(userIds);
+        } catch (Exception e) {
+            return Map.of();
+        }
+    }
+
+    private String hash(String raw) {
+        if (!StringUtils.hasText(raw)) return "anon";
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest(raw.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            return raw;
+        }
+    }
+
+    /** 큐에 대기 중인 방문. 경로는 이미 정규화·허용 패턴 검증을 거친 값 */
+    private record PendingVisit(
+            String path, @Nullable String clientIp, @Nullable String userId, Instant createdAt) {}
+}
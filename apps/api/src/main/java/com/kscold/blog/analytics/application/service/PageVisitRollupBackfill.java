@@ -0,0 +1,87 @@
+package com.kscold.blog.analytics.application.service;
+
+import com.kscold.blog.analytics.domain.model.PageVisitRollup;
+import com.kscold.blog.analytics.domain.model.PageVisitSketch;
+import com.kscold.blog.analytics.domain.port.out.PageVisitBackfillMarkerRepository;
+import com.kscold.blog.analytics.domain.port.out.PageVisitLogRepository;
+import com.kscold.blog.analytics.domain.port.out.PageVisitRollupRepository;
+import com.kscold.blog.analytics.domain.port.out.PageVisitSketchRepository;
+import com.kscold.blog.analytics.domain.service.HyperLogLog;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원본 page_visit_logs로 시간별 롤업과 날짜별 고유 방문자 스케치를 다시 만드는 백필 작업. 기동 시 완료 표시가 없으면 원본 보존 기간(90일)만큼 자동 실행하고
+ * 끝나면 표시를 남김. 수집 파이프라인이 기동 직후부터 롤업을 쓰므로 컬렉션이 비었는지로 판단하지 않음. 어드민이 수동으로 재실행할 수 있음. 진행 중인 현재 시간 구간은 수집
+ * 파이프라인이 $inc 하고 있으므로 건드리지 않음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageVisitRollupBackfill implements ApplicationRunner {
+
+    /** page_visit_logs TTL과 같은 원본 보존 기간 */
+    static final int RAW_RETENTION_DAYS = 90;
+
+    static final String INITIAL_BACKFILL = "page-visit-rollups";
+
+    private final PageVisitLogRepository pageVisitLogRepository;
+    private final PageVisitRollupRepository pageVisitRollupRepository;
+    private final PageVisitSketchRepository pageVisitSketchRepository;
+    private final PageVisitBackfillMarkerRepository backfillMarkerRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (backfillMarkerRepository.isDone(INITIAL_BACKFILL)) {
+                return;
+            }
+            int buckets = backfill(RAW_RETENTION_DAYS);
+            backfillMarkerRepository.markDone(INITIAL_BACKFILL);
+            log.info("페이지 방문 롤업 백필 완료: {}개 구간", buckets);
+        } catch (RuntimeException e) {
+            log.warn("페이지 방문 롤업 백필 실패", e);
+        }
+    }
+
+    /**
+     * 최근 days일(현재 시간 구간 제외)의 롤업을 원본 로그 집계값으로 덮어쓰고, 방문자 스케치는 기존 스케치에 합침 (HyperLogLog 병합은 여러 번 해도 결과가
+     * 같음). 하루 단위로 나눠 집계해 메모리 사용을 제한함.
+     *
+     * @return 기록한 (path, 시간) 구간 수
+     */
+    public synchronized int backfill(int days) {
+        Instant to = PageVisitRollup.hourOf(Instant.now());
+        Instant from = to.minus(Math.min(Math.max(days, 1), RAW_RETENTION_DAYS), ChronoUnit.DAYS);
+        int buckets = 0;
+        for (Instant start = from; start.isBefore(to); start = start.plus(1, ChronoUnit.DAYS)) {
+            Instant end = start.plus(1, ChronoUnit.DAYS);
+            Instant chunkEnd = end.isBefore(to) ? end : to;
+            Map<PageVisitRollup.Key, Long> counts =
+                    pageVisitLogRepository.countHourly(start, chunkEnd);
+            pageVisitRollupRepository.replace(counts);
+            pageVisitSketchRepository.merge(toSketches(start, chunkEnd));
+            buckets += counts.size();
+        }
+        return buckets;
+    }
+
+    private Map<PageVisitSketch.Key, HyperLogLog> toSketches(Instant from, Instant to) {
+        Map<PageVisitSketch.Key, HyperLogLog> sketches = new HashMap<>();
+        for (Map.Entry<PageVisitSketch.Key, List<String>> entry :
+                pageVisitLogRepository.visitorsByDay(from, to).entrySet()) {
+            HyperLogLog sketch = new HyperLogLog();
+            entry.getValue().forEach(sketch::add);
+            sketches.put(entry.getKey(), sketch);
+        }
+        return sketches;
+    }
+}
@@ -2,15 +2,19 @@ package com.kscold.blog.analytics.application.service;
 
 import com.kscold.blog.analytics.application.port.in.PageVisitUseCase;
 import com.kscold.blog.analytics.domain.model.DailyStat;
-import com.kscold.blog.analytics.domain.model.PageVisitLog;
+import com.kscold.blog.analytics.domain.model.PageVisitIngestionStats;
+import com.kscold.blog.analytics.domain.model.PageVisitSketch;
 import com.kscold.blog.analytics.domain.model.PathStat;
+import com.kscold.blog.analytics.domain.model.PathVisits;
 import com.kscold.blog.analytics.domain.model.VisitEntry;
 import com.kscold.blog.analytics.domain.port.out.PageVisitLogRepository;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import com.kscold.blog.analytics.domain.port.out.PageVisitRollupRepository;
+import com.kscold.blog.analytics.domain.port.out.PageVisitSketchRepository;
+import com.kscold.blog.analytics.domain.service.HyperLogLog;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +28,10 @@ import org.springframework.util.StringUtils;
 public class PageVisitService implements PageVisitUseCase {
 
     private final PageVisitLogRepository pageVisitLogRepository;
+    private final PageVisitRollupRepository pageVisitRollupRepository;
+    private final PageVisitSketchRepository pageVisitSketchRepository;
+    private final PageVisitIngestionPipeline pageVisitIngestionPipeline;
+    private final PageVisitRollupBackfill pageVisitRollupBackfill;
 
     // 실제 서비스 라우트만 허용
     private static final Pattern ALLOWED_PATH =
@@ -40,26 +48,20 @@ public class PageVisitService implements PageVisitUseCase {
                             + ")$");
 
     @Override
-    public void record(
-            String path,
-            @Nullable String clientIp,
-            @Nullable String userId,
-            @Nullable String username) {
-        if (!StringUtils.hasText(path)) return;
+    public boolean submit(String path, @Nullable String clientIp, @Nullable String userId) {
+        if (!StringUtils.hasText(path)) return false;
         String normalized = normalize(path);
         if (!ALLOWED_PATH.matcher(normalized).matches()) {
             log.debug("Rejected page visit: {}", normalized);
-            return;
+            return false;
         }
-        PageVisitLog entry =
-                PageVisitLog.builder()
-                        .path(normalized)
-                        .ipHash(hash(clientIp))
-                        .userId(StringUtils.hasText(userId) ? userId : null)
-                        .username(StringUtils.hasText(username) ? username : null)
-                        .createdAt(Instant.now())
-                        .build();
-        pageVisitLogRepository.insert(entry);
+        return pageVisitIngestionPipeline.offer(
+                normalized, clientIp, StringUtils.hasText(userId) ? userId : null);
+    }
+
+    @Override
+    public PageVisitIngestionStats ingestionStats() {
+        return pageVisitIngestionPipeline.stats();
     }
 
     /** 최근 방문 히스토리 (path 필터 가능, 로그인 유저만 or 전체) */
@@ -68,16 +70,37 @@ public class PageVisitService implements PageVisitUseCase {
         return pageVisitLogRepository.recentVisits(path, loggedInOnly, limit);
     }
 
-    /** 최근 N일 동안 path별 방문수 (내림차순) */
+    /**
+     * 최근 N일 동안 path별 방문수 (내림차순). 방문수는 시간별 롤업 합계, 고유 방문자수는 날짜별 HyperLogLog 스케치를 합친 추정값 (시작일은 하루 전체
+     * 포함)
+     */
     @Override
     public List<PathStat> topPaths(int days, int limit) {
-        return pageVisitLogRepository.topPaths(days, limit);
+        Instant after = Instant.now().minus(days, ChronoUnit.DAYS);
+        List<PathVisits> top = pageVisitRollupRepository.topPaths(after, limit);
+        Map<String, HyperLogLog> uniques =
+                pageVisitSketchRepository.mergedByPath(
+                        top.stream().map(PathVisits::path).toList(),
+                        PageVisitSketch.dayOf(after));
+        return top.stream()
+                .map(
+                        p -> {
+                            HyperLogLog sketch = uniques.get(p.path());
+                            return new PathStat(
+                                    p.path(), p.visits(), sketch != null ? sketch.estimate() : 0);
+                        })
+                .toList();
     }
 
-    /** 최근 N일 일별 방문수 (전체) */
+    /** 최근 N일 일별 방문수 (전체). 시간별 롤업을 Asia/Seoul 날짜로 합산 */
     @Override
     public List<DailyStat> dailyVisits(int days) {
-        return pageVisitLogRepository.dailyVisits(days);
+        return pageVisitRollupRepository.dailyVisits(Instant.now().minus(days, ChronoUnit.DAYS));
+    }
+
+    @Override
+    public int backfillRollups(int days) {
+        return pageVisitRollupBackfill.backfill(days);
     }
 
     private String normalize(String path) {
@@ -88,17 +111,4 @@ public class PageVisitService implements PageVisitUseCase {
         if (p.isEmpty()) p = "/";
         return p;
     }
-
-    private String hash(String raw) {
-        if (!StringUtils.hasText(raw)) return "anon";
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] digest = md.digest(raw.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder();
-            for (byte b : digest) sb.append(String.format("%02x", b));
-            return sb.substring(0, 32);
-        } catch (NoSuchAlgorithmException e) {
-            return raw;
-        }
-    }
 }
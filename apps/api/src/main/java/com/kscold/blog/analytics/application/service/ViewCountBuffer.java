@@ -0,0 +1,86 @@
+package com.kscold.blog.analytics.application.service;
+
+import com.kscold.blog.analytics.domain.port.out.ViewLogRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회수 write-behind 버퍼. 상세 조회 요청은 (컬렉션, 문서 ID)별 증가분만 메모리에 더하고, 스케줄러가 몇 초마다 컬렉션당 한 번의 unordered
+ * bulkWrite로 $inc 함. 종료 시에도 남은 증가분을 비움.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private final ViewLogRepository viewLogRepository;
+
+    // merge/remove가 키 버킷 단위로만 잠기므로 서로 다른 문서의 증가는 경합하지 않음
+    private final ConcurrentHashMap<Key, Integer> pending = new ConcurrentHashMap<>();
+
+    public void add(String collectionName, String entityId) {
+        pending.merge(new Key(collectionName, entityId), 1, Integer::sum);
+    }
+
+    /** 아직 반영되지 않은 증가분 합계 */
+    public int pendingCount() {
+        return pending.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.view-counter.flush-interval-ms:5000}")
+    public void flushPeriodically() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        if (flushed > 0) {
+            log.info("종료 전 조회수 {}건 반영", flushed);
+        }
+    }
+
+    /**
+     * 버퍼를 비워 컬렉션별로 일괄 반영함. 키를 remove로 원자적으로 떼어 내므로 그 사이 들어온 증가는 다음 주기로 넘어가고 유실되지 않음.
+     *
+     * @return 반영한 증가분 합계
+     */
+    public synchronized int flush() {
+        if (pending.isEmpty()) return 0;
+
+        Map<String, Map<String, Integer>> byCollection = new HashMap<>();
+        for (Key key : pending.keySet()) {
+            Integer delta = pending.remove(key);
+            if (delta == null || delta == 0) continue;
+            byCollection
+                    .computeIfAbsent(key.collectionName(), c -> new HashMap<>())
+                    .merge(key.entityId(), delta, Integer::sum);
+        }
+
+        int flushed = 0;
+        for (Map.Entry<String, Map<String, Integer>> entry : byCollection.entrySet()) {
+            String collectionName = entry.getKey();
+            Map<String, Integer> increments = entry.getValue();
+            try {
+                viewLogRepository.incrementViewsBatch(collectionName, increments);
+                flushed += increments.values().stream().mapToInt(Integer::intValue).sum();
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 시도. 조회수는 유실보다 드문 중복 반영이 낫다고 봄
+                log.warn("조회수 일괄 반영 실패, 다음 주기에 재시도: collection={}", collectionName, e);
+                increments.forEach(
+                        (entityId, delta) ->
+                                pending.merge(
+                                        new Key(collectionName, entityId), delta, Integer::sum));
+            }
+        }
+        return flushed;
+    }
+
+    private record Key(String collectionName, String entityId) {}
+}
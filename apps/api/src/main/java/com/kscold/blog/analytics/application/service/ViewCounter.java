@@ -1,11 +1,14 @@
 package com.kscold.blog.analytics.application.service;
 
+import com.kscold.blog.analytics.domain.model.ViewDedupeMode;
 import com.kscold.blog.analytics.domain.model.ViewLog;
+import com.kscold.blog.analytics.domain.port.out.ViewCounterSettings;
 import com.kscold.blog.analytics.domain.port.out.ViewLogRepository;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.HexFormat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,7 +16,8 @@ import org.springframework.util.StringUtils;
 
 /**
  * 조회수 집계 컴포넌트. - 동일 IP가 1시간 내 같은 엔티티를 다시 열람해도 카운트 증가 X - Mongo $inc atomic update 로 race condition
- * 방지
+ * 방지 - write-behind 모드에서는 $inc를 ViewCountBuffer에 모아 주기적으로 일괄 반영 - 중복 판정은 메모리 회전 블룸 필터가 먼저 하므로 같은
+ * 클라이언트의 새로고침은 DB I/O 없이 끝남
  */
 @Slf4j
 @Component
@@ -21,6 +25,9 @@ import org.springframework.util.StringUtils;
 public class ViewCounter {
 
     private final ViewLogRepository viewLogRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ViewCounterSettings viewCounterSettings;
+    private final ViewDedupeFilter viewDedupeFilter;
 
     /**
      * entity의 views 필드를 1 증가시킴. 중복 IP면 false 반환.
@@ -39,19 +46,31 @@ public class ViewCounter {
 
         String ipHash = hash(clientIp);
 
-        ViewLog viewLog =
-                ViewLog.builder()
-                        .entityType(entityType)
-                        .entityId(entityId)
-                        .ipHash(ipHash)
-                        .createdAt(Instant.now())
-                        .build();
-        if (!viewLogRepository.insertViewLogIfUnique(viewLog)) {
-            // 이미 1시간 내 조회 → 증가 skip
+        if (!viewDedupeFilter.firstSeen(entityType, entityId, ipHash)) {
+            // 이 인스턴스에서 이미 1시간 내 조회 → I/O 없이 skip
             return false;
         }
 
-        viewLogRepository.incrementViews(collectionName, entityId);
+        if (viewCounterSettings.getDedupeMode() == ViewDedupeMode.MONGO) {
+            // 다른 인스턴스가 받은 조회까지 막으려면 unique index로 최종 판정
+            ViewLog viewLog =
+                    ViewLog.builder()
+                            .entityType(entityType)
+                            .entityId(entityId)
+                            .ipHash(ipHash)
+                            .createdAt(Instant.now())
+                            .build();
+            if (!viewLogRepository.insertViewLogIfUnique(viewLog)) {
+                // 이미 1시간 내 조회 → 증가 skip
+                return false;
+            }
+        }
+
+        if (viewCounterSettings.isWriteBehind()) {
+            viewCountBuffer.add(collectionName, entityId);
+        } else {
+            viewLogRepository.incrementViews(collectionName, entityId);
+        }
         return true;
     }
 
@@ -59,9 +78,7 @@ public class ViewCounter {
         try {
             MessageDigest md = MessageDigest.getInstance("SHA-256");
             byte[] digest = md.digest(raw.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder(digest.length * 2);
-            for (byte b : digest) sb.append(String.format("%02x", b));
-            return sb.toString();
+            return HexFormat.of().formatHex(digest);
         } catch (NoSuchAlgorithmException e) {
             return raw;
         }
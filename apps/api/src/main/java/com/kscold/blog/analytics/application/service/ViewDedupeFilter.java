@@ -0,0 +1,51 @@
+package com.kscold.blog.analytics.application.service;
+
+import com.kscold.blog.analytics.domain.model.ViewDedupeStats;
+import com.kscold.blog.analytics.domain.port.out.ViewCounterSettings;
+import com.kscold.blog.analytics.domain.service.RotatingBloomFilter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/** (엔티티 종류, 엔티티 ID, IP 해시) 단위 조회 중복 필터. 같은 클라이언트가 window 안에 새로고침을 반복해도 DB를 건드리지 않고 메모리에서 걸러냄. */
+@Component
+public class ViewDedupeFilter {
+
+    private final ViewCounterSettings settings;
+    private final RotatingBloomFilter filter;
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    public ViewDedupeFilter(ViewCounterSettings settings) {
+        this.settings = settings;
+        this.filter =
+                new RotatingBloomFilter(
+                        TimeUnit.SECONDS.toMillis(settings.getDedupeWindowSeconds()),
+                        settings.getDedupeSlices(),
+                        settings.getDedupeExpectedViews(),
+                        settings.getDedupeFpp(),
+                        System::currentTimeMillis);
+    }
+
+    /** window 안에서 처음 보는 조회면 true. 이미 본 조회면 false (오탐률만큼 처음 조회도 false가 될 수 있음) */
+    public boolean firstSeen(String entityType, String entityId, String ipHash) {
+        checks.increment();
+        if (filter.putIfAbsent(entityType + ':' + entityId + ':' + ipHash)) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+
+    public ViewDedupeStats stats() {
+        return new ViewDedupeStats(
+                settings.getDedupeMode(),
+                filter.generations(),
+                filter.bitsPerGeneration(),
+                filter.hashFunctions(),
+                filter.memoryBytes(),
+                filter.estimatedFalsePositiveRate(),
+                checks.sum(),
+                suppressed.sum());
+    }
+}
@@ -0,0 +1,27 @@
+package com.kscold.blog.analytics.config;
+
+import com.kscold.blog.analytics.domain.model.PageVisitOverflowPolicy;
+import com.kscold.blog.analytics.domain.port.out.PageVisitIngestionSettings;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** 페이지 방문 비동기 수집 설정 */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "analytics.page-visit")
+public class PageVisitIngestionProperties implements PageVisitIngestionSettings {
+
+    /** 대기 큐 용량. 넘치면 overflowPolicy에 따라 방문을 버림 */
+    private int queueCapacity = 10_000;
+
+    /** 한 번의 insertMany로 저장할 최대 방문 수 */
+    private int batchSize = 500;
+
+    /** 큐를 비우는 주기 (ms) */
+    private long flushIntervalMs = 1000;
+
+    private PageVisitOverflowPolicy overflowPolicy = PageVisitOverflowPolicy.DROP_OLDEST;
+}
@@ -0,0 +1,37 @@
+package com.kscold.blog.analytics.config;
+
+import com.kscold.blog.analytics.domain.model.ViewDedupeMode;
+import com.kscold.blog.analytics.domain.port.out.ViewCounterSettings;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** 조회수 집계 설정 */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "analytics.view-counter")
+public class ViewCounterProperties implements ViewCounterSettings {
+
+    /** 조회수 증가분을 모아 주기적으로 bulkWrite 할지 여부. false면 요청마다 즉시 $inc */
+    private boolean writeBehind = true;
+
+    /** write-behind 플러시 주기 (ms) */
+    private long flushIntervalMs = 5000;
+
+    /** 중복 판정 방식. 여러 인스턴스가 조회수를 나눠 받으면 MONGO */
+    private ViewDedupeMode dedupeMode = ViewDedupeMode.MEMORY;
+
+    /** 같은 클라이언트의 재조회를 중복으로 볼 기간 (초). 기존 view_logs TTL과 같은 1시간 */
+    private long dedupeWindowSeconds = 3600;
+
+    /** 중복 필터 세대 수. window/slices 만큼 만료가 늦어질 수 있음 */
+    private int dedupeSlices = 4;
+
+    /** window 동안 예상되는 서로 다른 (엔티티, 클라이언트) 조합 수 */
+    private long dedupeExpectedViews = 200_000;
+
+    /** 세대별 목표 오탐률 */
+    private double dedupeFpp = 0.001;
+}
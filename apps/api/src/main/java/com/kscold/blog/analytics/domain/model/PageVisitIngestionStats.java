@@ -0,0 +1,21 @@
+package com.kscold.blog.analytics.domain.model;
+
+/**
+ * 방문 수집 파이프라인 상태 (어드민 모니터링용, 기동 이후 누적)
+ *
+ * @param capacity 큐 용량
+ * @param queueDepth 현재 대기 중인 방문 수
+ * @param accepted 큐에 들어간 방문 수
+ * @param dropped 큐가 가득 차 버려진 방문 수
+ * @param rejected 실존하지 않는 경로라 저장하지 않은 방문 수
+ * @param written page_visit_logs에 저장된 방문 수
+ * @param failedBatches 저장에 실패한 배치 수
+ */
+public record PageVisitIngestionStats(
+        int capacity,
+        int queueDepth,
+        long accepted,
+        long dropped,
+        long rejected,
+        long written,
+        long failedBatches) {}
@@ -0,0 +1,9 @@
+package com.kscold.blog.analytics.domain.model;
+
+/** 방문 수집 큐가 가득 찼을 때의 처리 방식 */
+public enum PageVisitOverflowPolicy {
+    /** 새로 들어온 방문을 버림 (이미 쌓인 순서를 보존) */
+    DROP_NEWEST,
+    /** 가장 오래된 방문을 버리고 새 방문을 넣음 (최근 트래픽을 우선) */
+    DROP_OLDEST
+}
@@ -0,0 +1,59 @@
+package com.kscold.blog.analytics.domain.model;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 페이지 방문 시간별 롤업: (path, 시간 구간)별 방문수를 수집 시점에 $inc로 누적 - 대시보드 집계가 원본 로그 대신 이 문서들을 읽음 - day는
+ * Asia/Seoul 기준 날짜를 미리 계산해 둠 (KST는 UTC와 정시 단위로 어긋나므로 시간 구간이 날짜 경계를 넘지 않음)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "page_visit_rollups")
+@CompoundIndexes({
+    @CompoundIndex(name = "uniq_path_hour", def = "{'path': 1, 'hour': 1}", unique = true)
+})
+public class PageVisitRollup {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Id private String id;
+
+    private String path;
+
+    /** 시간 구간 시작 (UTC 정시) */
+    @Indexed private Instant hour;
+
+    /** Asia/Seoul 기준 날짜 (yyyy-MM-dd) */
+    private String day;
+
+    private long visits;
+
+    public static Instant hourOf(Instant at) {
+        return at.truncatedTo(ChronoUnit.HOURS);
+    }
+
+    public static String dayOf(Instant hour) {
+        return hour.atZone(ZONE).toLocalDate().toString();
+    }
+
+    /** 롤업 키 (path, 시간 구간) */
+    public record Key(String path, Instant hour) {
+
+        public static Key of(PageVisitLog log) {
+            return new Key(log.getPath(), hourOf(log.getCreatedAt()));
+        }
+    }
+}
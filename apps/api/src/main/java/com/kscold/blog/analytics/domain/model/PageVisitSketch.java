@@ -0,0 +1,49 @@
+package com.kscold.blog.analytics.domain.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * (path, Asia/Seoul 날짜)별 고유 방문자 HyperLogLog 스케치 - registers는 HyperLogLog.toBytes() 직렬화 값 -
+ * version으로 낙관적 동시성 제어 (여러 인스턴스가 같은 스케치를 합쳐도 유실 없음)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "page_visit_sketches")
+@CompoundIndexes({
+    @CompoundIndex(name = "uniq_path_day", def = "{'path': 1, 'day': 1}", unique = true)
+})
+public class PageVisitSketch {
+
+    @Id private String id;
+
+    private String path;
+
+    /** Asia/Seoul 기준 날짜 (yyyy-MM-dd) */
+    private String day;
+
+    private byte[] registers;
+
+    private long version;
+
+    /** 스케치 키 (path, 날짜) */
+    public record Key(String path, String day) {
+
+        public static Key of(PageVisitLog log) {
+            return new Key(log.getPath(), dayOf(log.getCreatedAt()));
+        }
+    }
+
+    public static String dayOf(Instant at) {
+        return at.atZone(PageVisitRollup.ZONE).toLocalDate().toString();
+    }
+}
@@ -0,0 +1,4 @@
+package com.kscold.blog.analytics.domain.model;
+
+/** path별 방문수 (롤업 합계) */
+public record PathVisits(String path, long visits) {}
@@ -0,0 +1,9 @@
+package com.kscold.blog.analytics.domain.model;
+
+/** 조회수 중복 판정 방식 */
+public enum ViewDedupeMode {
+    /** 인스턴스 메모리의 회전 블룸 필터만 사용 (단일 노드, DB I/O 없음) */
+    MEMORY,
+    /** 메모리 필터로 1차 거른 뒤 view_logs unique index로 최종 판정 (다중 노드) */
+    MONGO
+}
@@ -0,0 +1,23 @@
+package com.kscold.blog.analytics.domain.model;
+
+/**
+ * 조회수 중복 필터 상태 (어드민 모니터링용)
+ *
+ * @param mode 중복 판정 방식
+ * @param generations 살아 있는 필터 세대 수
+ * @param bitsPerGeneration 세대당 비트 수
+ * @param hashFunctions 키당 해시 함수 수
+ * @param memoryBytes 비트 배열 메모리 사용량
+ * @param estimatedFalsePositiveRate 현재 채움률 기준 추정 오탐률
+ * @param checks 판정 요청 수 (기동 이후)
+ * @param suppressed 메모리 필터에서 중복으로 걸러진 수 (기동 이후)
+ */
+public record ViewDedupeStats(
+        ViewDedupeMode mode,
+        int generations,
+        int bitsPerGeneration,
+        int hashFunctions,
+        long memoryBytes,
+        double estimatedFalsePositiveRate,
+        long checks,
+        long suppressed) {}
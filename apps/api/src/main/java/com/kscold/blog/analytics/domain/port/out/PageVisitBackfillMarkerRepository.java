@@ -0,0 +1,9 @@
+package com.kscold.blog.analytics.domain.port.out;
+
+/** 한 번만 자동 실행하는 방문 집계 백필의 완료 표시 포트 */
+public interface PageVisitBackfillMarkerRepository {
+
+    boolean isDone(String name);
+
+    void markDone(String name);
+}
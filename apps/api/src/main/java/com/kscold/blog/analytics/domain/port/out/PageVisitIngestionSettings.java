@@ -0,0 +1,15 @@
+package com.kscold.blog.analytics.domain.port.out;
+
+import com.kscold.blog.analytics.domain.model.PageVisitOverflowPolicy;
+
+/** 페이지 방문 비동기 수집 설정 포트 */
+public interface PageVisitIngestionSettings {
+
+    /** 대기 큐 용량 */
+    int getQueueCapacity();
+
+    /** 한 번에 저장할 최대 방문 수 */
+    int getBatchSize();
+
+    PageVisitOverflowPolicy getOverflowPolicy();
+}
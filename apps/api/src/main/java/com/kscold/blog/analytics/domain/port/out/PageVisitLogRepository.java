@@ -1,10 +1,12 @@
 package com.kscold.blog.analytics.domain.port.out;
 
-import com.kscold.blog.analytics.domain.model.DailyStat;
 import com.kscold.blog.analytics.domain.model.PageVisitLog;
-import com.kscold.blog.analytics.domain.model.PathStat;
+import com.kscold.blog.analytics.domain.model.PageVisitRollup;
+import com.kscold.blog.analytics.domain.model.PageVisitSketch;
 import com.kscold.blog.analytics.domain.model.VisitEntry;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 /** 페이지 방문 로그 영속/집계 포트 */
 public interface PageVisitLogRepository {
@@ -12,12 +14,15 @@ public interface PageVisitLogRepository {
     /** 페이지 방문 로그 저장 */
     void insert(PageVisitLog log);
 
+    /** 페이지 방문 로그 일괄 저장 (insertMany) */
+    void insertAll(List<PageVisitLog> logs);
+
     /** 최근 방문 히스토리 (path 필터 가능, 로그인 유저만 or 전체) */
     List<VisitEntry> recentVisits(String path, boolean loggedInOnly, int limit);
 
-    /** 최근 N일 동안 path별 방문수 (내림차순) */
-    List<PathStat> topPaths(int days, int limit);
+    /** [from, to) 구간 원본 로그의 (path, Asia/Seoul 날짜)별 방문자 ipHash 목록 (스케치 백필용) */
+    Map<PageVisitSketch.Key, List<String>> visitorsByDay(Instant from, Instant to);
 
-    /** 최근 N일 일별 방문수 (전체) */
-    List<DailyStat> dailyVisits(int days);
+    /** [from, to) 구간 원본 로그를 (path, 시간 구간)별 방문수로 집계 (롤업 백필용) */
+    Map<PageVisitRollup.Key, Long> countHourly(Instant from, Instant to);
 }
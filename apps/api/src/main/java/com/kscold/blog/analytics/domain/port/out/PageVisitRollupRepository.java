@@ -0,0 +1,24 @@
+package com.kscold.blog.analytics.domain.port.out;
+
+import com.kscold.blog.analytics.domain.model.DailyStat;
+import com.kscold.blog.analytics.domain.model.PageVisitRollup;
+import com.kscold.blog.analytics.domain.model.PathVisits;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/** 페이지 방문 시간별 롤업 영속/집계 포트 */
+public interface PageVisitRollupRepository {
+
+    /** 롤업별 방문수를 $inc upsert로 누적 (한 번의 bulkWrite) */
+    void increment(Map<PageVisitRollup.Key, Long> increments);
+
+    /** 롤업별 방문수를 주어진 값으로 덮어씀 (백필용, 재실행해도 결과 동일) */
+    void replace(Map<PageVisitRollup.Key, Long> counts);
+
+    /** after 이후 path별 방문수 (내림차순) */
+    List<PathVisits> topPaths(Instant after, int limit);
+
+    /** after 이후 일별 방문수 (Asia/Seoul 날짜 오름차순) */
+    List<DailyStat> dailyVisits(Instant after);
+}
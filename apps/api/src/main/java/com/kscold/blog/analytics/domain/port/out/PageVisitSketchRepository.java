@@ -0,0 +1,16 @@
+package com.kscold.blog.analytics.domain.port.out;
+
+import com.kscold.blog.analytics.domain.model.PageVisitSketch;
+import com.kscold.blog.analytics.domain.service.HyperLogLog;
+import java.util.Collection;
+import java.util.Map;
+
+/** 고유 방문자 HyperLogLog 스케치 영속 포트 */
+public interface PageVisitSketchRepository {
+
+    /** 저장된 스케치에 주어진 스케치를 합쳐 저장 (레지스터별 max라 같은 값을 다시 합쳐도 결과 동일) */
+    void merge(Map<PageVisitSketch.Key, HyperLogLog> sketches);
+
+    /** fromDay(포함) 이후 날짜의 스케치를 path별로 합쳐 반환. 스케치가 없는 path는 결과에서 빠짐 */
+    Map<String, HyperLogLog> mergedByPath(Collection<String> paths, String fromDay);
+}
@@ -0,0 +1,24 @@
+package com.kscold.blog.analytics.domain.port.out;
+
+import com.kscold.blog.analytics.domain.model.ViewDedupeMode;
+
+/** 조회수 집계 방식 설정 포트 */
+public interface ViewCounterSettings {
+
+    /** true면 조회수 $inc를 메모리에 모았다가 주기적으로 일괄 반영함 (write-behind) */
+    boolean isWriteBehind();
+
+    ViewDedupeMode getDedupeMode();
+
+    /** 같은 클라이언트의 재조회를 중복으로 볼 기간 (초) */
+    long getDedupeWindowSeconds();
+
+    /** 중복 필터 세대 수 */
+    int getDedupeSlices();
+
+    /** window 동안 예상되는 서로 다른 (엔티티, 클라이언트) 조합 수 */
+    long getDedupeExpectedViews();
+
+    /** 세대별 목표 오탐률 */
+    double getDedupeFpp();
+}
@@ -1,6 +1,7 @@
 package com.kscold.blog.analytics.domain.port.out;
 
 import com.kscold.blog.analytics.domain.model.ViewLog;
+import java.util.Map;
 
 /** 조회 로그 영속 · 조회수 증가 포트 */
 public interface ViewLogRepository {
@@ -14,4 +15,7 @@ public interface ViewLogRepository {
 
     /** collectionName 컬렉션에서 entityId 문서의 views 필드를 원자적으로 $inc(+1) 함. */
     void incrementViews(String collectionName, String entityId);
+
+    /** collectionName 컬렉션에 문서별 views 증가분을 한 번의 unordered bulkWrite로 $inc 함. */
+    void incrementViewsBatch(String collectionName, Map<String, Integer> increments);
 }
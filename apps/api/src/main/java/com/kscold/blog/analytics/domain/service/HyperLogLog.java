@@ -0,0 +1,144 @@
+package com.kscold.blog.analytics.domain.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 고유 방문자 수 추정용 HyperLogLog 스케치. 레지스터별 최댓값만 보관하므로 같은 값을 여러 번 넣거나 스케치를 여러 번 합쳐도 결과가 같고, 기간별 스케치를
+ * merge 해 임의 구간의 고유 수를 구할 수 있음. 기본 정밀도(p=12, 4096 레지스터)의 표준 오차는 약 1.6%.
+ *
+ * <p>직렬화는 값이 있는 레지스터가 적으면 (index, value) 목록, 많으면 레지스터 배열 그대로 저장해 방문이 적은 경로는 수십 바이트로 끝남.
+ */
+public final class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 12;
+
+    private static final byte FORMAT_SPARSE = 0;
+    private static final byte FORMAT_DENSE = 1;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("precision은 4~16 사이여야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /** 문자열 값을 추가. 레지스터가 바뀌었으면 true */
+    public boolean add(String value) {
+        return addHash(hash64(value));
+    }
+
+    /** 이미 고르게 분포된 64비트 해시를 추가. 레지스터가 바뀌었으면 true */
+    public boolean addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // 남은 비트의 선행 0 개수 + 1. 보초 비트로 최댓값을 64 - p + 1로 제한
+        long rest = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+            return true;
+        }
+        return false;
+    }
+
+    /** other의 관측값을 합침 (레지스터별 max). 정밀도가 같아야 함 */
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("정밀도가 다른 스케치는 합칠 수 없습니다");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    /** 추정 고유 개수. 작은 구간은 linear counting으로 보정 */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) zeros++;
+        }
+        double alpha = 0.7213 / (1 + 1.079 / m);
+        double raw = alpha * m * m / sum;
+        if (raw <= 2.5 * m && zeros > 0) {
+            return Math.round(m * Math.log((double) m / zeros));
+        }
+        return Math.round(raw);
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    public boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) return false;
+        }
+        return true;
+    }
+
+    /** [format][precision] + sparse: [count:u16]([index:u16][value:u8])* / dense: registers */
+    public byte[] toBytes() {
+        int nonZero = 0;
+        for (byte register : registers) {
+            if (register != 0) nonZero++;
+        }
+        if (nonZero * 3 + 2 < registers.length) {
+            ByteBuffer buffer = ByteBuffer.allocate(2 + 2 + nonZero * 3);
+            buffer.put(FORMAT_SPARSE).put((byte) precision).putShort((short) nonZero);
+            for (int i = 0; i < registers.length; i++) {
+                if (registers[i] != 0) {
+                    buffer.putShort((short) i).put(registers[i]);
+                }
+            }
+            return buffer.array();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(2 + registers.length);
+        buffer.put(FORMAT_DENSE).put((byte) precision).put(registers);
+        return buffer.array();
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte format = buffer.get();
+        HyperLogLog sketch = new HyperLogLog(buffer.get());
+        if (format == FORMAT_SPARSE) {
+            int count = Short.toUnsignedInt(buffer.getShort());
+            for (int i = 0; i < count; i++) {
+                sketch.registers[Short.toUnsignedInt(buffer.getShort())] = buffer.get();
+            }
+        } else if (format == FORMAT_DENSE) {
+            buffer.get(sketch.registers);
+        } else {
+            throw new IllegalArgumentException("알 수 없는 스케치 형식: " + format);
+        }
+        return sketch;
+    }
+
+    /** 문자열용 64비트 해시 (FNV-1a + murmur3 fmix64) */
+    public static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h = (h ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
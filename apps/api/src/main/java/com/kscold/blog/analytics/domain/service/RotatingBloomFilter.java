@@ -0,0 +1,213 @@
+package com.kscold.blog.analytics.domain.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 구간별로 세대를 돌리는 블룸 필터. window를 slices개 구간으로 나눠 구간마다 새 세대를 만들고, window보다 오래된 세대는 통째로 버림. 넣은 키는 최소
+ * window, 최대 window + window/slices 동안 "이미 봄"으로 판정됨.
+ *
+ * <p>비트 배열은 AtomicLongArray CAS로만 갱신하고 세대 교체도 AtomicReference CAS라 락이 없음. 오탐(처음 본 키를 봤다고 판정)은 설정한
+ * 확률 이내로 생길 수 있지만 미탐은 없음.
+ */
+public class RotatingBloomFilter {
+
+    private final long sliceMillis;
+    private final int slices;
+    private final int bitsPerGeneration;
+    private final int hashFunctions;
+    private final LongSupplier clock;
+    private final AtomicReference<Ring> ring;
+
+    /**
+     * @param windowMillis 중복으로 판정할 기간
+     * @param slices window를 나눌 세대 수 (클수록 만료가 정확하고 메모리는 늘어남)
+     * @param expectedInsertionsPerWindow window 동안 예상되는 서로 다른 키 수
+     * @param fpp 세대 하나의 목표 오탐률
+     * @param clock 현재 시각(ms) 공급자
+     */
+    public RotatingBloomFilter(
+            long windowMillis,
+            int slices,
+            long expectedInsertionsPerWindow,
+            double fpp,
+            LongSupplier clock) {
+        if (windowMillis <= 0 || slices <= 0 || expectedInsertionsPerWindow <= 0) {
+            throw new IllegalArgumentException("window, slices, expectedInsertions는 양수여야 합니다");
+        }
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp는 0과 1 사이여야 합니다");
+        }
+        this.slices = slices;
+        this.sliceMillis = Math.max(1, windowMillis / slices);
+        long perGeneration = Math.max(1, expectedInsertionsPerWindow / slices);
+        this.bitsPerGeneration = optimalBits(perGeneration, fpp);
+        this.hashFunctions = optimalHashFunctions(perGeneration, bitsPerGeneration);
+        this.clock = clock;
+
+        long slot = clock.getAsLong() / sliceMillis;
+        Generation[] generations = new Generation[slices + 1];
+        for (int i = 0; i < generations.length; i++) {
+            generations[i] = new Generation(bitsPerGeneration);
+        }
+        this.ring = new AtomicReference<>(new Ring(slot, generations));
+    }
+
+    /**
+     * 키를 기록하고, window 안에 처음 본 키면 true를 반환함.
+     *
+     * <p>현재 세대에 비트를 하나라도 새로 켠 호출만 true를 받으므로 같은 키의 동시 요청도 대부분 한 번만 통과함.
+     */
+    public boolean putIfAbsent(String key) {
+        long[] hashes = hash(key);
+        Generation[] generations = currentRing().generations;
+        // 0번이 현재 세대, 뒤로 갈수록 오래된 세대
+        for (int i = 1; i < generations.length; i++) {
+            if (generations[i].mightContain(hashes[0], hashes[1], hashFunctions)) {
+                return false;
+            }
+        }
+        return generations[0].put(hashes[0], hashes[1], hashFunctions);
+    }
+
+    public boolean mightContain(String key) {
+        long[] hashes = hash(key);
+        for (Generation generation : currentRing().generations) {
+            if (generation.mightContain(hashes[0], hashes[1], hashFunctions)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 살아 있는 세대 전체 기준 추정 오탐률: 1 - Π(1 - fill^k) */
+    public double estimatedFalsePositiveRate() {
+        double passAll = 1.0;
+        for (Generation generation : currentRing().generations) {
+            double fill = (double) generation.setBits.get() / bitsPerGeneration;
+            passAll *= 1.0 - Math.pow(fill, hashFunctions);
+        }
+        return 1.0 - passAll;
+    }
+
+    /** 비트 배열이 차지하는 메모리 (bytes) */
+    public long memoryBytes() {
+        return (long) (slices + 1) * wordsFor(bitsPerGeneration) * Long.BYTES;
+    }
+
+    public int generations() {
+        return slices + 1;
+    }
+
+    public int bitsPerGeneration() {
+        return bitsPerGeneration;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /** 시간이 지난 만큼 세대를 밀어냄. 여러 스레드가 동시에 와도 CAS에 성공한 하나만 교체함. */
+    private Ring currentRing() {
+        long slot = clock.getAsLong() / sliceMillis;
+        while (true) {
+            Ring current = ring.get();
+            if (slot <= current.slot) {
+                return current;
+            }
+            int shift = (int) Math.min(slot - current.slot, current.generations.length);
+            Generation[] next = new Generation[current.generations.length];
+            for (int i = 0; i < next.length; i++) {
+                next[i] =
+                        i < shift
+                                ? new Generation(bitsPerGeneration)
+                                : current.generations[i - shift];
+            }
+            Ring rotated = new Ring(slot, next);
+            if (ring.compareAndSet(current, rotated)) {
+                return rotated;
+            }
+        }
+    }
+
+    /** 64비트 해시 두 개 (FNV-1a 계열 + murmur3 fmix64). k개 인덱스는 h1 + i*h2 로 만듦 (Kirsch–Mitzenmacher) */
+    private static long[] hash(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long h1 = 0xcbf29ce484222325L;
+        long h2 = 0x9e3779b97f4a7c15L;
+        for (byte b : bytes) {
+            h1 = (h1 ^ (b & 0xff)) * 0x100000001b3L;
+            h2 = (h2 + (b & 0xff)) * 0xc6a4a7935bd1e995L;
+        }
+        return new long[] {fmix64(h1), fmix64(h2 ^ bytes.length) | 1L};
+    }
+
+    private static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int optimalBits(long n, double fpp) {
+        double bits = -n * Math.log(fpp) / (Math.log(2) * Math.log(2));
+        return (int) Math.min(Integer.MAX_VALUE - 64, Math.max(64, Math.ceil(bits)));
+    }
+
+    private static int optimalHashFunctions(long n, int bits) {
+        return Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+    }
+
+    private static int wordsFor(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private record Ring(long slot, Generation[] generations) {}
+
+    private static final class Generation {
+
+        private final AtomicLongArray words;
+        private final int bits;
+        private final AtomicLong setBits = new AtomicLong();
+
+        Generation(int bits) {
+            this.bits = bits;
+            this.words = new AtomicLongArray(wordsFor(bits));
+        }
+
+        boolean mightContain(long h1, long h2, int k) {
+            long combined = h1;
+            for (int i = 0; i < k; i++) {
+                int index = (int) Long.remainderUnsigned(combined, bits);
+                if ((words.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+                combined += h2;
+            }
+            return true;
+        }
+
+        /** 비트를 켜고, 하나라도 새로 켰으면 true */
+        boolean put(long h1, long h2, int k) {
+            boolean changed = false;
+            long combined = h1;
+            for (int i = 0; i < k; i++) {
+                int index = (int) Long.remainderUnsigned(combined, bits);
+                long mask = 1L << index;
+                int word = index >>> 6;
+                long before = words.getAndAccumulate(word, mask, (prev, m) -> prev | m);
+                if ((before & mask) == 0) {
+                    setBits.incrementAndGet();
+                    changed = true;
+                }
+                combined += h2;
+            }
+            return changed;
+        }
+    }
+}
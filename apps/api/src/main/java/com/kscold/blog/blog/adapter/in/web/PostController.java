@@ -2,13 +2,17 @@ package com.kscold.blog.blog.adapter.in.web;
 
 import com.kscold.blog.analytics.application.service.ViewCounter;
 import com.kscold.blog.blog.adapter.in.web.dto.response.PostResponse;
+import com.kscold.blog.blog.adapter.in.web.dto.response.PostSummaryResponse;
 import com.kscold.blog.blog.application.dto.command.PostCreateCommand;
 import com.kscold.blog.blog.application.dto.command.PostUpdateCommand;
 import com.kscold.blog.blog.application.port.in.AccessRequestUseCase;
 import com.kscold.blog.blog.application.port.in.CategoryUseCase;
 import com.kscold.blog.blog.application.port.in.PostUseCase;
-import com.kscold.blog.blog.domain.model.Category;
+import com.kscold.blog.blog.domain.model.CategorySnapshot;
 import com.kscold.blog.blog.domain.model.Post;
+import com.kscold.blog.blog.domain.model.PostSummary;
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
 import com.kscold.blog.shared.web.ApiResponse;
 import com.kscold.blog.shared.web.ClientIdentifierResolver;
 import jakarta.servlet.http.HttpServletRequest;
@@ -42,7 +46,7 @@ public class PostController {
     private final ClientIdentifierResolver clientIdentifierResolver;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<PostResponse>>> getAllPosts(
+    public ResponseEntity<ApiResponse<Page<PostSummaryResponse>>> getAllPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "publishedAt") String sortBy,
@@ -50,17 +54,32 @@ public class PostController {
         Sort.Direction direction =
                 sortDirection.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<Post> posts = postUseCase.getAll(pageable);
-        return ResponseEntity.ok(ApiResponse.success(posts.map(this::toPublicPostResponse)));
+        Page<PostSummary> posts = postUseCase.getAll(pageable);
+        CategorySnapshot categories = categoryUseCase.getSnapshot();
+        return ResponseEntity.ok(
+                ApiResponse.success(posts.map(post -> toSummaryResponse(post, categories))));
+    }
+
+    /** 무한 스크롤용 커서 모드 — after 토큰 이후 공개 글을 publishedAt 내림차순으로 반환하며 전체 개수를 세지 않음 */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<PostSummaryResponse>>> scrollPosts(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPage<PostSummary> posts = postUseCase.getAllAfter(PageCursor.decode(after), size);
+        CategorySnapshot categories = categoryUseCase.getSnapshot();
+        return ResponseEntity.ok(
+                ApiResponse.success(posts.map(post -> toSummaryResponse(post, categories))));
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<ApiResponse<List<PostResponse>>> getFeaturedPosts(
+    public ResponseEntity<ApiResponse<List<PostSummaryResponse>>> getFeaturedPosts(
             @RequestParam(defaultValue = "5") int limit) {
         Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "views"));
-        List<Post> posts = postUseCase.getFeatured(pageable);
+        List<PostSummary> posts = postUseCase.getFeatured(pageable);
+        CategorySnapshot categories = categoryUseCase.getSnapshot();
         return ResponseEntity.ok(
-                ApiResponse.success(posts.stream().map(this::toPublicPostResponse).toList()));
+                ApiResponse.success(
+                        posts.stream().map(post -> toSummaryResponse(post, categories)).toList()));
     }
 
     @GetMapping("/{id}")
@@ -92,33 +111,39 @@ public class PostController {
     }
 
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<ApiResponse<Page<PostResponse>>> getPostsByCategory(
+    public ResponseEntity<ApiResponse<Page<PostSummaryResponse>>> getPostsByCategory(
             @PathVariable String categoryId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "publishedAt"));
-        Page<Post> posts = postUseCase.getByCategory(categoryId, pageable);
-        return ResponseEntity.ok(ApiResponse.success(posts.map(this::toPublicPostResponse)));
+        Page<PostSummary> posts = postUseCase.getByCategory(categoryId, pageable);
+        CategorySnapshot categories = categoryUseCase.getSnapshot();
+        return ResponseEntity.ok(
+                ApiResponse.success(posts.map(post -> toSummaryResponse(post, categories))));
     }
 
     @GetMapping("/tag/{tagId}")
-    public ResponseEntity<ApiResponse<Page<PostResponse>>> getPostsByTag(
+    public ResponseEntity<ApiResponse<Page<PostSummaryResponse>>> getPostsByTag(
             @PathVariable String tagId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "publishedAt"));
-        Page<Post> posts = postUseCase.getByTag(tagId, pageable);
-        return ResponseEntity.ok(ApiResponse.success(posts.map(this::toPublicPostResponse)));
+        Page<PostSummary> posts = postUseCase.getByTag(tagId, pageable);
+        CategorySnapshot categories = categoryUseCase.getSnapshot();
+        return ResponseEntity.ok(
+                ApiResponse.success(posts.map(post -> toSummaryResponse(post, categories))));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<PostResponse>>> searchPosts(
+    public ResponseEntity<ApiResponse<Page<PostSummaryResponse>>> searchPosts(
             @RequestParam String q,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "publishedAt"));
-        Page<Post> posts = postUseCase.search(q, pageable);
-        return ResponseEntity.ok(ApiResponse.success(posts.map(this::toPublicPostResponse)));
+        Page<PostSummary> posts = postUseCase.search(q, pageable);
+        CategorySnapshot categories = categoryUseCase.getSnapshot();
+        return ResponseEntity.ok(
+                ApiResponse.success(posts.map(post -> toSummaryResponse(post, categories))));
     }
 
     @PostMapping
@@ -152,7 +177,9 @@ public class PostController {
             @RequestParam(defaultValue = "20") int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<Post> posts = postUseCase.getAllAdmin(pageable);
-        return ResponseEntity.ok(ApiResponse.success(posts.map(this::toFullPostResponse)));
+        CategorySnapshot categories = categoryUseCase.getSnapshot();
+        return ResponseEntity.ok(
+                ApiResponse.success(posts.map(post -> toFullPostResponse(post, categories))));
     }
 
     @GetMapping("/exists/slug/{slug}")
@@ -162,7 +189,7 @@ public class PostController {
     }
 
     private PostResponse applyRestriction(Post post, String userId) {
-        boolean restrictedPost = isRestrictedPost(post);
+        boolean restrictedPost = isRestrictedPost(post, categoryUseCase.getSnapshot());
         if (!restrictedPost) {
             return PostResponse.from(post);
         }
@@ -175,28 +202,32 @@ public class PostController {
         return PostResponse.restricted(post);
     }
 
-    private PostResponse toPublicPostResponse(Post post) {
-        if (isRestrictedPost(post)) {
-            return PostResponse.restricted(post);
-        }
-
-        return PostResponse.from(post);
+    /** 목록 응답은 본문이 없으므로 제한 글도 요약을 그대로 내려주고 restricted 플래그만 표시 (본문 미리보기는 뺌) */
+    private PostSummaryResponse toSummaryResponse(
+            PostSummary summary, CategorySnapshot categories) {
+        return PostSummaryResponse.from(
+                summary, isRestricted(summary.category(), summary.publicOverride(), categories));
     }
 
     private PostResponse toFullPostResponse(Post post) {
-        return PostResponse.from(post, isRestrictedPost(post));
+        return toFullPostResponse(post, categoryUseCase.getSnapshot());
+    }
+
+    private PostResponse toFullPostResponse(Post post, CategorySnapshot categories) {
+        return PostResponse.from(post, isRestrictedPost(post, categories));
+    }
+
+    /** 카테고리 스냅샷으로 제한 여부 판단 — 글마다 카테고리를 조회하지 않음 */
+    private boolean isRestrictedPost(Post post, CategorySnapshot categories) {
+        return isRestricted(post.getCategory(), post.getPublicOverride(), categories);
     }
 
-    private boolean isRestrictedPost(Post post) {
-        if (post.getCategory() == null) return false;
-        if (Boolean.TRUE.equals(post.getPublicOverride())) return false;
+    private boolean isRestricted(
+            Post.CategoryInfo category, Boolean publicOverride, CategorySnapshot categories) {
+        if (category == null) return false;
+        if (Boolean.TRUE.equals(publicOverride)) return false;
 
-        try {
-            Category category = categoryUseCase.getById(post.getCategory().getId());
-            return Boolean.TRUE.equals(category.getRestricted());
-        } catch (Exception ignored) {
-            return false;
-        }
+        return categories.isRestricted(category.getId());
     }
 
     private boolean hasAdminRole() {
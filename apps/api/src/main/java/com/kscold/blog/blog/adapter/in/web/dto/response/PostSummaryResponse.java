@@ -0,0 +1,72 @@
+package com.kscold.blog.blog.adapter.in.web.dto.response;
+
+import com.kscold.blog.blog.domain.model.Post;
+import com.kscold.blog.blog.domain.model.PostSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 포스트 목록 응답 DTO — 본문 없이 카드 렌더링에 필요한 필드만 담음 */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryResponse {
+
+    private String id;
+    private String title;
+    private String slug;
+    private String excerpt;
+    private String contentPreview;
+    private String coverImage;
+    private PostResponse.CategoryInfo category;
+    private List<PostResponse.TagInfo> tags;
+    private Post.Status status;
+    private Boolean featured;
+    private Boolean publicOverride;
+    private Boolean restricted;
+    private Integer views;
+    private Integer likes;
+    private LocalDateTime publishedAt;
+    private LocalDateTime updatedAt;
+
+    /** PostSummary를 목록 응답으로 변환하고, 제한 글 표시 여부를 함께 전달. 제한 글은 본문 미리보기를 빼고 내려줌 */
+    public static PostSummaryResponse from(PostSummary summary, boolean restricted) {
+        return PostSummaryResponse.builder()
+                .id(summary.id())
+                .title(summary.title())
+                .slug(summary.slug())
+                .excerpt(summary.excerpt())
+                .contentPreview(restricted ? null : summary.contentPreview())
+                .coverImage(summary.coverImage())
+                .category(
+                        summary.category() != null
+                                ? PostResponse.CategoryInfo.builder()
+                                        .id(summary.category().getId())
+                                        .name(summary.category().getName())
+                                        .slug(summary.category().getSlug())
+                                        .build()
+                                : null)
+                .tags(
+                        summary.tags().stream()
+                                .map(
+                                        tag ->
+                                                PostResponse.TagInfo.builder()
+                                                        .id(tag.getId())
+                                                        .name(tag.getName())
+                                                        .build())
+                                .toList())
+                .status(summary.status())
+                .featured(summary.featured())
+                .publicOverride(summary.publicOverride())
+                .restricted(restricted ? true : null)
+                .views(summary.views())
+                .likes(summary.likes())
+                .publishedAt(summary.publishedAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+}
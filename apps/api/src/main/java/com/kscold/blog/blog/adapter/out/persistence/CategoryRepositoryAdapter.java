@@ -1,17 +1,26 @@
 package com.kscold.blog.blog.adapter.out.persistence;
 
 import com.kscold.blog.blog.domain.model.Category;
+import com.kscold.blog.blog.domain.model.CategorySnapshot;
 import com.kscold.blog.blog.domain.port.out.CategoryRepository;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-/** CategoryRepository 포트의 영속성 어댑터 Spring Data MongoDB를 사용하여 포트 인터페이스를 구현 */
+/**
+ * CategoryRepository 포트의 영속성 어댑터 Spring Data MongoDB를 사용하여 포트 인터페이스를 구현. 카테고리 스냅샷도 여기서 보관하며, DB를 직접
+ * 수정한 경우(제한 여부 토글 등)를 위해 주기적으로 다시 읽어 교체함.
+ */
+@Slf4j
 @SuppressWarnings("null")
 @Component
 @RequiredArgsConstructor
@@ -20,6 +29,10 @@ public class CategoryRepositoryAdapter implements CategoryRepository {
     private final MongoCategoryRepository mongoCategoryRepository;
     private final MongoTemplate mongoTemplate;
 
+    private final AtomicReference<CategorySnapshot> snapshot =
+            new AtomicReference<>(CategorySnapshot.EMPTY);
+    private final AtomicLong snapshotVersion = new AtomicLong();
+
     @Override
     public Category save(Category category) {
         return mongoCategoryRepository.save(category);
@@ -85,4 +98,33 @@ public class CategoryRepositoryAdapter implements CategoryRepository {
                 new Update().inc("postCount", -1),
                 Category.class);
     }
+
+    @Override
+    public CategorySnapshot snapshot() {
+        CategorySnapshot current = snapshot.get();
+        return current.version() > 0 ? current : refreshSnapshot();
+    }
+
+    @Override
+    public CategorySnapshot refreshSnapshot() {
+        // 세대 번호를 조회 전에 발급해, 늦게 끝난 이전 조회가 최신 스냅샷을 덮어쓰지 않게 함
+        long version = snapshotVersion.incrementAndGet();
+        CategorySnapshot next = CategorySnapshot.of(version, mongoCategoryRepository.findAll());
+        return snapshot.accumulateAndGet(
+                next,
+                (current, candidate) ->
+                        candidate.version() > current.version() ? candidate : current);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.category-snapshot.refresh-ms:60000}")
+    public void refreshSnapshotPeriodically() {
+        try {
+            refreshSnapshot();
+        } catch (Exception e) {
+            log.warn(
+                    "Category snapshot refresh failed, keeping version {}",
+                    snapshot.get().version(),
+                    e);
+        }
+    }
 }
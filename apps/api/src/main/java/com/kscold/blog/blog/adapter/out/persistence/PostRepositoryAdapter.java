@@ -1,13 +1,23 @@
 package com.kscold.blog.blog.adapter.out.persistence;
 
 import com.kscold.blog.blog.domain.model.Post;
+import com.kscold.blog.blog.domain.model.PostSummary;
 import com.kscold.blog.blog.domain.port.out.PostRepository;
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
+import com.kscold.blog.shared.util.KeysetQueryUtils;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
 
 /** PostRepository 포트의 영속성 어댑터 Spring Data MongoDB를 사용하여 포트 인터페이스를 구현 */
@@ -17,6 +27,25 @@ import org.springframework.stereotype.Component;
 public class PostRepositoryAdapter implements PostRepository {
 
     private final MongoPostRepository mongoPostRepository;
+    private final MongoTemplate mongoTemplate;
+
+    /** 목록 요약 프로젝션에 포함하는 필드 (seo·author 제외, content는 앞부분만) */
+    private static final String[] SUMMARY_FIELDS = {
+        "id",
+        "slug",
+        "title",
+        "excerpt",
+        "coverImage",
+        "category",
+        "tags",
+        "status",
+        "featured",
+        "publicOverride",
+        "views",
+        "likes",
+        "publishedAt",
+        "updatedAt"
+    };
 
     @Override
     public Post save(Post post) {
@@ -34,53 +63,114 @@ public class PostRepositoryAdapter implements PostRepository {
     }
 
     @Override
-    public Page<Post> findByStatus(Post.Status status, Pageable pageable) {
-        return mongoPostRepository.findByStatus(status, pageable);
+    public List<Post> findFeaturedPosts(Pageable pageable) {
+        return mongoPostRepository.findFeaturedPosts(pageable);
     }
 
     @Override
-    public Page<Post> findByCategoryIdAndPublished(String categoryId, Pageable pageable) {
-        return mongoPostRepository.findByCategoryIdAndPublished(categoryId, pageable);
+    public List<Post> findHotPosts(LocalDateTime since, Pageable pageable) {
+        return mongoPostRepository.findByStatusAndPublishedAtAfter(
+                Post.Status.PUBLISHED, since, pageable);
     }
 
     @Override
-    public Page<Post> findByTagIdAndPublished(String tagId, Pageable pageable) {
-        return mongoPostRepository.findByTagIdAndPublished(tagId, pageable);
+    public Page<Post> findAll(Pageable pageable) {
+        return mongoPostRepository.findAll(pageable);
     }
 
     @Override
-    public List<Post> findFeaturedPosts(Pageable pageable) {
-        return mongoPostRepository.findFeaturedPosts(pageable);
+    public boolean existsBySlug(String slug) {
+        return mongoPostRepository.existsBySlug(slug);
     }
 
     @Override
-    public List<Post> findHotPosts(LocalDateTime since, Pageable pageable) {
-        return mongoPostRepository.findByStatusAndPublishedAtAfter(
-                Post.Status.PUBLISHED, since, pageable);
+    public List<String> findAllSlugs() {
+        return mongoTemplate.findDistinct(new Query(), "slug", Post.class, String.class);
+    }
+
+    @Override
+    public long countByStatus(Post.Status status) {
+        return mongoPostRepository.countByStatus(status);
     }
 
     @Override
-    public List<Post> findAllPublished(Pageable pageable) {
-        return mongoPostRepository.findByStatus(Post.Status.PUBLISHED, pageable).getContent();
+    public Page<PostSummary> findSummariesByStatus(Post.Status status, Pageable pageable) {
+        return findSummaries(Query.query(Criteria.where("status").is(status)), pageable);
     }
 
     @Override
-    public Page<Post> searchByText(String searchText, Pageable pageable) {
-        return mongoPostRepository.searchByText(searchText, pageable);
+    public List<PostSummary> findPublishedSummaries(Pageable pageable) {
+        Query query = summaryQuery(Query.query(Criteria.where("status").is(Post.Status.PUBLISHED)));
+        return mongoTemplate.find(query.with(pageable), Post.class).stream()
+                .map(PostSummary::from)
+                .toList();
     }
 
     @Override
-    public Page<Post> findAll(Pageable pageable) {
-        return mongoPostRepository.findAll(pageable);
+    public CursorPage<PostSummary> findPublishedSummariesAfter(PageCursor after, int size) {
+        Query query =
+                summaryQuery(
+                        KeysetQueryUtils.after(
+                                Criteria.where("status").is(Post.Status.PUBLISHED),
+                                "publishedAt",
+                                after,
+                                size));
+        List<PostSummary> fetched =
+                mongoTemplate.find(query, Post.class).stream().map(PostSummary::from).toList();
+        return CursorPage.of(
+                fetched,
+                KeysetQueryUtils.clampSize(size),
+                summary -> PageCursor.encode(summary.publishedAt(), summary.id()));
     }
 
     @Override
-    public boolean existsBySlug(String slug) {
-        return mongoPostRepository.existsBySlug(slug);
+    public Page<PostSummary> findSummariesByCategoryIdAndPublished(
+            String categoryId, Pageable pageable) {
+        return findSummaries(
+                Query.query(
+                        Criteria.where("category.id")
+                                .is(categoryId)
+                                .and("status")
+                                .is(Post.Status.PUBLISHED)),
+                pageable);
     }
 
     @Override
-    public long countByStatus(Post.Status status) {
-        return mongoPostRepository.countByStatus(status);
+    public Page<PostSummary> findSummariesByTagIdAndPublished(String tagId, Pageable pageable) {
+        return findSummaries(
+                Query.query(
+                        Criteria.where("tags._id")
+                                .is(tagId)
+                                .and("status")
+                                .is(Post.Status.PUBLISHED)),
+                pageable);
+    }
+
+    @Override
+    public Page<PostSummary> searchSummariesByText(String searchText, Pageable pageable) {
+        Query query =
+                Query.query(TextCriteria.forDefaultLanguage().matching(searchText))
+                        .addCriteria(Criteria.where("status").is(Post.Status.PUBLISHED));
+        return findSummaries(query, pageable);
+    }
+
+    /** 요약 프로젝션으로 한 페이지를 읽고, 마지막 페이지가 명확하면 count 쿼리를 생략함 */
+    private Page<PostSummary> findSummaries(Query criteria, Pageable pageable) {
+        Query query = summaryQuery(Query.of(criteria)).with(pageable);
+        List<PostSummary> content =
+                mongoTemplate.find(query, Post.class).stream().map(PostSummary::from).toList();
+        return PageableExecutionUtils.getPage(
+                content, pageable, () -> mongoTemplate.count(Query.of(criteria), Post.class));
+    }
+
+    /** 요약 필드와, excerpt가 없는 카드의 미리보기용으로 본문 앞부분($substrCP)만 읽음 */
+    private Query summaryQuery(Query query) {
+        query.fields().include(SUMMARY_FIELDS);
+        query.fields()
+                .project(
+                        StringOperators.valueOf("content")
+                                .substringCP(0, PostSummary.PREVIEW_CHARS))
+                .as("content");
+        return query;
     }
 }
@@ -0,0 +1,4 @@
+package com.kscold.blog.blog.application.event;
+
+/** 사용자의 열람 요청이 생기거나 승인 · 거절되어 권한 집합을 다시 계산해야 함 */
+public record AccessGrantsChangedEvent(String userId) {}
@@ -1,5 +1,6 @@
 package com.kscold.blog.blog.application.port.in;
 
+import com.kscold.blog.blog.domain.model.AccessGrantSet;
 import com.kscold.blog.blog.domain.model.AccessRequest;
 import java.util.List;
 import org.springframework.lang.Nullable;
@@ -12,6 +13,9 @@ public interface AccessRequestUseCase {
 
     boolean hasAccess(String userId, String postId, String categoryId);
 
+    /** 사용자의 관리자 여부와 승인된 글 · 카테고리. 메모리 캐시에서 답하고 요청이 바뀌면 다시 계산함 */
+    AccessGrantSet getGrants(@Nullable String userId);
+
     List<AccessRequest> getPendingRequests();
 
     List<AccessRequest> getMyRequests(String userId);
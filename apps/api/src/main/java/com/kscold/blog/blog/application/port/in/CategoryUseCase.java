@@ -3,6 +3,7 @@ package com.kscold.blog.blog.application.port.in;
 import com.kscold.blog.blog.application.dto.command.CategoryCreateCommand;
 import com.kscold.blog.blog.application.dto.command.CategoryUpdateCommand;
 import com.kscold.blog.blog.domain.model.Category;
+import com.kscold.blog.blog.domain.model.CategorySnapshot;
 import java.util.List;
 
 public interface CategoryUseCase {
@@ -15,6 +16,9 @@ public interface CategoryUseCase {
 
     Category getBySlug(String slug);
 
+    /** 목록 매핑용 카테고리 스냅샷 (DB 조회 없이 메모리에서 반환) */
+    CategorySnapshot getSnapshot();
+
     Category create(CategoryCreateCommand command);
 
     Category update(String id, CategoryUpdateCommand command);
@@ -3,6 +3,9 @@ package com.kscold.blog.blog.application.port.in;
 import com.kscold.blog.blog.application.dto.command.PostCreateCommand;
 import com.kscold.blog.blog.application.dto.command.PostUpdateCommand;
 import com.kscold.blog.blog.domain.model.Post;
+import com.kscold.blog.blog.domain.model.PostSummary;
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,17 +22,21 @@ public interface PostUseCase {
 
     Post getBySlug(String slug);
 
-    Page<Post> getAll(Pageable pageable);
+    Page<PostSummary> getAll(Pageable pageable);
+
+    CursorPage<PostSummary> getAllAfter(PageCursor after, int size);
 
     Page<Post> getAllAdmin(Pageable pageable);
 
-    List<Post> getFeatured(Pageable pageable);
+    List<PostSummary> getFeatured(Pageable pageable);
 
-    Page<Post> getByCategory(String categoryId, Pageable pageable);
+    Page<PostSummary> getByCategory(String categoryId, Pageable pageable);
 
-    Page<Post> getByTag(String tagId, Pageable pageable);
+    Page<PostSummary> getByTag(String tagId, Pageable pageable);
 
-    Page<Post> search(String keyword, Pageable pageable);
+    Page<PostSummary> search(String keyword, Pageable pageable);
 
     boolean existsBySlug(String slug);
+
+    List<String> getAllSlugs();
 }
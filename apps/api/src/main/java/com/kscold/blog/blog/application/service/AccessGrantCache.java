@@ -0,0 +1,75 @@
+package com.kscold.blog.blog.application.service;
+
+import com.kscold.blog.blog.application.event.AccessGrantsChangedEvent;
+import com.kscold.blog.blog.domain.model.AccessGrantSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 {@link AccessGrantSet} 캐시. 열람 요청이 바뀌면 {@link AccessGrantsChangedEvent}로 그 사용자 항목을 지우고, 이벤트가
+ * 없는 변경(관리자 권한 변경, 다른 인스턴스의 승인)은 TTL로 따라감. 크기 제한을 넘으면 가장 오래 안 쓴 사용자부터 밀려남.
+ */
+@Component
+public class AccessGrantCache {
+
+    static final int MAX_USERS = 10_000;
+    static final long TTL_MILLIS = 5 * 60 * 1000L;
+
+    private final LongSupplier clock;
+
+    // 접근 순서 LinkedHashMap: 가장 오래 안 쓴 항목부터 밀려남
+    private final Map<String, Entry> entries =
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > MAX_USERS;
+                }
+            };
+
+    // 적재 도중 무효화가 끼어들면 적재 결과를 넣지 않도록 무효화마다 올림
+    private long generation;
+
+    @Autowired
+    public AccessGrantCache() {
+        this(System::currentTimeMillis);
+    }
+
+    AccessGrantCache(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public AccessGrantSet get(String userId, Function<String, AccessGrantSet> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.expiresAt() > clock.getAsLong()) {
+                return entry.grants();
+            }
+            loadGeneration = generation;
+        }
+        AccessGrantSet grants = loader.apply(userId);
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                entries.put(userId, new Entry(grants, clock.getAsLong() + TTL_MILLIS));
+            }
+        }
+        return grants;
+    }
+
+    public synchronized void invalidate(String userId) {
+        generation++;
+        entries.remove(userId);
+    }
+
+    @EventListener
+    public void onGrantsChanged(AccessGrantsChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    private record Entry(AccessGrantSet grants, long expiresAt) {}
+}
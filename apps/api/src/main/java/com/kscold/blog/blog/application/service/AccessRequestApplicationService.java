@@ -1,7 +1,9 @@
 package com.kscold.blog.blog.application.service;
 
+import com.kscold.blog.blog.application.event.AccessGrantsChangedEvent;
 import com.kscold.blog.blog.application.port.in.AccessRequestUseCase;
 import com.kscold.blog.blog.application.port.in.PostUseCase;
+import com.kscold.blog.blog.domain.model.AccessGrantSet;
 import com.kscold.blog.blog.domain.model.AccessRequest;
 import com.kscold.blog.blog.domain.model.Post;
 import com.kscold.blog.blog.domain.port.out.AccessRequestMailSender;
@@ -9,10 +11,12 @@ import com.kscold.blog.blog.domain.port.out.AccessRequestRepository;
 import com.kscold.blog.exception.ErrorCode;
 import com.kscold.blog.exception.InvalidRequestException;
 import com.kscold.blog.identity.application.port.in.UserQueryPort;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -26,6 +30,8 @@ public class AccessRequestApplicationService implements AccessRequestUseCase {
     private final PostUseCase postUseCase;
     private final UserQueryPort userQueryPort;
     private final AccessRequestMailSender accessRequestMailSender;
+    private final AccessGrantCache accessGrantCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public AccessRequest requestAccess(String userId, String postId, String message) {
@@ -63,42 +69,25 @@ public class AccessRequestApplicationService implements AccessRequestUseCase {
                         .build();
 
         applyPostContext(request, post);
-        return accessRequestRepository.save(request);
+        return saveAndNotify(request);
     }
 
     @Override
     public boolean hasAccess(@Nullable String userId, String categoryId) {
-        if (userId == null) return false;
-
-        try {
-            if (userQueryPort.getUserById(userId).isAdmin()) return true;
-        } catch (Exception ignored) {
-            return false;
-        }
-
-        return accessRequestRepository.findAllByUserIdAndCategoryId(userId, categoryId).stream()
-                .anyMatch(request -> grantsCategoryAccess(request, categoryId));
+        return getGrants(userId).allowsCategory(categoryId);
     }
 
     @Override
     public boolean hasAccess(String userId, String postId, String categoryId) {
+        return getGrants(userId).allowsPost(postId, categoryId);
+    }
+
+    @Override
+    public AccessGrantSet getGrants(@Nullable String userId) {
         if (!StringUtils.hasText(userId)) {
-            return false;
+            return AccessGrantSet.none();
         }
-        if (isAdmin(userId)) {
-            return true;
-        }
-        if (StringUtils.hasText(categoryId) && hasAccess(userId, categoryId)) {
-            return true;
-        }
-        if (!StringUtils.hasText(postId)) {
-            return false;
-        }
-
-        return accessRequestRepository
-                .findByUserIdAndPostId(userId, postId)
-                .map(request -> grantsPostAccess(request, postId))
-                .orElse(false);
+        return accessGrantCache.get(userId, this::loadGrants);
     }
 
     @Override
@@ -124,7 +113,7 @@ public class AccessRequestApplicationService implements AccessRequestUseCase {
         AccessRequest.GrantScope resolvedScope = resolveGrantScope(request, grantScope);
         request.setStatus(AccessRequest.Status.APPROVED);
         request.setGrantScope(resolvedScope);
-        AccessRequest saved = accessRequestRepository.save(request);
+        AccessRequest saved = saveAndNotify(request);
         notifyApproved(saved);
         return saved;
     }
@@ -148,7 +137,38 @@ public class AccessRequestApplicationService implements AccessRequestUseCase {
                                         new InvalidRequestException(
                                                 ErrorCode.RESOURCE_NOT_FOUND, "요청을 찾을 수 없습니다"));
         request.setStatus(AccessRequest.Status.REJECTED);
-        return accessRequestRepository.save(request);
+        return saveAndNotify(request);
+    }
+
+    /** 요청을 저장하고 그 사용자의 권한 캐시를 비우게 함 */
+    private AccessRequest saveAndNotify(AccessRequest request) {
+        AccessRequest saved = accessRequestRepository.save(request);
+        eventPublisher.publishEvent(new AccessGrantsChangedEvent(saved.getUserId()));
+        return saved;
+    }
+
+    /** 관리자 여부와 승인된 요청의 글 · 카테고리 ID를 한 번의 조회로 모음 */
+    private AccessGrantSet loadGrants(String userId) {
+        if (isAdmin(userId)) {
+            return new AccessGrantSet(true, Set.of(), Set.of());
+        }
+        Set<String> postIds = new HashSet<>();
+        Set<String> categoryIds = new HashSet<>();
+        for (AccessRequest request :
+                accessRequestRepository.findByUserIdOrderByCreatedAtDesc(userId)) {
+            if (request.getStatus() != AccessRequest.Status.APPROVED) {
+                continue;
+            }
+            if (request.getGrantScope() == AccessRequest.GrantScope.POST
+                    && StringUtils.hasText(request.getPostId())) {
+                postIds.add(request.getPostId());
+            }
+            if (request.getGrantScope() == AccessRequest.GrantScope.CATEGORY
+                    && StringUtils.hasText(request.getCategoryId())) {
+                categoryIds.add(request.getCategoryId());
+            }
+        }
+        return new AccessGrantSet(false, postIds, categoryIds);
     }
 
     private AccessRequest reopenExistingRequest(
@@ -165,7 +185,7 @@ public class AccessRequestApplicationService implements AccessRequestUseCase {
         request.setMessage(message);
         applyPostContext(request, post);
         request.setGrantScope(AccessRequest.GrantScope.POST);
-        return accessRequestRepository.save(request);
+        return saveAndNotify(request);
     }
 
     private void applyPostContext(AccessRequest request, Post post) {
@@ -184,28 +204,6 @@ public class AccessRequestApplicationService implements AccessRequestUseCase {
         }
     }
 
-    private boolean grantsCategoryAccess(AccessRequest request, String categoryId) {
-        if (request.getStatus() != AccessRequest.Status.APPROVED) {
-            return false;
-        }
-        if (!Objects.equals(request.getCategoryId(), categoryId)) {
-            return false;
-        }
-
-        return request.getGrantScope() == AccessRequest.GrantScope.CATEGORY;
-    }
-
-    private boolean grantsPostAccess(AccessRequest request, String postId) {
-        if (request.getStatus() != AccessRequest.Status.APPROVED) {
-            return false;
-        }
-        if (!Objects.equals(request.getPostId(), postId)) {
-            return false;
-        }
-
-        return request.getGrantScope() == AccessRequest.GrantScope.POST;
-    }
-
     private AccessRequest.GrantScope resolveGrantScope(
             AccessRequest request, @Nullable AccessRequest.GrantScope requestedScope) {
         AccessRequest.GrantScope scope =
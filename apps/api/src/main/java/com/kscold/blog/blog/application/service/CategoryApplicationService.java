@@ -4,6 +4,7 @@ import com.kscold.blog.blog.application.dto.command.CategoryCreateCommand;
 import com.kscold.blog.blog.application.dto.command.CategoryUpdateCommand;
 import com.kscold.blog.blog.application.port.in.CategoryUseCase;
 import com.kscold.blog.blog.domain.model.Category;
+import com.kscold.blog.blog.domain.model.CategorySnapshot;
 import com.kscold.blog.blog.domain.port.out.CategoryRepository;
 import com.kscold.blog.exception.InvalidRequestException;
 import com.kscold.blog.exception.ResourceNotFoundException;
@@ -63,7 +64,9 @@ public class CategoryApplicationService implements CategoryUseCase {
             category.setDepth(0);
         }
 
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        categoryRepository.refreshSnapshot();
+        return saved;
     }
 
     /** 전체 카테고리 조회 (flat 리스트 - 트리 구조는 CategoryResponse에서 처리) */
@@ -90,6 +93,11 @@ public class CategoryApplicationService implements CategoryUseCase {
                 .orElseThrow(() -> ResourceNotFoundException.category(slug));
     }
 
+    /** 카테고리 스냅샷 조회 (생성·수정·이동·삭제 시 재빌드됨) */
+    public CategorySnapshot getSnapshot() {
+        return categoryRepository.snapshot();
+    }
+
     /** 카테고리 수정 (null 필드는 기존 값 유지) */
     @Transactional
     public Category update(String id, CategoryUpdateCommand command) {
@@ -114,7 +122,9 @@ public class CategoryApplicationService implements CategoryUseCase {
             category.setColor(command.getColor());
         }
 
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        categoryRepository.refreshSnapshot();
+        return saved;
     }
 
     @Transactional
@@ -127,6 +137,7 @@ public class CategoryApplicationService implements CategoryUseCase {
         }
 
         categoryRepository.delete(category);
+        categoryRepository.refreshSnapshot();
     }
 
     @Transactional
@@ -156,7 +167,9 @@ public class CategoryApplicationService implements CategoryUseCase {
 
         updateChildrenAncestors(category);
 
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        categoryRepository.refreshSnapshot();
+        return saved;
     }
 
     /** 카테고리의 postCount 원자적 증가 */
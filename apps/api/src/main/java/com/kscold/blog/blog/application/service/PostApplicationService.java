@@ -4,11 +4,16 @@ import com.kscold.blog.blog.application.dto.command.PostCreateCommand;
 import com.kscold.blog.blog.application.dto.command.PostUpdateCommand;
 import com.kscold.blog.blog.application.port.in.PostUseCase;
 import com.kscold.blog.blog.domain.model.Post;
+import com.kscold.blog.blog.domain.model.PostSummary;
 import com.kscold.blog.blog.domain.model.Tag;
 import com.kscold.blog.blog.domain.port.out.PostRepository;
 import com.kscold.blog.blog.domain.port.out.TagRepository;
 import com.kscold.blog.exception.DuplicateResourceException;
 import com.kscold.blog.exception.ResourceNotFoundException;
+import com.kscold.blog.shared.domain.event.ContentChangedEvent;
+import com.kscold.blog.shared.domain.event.PageRouteChangedEvent;
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
 import com.kscold.blog.shared.util.SlugUtils;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -16,6 +21,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -32,6 +38,7 @@ public class PostApplicationService implements PostUseCase {
     private final PostDraftService postDraftService;
     private final PostReferenceService postReferenceService;
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String TAG_PUBLIC = "공개";
     private static final String TAG_PRIVATE = "비공개";
@@ -49,6 +56,10 @@ public class PostApplicationService implements PostUseCase {
 
         Post saved = saveWithSlugCheck(post, slug);
         postReferenceService.incrementPostCounts(categoryInfo, tagInfos);
+        eventPublisher.publishEvent(
+                PageRouteChangedEvent.added(PageRouteChangedEvent.RouteType.POST, saved.getSlug()));
+        eventPublisher.publishEvent(
+                ContentChangedEvent.saved(ContentChangedEvent.ContentType.POST, saved.getId()));
         return saved;
     }
 
@@ -65,6 +76,7 @@ public class PostApplicationService implements PostUseCase {
                         ? postReferenceService.resolveTags(command.getTagIds())
                         : null;
 
+        String previousSlug = post.getSlug();
         if (command.getSlug() != null && !command.getSlug().equals(post.getSlug())) {
             if (postRepository.findBySlug(command.getSlug()).isPresent()) {
                 throw DuplicateResourceException.slug(command.getSlug());
@@ -88,7 +100,15 @@ public class PostApplicationService implements PostUseCase {
 
         postDraftService.applyUpdate(post, command, categoryInfo, tagInfos);
 
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        if (!saved.getSlug().equals(previousSlug)) {
+            eventPublisher.publishEvent(
+                    PageRouteChangedEvent.renamed(
+                            PageRouteChangedEvent.RouteType.POST, previousSlug, saved.getSlug()));
+        }
+        eventPublisher.publishEvent(
+                ContentChangedEvent.saved(ContentChangedEvent.ContentType.POST, saved.getId()));
+        return saved;
     }
 
     /** 태그 목록에서 공개↔비공개 태그를 스왑하고 카운트를 보정함. */
@@ -143,6 +163,9 @@ public class PostApplicationService implements PostUseCase {
         post.setStatus(Post.Status.ARCHIVED);
         postRepository.save(post);
         postReferenceService.decrementPostCounts(post.getCategory(), post.getTags());
+        // 문서는 ARCHIVED로 남으므로 색인에서는 상태 변경으로 다룸
+        eventPublisher.publishEvent(
+                ContentChangedEvent.saved(ContentChangedEvent.ContentType.POST, id));
     }
 
     /** 내부 조회용 (조회수 미증가) */
@@ -162,9 +185,14 @@ public class PostApplicationService implements PostUseCase {
                 .orElseThrow(() -> ResourceNotFoundException.postBySlug(slug));
     }
 
-    /** 전체 포스트 조회 (페이지네이션) */
-    public Page<Post> getAll(Pageable pageable) {
-        return postRepository.findByStatus(Post.Status.PUBLISHED, pageable);
+    /** 전체 포스트 조회 (페이지네이션, 본문 제외 요약) */
+    public Page<PostSummary> getAll(Pageable pageable) {
+        return postRepository.findSummariesByStatus(Post.Status.PUBLISHED, pageable);
+    }
+
+    /** 전체 포스트 커서 조회 (무한 스크롤용, 전체 개수 미집계) */
+    public CursorPage<PostSummary> getAllAfter(PageCursor after, int size) {
+        return postRepository.findPublishedSummariesAfter(after, size);
     }
 
     /** 관리자용 전체 포스트 조회 (모든 상태) */
@@ -173,18 +201,15 @@ public class PostApplicationService implements PostUseCase {
     }
 
     /** 최근 1달 기준 조회수 상위 포스트 조회 (공개 포스트) 1달 이내 결과가 limit에 미치지 못하면 전체 기간으로 fallback */
-    public List<Post> getFeatured(Pageable pageable) {
+    public List<PostSummary> getFeatured(Pageable pageable) {
         int limit = pageable.getPageSize();
         LocalDateTime since = LocalDateTime.now().minusDays(30);
 
         // 최근 1달 이내 posts 중 views 상위
-        List<Post> all = postRepository.findAllPublished(pageable);
-        List<Post> recent =
+        List<PostSummary> all = postRepository.findPublishedSummaries(pageable);
+        List<PostSummary> recent =
                 all.stream()
-                        .filter(
-                                p ->
-                                        p.getPublishedAt() != null
-                                                && p.getPublishedAt().isAfter(since))
+                        .filter(p -> p.publishedAt() != null && p.publishedAt().isAfter(since))
                         .limit(limit)
                         .toList();
 
@@ -193,18 +218,18 @@ public class PostApplicationService implements PostUseCase {
     }
 
     /** 카테고리별 포스트 조회 */
-    public Page<Post> getByCategory(String categoryId, Pageable pageable) {
-        return postRepository.findByCategoryIdAndPublished(categoryId, pageable);
+    public Page<PostSummary> getByCategory(String categoryId, Pageable pageable) {
+        return postRepository.findSummariesByCategoryIdAndPublished(categoryId, pageable);
     }
 
     /** 태그별 포스트 조회 */
-    public Page<Post> getByTag(String tagId, Pageable pageable) {
-        return postRepository.findByTagIdAndPublished(tagId, pageable);
+    public Page<PostSummary> getByTag(String tagId, Pageable pageable) {
+        return postRepository.findSummariesByTagIdAndPublished(tagId, pageable);
     }
 
     /** 포스트 검색 (제목 + 내용 전문 검색) */
-    public Page<Post> search(String keyword, Pageable pageable) {
-        return postRepository.searchByText(keyword, pageable);
+    public Page<PostSummary> search(String keyword, Pageable pageable) {
+        return postRepository.searchSummariesByText(keyword, pageable);
     }
 
     /** 슬러그 존재 여부 확인 */
@@ -212,6 +237,10 @@ public class PostApplicationService implements PostUseCase {
         return postRepository.existsBySlug(slug);
     }
 
+    public List<String> getAllSlugs() {
+        return postRepository.findAllSlugs();
+    }
+
     private Post saveWithSlugCheck(Post post, String slug) {
         try {
             return postRepository.save(post);
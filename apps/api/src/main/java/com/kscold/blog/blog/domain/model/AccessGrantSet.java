@@ -0,0 +1,29 @@
+package com.kscold.blog.blog.domain.model;
+
+import java.util.Set;
+import org.springframework.util.StringUtils;
+
+/** 사용자 한 명의 열람 권한을 모아 둔 것. 관리자 여부와 승인된 글 · 카테고리 ID */
+public record AccessGrantSet(boolean admin, Set<String> postIds, Set<String> categoryIds) {
+
+    private static final AccessGrantSet NONE = new AccessGrantSet(false, Set.of(), Set.of());
+
+    public AccessGrantSet {
+        postIds = Set.copyOf(postIds == null ? Set.of() : postIds);
+        categoryIds = Set.copyOf(categoryIds == null ? Set.of() : categoryIds);
+    }
+
+    public static AccessGrantSet none() {
+        return NONE;
+    }
+
+    public boolean allowsCategory(String categoryId) {
+        return admin || (StringUtils.hasText(categoryId) && categoryIds.contains(categoryId));
+    }
+
+    /** 글 단위 승인 또는 그 글이 속한 카테고리 단위 승인이 있으면 열람 가능 */
+    public boolean allowsPost(String postId, String categoryId) {
+        return allowsCategory(categoryId)
+                || (StringUtils.hasText(postId) && postIds.contains(postId));
+    }
+}
@@ -0,0 +1,70 @@
+package com.kscold.blog.blog.domain.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 카테고리 전체의 불변 메모리 스냅샷. 목록 API가 글마다 카테고리를 다시 조회하지 않고 제한 여부·이름·계층 정보를 CPU 연산만으로 판단하도록 id 기준으로 보관함.
+ * 카테고리가 바뀌면 통째로 새로 만들어 교체하므로 읽는 쪽은 락 없이 사용함.
+ *
+ * @param version 스냅샷 세대 번호 (재빌드마다 단조 증가, 0이면 아직 빌드 전)
+ * @param entries 카테고리 id → 요약 정보
+ */
+public record CategorySnapshot(long version, Map<String, Entry> entries) {
+
+    public static final CategorySnapshot EMPTY = new CategorySnapshot(0, Map.of());
+
+    public CategorySnapshot {
+        entries = Map.copyOf(entries);
+    }
+
+    /** 카테고리 목록으로 스냅샷 생성 */
+    public static CategorySnapshot of(long version, List<Category> categories) {
+        Map<String, Entry> entries = new HashMap<>(categories.size() * 2);
+        for (Category category : categories) {
+            if (category.getId() == null) continue;
+            entries.put(category.getId(), Entry.from(category));
+        }
+        return new CategorySnapshot(version, entries);
+    }
+
+    public Optional<Entry> find(String categoryId) {
+        if (categoryId == null) return Optional.empty();
+        return Optional.ofNullable(entries.get(categoryId));
+    }
+
+    /** 제한 카테고리 여부. 스냅샷에 없는 카테고리는 기존 조회 실패 시와 동일하게 공개로 취급함. */
+    public boolean isRestricted(String categoryId) {
+        return find(categoryId).map(Entry::restricted).orElse(false);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /** 스냅샷에 담기는 카테고리 요약 (postCount 등 자주 바뀌는 값은 제외) */
+    public record Entry(
+            String id,
+            String name,
+            String slug,
+            boolean restricted,
+            List<String> ancestors,
+            int depth) {
+
+        public Entry {
+            ancestors = ancestors != null ? List.copyOf(ancestors) : List.of();
+        }
+
+        static Entry from(Category category) {
+            return new Entry(
+                    category.getId(),
+                    category.getName(),
+                    category.getSlug(),
+                    Boolean.TRUE.equals(category.getRestricted()),
+                    category.getAncestors(),
+                    category.getDepth() != null ? category.getDepth() : 0);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.kscold.blog.blog.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록 화면용 포스트 요약 프로젝션. 마크다운 본문(content)·SEO·작성자 정보를 싣지 않아 홈·아카이브 목록 조회 시 Mongo 전송량과 BSON 디코딩, JSON
+ * 직렬화 비용을 줄임. 요약(excerpt)이 없는 글은 카드 미리보기용으로 본문 앞부분만 DB에서 잘라 받음.
+ */
+public record PostSummary(
+        String id,
+        String slug,
+        String title,
+        String excerpt,
+        String contentPreview,
+        String coverImage,
+        Post.CategoryInfo category,
+        List<Post.TagInfo> tags,
+        Post.Status status,
+        Boolean featured,
+        Boolean publicOverride,
+        Integer views,
+        Integer likes,
+        LocalDateTime publishedAt,
+        LocalDateTime updatedAt) {
+
+    /** 본문 미리보기로 받는 최대 글자 수 (코드 포인트) */
+    public static final int PREVIEW_CHARS = 300;
+
+    /** 프로젝션 조회로 채워진 Post를 요약으로 변환 */
+    public static PostSummary from(Post post) {
+        return new PostSummary(
+                post.getId(),
+                post.getSlug(),
+                post.getTitle(),
+                post.getExcerpt(),
+                hasText(post.getExcerpt()) ? null : preview(post.getContent()),
+                post.getCoverImage(),
+                post.getCategory(),
+                post.getTags() != null ? post.getTags() : List.of(),
+                post.getStatus(),
+                post.getFeatured(),
+                post.getPublicOverride(),
+                post.getViews(),
+                post.getLikes(),
+                post.getPublishedAt(),
+                post.getUpdatedAt());
+    }
+
+    private static String preview(String content) {
+        if (!hasText(content)) return null;
+        if (content.codePointCount(0, content.length()) <= PREVIEW_CHARS) return content;
+        return content.substring(0, content.offsetByCodePoints(0, PREVIEW_CHARS));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
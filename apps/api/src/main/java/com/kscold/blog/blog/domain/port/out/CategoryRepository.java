@@ -1,6 +1,7 @@
 package com.kscold.blog.blog.domain.port.out;
 
 import com.kscold.blog.blog.domain.model.Category;
+import com.kscold.blog.blog.domain.model.CategorySnapshot;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +29,10 @@ public interface CategoryRepository {
     void incrementPostCount(String categoryId);
 
     void decrementPostCount(String categoryId);
+
+    /** 현재 카테고리 스냅샷. 아직 빌드되지 않았으면 한 번 전체 조회해 만든 뒤 반환함. */
+    CategorySnapshot snapshot();
+
+    /** 카테고리 전체를 다시 읽어 스냅샷을 원자적으로 교체함. 생성·수정·이동·삭제 직후 호출함. */
+    CategorySnapshot refreshSnapshot();
 }
@@ -1,6 +1,9 @@
 package com.kscold.blog.blog.domain.port.out;
 
 import com.kscold.blog.blog.domain.model.Post;
+import com.kscold.blog.blog.domain.model.PostSummary;
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -14,23 +17,30 @@ public interface PostRepository {
 
     boolean existsBySlug(String slug);
 
+    /** 모든 포스트 slug (상태 무관) */
+    List<String> findAllSlugs();
+
     Post save(Post post);
 
     Page<Post> findAll(Pageable pageable);
 
-    Page<Post> findByStatus(Post.Status status, Pageable pageable);
-
     List<Post> findFeaturedPosts(Pageable pageable);
 
     List<Post> findHotPosts(LocalDateTime since, Pageable pageable);
 
-    List<Post> findAllPublished(Pageable pageable);
+    /** 상태별 요약 목록. 목록 조회는 본문(content)을 제외한 요약 프로젝션으로만 읽음 */
+    Page<PostSummary> findSummariesByStatus(Post.Status status, Pageable pageable);
+
+    List<PostSummary> findPublishedSummaries(Pageable pageable);
+
+    /** 공개 글 요약을 (publishedAt desc, _id desc) 키셋으로 조회함. count 쿼리 없음 */
+    CursorPage<PostSummary> findPublishedSummariesAfter(PageCursor after, int size);
 
-    Page<Post> findByCategoryIdAndPublished(String categoryId, Pageable pageable);
+    Page<PostSummary> findSummariesByCategoryIdAndPublished(String categoryId, Pageable pageable);
 
-    Page<Post> findByTagIdAndPublished(String tagId, Pageable pageable);
+    Page<PostSummary> findSummariesByTagIdAndPublished(String tagId, Pageable pageable);
 
-    Page<Post> searchByText(String keyword, Pageable pageable);
+    Page<PostSummary> searchSummariesByText(String keyword, Pageable pageable);
 
     long countByStatus(Post.Status status);
 }
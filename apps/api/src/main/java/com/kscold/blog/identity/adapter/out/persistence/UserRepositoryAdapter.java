@@ -26,6 +26,11 @@ public class UserRepositoryAdapter implements UserRepository {
         return mongoUserRepository.findById(id);
     }
 
+    @Override
+    public List<User> findAllById(Iterable<String> ids) {
+        return mongoUserRepository.findAllById(ids);
+    }
+
     @Override
     public Optional<User> findByEmail(String email) {
         return mongoUserRepository.findByEmail(email);
@@ -1,10 +1,16 @@
 package com.kscold.blog.identity.application.port.in;
 
+import java.util.Collection;
+import java.util.Map;
+
 /** 다른 바운디드 컨텍스트에서 사용자 정보를 조회하기 위한 인바운드 포트 Identity 컨텍스트 외부에서 사용자 정보가 필요할 때 이 포트를 사용 */
 public interface UserQueryPort {
 
     UserInfo getUserById(String userId);
 
+    /** 여러 사용자를 한 번에 조회. 없는 사용자는 결과 Map에서 빠짐 */
+    Map<String, UserInfo> getUsersByIds(Collection<String> userIds);
+
     record UserInfo(
             String id,
             String username,
@@ -4,6 +4,10 @@ import com.kscold.blog.exception.ResourceNotFoundException;
 import com.kscold.blog.identity.application.port.in.UserQueryPort;
 import com.kscold.blog.identity.domain.model.User;
 import com.kscold.blog.identity.domain.port.out.UserRepository;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -19,7 +23,18 @@ public class UserQueryApplicationService implements UserQueryPort {
                 userRepository
                         .findById(userId)
                         .orElseThrow(() -> ResourceNotFoundException.user(userId));
+        return toUserInfo(user);
+    }
+
+    @Override
+    public Map<String, UserInfo> getUsersByIds(Collection<String> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+        return userRepository.findAllById(userIds).stream()
+                .map(this::toUserInfo)
+                .collect(Collectors.toMap(UserInfo::id, Function.identity(), (a, b) -> a));
+    }
 
+    private UserInfo toUserInfo(User user) {
         String avatar = user.getProfile() != null ? user.getProfile().getAvatar() : null;
 
         return new UserInfo(
@@ -8,6 +8,9 @@ import java.util.Optional;
 public interface UserRepository {
     Optional<User> findById(String id);
 
+    /** id 목록에 해당하는 사용자 일괄 조회 (없는 id는 결과에서 빠짐) */
+    List<User> findAllById(Iterable<String> ids);
+
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
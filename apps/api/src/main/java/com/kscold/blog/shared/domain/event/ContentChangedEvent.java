@@ -0,0 +1,28 @@
+package com.kscold.blog.shared.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 대상 콘텐츠(포스트, 피드)가 생기거나 바뀌거나 삭제되었음을 알리는 이벤트. Vault Agent 색인 outbox가 구독함. 볼트 노트는 자체 변경 이벤트를 씀.
+ *
+ * @param type 콘텐츠 종류
+ * @param id 콘텐츠 ID
+ * @param deleted 삭제되었으면 true
+ */
+public record ContentChangedEvent(
+        ContentType type, String id, boolean deleted, LocalDateTime occurredAt)
+        implements DomainEvent {
+
+    public enum ContentType {
+        POST,
+        FEED
+    }
+
+    public static ContentChangedEvent saved(ContentType type, String id) {
+        return new ContentChangedEvent(type, id, false, LocalDateTime.now());
+    }
+
+    public static ContentChangedEvent deleted(ContentType type, String id) {
+        return new ContentChangedEvent(type, id, true, LocalDateTime.now());
+    }
+}
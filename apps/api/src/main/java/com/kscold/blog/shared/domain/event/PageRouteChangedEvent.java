@@ -0,0 +1,33 @@
+package com.kscold.blog.shared.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공개 상세 페이지 주소(포스트 slug, 피드 id, 볼트 노트 slug)가 생기거나 바뀌거나 사라졌음을 알리는 이벤트. 방문 집계의 경로 존재 인덱스가 구독함.
+ *
+ * @param type 페이지 종류
+ * @param previousKey 사라진 slug/id (새로 생긴 경우 null)
+ * @param currentKey 새 slug/id (삭제된 경우 null)
+ */
+public record PageRouteChangedEvent(
+        RouteType type, String previousKey, String currentKey, LocalDateTime occurredAt)
+        implements DomainEvent {
+
+    public enum RouteType {
+        POST,
+        FEED,
+        VAULT_NOTE
+    }
+
+    public static PageRouteChangedEvent added(RouteType type, String key) {
+        return new PageRouteChangedEvent(type, null, key, LocalDateTime.now());
+    }
+
+    public static PageRouteChangedEvent renamed(RouteType type, String previous, String current) {
+        return new PageRouteChangedEvent(type, previous, current, LocalDateTime.now());
+    }
+
+    public static PageRouteChangedEvent removed(RouteType type, String key) {
+        return new PageRouteChangedEvent(type, key, null, LocalDateTime.now());
+    }
+}
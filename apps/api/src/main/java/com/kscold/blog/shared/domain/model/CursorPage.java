@@ -0,0 +1,36 @@
+package com.kscold.blog.shared.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지네이션 결과. 전체 개수를 세지 않으며, 다음 페이지가 있으면 nextCursor 토큰을 함께 반환함.
+ *
+ * @param content 현재 페이지 항목
+ * @param size 요청한 페이지 크기
+ * @param nextCursor 다음 페이지 요청 시 after 로 넘길 토큰 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record CursorPage<T>(List<T> content, int size, String nextCursor, boolean hasNext) {
+
+    /**
+     * size + 1 개까지 조회한 결과로 페이지를 만듦. 초과분이 있으면 다음 페이지가 있는 것으로 보고 마지막 항목 위치를 커서로 인코딩함. 마지막 항목의 커서를 만들
+     * 수 없으면(null) 이어 읽을 수 없으므로 마지막 페이지로 끝냄.
+     *
+     * @param fetched 최대 size + 1 개의 조회 결과
+     * @param cursorOf 항목의 커서 토큰 생성기 (만들 수 없으면 null)
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(List.copyOf(fetched), size, null, false);
+        }
+        List<T> content = List.copyOf(fetched.subList(0, size));
+        String nextCursor = cursorOf.apply(content.get(size - 1));
+        return new CursorPage<>(content, size, nextCursor, nextCursor != null);
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, size, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,59 @@
+package com.kscold.blog.shared.domain.vo;
+
+import com.kscold.blog.exception.InvalidRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 키셋(커서) 페이지네이션 위치 불변 Value Object. 목록 정렬 키(publishedAt/createdAt 등)와 문서 id 쌍을 담고, 클라이언트에는 내부 구조를 알
+ * 수 없는 URL-safe 토큰으로만 노출함.
+ */
+public record PageCursor(LocalDateTime sortValue, String id) {
+
+    private static final char SEPARATOR = '|';
+
+    public PageCursor {
+        Objects.requireNonNull(sortValue, "sortValue");
+        Objects.requireNonNull(id, "id");
+    }
+
+    /** 항목 위치를 토큰으로 인코딩함. 정렬 키가 없는 항목(레거시 데이터)은 키셋 조건으로 이어 읽을 수 없으므로 null */
+    public static String encode(LocalDateTime sortValue, String id) {
+        return sortValue != null ? new PageCursor(sortValue, id).encode() : null;
+    }
+
+    /** 불투명 토큰으로 인코딩 */
+    public String encode() {
+        String raw = sortValue + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 커서로 복원함. 비어 있으면 첫 페이지를 뜻하므로 null을 반환함.
+     *
+     * @throws InvalidRequestException 위·변조되었거나 형식이 맞지 않는 토큰
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw =
+                    new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw InvalidRequestException.invalidInput("유효하지 않은 페이지 커서입니다");
+            }
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw InvalidRequestException.invalidInput("유효하지 않은 페이지 커서입니다");
+        }
+    }
+}
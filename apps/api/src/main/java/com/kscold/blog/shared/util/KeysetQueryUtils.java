@@ -0,0 +1,53 @@
+package com.kscold.blog.shared.util;
+
+import com.kscold.blog.shared.domain.vo.PageCursor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * MongoDB 키셋(커서) 페이지네이션 쿼리 유틸리티. (정렬 필드 desc, _id desc) 복합 인덱스를 그대로 타도록 조건과 정렬을 만들어, 깊은 페이지도 skip
+ * 없이 첫 페이지와 같은 비용으로 읽음.
+ */
+public final class KeysetQueryUtils {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private KeysetQueryUtils() {}
+
+    /**
+     * 기본 조건에 "커서 이후" 조건·정렬·limit(size + 1)을 더한 쿼리를 만듦. 커서가 null이면 첫 페이지.
+     *
+     * @param base 목록 필터 조건 (status, visibility 등)
+     * @param sortField 정렬 키 필드명 (내림차순)
+     * @param after 직전 페이지 마지막 항목 위치
+     * @param size 페이지 크기 (1~100으로 보정)
+     */
+    public static Query after(Criteria base, String sortField, PageCursor after, int size) {
+        Criteria criteria = base;
+        if (after != null) {
+            Object id = toObjectIdOrRaw(after.id());
+            Criteria keyset =
+                    new Criteria()
+                            .orOperator(
+                                    Criteria.where(sortField).lt(after.sortValue()),
+                                    Criteria.where(sortField)
+                                            .is(after.sortValue())
+                                            .and("_id")
+                                            .lt(id));
+            criteria = new Criteria().andOperator(base, keyset);
+        }
+        return new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, sortField, "_id"))
+                .limit(clampSize(size) + 1);
+    }
+
+    public static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private static Object toObjectIdOrRaw(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
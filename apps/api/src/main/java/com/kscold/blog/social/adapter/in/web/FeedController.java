@@ -2,6 +2,8 @@ package com.kscold.blog.social.adapter.in.web;
 
 import com.kscold.blog.analytics.application.service.ViewCounter;
 import com.kscold.blog.identity.application.port.in.UserQueryPort;
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
 import com.kscold.blog.shared.web.ApiResponse;
 import com.kscold.blog.shared.web.ClientIdentifierResolver;
 import com.kscold.blog.social.adapter.in.web.dto.response.FeedResponse;
@@ -55,6 +57,22 @@ public class FeedController {
         return ResponseEntity.ok(ApiResponse.success(toResponsePage(feeds, identifier)));
     }
 
+    /** 무한 스크롤용 커서 모드 — after 토큰 이후 공개 피드를 createdAt 내림차순으로 반환하며 전체 개수를 세지 않음 */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<FeedResponse>>> scrollPublicFeeds(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(required = false) String tag,
+            @AuthenticationPrincipal String userId,
+            HttpServletRequest request) {
+        CursorPage<Feed> feeds =
+                feedUseCase.getPublicFeedsAfter(tag, PageCursor.decode(after), size);
+        String identifier = resolveIdentifier(userId, request);
+        Map<String, UserQueryPort.UserInfo> authors = lookupAuthors(feeds.content());
+        return ResponseEntity.ok(
+                ApiResponse.success(feeds.map(feed -> toResponse(feed, identifier, authors))));
+    }
+
     @GetMapping("/tags")
     public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getFeedTags() {
         return ResponseEntity.ok(ApiResponse.success(feedUseCase.getFeedTags()));
@@ -149,18 +167,25 @@ public class FeedController {
 
     /** 피드 목록을 작성자별 최신 프로필로 채워 응답 변환 (작성자 batch 조회) */
     private Page<FeedResponse> toResponsePage(Page<Feed> feeds, String identifier) {
+        Map<String, UserQueryPort.UserInfo> authors = lookupAuthors(feeds.getContent());
+        return feeds.map(feed -> toResponse(feed, identifier, authors));
+    }
+
+    /** 목록에 등장하는 작성자를 한 번씩만 조회 */
+    private Map<String, UserQueryPort.UserInfo> lookupAuthors(List<Feed> feeds) {
         Map<String, UserQueryPort.UserInfo> authors = new HashMap<>();
-        for (Feed feed : feeds.getContent()) {
+        for (Feed feed : feeds) {
             String authorId = feed.getAuthor() != null ? feed.getAuthor().getId() : null;
             if (authorId != null && !authors.containsKey(authorId)) {
                 authors.put(authorId, lookupAuthor(authorId));
             }
         }
-        return feeds.map(
-                feed -> {
-                    String authorId = feed.getAuthor() != null ? feed.getAuthor().getId() : null;
-                    return FeedResponse.from(
-                            feed, identifier, authorId != null ? authors.get(authorId) : null);
-                });
+        return authors;
+    }
+
+    private FeedResponse toResponse(
+            Feed feed, String identifier, Map<String, UserQueryPort.UserInfo> authors) {
+        String authorId = feed.getAuthor() != null ? feed.getAuthor().getId() : null;
+        return FeedResponse.from(feed, identifier, authorId != null ? authors.get(authorId) : null);
     }
 }
@@ -1,5 +1,8 @@
 package com.kscold.blog.social.adapter.out.persistence;
 
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
+import com.kscold.blog.shared.util.KeysetQueryUtils;
 import com.kscold.blog.social.domain.model.Feed;
 import com.kscold.blog.social.domain.port.out.FeedRepository;
 import java.util.List;
@@ -37,6 +40,18 @@ public class FeedRepositoryAdapter implements FeedRepository {
         return mongoFeedRepository.findById(id);
     }
 
+    @Override
+    public boolean existsById(String id) {
+        return mongoFeedRepository.existsById(id);
+    }
+
+    @Override
+    public List<String> findAllIds() {
+        Query query = new Query();
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Feed.class).stream().map(Feed::getId).toList();
+    }
+
     @Override
     public Page<Feed> findByVisibility(Feed.Visibility visibility, Pageable pageable) {
         return mongoFeedRepository.findByVisibility(visibility, pageable);
@@ -53,6 +68,22 @@ public class FeedRepositoryAdapter implements FeedRepository {
         return mongoFeedRepository.findAll(pageable);
     }
 
+    @Override
+    public CursorPage<Feed> findByVisibilityAfter(
+            Feed.Visibility visibility, String tag, PageCursor after, int size) {
+        Criteria criteria = Criteria.where("visibility").is(visibility);
+        if (tag != null && !tag.isBlank()) {
+            criteria = criteria.and("tags").is(tag);
+        }
+        List<Feed> fetched =
+                mongoTemplate.find(
+                        KeysetQueryUtils.after(criteria, "createdAt", after, size), Feed.class);
+        return CursorPage.of(
+                fetched,
+                KeysetQueryUtils.clampSize(size),
+                feed -> PageCursor.encode(feed.getCreatedAt(), feed.getId()));
+    }
+
     @Override
     public void delete(Feed feed) {
         mongoFeedRepository.delete(feed);
@@ -1,5 +1,7 @@
 package com.kscold.blog.social.application.port.in;
 
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
 import com.kscold.blog.social.application.dto.command.FeedCreateCommand;
 import com.kscold.blog.social.application.dto.command.FeedUpdateCommand;
 import com.kscold.blog.social.domain.model.Feed;
@@ -18,10 +20,16 @@ public interface FeedUseCase {
 
     Feed getById(String id);
 
+    boolean existsById(String id);
+
+    List<String> getAllIds();
+
     Page<Feed> getPublicFeeds(Pageable pageable);
 
     Page<Feed> getPublicFeedsByTag(String tag, Pageable pageable);
 
+    CursorPage<Feed> getPublicFeedsAfter(String tag, PageCursor after, int size);
+
     Page<Feed> getPublicFeedsByAuthorId(String authorId, Pageable pageable);
 
     Page<Feed> getAllFeeds(Pageable pageable);
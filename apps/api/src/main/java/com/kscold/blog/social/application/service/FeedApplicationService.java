@@ -5,6 +5,10 @@ import com.kscold.blog.exception.ErrorCode;
 import com.kscold.blog.exception.ResourceNotFoundException;
 import com.kscold.blog.identity.application.port.in.UserQueryPort;
 import com.kscold.blog.identity.application.port.in.UserQueryPort.UserInfo;
+import com.kscold.blog.shared.domain.event.ContentChangedEvent;
+import com.kscold.blog.shared.domain.event.PageRouteChangedEvent;
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
 import com.kscold.blog.social.application.dto.command.FeedCreateCommand;
 import com.kscold.blog.social.application.dto.command.FeedUpdateCommand;
 import com.kscold.blog.social.application.port.in.FeedUseCase;
@@ -18,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -32,6 +37,7 @@ public class FeedApplicationService implements FeedUseCase {
     private final FeedCommentRepository feedCommentRepository;
     private final UserQueryPort userQueryPort;
     private final LinkScrapingPort linkScrapingPort;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Feed create(FeedCreateCommand command, String userId) {
@@ -64,7 +70,12 @@ public class FeedApplicationService implements FeedUseCase {
                         .linkPreview(linkPreview)
                         .build();
 
-        return feedRepository.save(feed);
+        Feed saved = feedRepository.save(feed);
+        eventPublisher.publishEvent(
+                PageRouteChangedEvent.added(PageRouteChangedEvent.RouteType.FEED, saved.getId()));
+        eventPublisher.publishEvent(
+                ContentChangedEvent.saved(ContentChangedEvent.ContentType.FEED, saved.getId()));
+        return saved;
     }
 
     @Transactional
@@ -89,7 +100,10 @@ public class FeedApplicationService implements FeedUseCase {
             }
         }
 
-        return feedRepository.save(feed);
+        Feed saved = feedRepository.save(feed);
+        eventPublisher.publishEvent(
+                ContentChangedEvent.saved(ContentChangedEvent.ContentType.FEED, saved.getId()));
+        return saved;
     }
 
     @Transactional
@@ -97,12 +111,24 @@ public class FeedApplicationService implements FeedUseCase {
         Feed feed = findById(id);
         feedCommentRepository.deleteAllByFeedId(id);
         feedRepository.delete(feed);
+        eventPublisher.publishEvent(
+                PageRouteChangedEvent.removed(PageRouteChangedEvent.RouteType.FEED, id));
+        eventPublisher.publishEvent(
+                ContentChangedEvent.deleted(ContentChangedEvent.ContentType.FEED, id));
     }
 
     public Feed getById(String id) {
         return findById(id);
     }
 
+    public boolean existsById(String id) {
+        return feedRepository.existsById(id);
+    }
+
+    public List<String> getAllIds() {
+        return feedRepository.findAllIds();
+    }
+
     public Page<Feed> getPublicFeeds(Pageable pageable) {
         return feedRepository.findByVisibility(Feed.Visibility.PUBLIC, pageable);
     }
@@ -111,6 +137,11 @@ public class FeedApplicationService implements FeedUseCase {
         return feedRepository.findByVisibilityAndTag(Feed.Visibility.PUBLIC, tag, pageable);
     }
 
+    /** 공개 피드 커서 조회 (무한 스크롤용, 전체 개수 미집계). tag가 비어 있으면 전체 */
+    public CursorPage<Feed> getPublicFeedsAfter(String tag, PageCursor after, int size) {
+        return feedRepository.findByVisibilityAfter(Feed.Visibility.PUBLIC, tag, after, size);
+    }
+
     public Page<Feed> getPublicFeedsByAuthorId(String authorId, Pageable pageable) {
         return feedRepository.findByAuthorIdAndVisibility(
                 authorId, Feed.Visibility.PUBLIC, pageable);
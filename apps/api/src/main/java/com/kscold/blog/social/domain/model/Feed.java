@@ -13,6 +13,8 @@ import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Getter
@@ -21,6 +23,14 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "feeds")
+@CompoundIndexes({
+    @CompoundIndex(
+            name = "visibility_createdAt_id",
+            def = "{'visibility': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(
+            name = "visibility_tags_createdAt_id",
+            def = "{'visibility': 1, 'tags': 1, 'createdAt': -1, '_id': -1}")
+})
 public class Feed {
 
     @Id private String id;
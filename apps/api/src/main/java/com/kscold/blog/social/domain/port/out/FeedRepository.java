@@ -1,5 +1,7 @@
 package com.kscold.blog.social.domain.port.out;
 
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
 import com.kscold.blog.social.domain.model.Feed;
 import java.util.List;
 import java.util.Map;
@@ -10,6 +12,11 @@ import org.springframework.data.domain.Pageable;
 public interface FeedRepository {
     Optional<Feed> findById(String id);
 
+    boolean existsById(String id);
+
+    /** 모든 피드 id (공개 범위 무관) */
+    List<String> findAllIds();
+
     Feed save(Feed feed);
 
     void delete(Feed feed);
@@ -20,6 +27,10 @@ public interface FeedRepository {
 
     Page<Feed> findAll(Pageable pageable);
 
+    /** 공개 범위(+선택적 태그)별 피드를 (createdAt desc, _id desc) 키셋으로 조회함. count 쿼리 없음 */
+    CursorPage<Feed> findByVisibilityAfter(
+            Feed.Visibility visibility, String tag, PageCursor after, int size);
+
     void incrementCommentCount(String feedId);
 
     void decrementCommentCount(String feedId);
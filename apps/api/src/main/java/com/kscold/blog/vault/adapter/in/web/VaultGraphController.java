@@ -0,0 +1,47 @@
+package com.kscold.blog.vault.adapter.in.web;
+
+import com.kscold.blog.shared.web.ApiResponse;
+import com.kscold.blog.vault.application.dto.response.GraphDataResponse;
+import com.kscold.blog.vault.application.dto.response.NoteRankResponse;
+import com.kscold.blog.vault.application.port.in.VaultGraphUseCase;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** 노트 링크 그래프 분석 API — 전체 그래프를 내려받지 않고 로컬 그래프 · 순위 · 경로만 조회 */
+@RestController
+@RequestMapping("/vault/notes")
+@RequiredArgsConstructor
+public class VaultGraphController {
+
+    private final VaultGraphUseCase vaultGraphUseCase;
+
+    @GetMapping("/graph/rank")
+    public ResponseEntity<ApiResponse<List<NoteRankResponse>>> getTopRanked(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(vaultGraphUseCase.getTopRanked(limit)));
+    }
+
+    @GetMapping("/graph/path")
+    public ResponseEntity<ApiResponse<GraphDataResponse>> getShortestPath(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "false") boolean directed) {
+        return ResponseEntity.ok(
+                ApiResponse.success(vaultGraphUseCase.getShortestPath(from, to, directed)));
+    }
+
+    @GetMapping("/{id}/local-graph")
+    public ResponseEntity<ApiResponse<GraphDataResponse>> getLocalGraph(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "2") int depth,
+            @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(
+                ApiResponse.success(vaultGraphUseCase.getLocalGraph(id, depth, limit)));
+    }
+}
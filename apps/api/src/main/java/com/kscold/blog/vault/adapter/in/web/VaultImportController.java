@@ -0,0 +1,53 @@
+package com.kscold.blog.vault.adapter.in.web;
+
+import com.kscold.blog.shared.web.ApiResponse;
+import com.kscold.blog.vault.application.port.in.VaultImportUseCase;
+import com.kscold.blog.vault.domain.model.VaultImportProgress;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Obsidian 볼트 가져오기 API — zip을 multipart가 아닌 요청 본문 그대로 받아(Content-Type: application/zip) 임시 파일 없이 흘려
+ * 읽음. 가져오는 동안 진행 상태는 progress로 확인함.
+ */
+@RestController
+@RequestMapping("/vault/notes/import")
+@RequiredArgsConstructor
+public class VaultImportController {
+
+    private final VaultImportUseCase vaultImportUseCase;
+
+    @PostMapping(
+            consumes = {
+                "application/zip",
+                "application/x-zip-compressed",
+                MediaType.APPLICATION_OCTET_STREAM_VALUE
+            })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<VaultImportProgress>> importArchive(
+            HttpServletRequest request, @AuthenticationPrincipal String userId)
+            throws IOException {
+        VaultImportProgress progress =
+                vaultImportUseCase.importArchive(request.getInputStream(), userId);
+        String message =
+                progress.state() == VaultImportProgress.State.COMPLETED
+                        ? "볼트 가져오기를 마쳤습니다"
+                        : "볼트 가져오기가 중단되었습니다";
+        return ResponseEntity.ok(ApiResponse.success(progress, message));
+    }
+
+    @GetMapping("/progress")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<VaultImportProgress>> importProgress() {
+        return ResponseEntity.ok(ApiResponse.success(vaultImportUseCase.getImportProgress()));
+    }
+}
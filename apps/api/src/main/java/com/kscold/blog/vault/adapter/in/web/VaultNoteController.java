@@ -1,6 +1,10 @@
 package com.kscold.blog.vault.adapter.in.web;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kscold.blog.analytics.application.service.ViewCounter;
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
 import com.kscold.blog.shared.web.ApiResponse;
 import com.kscold.blog.shared.web.ClientIdentifierResolver;
 import com.kscold.blog.vault.adapter.in.web.dto.response.VaultNoteResponse;
@@ -8,17 +12,22 @@ import com.kscold.blog.vault.application.dto.command.NoteCreateCommand;
 import com.kscold.blog.vault.application.dto.command.NoteUpdateCommand;
 import com.kscold.blog.vault.application.dto.response.GraphDataResponse;
 import com.kscold.blog.vault.application.port.in.VaultNoteUseCase;
+import com.kscold.blog.vault.domain.model.LinkReindexProgress;
 import com.kscold.blog.vault.domain.model.VaultNote;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -33,6 +42,10 @@ public class VaultNoteController {
     private final VaultNoteUseCase vaultNoteUseCase;
     private final ViewCounter viewCounter;
     private final ClientIdentifierResolver clientIdentifierResolver;
+    private final ObjectMapper objectMapper;
+
+    /** 마지막으로 직렬화한 그래프 응답. ETag가 같으면 다시 직렬화하지 않음 */
+    private final AtomicReference<GraphBody> graphBody = new AtomicReference<>();
 
     @GetMapping
     public ResponseEntity<ApiResponse<Page<VaultNoteResponse>>> getAllNotes(
@@ -43,6 +56,18 @@ public class VaultNoteController {
         return ResponseEntity.ok(ApiResponse.success(notes.map(VaultNoteResponse::from)));
     }
 
+    /**
+     * 무한 스크롤용 커서 모드 — after 토큰 이후 노트를 createdAt 내림차순으로 반환하며 전체 개수를 세지 않음. 스크롤 도중 수정된 노트가 건너뛰어지거나 다시
+     * 나오지 않도록 바뀌지 않는 생성 시각을 키로 씀 (수정순 목록은 페이지 모드 사용).
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<VaultNoteResponse>>> scrollNotes(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<VaultNote> notes = vaultNoteUseCase.getAllAfter(PageCursor.decode(after), size);
+        return ResponseEntity.ok(ApiResponse.success(notes.map(VaultNoteResponse::from)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<VaultNoteResponse>> getNoteById(
             @PathVariable String id, HttpServletRequest request) {
@@ -84,11 +109,44 @@ public class VaultNoteController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /** 그래프가 바뀌지 않았으면 304, 바뀌었으면 캐시된 직렬화 본문을 ETag와 함께 반환 */
     @GetMapping("/graph")
-    public ResponseEntity<ApiResponse<GraphDataResponse>> getGraphData() {
-        return ResponseEntity.ok(ApiResponse.success(vaultNoteUseCase.getGraphData()));
+    public ResponseEntity<byte[]> getGraphData(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws JsonProcessingException {
+        // 본문보다 ETag를 먼저 읽어, 본문이 ETag보다 새것일 수는 있어도 낡은 본문에 새 ETag가 붙지는 않게 함
+        String etag = vaultNoteUseCase.getGraphETag();
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        GraphBody body = graphBody.get();
+        if (body == null || !body.etag().equals(etag)) {
+            GraphDataResponse graph = vaultNoteUseCase.getGraphData();
+            body = new GraphBody(etag, objectMapper.writeValueAsBytes(ApiResponse.success(graph)));
+            graphBody.set(body);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.json());
     }
 
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) value = value.substring(2);
+            if (value.equals(etag) || value.equals("*")) return true;
+        }
+        return false;
+    }
+
+    private record GraphBody(String etag, byte[] json) {}
+
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<Page<VaultNoteResponse>>> searchNotes(
             @RequestParam String q,
@@ -125,8 +183,15 @@ public class VaultNoteController {
 
     @PostMapping("/reindex-links")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<String>> reindexLinks() {
-        int updated = vaultNoteUseCase.reindexAllLinks();
-        return ResponseEntity.ok(ApiResponse.success(updated + "건의 노트 링크가 재인덱싱되었습니다"));
+    public ResponseEntity<ApiResponse<LinkReindexProgress>> reindexLinks() {
+        LinkReindexProgress progress = vaultNoteUseCase.startLinkReindex();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(progress, "노트 링크 재인덱싱을 시작했습니다"));
+    }
+
+    @GetMapping("/reindex-links/progress")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<LinkReindexProgress>> reindexLinksProgress() {
+        return ResponseEntity.ok(ApiResponse.success(vaultNoteUseCase.getLinkReindexProgress()));
     }
 }
@@ -0,0 +1,36 @@
+package com.kscold.blog.vault.adapter.in.web;
+
+import com.kscold.blog.shared.web.ApiResponse;
+import com.kscold.blog.vault.application.dto.response.SimilarNoteResponse;
+import com.kscold.blog.vault.application.port.in.VaultSimilarityUseCase;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** 노트 본문 유사도 API — 링크 · 태그와 무관하게 본문이 비슷한 노트를 찾음 */
+@RestController
+@RequestMapping("/vault/notes")
+@RequiredArgsConstructor
+public class VaultSimilarityController {
+
+    private final VaultSimilarityUseCase vaultSimilarityUseCase;
+
+    @GetMapping("/{id}/related")
+    public ResponseEntity<ApiResponse<List<SimilarNoteResponse>>> getRelatedNotes(
+            @PathVariable String id, @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(
+                ApiResponse.success(vaultSimilarityUseCase.getRelatedNotes(id, limit)));
+    }
+
+    @GetMapping("/{id}/duplicates")
+    public ResponseEntity<ApiResponse<List<SimilarNoteResponse>>> getPossibleDuplicates(
+            @PathVariable String id) {
+        return ResponseEntity.ok(
+                ApiResponse.success(vaultSimilarityUseCase.getPossibleDuplicates(id)));
+    }
+}
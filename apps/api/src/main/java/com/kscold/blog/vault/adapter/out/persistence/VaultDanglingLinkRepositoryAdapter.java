@@ -0,0 +1,106 @@
+package com.kscold.blog.vault.adapter.out.persistence;
+
+import com.kscold.blog.vault.domain.model.VaultDanglingLink;
+import com.kscold.blog.vault.domain.port.out.VaultDanglingLinkRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+@SuppressWarnings("null")
+@Component
+@RequiredArgsConstructor
+public class VaultDanglingLinkRepositoryAdapter implements VaultDanglingLinkRepository {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void replaceSources(String noteId, Collection<String> unresolvedSlugs) {
+        mongoTemplate.updateMulti(
+                Query.query(
+                        Criteria.where("sourceNoteIds").is(noteId).and("_id").nin(unresolvedSlugs)),
+                new Update().pull("sourceNoteIds", noteId),
+                VaultDanglingLink.class);
+        addSourcesBulk(unresolvedSlugs, List.of(noteId));
+        removeEmpty();
+    }
+
+    @Override
+    public Set<String> takeSources(String slug) {
+        VaultDanglingLink removed =
+                mongoTemplate.findAndRemove(
+                        Query.query(Criteria.where("_id").is(slug)), VaultDanglingLink.class);
+        return removed != null && removed.getSourceNoteIds() != null
+                ? removed.getSourceNoteIds()
+                : Set.of();
+    }
+
+    @Override
+    public void addSources(String slug, Collection<String> noteIds) {
+        addSourcesBulk(List.of(slug), noteIds);
+    }
+
+    @Override
+    public void removeNote(String noteId) {
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("sourceNoteIds").is(noteId)),
+                new Update().pull("sourceNoteIds", noteId),
+                VaultDanglingLink.class);
+        removeEmpty();
+    }
+
+    @Override
+    public void replaceAll(Map<String, Set<String>> sourcesBySlug) {
+        mongoTemplate.remove(new Query(), VaultDanglingLink.class);
+        LocalDateTime now = LocalDateTime.now();
+        List<VaultDanglingLink> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (Map.Entry<String, Set<String>> entry : sourcesBySlug.entrySet()) {
+            batch.add(
+                    VaultDanglingLink.builder()
+                            .slug(entry.getKey())
+                            .sourceNoteIds(new HashSet<>(entry.getValue()))
+                            .updatedAt(now)
+                            .build());
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                mongoTemplate.insert(batch, VaultDanglingLink.class);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            mongoTemplate.insert(batch, VaultDanglingLink.class);
+        }
+    }
+
+    private void addSourcesBulk(Collection<String> slugs, Collection<String> noteIds) {
+        if (slugs.isEmpty() || noteIds.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VaultDanglingLink.class);
+        for (String slug : slugs) {
+            bulk.upsert(
+                    Query.query(Criteria.where("_id").is(slug)),
+                    new Update()
+                            .addToSet("sourceNoteIds")
+                            .each(noteIds.toArray())
+                            .set("updatedAt", now));
+        }
+        bulk.execute();
+    }
+
+    private void removeEmpty() {
+        mongoTemplate.remove(
+                Query.query(Criteria.where("sourceNoteIds").size(0)), VaultDanglingLink.class);
+    }
+}
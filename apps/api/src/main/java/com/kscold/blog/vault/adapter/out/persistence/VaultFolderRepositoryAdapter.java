@@ -3,8 +3,10 @@ package com.kscold.blog.vault.adapter.out.persistence;
 import com.kscold.blog.vault.domain.model.VaultFolder;
 import com.kscold.blog.vault.domain.port.out.VaultFolderRepository;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -64,4 +66,17 @@ public class VaultFolderRepositoryAdapter implements VaultFolderRepository {
                 new Update().inc("noteCount", -1),
                 VaultFolder.class);
     }
+
+    @Override
+    public void incrementNoteCounts(Map<String, Integer> countsByFolderId) {
+        if (countsByFolderId.isEmpty()) return;
+        BulkOperations bulk =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VaultFolder.class);
+        countsByFolderId.forEach(
+                (folderId, count) ->
+                        bulk.updateOne(
+                                Query.query(Criteria.where("_id").is(folderId)),
+                                new Update().inc("noteCount", count)));
+        bulk.execute();
+    }
 }
@@ -1,13 +1,22 @@
 package com.kscold.blog.vault.adapter.out.persistence;
 
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
+import com.kscold.blog.shared.util.KeysetQueryUtils;
 import com.kscold.blog.vault.domain.model.VaultNote;
 import com.kscold.blog.vault.domain.port.out.VaultNoteRepository;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.bson.Document;
+import org.bson.types.Binary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
@@ -21,6 +30,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class VaultNoteRepositoryAdapter implements VaultNoteRepository {
 
+    private static final int LINK_CURSOR_BATCH_SIZE = 1000;
+
     private final MongoVaultNoteRepository mongoRepository;
     private final MongoTemplate mongoTemplate;
 
@@ -29,6 +40,12 @@ public class VaultNoteRepositoryAdapter implements VaultNoteRepository {
         return mongoRepository.save(note);
     }
 
+    @Override
+    public List<VaultNote> insertAll(List<VaultNote> notes) {
+        if (notes.isEmpty()) return List.of();
+        return List.copyOf(mongoTemplate.insert(notes, VaultNote.class));
+    }
+
     @Override
     public Optional<VaultNote> findById(String id) {
         return mongoRepository.findById(id);
@@ -44,6 +61,133 @@ public class VaultNoteRepositoryAdapter implements VaultNoteRepository {
         return mongoRepository.existsBySlug(slug);
     }
 
+    @Override
+    public List<String> findAllSlugs() {
+        return mongoTemplate.findDistinct(new Query(), "slug", VaultNote.class, String.class);
+    }
+
+    @Override
+    public Map<String, String> findIdsBySlugs(Collection<String> slugs) {
+        if (slugs.isEmpty()) return Map.of();
+        Query query = new Query(Criteria.where("slug").in(slugs));
+        query.fields().include("_id", "slug");
+        Map<String, String> idsBySlug = new HashMap<>();
+        for (Document doc : mongoTemplate.find(query, Document.class, "vault_notes")) {
+            idsBySlug.put(doc.getString("slug"), String.valueOf(doc.get("_id")));
+        }
+        return idsBySlug;
+    }
+
+    @Override
+    public Map<String, String> findAllIdsBySlug() {
+        Query query = new Query(Criteria.where("slug").exists(true));
+        query.fields().include("_id", "slug");
+        query.cursorBatchSize(LINK_CURSOR_BATCH_SIZE);
+        Map<String, String> idsBySlug = new HashMap<>();
+        try (Stream<Document> docs = mongoTemplate.stream(query, Document.class, "vault_notes")) {
+            docs.forEach(
+                    doc -> idsBySlug.put(doc.getString("slug"), String.valueOf(doc.get("_id"))));
+        }
+        return idsBySlug;
+    }
+
+    @Override
+    public Stream<NoteLinkSource> streamLinkSources() {
+        Query query = new Query();
+        query.fields().include("_id", "content", "outgoingLinks");
+        query.cursorBatchSize(LINK_CURSOR_BATCH_SIZE);
+        return mongoTemplate.stream(query, Document.class, "vault_notes")
+                .map(
+                        doc ->
+                                new NoteLinkSource(
+                                        String.valueOf(doc.get("_id")),
+                                        doc.getString("content"),
+                                        doc.getList("outgoingLinks", String.class)));
+    }
+
+    @Override
+    public List<String> findIdsLinkingTo(String noteId) {
+        Query query = new Query(Criteria.where("outgoingLinks").is(noteId));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Document.class, "vault_notes").stream()
+                .map(doc -> String.valueOf(doc.get("_id")))
+                .toList();
+    }
+
+    @Override
+    public void addOutgoingLink(Collection<String> noteIds, String targetId) {
+        if (noteIds.isEmpty()) return;
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("id").in(noteIds)),
+                new Update().addToSet("outgoingLinks", targetId),
+                VaultNote.class);
+    }
+
+    @Override
+    public void removeOutgoingLink(Collection<String> noteIds, String targetId) {
+        if (noteIds.isEmpty()) return;
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("id").in(noteIds)),
+                new Update().pull("outgoingLinks", targetId),
+                VaultNote.class);
+    }
+
+    @Override
+    public void updateOutgoingLinks(Map<String, List<String>> linksById) {
+        if (linksById.isEmpty()) return;
+        BulkOperations bulk =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VaultNote.class);
+        linksById.forEach(
+                (id, links) ->
+                        bulk.updateOne(
+                                Query.query(Criteria.where("id").is(id)),
+                                new Update().set("outgoingLinks", links)));
+        bulk.execute();
+    }
+
+    @Override
+    public Map<String, byte[]> findAllMinHashes() {
+        Query query = new Query(Criteria.where("minHash").exists(true));
+        query.fields().include("_id", "minHash");
+        Map<String, byte[]> minHashById = new HashMap<>();
+        for (Document doc : mongoTemplate.find(query, Document.class, "vault_notes")) {
+            Object value = doc.get("minHash");
+            byte[] bytes =
+                    value instanceof Binary binary
+                            ? binary.getData()
+                            : value instanceof byte[] raw ? raw : null;
+            if (bytes != null) {
+                minHashById.put(String.valueOf(doc.get("_id")), bytes);
+            }
+        }
+        return minHashById;
+    }
+
+    @Override
+    public Stream<NoteContent> streamWithoutMinHash() {
+        Query query = new Query(Criteria.where("minHash").exists(false));
+        query.fields().include("_id", "content");
+        query.cursorBatchSize(LINK_CURSOR_BATCH_SIZE);
+        return mongoTemplate.stream(query, Document.class, "vault_notes")
+                .map(
+                        doc ->
+                                new NoteContent(
+                                        String.valueOf(doc.get("_id")), doc.getString("content")));
+    }
+
+    @Override
+    public void updateMinHashes(Map<String, byte[]> minHashById) {
+        if (minHashById.isEmpty()) return;
+        BulkOperations bulk =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VaultNote.class);
+        minHashById.forEach(
+                (id, minHash) ->
+                        bulk.updateOne(
+                                Query.query(Criteria.where("id").is(id)),
+                                new Update().set("minHash", minHash)));
+        bulk.execute();
+    }
+
     @Override
     public Page<VaultNote> findByFolderId(String folderId, Pageable pageable) {
         return mongoRepository.findByFolderId(folderId, pageable);
@@ -64,6 +208,18 @@ public class VaultNoteRepositoryAdapter implements VaultNoteRepository {
         return mongoRepository.findAll();
     }
 
+    @Override
+    public CursorPage<VaultNote> findAllAfter(PageCursor after, int size) {
+        List<VaultNote> fetched =
+                mongoTemplate.find(
+                        KeysetQueryUtils.after(new Criteria(), "createdAt", after, size),
+                        VaultNote.class);
+        return CursorPage.of(
+                fetched,
+                KeysetQueryUtils.clampSize(size),
+                note -> new PageCursor(note.getCreatedAt(), note.getId()).encode());
+    }
+
     @Override
     public Page<VaultNote> searchByText(String query, Pageable pageable) {
         return mongoRepository.searchByText(query, pageable);
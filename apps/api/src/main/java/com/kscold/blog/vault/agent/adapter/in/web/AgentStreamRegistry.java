@@ -0,0 +1,97 @@
+package com.kscold.blog.vault.agent.adapter.in.web;
+
+import com.kscold.blog.vault.agent.config.VaultAgentProperties;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 진행 중이거나 막 끝난 채팅 스트림 목록. 연결이 끊겨도 업스트림 호출은 resume-grace 동안 계속 돌고, 그 안에 Last-Event-ID로 다시 붙으면 놓친
+ * 이벤트부터 이어 받음. 끝난 스트림은 replay-retention 동안 재생용으로 남겨 둠.
+ */
+@Component
+public class AgentStreamRegistry {
+
+    private final Map<String, AgentStreamRun> runs = new ConcurrentHashMap<>();
+    private final long resumeGraceMillis;
+    private final long replayRetentionMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    public AgentStreamRegistry(VaultAgentProperties properties) {
+        this(
+                properties.getResumeGraceMillis(),
+                properties.getReplayRetentionMillis(),
+                System::currentTimeMillis);
+    }
+
+    AgentStreamRegistry(long resumeGraceMillis, long replayRetentionMillis, LongSupplier clock) {
+        this.resumeGraceMillis = resumeGraceMillis;
+        this.replayRetentionMillis = replayRetentionMillis;
+        this.clock = clock;
+    }
+
+    /** 새 스트림을 만들고 emitter를 첫 구독자로 붙임 */
+    AgentStreamRun start(String owner, SseEmitter emitter) {
+        AgentStreamRun run = new AgentStreamRun(UUID.randomUUID().toString(), owner);
+        runs.put(run.id(), run);
+        subscribe(run, emitter, 0);
+        return run;
+    }
+
+    /**
+     * Last-Event-ID("{스트림 ID}:{순번}")가 가리키는 같은 사용자의 스트림에 emitter를 붙여 이어 받게 함.
+     *
+     * @return 이어 받을 스트림이 없으면 false (호출자가 새로 시작)
+     */
+    boolean resume(@Nullable String lastEventId, String owner, SseEmitter emitter) {
+        if (lastEventId == null) return false;
+        int separator = lastEventId.lastIndexOf(':');
+        if (separator <= 0) return false;
+        AgentStreamRun run = runs.get(lastEventId.substring(0, separator));
+        if (run == null || !run.owner().equals(owner)) return false;
+        long afterSeq;
+        try {
+            afterSeq = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException exception) {
+            return false;
+        }
+        return afterSeq >= 0 && subscribe(run, emitter, afterSeq);
+    }
+
+    void publish(AgentStreamRun run, String name, String data) {
+        run.publish(name, data, clock.getAsLong());
+    }
+
+    void finish(AgentStreamRun run) {
+        run.finish(clock.getAsLong());
+    }
+
+    @Scheduled(fixedDelayString = "${vault.agent.stream-sweep-interval-ms:5000}")
+    public void sweep() {
+        long now = clock.getAsLong();
+        runs.values().removeIf(run -> run.expired(now, replayRetentionMillis));
+        runs.values().forEach(run -> run.cancelIfAbandoned(now, resumeGraceMillis));
+    }
+
+    int size() {
+        return runs.size();
+    }
+
+    private boolean subscribe(AgentStreamRun run, SseEmitter emitter, long afterSeq) {
+        emitter.onTimeout(
+                () -> {
+                    run.detach(emitter, clock.getAsLong());
+                    emitter.complete();
+                });
+        emitter.onError(error -> run.detach(emitter, clock.getAsLong()));
+        emitter.onCompletion(() -> run.detach(emitter, clock.getAsLong()));
+        return run.attach(emitter, afterSeq, clock.getAsLong());
+    }
+}
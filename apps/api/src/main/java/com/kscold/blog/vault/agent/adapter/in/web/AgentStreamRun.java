@@ -0,0 +1,172 @@
+package com.kscold.blog.vault.agent.adapter.in.web;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 채팅 스트림 한 번의 SSE 이벤트 기록. 이벤트마다 "{스트림 ID}:{순번}" id를 붙여 보내고 최근 이벤트를 보관해 두어, 연결이 끊긴 클라이언트가
+ * Last-Event-ID로 다시 붙으면 그 뒤 이벤트부터 재생하고 아직 진행 중이면 이어서 받게 함. 구독자는 한 번에 하나.
+ *
+ * <p>재생과 새 이벤트 전송이 섞이지 않도록 emitter 전송도 락 안에서 함. 가상 스레드가 전송에 막혀도 캐리어를 붙잡지 않게 ReentrantLock을 씀.
+ */
+final class AgentStreamRun {
+
+    /** 재생용으로 보관하는 이벤트 수. 넘으면 이 스트림은 더 이상 이어 받을 수 없음 */
+    static final int MAX_FRAMES = 4096;
+
+    private final String id;
+    private final String owner;
+    private final List<Frame> frames = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long lastSeq;
+    private boolean overflowed;
+    private boolean finished;
+    private long finishedAt;
+    private long detachedAt;
+    private SseEmitter subscriber;
+    private Thread worker;
+
+    AgentStreamRun(String id, String owner) {
+        this.id = id;
+        this.owner = owner;
+    }
+
+    String id() {
+        return id;
+    }
+
+    String owner() {
+        return owner;
+    }
+
+    /** 이벤트를 기록하고 붙어 있는 구독자에게 보냄. 보내다 실패하면 구독자를 떼고 이벤트는 재생용으로 남김 */
+    void publish(String name, String data, long now) {
+        lock.lock();
+        try {
+            Frame frame = new Frame(++lastSeq, name, data);
+            if (!overflowed) {
+                if (frames.size() < MAX_FRAMES) {
+                    frames.add(frame);
+                } else {
+                    overflowed = true;
+                    frames.clear();
+                }
+            }
+            if (subscriber != null && !send(subscriber, frame)) {
+                subscriber = null;
+                detachedAt = now;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * afterSeq 뒤 이벤트를 emitter로 재생하고, 스트림이 끝났으면 emitter를 닫고 아니면 새 구독자로 붙임. 기존 구독자는 닫음.
+     *
+     * @return 재생할 이벤트가 남아 있지 않아(보관 한도 초과) 이어 받을 수 없으면 false
+     */
+    boolean attach(SseEmitter emitter, long afterSeq, long now) {
+        lock.lock();
+        try {
+            if (overflowed || afterSeq > lastSeq) return false;
+            for (int i = (int) afterSeq; i < frames.size(); i++) {
+                if (!send(emitter, frames.get(i))) {
+                    detachedAt = now;
+                    return true;
+                }
+            }
+            if (finished) {
+                emitter.complete();
+                return true;
+            }
+            if (subscriber != null && subscriber != emitter) {
+                subscriber.complete();
+            }
+            subscriber = emitter;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void detach(SseEmitter emitter, long now) {
+        lock.lock();
+        try {
+            if (subscriber == emitter) {
+                subscriber = null;
+                detachedAt = now;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void bindWorker(Thread thread) {
+        lock.lock();
+        try {
+            worker = thread;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 업스트림 스트림이 끝남. 구독자를 닫고 보관 기간을 잼 */
+    void finish(long now) {
+        lock.lock();
+        try {
+            finished = true;
+            finishedAt = now;
+            worker = null;
+            if (subscriber != null) {
+                subscriber.complete();
+                subscriber = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 구독자 없이 grace 이상 지난 진행 중 스트림의 업스트림 호출을 인터럽트로 취소함 */
+    void cancelIfAbandoned(long now, long graceMillis) {
+        lock.lock();
+        try {
+            if (!finished
+                    && subscriber == null
+                    && worker != null
+                    && now - detachedAt >= graceMillis) {
+                worker.interrupt();
+                worker = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean expired(long now, long retentionMillis) {
+        lock.lock();
+        try {
+            return finished && now - finishedAt >= retentionMillis;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, Frame frame) {
+        try {
+            emitter.send(
+                    SseEmitter.event()
+                            .id(id + ":" + frame.seq())
+                            .name(frame.name())
+                            .data(frame.data()));
+            return true;
+        } catch (IOException | IllegalStateException exception) {
+            return false;
+        }
+    }
+
+    private record Frame(long seq, String name, String data) {}
+}
@@ -0,0 +1,120 @@
+package com.kscold.blog.vault.agent.adapter.in.web;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * 스트림 하나의 DELTA 이벤트를 모아 보냄. 첫 조각이 들어온 뒤 flushMillis가 지나거나 모인 크기가 flushBytes(UTF-8)를 넘으면 하나의 delta
+ * 프레임으로 보내고, 다른 이벤트가 오면 그 전에 먼저 비움. 프레임 JSON은 미리 잡아 둔 버퍼에 직접 씀. flushMillis가 0이면 모으지 않음.
+ *
+ * <p>보내는 순서를 지키려고 전송까지 락 안에서 하며, 가상 스레드가 느린 연결에 막혀도 캐리어 스레드를 붙잡지 않도록 synchronized 대신 ReentrantLock을
+ * 씀.
+ */
+final class DeltaCoalescer {
+
+    private static final String PREFIX = "{\"delta\":\"";
+    private static final String SUFFIX = "\"}";
+
+    private final long flushMillis;
+    private final int flushBytes;
+    private final ScheduledExecutorService scheduler;
+    private final Executor flushExecutor;
+    private final BiConsumer<String, String> sink;
+    private final StringBuilder pending;
+    private final StringBuilder frame;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int pendingBytes;
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * @param scheduler 시간 기준 비우기를 예약하는 스케줄러. 실제 전송은 느린 연결이 스케줄러를 막지 않도록 flushExecutor에서 함
+     * @param sink (이벤트 이름, JSON 데이터)를 받아 내보냄
+     */
+    DeltaCoalescer(
+            long flushMillis,
+            int flushBytes,
+            ScheduledExecutorService scheduler,
+            Executor flushExecutor,
+            BiConsumer<String, String> sink) {
+        this.flushMillis = flushMillis;
+        this.flushBytes = flushBytes;
+        this.scheduler = scheduler;
+        this.flushExecutor = flushExecutor;
+        this.sink = sink;
+        this.pending = new StringBuilder(flushBytes);
+        this.frame = new StringBuilder(flushBytes + PREFIX.length() + SUFFIX.length() + 64);
+    }
+
+    void delta(String delta) {
+        lock.lock();
+        try {
+            if (delta.isEmpty()) return;
+            pending.append(delta);
+            pendingBytes += utf8Length(delta);
+            if (flushMillis <= 0 || pendingBytes >= flushBytes) {
+                flush();
+            } else if (scheduledFlush == null) {
+                scheduledFlush =
+                        scheduler.schedule(
+                                () -> flushExecutor.execute(this::flush),
+                                flushMillis,
+                                TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 모아 둔 delta를 먼저 보낸 뒤 다른 이벤트를 보냄 */
+    void event(String name, String data) {
+        lock.lock();
+        try {
+            flush();
+            sink.accept(name, data);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void flush() {
+        lock.lock();
+        try {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+            if (pending.isEmpty()) return;
+            frame.setLength(0);
+            frame.append(PREFIX);
+            JsonStringEncoder.getInstance().quoteAsString(pending, frame);
+            frame.append(SUFFIX);
+            pending.setLength(0);
+            pendingBytes = 0;
+            sink.accept("delta", frame.toString());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static int utf8Length(CharSequence text) {
+        int bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isSurrogate(c)) {
+                bytes += 2; // 서로게이트 쌍 하나가 4바이트
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
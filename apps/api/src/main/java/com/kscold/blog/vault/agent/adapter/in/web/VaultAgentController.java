@@ -10,13 +10,19 @@ import com.kscold.blog.vault.agent.application.dto.response.AgentStage;
 import com.kscold.blog.vault.agent.application.dto.response.ChatHistoryResponse;
 import com.kscold.blog.vault.agent.application.dto.response.ChatResponse;
 import com.kscold.blog.vault.agent.application.dto.response.ReindexResponse;
+import com.kscold.blog.vault.agent.application.dto.response.SourceNote;
 import com.kscold.blog.vault.agent.application.port.in.VaultAgentUseCase;
+import com.kscold.blog.vault.agent.config.VaultAgentProperties;
+import com.kscold.blog.vault.agent.domain.model.AgentChatResult;
 import com.kscold.blog.vault.agent.domain.model.AgentStreamEvent;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
@@ -27,6 +33,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -38,21 +45,36 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class VaultAgentController {
 
     private static final long STREAM_TIMEOUT_MILLIS = 120_000L;
+    private static final String BUSY_MESSAGE = "지금은 대화 요청이 많습니다. 잠시 후 다시 시도해 주세요.";
 
     private final VaultAgentUseCase vaultAgentUseCase;
     private final ClientIdentifierResolver clientIdentifierResolver;
     private final ObjectMapper objectMapper;
     private final Executor vaultAgentSseExecutor;
+    private final Semaphore openStreams;
+    private final AgentStreamRegistry streamRegistry;
+    private final ScheduledExecutorService deltaFlushScheduler;
+    private final long deltaFlushMillis;
+    private final int deltaFlushBytes;
 
     public VaultAgentController(
             VaultAgentUseCase vaultAgentUseCase,
             ClientIdentifierResolver clientIdentifierResolver,
             ObjectMapper objectMapper,
-            @Qualifier("vaultAgentSseExecutor") Executor vaultAgentSseExecutor) {
+            VaultAgentProperties vaultAgentProperties,
+            @Qualifier("vaultAgentSseExecutor") Executor vaultAgentSseExecutor,
+            AgentStreamRegistry streamRegistry,
+            @Qualifier("vaultAgentDeltaFlushScheduler")
+                    ScheduledExecutorService deltaFlushScheduler) {
         this.vaultAgentUseCase = vaultAgentUseCase;
         this.clientIdentifierResolver = clientIdentifierResolver;
         this.objectMapper = objectMapper;
         this.vaultAgentSseExecutor = vaultAgentSseExecutor;
+        this.openStreams = new Semaphore(vaultAgentProperties.getMaxConcurrentStreams());
+        this.streamRegistry = streamRegistry;
+        this.deltaFlushScheduler = deltaFlushScheduler;
+        this.deltaFlushMillis = vaultAgentProperties.getDeltaFlushMillis();
+        this.deltaFlushBytes = vaultAgentProperties.getDeltaFlushBytes();
     }
 
     @PostMapping("/chat")
@@ -65,30 +87,73 @@ public class VaultAgentController {
                 ApiResponse.success(vaultAgentUseCase.chat(request, userId, clientIdentifier)));
     }
 
+    /**
+     * 채팅 스트림. 이벤트마다 id가 붙으며, 연결이 끊긴 뒤 같은 요청을 Last-Event-ID 헤더와 함께 다시 보내면 놓친 이벤트부터 이어 받음. 이어 받을 스트림이
+     * 없으면(보관 기간 지남 등) 새 id로 처음부터 다시 시작함.
+     */
     @PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public ResponseEntity<SseEmitter> streamChat(
             @AuthenticationPrincipal String userId,
             HttpServletRequest httpRequest,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
             @Valid @RequestBody ChatCommand request) {
         String clientIdentifier = clientIdentifierResolver.resolve(httpRequest);
+        String owner = userId != null ? "user:" + userId : "guest:" + clientIdentifier;
         SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
-        emitter.onTimeout(emitter::complete);
-
-        vaultAgentSseExecutor.execute(
-                () -> {
-                    try {
-                        vaultAgentUseCase.stream(
-                                request,
-                                userId,
-                                clientIdentifier,
-                                event -> sendAgentEvent(emitter, event));
-                        emitter.complete();
-                    } catch (Exception exception) {
-                        log.warn("Vault Agent SSE 응답 중 오류가 발생했습니다.", exception);
-                        sendError(emitter, exception.getMessage());
-                        emitter.completeWithError(exception);
-                    }
-                });
+        if (streamRegistry.resume(lastEventId, owner, emitter)) {
+            return sseResponse(emitter);
+        }
+        if (!openStreams.tryAcquire()) {
+            sendError(emitter, BUSY_MESSAGE);
+            emitter.complete();
+            return sseResponse(emitter);
+        }
+
+        // 연결이 끊겨도 업스트림 호출은 이어 받기 유예 동안 계속 돌고, 그 뒤에도 아무도 다시 붙지 않으면 레지스트리가 가상 스레드를 인터럽트해 취소함
+        AgentStreamRun run = streamRegistry.start(owner, emitter);
+        DeltaCoalescer coalescer =
+                new DeltaCoalescer(
+                        request.getDeltaFlushMillis() != null
+                                ? request.getDeltaFlushMillis()
+                                : deltaFlushMillis,
+                        deltaFlushBytes,
+                        deltaFlushScheduler,
+                        vaultAgentSseExecutor,
+                        (name, data) -> streamRegistry.publish(run, name, data));
+        try {
+            vaultAgentSseExecutor.execute(
+                    () -> {
+                        run.bindWorker(Thread.currentThread());
+                        try {
+                            vaultAgentUseCase.stream(
+                                    request,
+                                    userId,
+                                    clientIdentifier,
+                                    event -> publish(coalescer, event));
+                        } catch (Exception exception) {
+                            if (Thread.currentThread().isInterrupted()) {
+                                log.debug("Vault Agent SSE 구독자가 돌아오지 않아 스트림을 취소했습니다.");
+                            } else {
+                                log.warn("Vault Agent SSE 응답 중 오류가 발생했습니다.", exception);
+                                publishError(coalescer, exception.getMessage());
+                            }
+                        } finally {
+                            coalescer.flush();
+                            streamRegistry.finish(run);
+                            openStreams.release();
+                        }
+                    });
+        } catch (RejectedExecutionException exception) {
+            // 작업이 시작되지 않았으니 finally가 돌지 않음. 자리를 돌려주고 스트림을 직접 닫음
+            log.warn("Vault Agent SSE 작업을 시작하지 못했습니다.", exception);
+            openStreams.release();
+            publishError(coalescer, BUSY_MESSAGE);
+            streamRegistry.finish(run);
+        }
+        return sseResponse(emitter);
+    }
+
+    private ResponseEntity<SseEmitter> sseResponse(SseEmitter emitter) {
         return ResponseEntity.ok()
                 .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-transform")
                 .header("X-Accel-Buffering", "no")
@@ -119,43 +184,53 @@ public class VaultAgentController {
         return ResponseEntity.ok(ApiResponse.success(vaultAgentUseCase.reindexAll()));
     }
 
-    private void sendAgentEvent(SseEmitter emitter, AgentStreamEvent event) {
+    private void publish(DeltaCoalescer coalescer, AgentStreamEvent event) {
+        if (event.type() == AgentStreamEvent.Type.QUEUED) {
+            coalescer.event("queued", toJson(Map.of("position", event.position())));
+            return;
+        }
         if (event.type() == AgentStreamEvent.Type.STAGE && event.stage() != null) {
-            send(emitter, "stage", new AgentStage(event.stage().name(), event.stage().detail()));
+            coalescer.event(
+                    "stage", toJson(new AgentStage(event.stage().name(), event.stage().detail())));
             return;
         }
         if (event.type() == AgentStreamEvent.Type.DELTA) {
-            send(emitter, "delta", Map.of("delta", event.delta()));
+            coalescer.delta(event.delta());
             return;
         }
         if (event.type() == AgentStreamEvent.Type.COMPLETED && event.result() != null) {
-            var result = event.result();
-            send(
-                    emitter,
-                    "complete",
-                    new ChatResponse(
-                            "",
-                            result.answer(),
-                            result.stages().stream()
-                                    .map(stage -> new AgentStage(stage.name(), stage.detail()))
-                                    .toList(),
-                            result.sources().stream()
-                                    .map(
-                                            source ->
-                                                    new com.kscold.blog.vault.agent.application.dto
-                                                            .response.SourceNote(
-                                                            source.id(),
-                                                            source.title(),
-                                                            source.slug(),
-                                                            source.score(),
-                                                            source.type(),
-                                                            source.path(),
-                                                            source.excerpt()))
-                                    .toList(),
-                            result.followUps()));
+            coalescer.event("complete", toJson(toChatResponse(event.result())));
         }
     }
 
+    private ChatResponse toChatResponse(AgentChatResult result) {
+        return new ChatResponse(
+                "",
+                result.answer(),
+                result.stages().stream()
+                        .map(stage -> new AgentStage(stage.name(), stage.detail()))
+                        .toList(),
+                result.sources().stream()
+                        .map(
+                                source ->
+                                        new SourceNote(
+                                                source.id(),
+                                                source.title(),
+                                                source.slug(),
+                                                source.score(),
+                                                source.type(),
+                                                source.path(),
+                                                source.excerpt()))
+                        .toList(),
+                result.followUps());
+    }
+
+    private void publishError(DeltaCoalescer coalescer, String message) {
+        coalescer.event(
+                "error",
+                toJson(Map.of("message", message == null ? "응답을 만들지 못했습니다." : message)));
+    }
+
     private void sendError(SseEmitter emitter, String message) {
         try {
             send(emitter, "error", Map.of("message", message == null ? "응답을 만들지 못했습니다." : message));
@@ -166,14 +241,17 @@ public class VaultAgentController {
 
     private void send(SseEmitter emitter, String eventName, Object payload) {
         try {
-            emitter.send(
-                    SseEmitter.event()
-                            .name(eventName)
-                            .data(objectMapper.writeValueAsString(payload)));
-        } catch (JsonProcessingException exception) {
-            throw new IllegalStateException("Vault Agent SSE 응답을 직렬화하지 못했습니다.", exception);
+            emitter.send(SseEmitter.event().name(eventName).data(toJson(payload)));
         } catch (IOException exception) {
             throw new IllegalStateException("Vault Agent SSE 연결이 종료되었습니다.", exception);
         }
     }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Vault Agent SSE 응답을 직렬화하지 못했습니다.", exception);
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package com.kscold.blog.vault.agent.adapter.out.grpc;
+
+import com.kscold.blog.vault.agent.grpc.ChatRequest;
+import com.kscold.blog.vault.agent.grpc.ChatStreamEvent;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * async stub의 chatStream 응답을 소비 스레드로 넘기는 창(window) 크기 버퍼. 자동 흐름 제어를 끄고 처음에 window개만 요청한 뒤, 소비자가 하나를
+ * 처리할 때마다 하나를 더 요청하므로 스트림마다 버퍼에 쌓이는 메시지는 window개를 넘지 않음. 소비자가 느리면 HTTP/2 흐름 제어로 에이전트 서버까지 밀림이 전달됨.
+ *
+ * <p>gRPC 콜백 스레드는 큐에 넣기만 하고 막히지 않으므로, 스트림 수백 개가 채널 하나와 적은 이벤트 루프 스레드를 함께 씀.
+ */
+final class ChatStreamBuffer implements ClientResponseObserver<ChatRequest, ChatStreamEvent> {
+
+    /** 스트림 끝 표시 (정상 종료 · 오류 모두). 빈 메시지는 getDefaultInstance()로 역직렬화되므로 이벤트와 겹치지 않는 별도 객체를 씀 */
+    private static final Object END = new Object();
+
+    private final int window;
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private volatile ClientCallStreamObserver<ChatRequest> requestStream;
+    private volatile Throwable error;
+    private volatile boolean terminated;
+
+    ChatStreamBuffer(int window) {
+        this.window = window;
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<ChatRequest> requestStream) {
+        this.requestStream = requestStream;
+        requestStream.disableAutoRequestWithInitial(window);
+    }
+
+    @Override
+    public void onNext(ChatStreamEvent event) {
+        queue.add(event);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+        terminated = true;
+        queue.add(END);
+    }
+
+    @Override
+    public void onCompleted() {
+        terminated = true;
+        queue.add(END);
+    }
+
+    /**
+     * 다음 이벤트. 스트림이 정상 종료되면 null, 오류로 끝나면 그 오류를 던짐. 기다리는 중 인터럽트되면(클라이언트 연결 종료 등) 호출을 취소하고
+     * InterruptedException을 그대로 던짐.
+     */
+    ChatStreamEvent take() throws InterruptedException {
+        Object event;
+        try {
+            event = queue.take();
+        } catch (InterruptedException exception) {
+            cancel("소비자가 중단됨");
+            throw exception;
+        }
+        if (event != END) return (ChatStreamEvent) event;
+        Throwable failure = error;
+        if (failure instanceof RuntimeException runtime) throw runtime;
+        if (failure != null) throw new IllegalStateException(failure);
+        return null;
+    }
+
+    /** 이벤트 하나를 처리했으니 하나 더 받음 */
+    void consumed() {
+        if (!terminated) {
+            requestStream.request(1);
+        }
+    }
+
+    /** 아직 끝나지 않은 호출을 취소함. 끝까지 읽은 뒤 호출하면 아무것도 하지 않음 */
+    void cancel(String reason) {
+        if (!terminated && requestStream != null) {
+            requestStream.cancel(reason, null);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import com.kscold.blog.vault.agent.domain.exception.AgentClientUnavailableExcept
 import com.kscold.blog.vault.agent.domain.model.AgentChatResult;
 import com.kscold.blog.vault.agent.domain.model.AgentChatStage;
 import com.kscold.blog.vault.agent.domain.model.AgentContentAccessScope;
+import com.kscold.blog.vault.agent.domain.model.AgentIndexChange;
+import com.kscold.blog.vault.agent.domain.model.AgentReindexDeltaResult;
 import com.kscold.blog.vault.agent.domain.model.AgentReindexResult;
 import com.kscold.blog.vault.agent.domain.model.AgentSource;
 import com.kscold.blog.vault.agent.domain.model.AgentStreamEvent;
@@ -13,17 +15,19 @@ import com.kscold.blog.vault.agent.grpc.ChatCompleted;
 import com.kscold.blog.vault.agent.grpc.ChatRequest;
 import com.kscold.blog.vault.agent.grpc.ChatStreamEvent;
 import com.kscold.blog.vault.agent.grpc.ContentAccessScope;
+import com.kscold.blog.vault.agent.grpc.IndexDelta;
+import com.kscold.blog.vault.agent.grpc.ReindexDeltaRequest;
 import com.kscold.blog.vault.agent.grpc.ReindexRequest;
 import com.kscold.blog.vault.agent.grpc.VaultAgentServiceGrpc;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.StatusRuntimeException;
 import jakarta.annotation.PreDestroy;
-import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -33,14 +37,23 @@ public class GrpcVaultAgentClient implements VaultAgentClientPort {
     private final VaultAgentProperties properties;
     private final ManagedChannel channel;
     private final VaultAgentServiceGrpc.VaultAgentServiceBlockingStub blockingStub;
+    private final VaultAgentServiceGrpc.VaultAgentServiceStub asyncStub;
 
+    @Autowired
     public GrpcVaultAgentClient(VaultAgentProperties properties) {
-        this.properties = properties;
-        this.channel =
+        this(
+                properties,
                 ManagedChannelBuilder.forAddress(properties.getHost(), properties.getPort())
                         .usePlaintext()
-                        .build();
+                        .build());
+    }
+
+    /** 이미 만든 채널로 붙음 (인프로세스 서버 테스트용) */
+    public GrpcVaultAgentClient(VaultAgentProperties properties, ManagedChannel channel) {
+        this.properties = properties;
+        this.channel = channel;
         this.blockingStub = VaultAgentServiceGrpc.newBlockingStub(channel);
+        this.asyncStub = VaultAgentServiceGrpc.newStub(channel);
     }
 
     @Override
@@ -53,31 +66,46 @@ public class GrpcVaultAgentClient implements VaultAgentClientPort {
         }
     }
 
+    /**
+     * async stub으로 받은 이벤트를 호출 스레드에서 차례로 소비함. 스트림마다 {@code stream-window}개까지만 미리 받고, 소비자가 예외를 던지거나
+     * 호출 스레드가 인터럽트되면(클라이언트 연결 종료) 에이전트 호출을 바로 취소함.
+     */
     @Override
     public void streamChat(
             String message,
             String activeFolderName,
             AgentContentAccessScope contentAccessScope,
             Consumer<AgentStreamEvent> eventConsumer) {
+        ChatStreamBuffer events = new ChatStreamBuffer(properties.getStreamWindow());
+        asyncStub
+                .withDeadlineAfter(properties.getDeadlineMillis(), TimeUnit.MILLISECONDS)
+                .chatStream(toRequest(message, activeFolderName, contentAccessScope), events);
         try {
-            Iterator<ChatStreamEvent> events =
-                    stub().chatStream(toRequest(message, activeFolderName, contentAccessScope));
-            while (events.hasNext()) {
-                ChatStreamEvent event = events.next();
-                switch (event.getEventCase()) {
-                    case STAGE ->
-                            eventConsumer.accept(AgentStreamEvent.stage(toStage(event.getStage())));
-                    case DELTA -> eventConsumer.accept(AgentStreamEvent.delta(event.getDelta()));
-                    case COMPLETED ->
-                            eventConsumer.accept(
-                                    AgentStreamEvent.completed(toCompleted(event.getCompleted())));
-                    case EVENT_NOT_SET -> {
-                        // 아직 전달할 이벤트가 없는 경우는 건너뜀.
-                    }
-                }
+            ChatStreamEvent event;
+            while ((event = events.take()) != null) {
+                dispatch(event, eventConsumer);
+                events.consumed();
             }
         } catch (StatusRuntimeException exception) {
             throw unavailable(exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new AgentClientUnavailableException("Vault Agent 스트림이 취소되었습니다.", exception);
+        } finally {
+            events.cancel("스트림 소비 종료");
+        }
+    }
+
+    private void dispatch(ChatStreamEvent event, Consumer<AgentStreamEvent> eventConsumer) {
+        switch (event.getEventCase()) {
+            case STAGE -> eventConsumer.accept(AgentStreamEvent.stage(toStage(event.getStage())));
+            case DELTA -> eventConsumer.accept(AgentStreamEvent.delta(event.getDelta()));
+            case COMPLETED ->
+                    eventConsumer.accept(
+                            AgentStreamEvent.completed(toCompleted(event.getCompleted())));
+            case EVENT_NOT_SET -> {
+                // 아직 전달할 이벤트가 없는 경우는 건너뜀.
+            }
         }
     }
 
@@ -94,6 +122,30 @@ public class GrpcVaultAgentClient implements VaultAgentClientPort {
         }
     }
 
+    @Override
+    public AgentReindexDeltaResult reindexDelta(List<AgentIndexChange> changes) {
+        ReindexDeltaRequest.Builder request = ReindexDeltaRequest.newBuilder();
+        for (AgentIndexChange change : changes) {
+            request.addDeltas(
+                    IndexDelta.newBuilder()
+                            .setContentType(change.contentType())
+                            .setDocumentId(change.documentId())
+                            .setOperation(
+                                    change.deleted()
+                                            ? IndexDelta.Operation.DELETE
+                                            : IndexDelta.Operation.UPSERT));
+        }
+        try {
+            var response = stub().reindexDelta(request.build());
+            return new AgentReindexDeltaResult(
+                    response.getIndexedDocuments(),
+                    response.getDeletedDocuments(),
+                    response.getSkippedDocuments());
+        } catch (StatusRuntimeException exception) {
+            throw unavailable(exception);
+        }
+    }
+
     @PreDestroy
     public void shutdown() throws InterruptedException {
         channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
@@ -0,0 +1,120 @@
+package com.kscold.blog.vault.agent.adapter.out.persistence;
+
+import com.kscold.blog.vault.agent.domain.model.AgentIndexChange;
+import com.kscold.blog.vault.agent.domain.port.out.AgentIndexOutboxRepository;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변경은 순번을 _id로 저장해 별도 인덱스 없이 순번 범위로 읽음. 순번 카운터 · 체크포인트 · 서버 시각 읽기용 문서는 상태 컬렉션에 둠. 기록 시각은 인스턴스 시계
+ * 차이가 끼지 않도록 $currentDate로 서버가 채움.
+ */
+@Component
+@RequiredArgsConstructor
+public class MongoAgentIndexOutboxRepository implements AgentIndexOutboxRepository {
+
+    private static final String COLLECTION = "vault_agent_index_outbox";
+    private static final String STATE_COLLECTION = "vault_agent_index_outbox_state";
+    private static final String SEQUENCE_ID = "sequence";
+    private static final String CHECKPOINT_ID = "checkpoint";
+    private static final String CLOCK_ID = "clock";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void append(String contentType, String documentId, boolean deleted) {
+        appendAll(contentType, List.of(documentId), deleted);
+    }
+
+    /** 순번을 $inc 한 번으로 N개 예약하고, 기록 시각을 서버가 채우도록 upsert들을 bulkWrite 한 번으로 보냄 */
+    @Override
+    public void appendAll(String contentType, List<String> documentIds, boolean deleted) {
+        if (documentIds.isEmpty()) return;
+        Document counter =
+                mongoTemplate.findAndModify(
+                        Query.query(Criteria.where("_id").is(SEQUENCE_ID)),
+                        new Update().inc("value", (long) documentIds.size()),
+                        FindAndModifyOptions.options().returnNew(true).upsert(true),
+                        Document.class,
+                        STATE_COLLECTION);
+        long first = value(counter) - documentIds.size() + 1;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+        for (int i = 0; i < documentIds.size(); i++) {
+            bulk.upsert(
+                    Query.query(Criteria.where("_id").is(first + i)),
+                    new Update()
+                            .setOnInsert("contentType", contentType)
+                            .setOnInsert("documentId", documentIds.get(i))
+                            .setOnInsert("deleted", deleted)
+                            .currentDate("recordedAt"));
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public List<AgentIndexChange> findAfter(long sequence, int limit) {
+        Query query =
+                Query.query(Criteria.where("_id").gt(sequence))
+                        .with(Sort.by(Sort.Direction.ASC, "_id"))
+                        .limit(limit);
+        return mongoTemplate.find(query, Document.class, COLLECTION).stream()
+                .map(
+                        document ->
+                                new AgentIndexChange(
+                                        value(document.get("_id")),
+                                        document.getString("contentType"),
+                                        document.getString("documentId"),
+                                        Boolean.TRUE.equals(document.getBoolean("deleted")),
+                                        instant(document.get("recordedAt"))))
+                .toList();
+    }
+
+    @Override
+    public Instant serverTime() {
+        Document clock =
+                mongoTemplate.findAndModify(
+                        Query.query(Criteria.where("_id").is(CLOCK_ID)),
+                        new Update().currentDate("value"),
+                        FindAndModifyOptions.options().returnNew(true).upsert(true),
+                        Document.class,
+                        STATE_COLLECTION);
+        return instant(clock == null ? null : clock.get("value"));
+    }
+
+    @Override
+    public long loadCheckpoint() {
+        return value(mongoTemplate.findById(CHECKPOINT_ID, Document.class, STATE_COLLECTION));
+    }
+
+    @Override
+    public void acknowledge(long sequence) {
+        mongoTemplate.upsert(
+                Query.query(Criteria.where("_id").is(CHECKPOINT_ID)),
+                new Update().max("value", sequence),
+                STATE_COLLECTION);
+        mongoTemplate.remove(Query.query(Criteria.where("_id").lte(sequence)), COLLECTION);
+    }
+
+    private static long value(Document state) {
+        return state == null ? 0L : value(state.get("value"));
+    }
+
+    private static Instant instant(Object date) {
+        return date instanceof Date d ? d.toInstant() : Instant.EPOCH;
+    }
+
+    private static long value(Object number) {
+        return number instanceof Number n ? n.longValue() : 0L;
+    }
+}
@@ -4,7 +4,11 @@ import com.kscold.blog.vault.agent.domain.model.AgentChatMessage;
 import com.kscold.blog.vault.agent.domain.model.AgentChatStage;
 import com.kscold.blog.vault.agent.domain.model.AgentSource;
 import com.kscold.blog.vault.agent.domain.port.out.VaultAgentChatHistoryRepository;
+import jakarta.annotation.PostConstruct;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -12,8 +16,11 @@ import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -24,54 +31,138 @@ public class MongoVaultAgentChatHistoryRepository implements VaultAgentChatHisto
 
     private final MongoTemplate mongoTemplate;
 
+    /** 대화별 최근 메시지 조회용 인덱스. 같은 시각이면 _id로 순서를 고정함 */
+    @PostConstruct
+    void ensureIndexes() {
+        mongoTemplate
+                .indexOps(COLLECTION)
+                .ensureIndex(
+                        new Index()
+                                .on("scopeKey", Sort.Direction.ASC)
+                                .on("createdAt", Sort.Direction.DESC)
+                                .on("_id", Sort.Direction.DESC)
+                                .named("scopeKey_createdAt_desc"));
+    }
+
     @Override
-    public void save(AgentChatMessage message) {
-        mongoTemplate.insert(
-                new Document()
-                        .append("scopeKey", message.scopeKey())
-                        .append("sessionId", message.sessionId())
-                        .append("userId", message.userId())
-                        .append("clientIdentifier", message.clientIdentifier())
-                        .append("role", message.role())
-                        .append("content", message.content())
-                        .append(
-                                "stages",
-                                message.stages().stream()
-                                        .map(
-                                                stage ->
-                                                        new Document("name", stage.name())
-                                                                .append("detail", stage.detail()))
-                                        .toList())
-                        .append(
-                                "sources",
-                                message.sources().stream()
-                                        .map(
-                                                source ->
-                                                        new Document("id", source.id())
-                                                                .append("title", source.title())
-                                                                .append("slug", source.slug())
-                                                                .append("score", source.score())
-                                                                .append("type", source.type())
-                                                                .append("path", source.path())
-                                                                .append(
-                                                                        "excerpt",
-                                                                        source.excerpt()))
-                                        .toList())
-                        .append("createdAt", Date.from(message.createdAt())),
-                COLLECTION);
+    public void saveAll(List<AgentChatMessage> messages) {
+        if (messages.isEmpty()) return;
+        mongoTemplate.insert(messages.stream().map(this::toDocument).toList(), COLLECTION);
     }
 
     @Override
-    public List<AgentChatMessage> findByScopeKey(String scopeKey, int limit) {
+    public List<AgentChatMessage> findLatestByScopeKey(String scopeKey, int limit) {
         Query query =
                 Query.query(Criteria.where("scopeKey").is(scopeKey))
-                        .with(Sort.by(Sort.Direction.ASC, "createdAt"))
+                        .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                        .limit(limit);
+        List<AgentChatMessage> latest =
+                new ArrayList<>(
+                        mongoTemplate.find(query, Document.class, COLLECTION).stream()
+                                .map(this::toMessage)
+                                .toList());
+        Collections.reverse(latest);
+        return latest;
+    }
+
+    @Override
+    public List<SessionSize> findLargeSessions(
+            int threshold, @Nullable Instant activeSince, int limit) {
+        if (activeSince == null) {
+            return countAllSessions(threshold, limit);
+        }
+        // ObjectId 앞부분이 생성 시각이라 _id 인덱스 범위로 최근 쓰인 메시지의 대화만 고르고, 개수는 scopeKey 인덱스로 셈
+        Query recent =
+                Query.query(Criteria.where("_id").gte(new ObjectId(Date.from(activeSince))));
+        List<SessionSize> large = new ArrayList<>();
+        for (String scopeKey :
+                mongoTemplate.findDistinct(recent, "scopeKey", COLLECTION, String.class)) {
+            long count =
+                    mongoTemplate.count(
+                            Query.query(Criteria.where("scopeKey").is(scopeKey)), COLLECTION);
+            if (count > threshold) {
+                large.add(new SessionSize(scopeKey, count));
+                if (large.size() == limit) break;
+            }
+        }
+        return large;
+    }
+
+    /** 전체 대화를 셈. scopeKey 순으로 정렬하고 scopeKey만 남겨 문서 대신 (scopeKey, createdAt, _id) 인덱스만 읽음 */
+    private List<SessionSize> countAllSessions(int threshold, int limit) {
+        Aggregation aggregation =
+                Aggregation.newAggregation(
+                        Aggregation.sort(Sort.Direction.ASC, "scopeKey"),
+                        Aggregation.project("scopeKey").andExclude("_id"),
+                        Aggregation.group("scopeKey").count().as("count"),
+                        Aggregation.match(Criteria.where("count").gt(threshold)),
+                        Aggregation.limit(limit));
+        return mongoTemplate
+                .aggregate(aggregation, COLLECTION, Document.class)
+                .getMappedResults()
+                .stream()
+                .map(
+                        document ->
+                                new SessionSize(
+                                        stringValue(document.get("_id")),
+                                        ((Number) document.get("count")).longValue()))
+                .toList();
+    }
+
+    @Override
+    public List<AgentChatMessage> findOldestByScopeKey(String scopeKey, int limit) {
+        Query query =
+                Query.query(Criteria.where("scopeKey").is(scopeKey))
+                        .with(Sort.by(Sort.Direction.ASC, "createdAt", "_id"))
                         .limit(limit);
         return mongoTemplate.find(query, Document.class, COLLECTION).stream()
                 .map(this::toMessage)
                 .toList();
     }
 
+    @Override
+    public void replaceWithSummary(AgentChatMessage summary, Collection<String> messageIds) {
+        // 요약을 먼저 넣어, 중간에 실패해도 메시지가 사라지지 않고 다음 압축에서 다시 접힘
+        mongoTemplate.insert(toDocument(summary), COLLECTION);
+        mongoTemplate.remove(
+                Query.query(
+                        Criteria.where("_id")
+                                .in(messageIds.stream().map(ObjectId::new).toList())),
+                COLLECTION);
+    }
+
+    private Document toDocument(AgentChatMessage message) {
+        return new Document()
+                .append("scopeKey", message.scopeKey())
+                .append("sessionId", message.sessionId())
+                .append("userId", message.userId())
+                .append("clientIdentifier", message.clientIdentifier())
+                .append("role", message.role())
+                .append("content", message.content())
+                .append(
+                        "stages",
+                        message.stages().stream()
+                                .map(
+                                        stage ->
+                                                new Document("name", stage.name())
+                                                        .append("detail", stage.detail()))
+                                .toList())
+                .append(
+                        "sources",
+                        message.sources().stream()
+                                .map(
+                                        source ->
+                                                new Document("id", source.id())
+                                                        .append("title", source.title())
+                                                        .append("slug", source.slug())
+                                                        .append("score", source.score())
+                                                        .append("type", source.type())
+                                                        .append("path", source.path())
+                                                        .append("excerpt", source.excerpt()))
+                                .toList())
+                .append("createdAt", Date.from(message.createdAt()));
+    }
+
     @SuppressWarnings("unchecked")
     private AgentChatMessage toMessage(Document document) {
         List<AgentChatStage> stages =
@@ -1,5 +1,7 @@
 package com.kscold.blog.vault.agent.application.dto.command;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -19,4 +21,9 @@ public class ChatCommand {
 
     @Size(max = 80, message = "세션 값이 너무 깁니다.")
     private String sessionId;
+
+    /** 스트림 응답에서 답변 조각을 모아 보내는 간격. 비우면 서버 기본값, 0이면 조각마다 바로 보냄 */
+    @Min(value = 0, message = "전송 간격은 0 이상이어야 합니다.")
+    @Max(value = 1000, message = "전송 간격은 1000ms 이하로 입력해주세요.")
+    private Integer deltaFlushMillis;
 }
@@ -0,0 +1,205 @@
+package com.kscold.blog.vault.agent.application.service;
+
+import com.kscold.blog.vault.agent.config.VaultAgentProperties;
+import com.kscold.blog.vault.agent.domain.exception.AgentBusyException;
+import com.kscold.blog.vault.agent.domain.exception.AgentClientUnavailableException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 에이전트 업스트림 호출 입장 제어. 동시 호출은 max-concurrent-calls개까지만 두고, 나머지는 클라이언트(사용자 또는 게스트 식별자)별 대기열에 넣어 클라이언트
+ * 사이를 라운드 로빈으로 돌며 하나씩 입장시킴. 한 게스트가 요청을 몰아 보내도 다른 클라이언트는 한 바퀴 안에 차례가 옴. 대기 순서가 바뀔 때마다 대기자 스레드가 스스로
+ * 알리고, queue-timeout이 지나도록 입장하지 못하면 포기시킴.
+ */
+@Component
+public class AgentAdmissionGate {
+
+    private final int maxConcurrent;
+    private final int maxQueuedPerClient;
+    private final int maxQueued;
+    private final long queueTimeoutMillis;
+
+    /** 클라이언트별 대기열. 순서가 라운드 로빈 순서이며 입장시킨 클라이언트는 맨 뒤로 보냄 */
+    private final LinkedHashMap<String, ArrayDeque<Waiter>> queues = new LinkedHashMap<>();
+
+    private int active;
+    private int queued;
+
+    @Autowired
+    public AgentAdmissionGate(VaultAgentProperties properties) {
+        this(
+                properties.getMaxConcurrentCalls(),
+                properties.getMaxQueuedPerClient(),
+                properties.getMaxQueued(),
+                properties.getQueueTimeoutMillis());
+    }
+
+    AgentAdmissionGate(
+            int maxConcurrent, int maxQueuedPerClient, int maxQueued, long queueTimeoutMillis) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueuedPerClient = maxQueuedPerClient;
+        this.maxQueued = maxQueued;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+    }
+
+    /**
+     * 입장할 때까지 기다렸다가 call을 실행함. 기다리는 동안 대기 순서(1부터, 1이면 다음 차례)가 바뀔 때마다 onQueued로 알림.
+     *
+     * @throws AgentBusyException 대기열이 가득 찼거나 대기 시간이 지남
+     */
+    public <T> T call(String client, IntConsumer onQueued, Supplier<T> call) {
+        acquire(client, onQueued);
+        try {
+            return call.get();
+        } finally {
+            release();
+        }
+    }
+
+    public void run(String client, IntConsumer onQueued, Runnable call) {
+        call(
+                client,
+                onQueued,
+                () -> {
+                    call.run();
+                    return null;
+                });
+    }
+
+    void acquire(String client, IntConsumer onQueued) {
+        Waiter waiter;
+        synchronized (this) {
+            if (active < maxConcurrent && queued == 0) {
+                active++;
+                return;
+            }
+            ArrayDeque<Waiter> queue = queues.computeIfAbsent(client, key -> new ArrayDeque<>());
+            if (queued >= maxQueued || queue.size() >= maxQueuedPerClient) {
+                if (queue.isEmpty()) queues.remove(client);
+                throw new AgentBusyException("지금은 대화 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            waiter = new Waiter(client);
+            queue.add(waiter);
+            queued++;
+            updatePositions();
+        }
+
+        // 순서 알림은 대기자 자신의 스레드에서만 보내므로 입장한 뒤에는 더 나가지 않음
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+        int reported = 0;
+        while (true) {
+            int position;
+            synchronized (this) {
+                try {
+                    while (!waiter.admitted && waiter.position == reported) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            leave(waiter);
+                            throw new AgentBusyException(
+                                    "대기 시간이 지나 답변을 시작하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+                        }
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    }
+                } catch (InterruptedException exception) {
+                    leave(waiter);
+                    Thread.currentThread().interrupt();
+                    throw new AgentClientUnavailableException(
+                            "Vault Agent 응답 대기가 중단되었습니다.", exception);
+                }
+                if (waiter.admitted) return;
+                position = waiter.position;
+            }
+            try {
+                onQueued.accept(position);
+            } catch (RuntimeException exception) {
+                synchronized (this) {
+                    leave(waiter);
+                }
+                throw exception;
+            }
+            reported = position;
+        }
+    }
+
+    synchronized void release() {
+        active--;
+        admitNext();
+        updatePositions();
+    }
+
+    synchronized int active() {
+        return active;
+    }
+
+    synchronized int queued() {
+        return queued;
+    }
+
+    /** 라운드 로빈 순서의 첫 클라이언트에서 한 명 입장시키고 그 클라이언트를 맨 뒤로 보냄 */
+    private void admitNext() {
+        Iterator<Map.Entry<String, ArrayDeque<Waiter>>> iterator = queues.entrySet().iterator();
+        if (active >= maxConcurrent || !iterator.hasNext()) return;
+        Map.Entry<String, ArrayDeque<Waiter>> first = iterator.next();
+        iterator.remove();
+        ArrayDeque<Waiter> queue = first.getValue();
+        Waiter waiter = queue.poll();
+        queued--;
+        active++;
+        if (!queue.isEmpty()) queues.put(first.getKey(), queue);
+        waiter.admitted = true;
+    }
+
+    /** 대기를 그만둠. 입장 전이면 대기열에서 빼고, 그 사이 이미 입장했으면 받은 자리를 돌려줌 */
+    private void leave(Waiter waiter) {
+        if (waiter.admitted) {
+            release();
+            return;
+        }
+        ArrayDeque<Waiter> queue = queues.get(waiter.client);
+        queue.remove(waiter);
+        if (queue.isEmpty()) queues.remove(waiter.client);
+        queued--;
+        updatePositions();
+    }
+
+    /**
+     * 대기자마다 자기 앞에 입장할 인원으로 순서를 계산해 적어 두고 기다리는 스레드를 깨움. 클라이언트 대기열의 i번째 대기자 앞에는 각 클라이언트에서 최대 i명, 라운드
+     * 로빈상 앞선 클라이언트에서는 i+1명까지 먼저 입장함.
+     */
+    private void updatePositions() {
+        List<ArrayDeque<Waiter>> order = new ArrayList<>(queues.values());
+        for (int c = 0; c < order.size(); c++) {
+            int i = 0;
+            for (Waiter waiter : order.get(c)) {
+                int ahead = 0;
+                for (int other = 0; other < order.size(); other++) {
+                    int limit = other < c ? i + 1 : i;
+                    ahead += Math.min(order.get(other).size(), limit);
+                }
+                waiter.position = ahead + 1;
+                i++;
+            }
+        }
+        notifyAll();
+    }
+
+    /** 입장 여부와 대기 순서는 게이트 잠금 안에서만 읽고 씀 */
+    private static final class Waiter {
+        private final String client;
+        private boolean admitted;
+        private int position;
+
+        private Waiter(String client) {
+            this.client = client;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.kscold.blog.vault.agent.application.service;
+
+import com.kscold.blog.vault.agent.config.VaultAgentProperties;
+import com.kscold.blog.vault.agent.domain.exception.AgentClientUnavailableException;
+import com.kscold.blog.vault.agent.domain.model.AgentChatResult;
+import com.kscold.blog.vault.agent.domain.model.AgentChatStage;
+import com.kscold.blog.vault.agent.domain.model.AgentContentAccessScope;
+import com.kscold.blog.vault.agent.domain.model.AgentStreamEvent;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Vault Agent 답변 캐시. 정규화한 질문 · 폴더 · 열람 범위 · 인덱스 버전이 같으면 같은 답으로 보고 TTL 동안 LRU로 보관함. 재인덱싱하면 버전이 올라가
+ * 이전 답은 더 이상 맞지 않음. 같은 질문이 처리 중이면 뒤에 온 요청은 업스트림을 다시 부르지 않고 그 결과를 기다려 받음.
+ */
+@Slf4j
+@Component
+public class AgentAnswerCache {
+
+    /** 캐시된 답을 스트림으로 다시 보낼 때 DELTA 하나에 담는 글자 수 */
+    static final int REPLAY_CHUNK = 24;
+
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final AtomicLong indexVersion = new AtomicLong();
+    private final Map<AnswerKey, CompletableFuture<AgentChatResult>> inFlight =
+            new ConcurrentHashMap<>();
+    private final LinkedHashMap<AnswerKey, Entry> entries;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    @Autowired
+    public AgentAnswerCache(VaultAgentProperties properties) {
+        this(
+                properties.getAnswerCacheSize(),
+                properties.getAnswerCacheTtlMillis(),
+                System::currentTimeMillis);
+    }
+
+    AgentAnswerCache(int maxEntries, long ttlMillis, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entries =
+                new LinkedHashMap<>(256, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<AnswerKey, Entry> eldest) {
+                        return size() > maxEntries;
+                    }
+                };
+    }
+
+    public AnswerKey key(
+            String message, @Nullable String activeFolderName, AgentContentAccessScope scope) {
+        return new AnswerKey(
+                normalize(message),
+                activeFolderName == null ? "" : activeFolderName.strip(),
+                scope.fingerprint(),
+                indexVersion.get());
+    }
+
+    /** 인덱스가 바뀌었을 때 호출. 이전 버전 키로 처리 중인 요청의 결과도 저장되지 않음 */
+    public void invalidateAll() {
+        indexVersion.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /** 앞선 같은 질문의 결과를 기다리고 있는 호출 수 */
+    int waitingCount() {
+        return waiting.get();
+    }
+
+    /** 캐시된 답, 처리 중인 같은 질문의 답, 또는 upstream 결과 순으로 반환 */
+    public AgentChatResult chat(AnswerKey key, Supplier<AgentChatResult> upstream) {
+        AgentChatResult cached = get(key);
+        if (cached != null) return cached;
+
+        CompletableFuture<AgentChatResult> mine = new CompletableFuture<>();
+        CompletableFuture<AgentChatResult> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            AgentChatResult shared = await(leader);
+            return shared != null ? shared : upstream.get();
+        }
+        try {
+            AgentChatResult result = upstream.get();
+            finish(key, mine, result);
+            return result;
+        } catch (RuntimeException exception) {
+            fail(key, mine, exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * 스트림 응답. 캐시됐거나 같은 질문이 처리 중이면 그 답을 STAGE · DELTA · COMPLETED 이벤트로 다시 만들어 보내고, 아니면 upstream 이벤트를
+     * 그대로 넘기면서 기록해 둠.
+     */
+    public void stream(
+            AnswerKey key,
+            Consumer<AgentStreamEvent> eventConsumer,
+            Consumer<Consumer<AgentStreamEvent>> upstream) {
+        AgentChatResult cached = get(key);
+        if (cached != null) {
+            replay(cached, eventConsumer);
+            return;
+        }
+
+        CompletableFuture<AgentChatResult> mine = new CompletableFuture<>();
+        CompletableFuture<AgentChatResult> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            AgentChatResult shared = await(leader);
+            if (shared != null) {
+                replay(shared, eventConsumer);
+            } else {
+                upstream.accept(eventConsumer);
+            }
+            return;
+        }
+
+        List<AgentChatStage> stages = new ArrayList<>();
+        StringBuilder answer = new StringBuilder();
+        AtomicReference<AgentChatResult> completed = new AtomicReference<>();
+        try {
+            upstream.accept(
+                    event -> {
+                        switch (event.type()) {
+                            case STAGE -> {
+                                if (event.stage() != null) stages.add(event.stage());
+                            }
+                            case DELTA -> {
+                                if (event.delta() != null) answer.append(event.delta());
+                            }
+                            case COMPLETED -> completed.set(event.result());
+                            case QUEUED -> {}
+                        }
+                        eventConsumer.accept(event);
+                    });
+        } catch (RuntimeException exception) {
+            fail(key, mine, exception);
+            throw exception;
+        }
+
+        AgentChatResult raw = completed.get();
+        if (raw == null) {
+            fail(key, mine, new IllegalStateException("완료 이벤트 없음"));
+            return;
+        }
+        finish(
+                key,
+                mine,
+                new AgentChatResult(
+                        raw.answer().isBlank() ? answer.toString() : raw.answer(),
+                        raw.stages().isEmpty() ? stages : raw.stages(),
+                        raw.sources(),
+                        raw.followUps()));
+    }
+
+    static String normalize(String message) {
+        String text = message == null ? "" : message;
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .replaceAll("[\\s?!.~]+$", "")
+                .strip();
+    }
+
+    static void replay(AgentChatResult result, Consumer<AgentStreamEvent> eventConsumer) {
+        for (AgentChatStage stage : result.stages()) {
+            eventConsumer.accept(AgentStreamEvent.stage(stage));
+        }
+        String answer = result.answer();
+        int start = 0;
+        while (start < answer.length()) {
+            int end =
+                    answer.offsetByCodePoints(
+                            start,
+                            Math.min(REPLAY_CHUNK, answer.codePointCount(start, answer.length())));
+            eventConsumer.accept(AgentStreamEvent.delta(answer.substring(start, end)));
+            start = end;
+        }
+        eventConsumer.accept(AgentStreamEvent.completed(result));
+    }
+
+    @Nullable
+    private AgentChatResult get(AnswerKey key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) return null;
+            if (entry.expiresAt() <= clock.getAsLong()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.result();
+        }
+    }
+
+    /** 결과를 먼저 캐시에 넣고 처리 중 목록에서 빼서, 그 사이에 온 요청이 업스트림을 다시 부르지 않게 함 */
+    private void finish(
+            AnswerKey key, CompletableFuture<AgentChatResult> mine, AgentChatResult result) {
+        if (!result.answer().isBlank() && key.indexVersion() == indexVersion.get()) {
+            synchronized (entries) {
+                entries.put(key, new Entry(result, clock.getAsLong() + ttlMillis));
+            }
+        }
+        inFlight.remove(key, mine);
+        mine.complete(result);
+    }
+
+    private void fail(AnswerKey key, CompletableFuture<AgentChatResult> mine, Exception exception) {
+        inFlight.remove(key, mine);
+        mine.completeExceptionally(exception);
+    }
+
+    /** 앞선 요청의 결과. 그 요청이 실패했으면 null을 반환해 호출자가 직접 업스트림을 부르게 함 */
+    @Nullable
+    private AgentChatResult await(CompletableFuture<AgentChatResult> leader) {
+        waiting.incrementAndGet();
+        try {
+            return leader.get();
+        } catch (ExecutionException exception) {
+            log.debug("같은 질문의 앞선 요청 실패, 직접 호출: {}", exception.getCause().toString());
+            return null;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new AgentClientUnavailableException("Vault Agent 응답 대기가 중단되었습니다.", exception);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public record AnswerKey(
+            String question, String activeFolderName, String scope, long indexVersion) {}
+
+    private record Entry(AgentChatResult result, long expiresAt) {}
+}
@@ -0,0 +1,156 @@
+package com.kscold.blog.vault.agent.application.service;
+
+import com.kscold.blog.vault.agent.domain.exception.AgentClientUnavailableException;
+import com.kscold.blog.vault.agent.domain.model.AgentIndexChange;
+import com.kscold.blog.vault.agent.domain.model.AgentReindexDeltaResult;
+import com.kscold.blog.vault.agent.domain.port.out.AgentIndexOutboxRepository;
+import com.kscold.blog.vault.agent.domain.port.out.VaultAgentClientPort;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 색인 outbox를 체크포인트부터 묶음으로 읽어 에이전트의 ReindexDelta로 보냄. 묶음 안에서 같은 문서의 변경은 마지막 것만 남기고, 에이전트가 응답한 묶음까지만
+ * 체크포인트를 옮김. 호출이 실패하면 체크포인트는 그대로 두고 재시도 간격을 두 배씩 늘림 (최대 {@link #MAX_BACKOFF_MILLIS}). 변경 반영은 멱등이라
+ * 재시도나 여러 인스턴스의 중복 전송은 색인 결과를 바꾸지 않음. 묶음이 반영되면 답변 캐시의 인덱스 버전을 올려 바뀌기 전 색인으로 만든 답을 더 쓰지 않음.
+ *
+ * <p>체크포인트는 순번이 빈틈없이 이어진 데까지만 옮김. 순번을 받고 아직 저장되지 않은 항목을 지나치면 acknowledge가 그 순번까지 지워 영영 보내지 못하기 때문.
+ * 빈 순번은 뒤 항목이 DB 서버 시계로 {@link #GAP_TIMEOUT_MILLIS} 넘게 전에 기록됐을 때만 저장 실패로 보고 건너뜀.
+ */
+@Slf4j
+@Component
+public class AgentIndexOutboxDispatcher {
+
+    static final int BATCH_SIZE = 200;
+    static final int MAX_BATCHES_PER_RUN = 20;
+    static final long GAP_TIMEOUT_MILLIS = 60_000L;
+    static final long BASE_BACKOFF_MILLIS = 5_000L;
+    static final long MAX_BACKOFF_MILLIS = 5 * 60 * 1000L;
+
+    private final AgentIndexOutboxRepository outboxRepository;
+    private final VaultAgentClientPort vaultAgentClientPort;
+    private final AgentAnswerCache agentAnswerCache;
+    private final LongSupplier clock;
+
+    private int failures;
+    private long retryAt;
+
+    @Autowired
+    public AgentIndexOutboxDispatcher(
+            AgentIndexOutboxRepository outboxRepository,
+            VaultAgentClientPort vaultAgentClientPort,
+            AgentAnswerCache agentAnswerCache) {
+        this(outboxRepository, vaultAgentClientPort, agentAnswerCache, System::currentTimeMillis);
+    }
+
+    AgentIndexOutboxDispatcher(
+            AgentIndexOutboxRepository outboxRepository,
+            VaultAgentClientPort vaultAgentClientPort,
+            AgentAnswerCache agentAnswerCache,
+            LongSupplier clock) {
+        this.outboxRepository = outboxRepository;
+        this.vaultAgentClientPort = vaultAgentClientPort;
+        this.agentAnswerCache = agentAnswerCache;
+        this.clock = clock;
+    }
+
+    @Scheduled(
+            initialDelayString = "${vault.agent.index-outbox-interval-ms:5000}",
+            fixedDelayString = "${vault.agent.index-outbox-interval-ms:5000}")
+    public void dispatchPeriodically() {
+        try {
+            int sent = dispatch();
+            if (sent > 0) {
+                log.debug("Vault Agent 색인 변경 {}건 전송", sent);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Vault Agent 색인 변경 전송 실패", e);
+        }
+    }
+
+    /** @return 체크포인트를 지난 변경 수 */
+    synchronized int dispatch() {
+        long now = clock.getAsLong();
+        if (now < retryAt) return 0;
+        long checkpoint = outboxRepository.loadCheckpoint();
+        int sent = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            List<AgentIndexChange> found = outboxRepository.findAfter(checkpoint, BATCH_SIZE);
+            List<AgentIndexChange> changes = contiguous(found, checkpoint);
+            if (changes.isEmpty()) break;
+            try {
+                AgentReindexDeltaResult result =
+                        vaultAgentClientPort.reindexDelta(coalesce(changes));
+                log.debug(
+                        "Vault Agent 증분 색인: 색인 {}, 삭제 {}, 건너뜀 {}",
+                        result.indexedDocuments(),
+                        result.deletedDocuments(),
+                        result.skippedDocuments());
+            } catch (AgentClientUnavailableException e) {
+                failures++;
+                long backoff = backoff(failures);
+                retryAt = now + backoff;
+                log.warn(
+                        "Vault Agent 증분 색인 실패 {}회째, {}ms 뒤 순번 {}부터 재시도",
+                        failures,
+                        backoff,
+                        checkpoint + 1);
+                return sent;
+            }
+            failures = 0;
+            retryAt = 0;
+            checkpoint = changes.get(changes.size() - 1).sequence();
+            outboxRepository.acknowledge(checkpoint);
+            agentAnswerCache.invalidateAll();
+            sent += changes.size();
+            if (found.size() < BATCH_SIZE || changes.size() < found.size()) break;
+        }
+        return sent;
+    }
+
+    /** 체크포인트 바로 다음 순번부터 빈틈없이 이어지는 앞부분. 오래 비어 있는 순번은 건너뜀 */
+    private List<AgentIndexChange> contiguous(List<AgentIndexChange> found, long checkpoint) {
+        List<AgentIndexChange> changes = new ArrayList<>(found.size());
+        long expected = checkpoint + 1;
+        Instant abandonedBefore = null;
+        for (AgentIndexChange change : found) {
+            if (change.sequence() != expected) {
+                if (abandonedBefore == null) {
+                    abandonedBefore =
+                            outboxRepository.serverTime().minusMillis(GAP_TIMEOUT_MILLIS);
+                }
+                // 빈 순번은 뒤 항목보다 먼저 예약됐으므로, 뒤 항목이 오래전에 기록됐으면 빈 순번은 저장되지 못한 것
+                if (!change.recordedAt().isBefore(abandonedBefore)) break;
+                log.warn(
+                        "Vault Agent 색인 outbox 순번 {}~{}가 저장되지 않아 건너뜀",
+                        expected,
+                        change.sequence() - 1);
+            }
+            changes.add(change);
+            expected = change.sequence() + 1;
+        }
+        return changes;
+    }
+
+    /** 같은 문서의 변경은 마지막 것만 남김. 순서는 문서별 마지막 변경 순 */
+    static List<AgentIndexChange> coalesce(List<AgentIndexChange> changes) {
+        Map<String, AgentIndexChange> latest = new LinkedHashMap<>();
+        for (AgentIndexChange change : changes) {
+            latest.remove(change.key());
+            latest.put(change.key(), change);
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    static long backoff(int failures) {
+        int doublings = Math.min(failures - 1, 16);
+        return Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << doublings);
+    }
+}
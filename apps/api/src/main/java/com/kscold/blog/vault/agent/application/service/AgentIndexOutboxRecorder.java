@@ -0,0 +1,61 @@
+package com.kscold.blog.vault.agent.application.service;
+
+import com.kscold.blog.shared.domain.event.ContentChangedEvent;
+import com.kscold.blog.vault.agent.domain.port.out.AgentIndexOutboxRepository;
+import com.kscold.blog.vault.application.event.VaultNoteChangedEvent;
+import com.kscold.blog.vault.domain.model.VaultNote;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포스트 · 피드 · 볼트 노트 변경 이벤트를 Vault Agent 색인 outbox에 기록함. 기록에 실패해도 원본 저장은 이미 끝났으므로 예외를 올리지 않음 (에이전트의
+ * 주기 전체 동기화가 뒤늦게 반영함).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AgentIndexOutboxRecorder {
+
+    static final String VAULT = "vault";
+    static final String BLOG = "blog";
+    static final String FEED = "feed";
+
+    private final AgentIndexOutboxRepository outboxRepository;
+
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        String contentType = event.type() == ContentChangedEvent.ContentType.POST ? BLOG : FEED;
+        record(contentType, event.id(), event.deleted());
+    }
+
+    @EventListener
+    public void onVaultNoteChanged(VaultNoteChangedEvent event) {
+        switch (event.type()) {
+            case SAVED -> record(VAULT, event.noteId(), false);
+            case SAVED_ALL -> recordAll(event.notes().stream().map(VaultNote::getId).toList());
+            case DELETED -> record(VAULT, event.noteId(), true);
+            case LINKED, UNLINKED, BULK -> {
+                // 링크만 바뀐 경우라 색인 문서에는 영향이 없음
+            }
+        }
+    }
+
+    private void recordAll(List<String> noteIds) {
+        try {
+            outboxRepository.appendAll(VAULT, noteIds, false);
+        } catch (RuntimeException e) {
+            log.warn("Vault Agent 색인 변경 기록 실패: {}:{}건", VAULT, noteIds.size(), e);
+        }
+    }
+
+    private void record(String contentType, String documentId, boolean deleted) {
+        try {
+            outboxRepository.append(contentType, documentId, deleted);
+        } catch (RuntimeException e) {
+            log.warn("Vault Agent 색인 변경 기록 실패: {}:{}", contentType, documentId, e);
+        }
+    }
+}
@@ -1,11 +1,8 @@
 package com.kscold.blog.vault.agent.application.service;
 
 import com.kscold.blog.blog.application.port.in.AccessRequestUseCase;
-import com.kscold.blog.blog.domain.model.AccessRequest;
-import com.kscold.blog.identity.application.port.in.UserQueryPort;
+import com.kscold.blog.blog.domain.model.AccessGrantSet;
 import com.kscold.blog.vault.agent.domain.model.AgentContentAccessScope;
-import java.util.LinkedHashSet;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.Nullable;
@@ -18,7 +15,6 @@ import org.springframework.util.StringUtils;
 public class VaultAgentAccessScopeResolver {
 
     private final AccessRequestUseCase accessRequestUseCase;
-    private final UserQueryPort userQueryPort;
 
     public AgentContentAccessScope resolve(@Nullable String userId) {
         if (!StringUtils.hasText(userId)) {
@@ -26,26 +22,11 @@ public class VaultAgentAccessScopeResolver {
         }
 
         try {
-            if (userQueryPort.getUserById(userId).isAdmin()) {
+            AccessGrantSet grants = accessRequestUseCase.getGrants(userId);
+            if (grants.admin()) {
                 return AgentContentAccessScope.fullAccess();
             }
-
-            Set<String> postIds = new LinkedHashSet<>();
-            Set<String> categoryIds = new LinkedHashSet<>();
-            for (AccessRequest request : accessRequestUseCase.getMyRequests(userId)) {
-                if (request.getStatus() != AccessRequest.Status.APPROVED) {
-                    continue;
-                }
-                if (request.getGrantScope() == AccessRequest.GrantScope.POST
-                        && StringUtils.hasText(request.getPostId())) {
-                    postIds.add(request.getPostId());
-                }
-                if (request.getGrantScope() == AccessRequest.GrantScope.CATEGORY
-                        && StringUtils.hasText(request.getCategoryId())) {
-                    categoryIds.add(request.getCategoryId());
-                }
-            }
-            return new AgentContentAccessScope(false, postIds, categoryIds);
+            return new AgentContentAccessScope(false, grants.postIds(), grants.categoryIds());
         } catch (Exception exception) {
             log.warn("Vault Agent 권한 범위 조회에 실패해 공개 콘텐츠만 사용합니다. userId={}", userId);
             return AgentContentAccessScope.publicOnly();
@@ -0,0 +1,111 @@
+package com.kscold.blog.vault.agent.application.service;
+
+import com.kscold.blog.vault.agent.domain.model.AgentChatMessage;
+import com.kscold.blog.vault.agent.domain.port.out.VaultAgentChatHistoryRepository;
+import com.kscold.blog.vault.agent.domain.port.out.VaultAgentChatHistoryRepository.SessionSize;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 긴 대화의 오래된 메시지를 요약 문서 하나로 접음. 기록 조회는 최근 {@link VaultAgentService#HISTORY_LIMIT}개만 읽으므로 그만큼은 남기고, 그
+ * 앞의 질문 · 답변은 앞부분만 잘라 이어 붙인 요약(role=summary)으로 바꿈. 이전 요약도 다음 압축에 함께 접혀 대화당 요약은 하나로 유지됨.
+ *
+ * <p>대화는 새 메시지가 쓰여야만 길어지므로, 처음 한 번만 전체를 세고 그 뒤로는 지난 실행 이후 메시지가 쓰인 대화만 셈.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VaultAgentHistoryCompactor {
+
+    static final int COMPACT_THRESHOLD = 200;
+    static final int KEEP_RECENT = VaultAgentService.HISTORY_LIMIT;
+    static final int MAX_FOLD = 1000;
+    static final int MAX_SESSIONS_PER_RUN = 100;
+    static final int QUESTION_CHARS = 200;
+    static final int ANSWER_CHARS = 300;
+    static final int SUMMARY_MAX_CHARS = 8000;
+
+    /** 인스턴스 간 시계 차이로 메시지를 놓치지 않도록 지난 실행 시각에서 더 거슬러 올라가는 폭 */
+    static final Duration ACTIVE_SINCE_SLACK = Duration.ofMinutes(5);
+
+    private final VaultAgentChatHistoryRepository chatHistoryRepository;
+
+    /** 다음 실행에서 셀 대화의 기준 시각. null이면 전체 */
+    private volatile Instant activeSince;
+
+    @Scheduled(
+            initialDelayString = "${vault.agent.history-compact-interval-ms:3600000}",
+            fixedDelayString = "${vault.agent.history-compact-interval-ms:3600000}")
+    public void compactPeriodically() {
+        try {
+            int compacted = compact();
+            if (compacted > 0) {
+                log.info("Vault Agent 대화 {}개의 오래된 메시지를 요약으로 접음", compacted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Vault Agent 대화 기록 압축 실패", e);
+        }
+    }
+
+    /** @return 압축한 대화 수 */
+    int compact() {
+        Instant startedAt = Instant.now();
+        List<SessionSize> sessions =
+                chatHistoryRepository.findLargeSessions(
+                        COMPACT_THRESHOLD, activeSince, MAX_SESSIONS_PER_RUN);
+        for (SessionSize session : sessions) {
+            int fold = (int) Math.min(MAX_FOLD, session.count() - KEEP_RECENT);
+            List<AgentChatMessage> old =
+                    chatHistoryRepository.findOldestByScopeKey(session.scopeKey(), fold);
+            if (old.size() < 2) continue;
+            chatHistoryRepository.replaceWithSummary(
+                    summarize(old), old.stream().map(AgentChatMessage::id).toList());
+        }
+        // 한도에 걸렸으면 못 센 대화가 남았을 수 있으니 기준 시각을 그대로 둠
+        if (sessions.size() < MAX_SESSIONS_PER_RUN) {
+            activeSince = startedAt.minus(ACTIVE_SINCE_SLACK);
+        }
+        return sessions.size();
+    }
+
+    /**
+     * 메시지들을 "Q: 질문 / A: 답변" 줄로 이어 붙인 요약. 너무 길면 오래된 앞부분을 버림. 시각은 접은 마지막 메시지보다 1ms 앞으로 두어, 남긴 메시지와
+     * 시각이 같아 최근 창으로 끌려 들어오지 않게 함
+     */
+    static AgentChatMessage summarize(List<AgentChatMessage> messages) {
+        StringBuilder text = new StringBuilder();
+        for (AgentChatMessage message : messages) {
+            switch (message.role()) {
+                case "summary" -> text.append(message.content());
+                case "user" -> text.append("Q: ").append(clip(message.content(), QUESTION_CHARS));
+                default -> text.append("A: ").append(clip(message.content(), ANSWER_CHARS));
+            }
+            text.append('\n');
+        }
+        if (text.length() > SUMMARY_MAX_CHARS) {
+            text.delete(0, text.length() - SUMMARY_MAX_CHARS);
+        }
+        AgentChatMessage last = messages.get(messages.size() - 1);
+        return new AgentChatMessage(
+                "",
+                last.scopeKey(),
+                last.sessionId(),
+                last.userId(),
+                last.clientIdentifier(),
+                "summary",
+                text.toString().strip(),
+                List.of(),
+                List.of(),
+                last.createdAt().minusMillis(1));
+    }
+
+    private static String clip(String content, int maxChars) {
+        String flat = content.replaceAll("\\s+", " ").strip();
+        return flat.length() <= maxChars ? flat : flat.substring(0, maxChars) + "…";
+    }
+}
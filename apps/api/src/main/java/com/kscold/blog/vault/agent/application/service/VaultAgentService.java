@@ -11,6 +11,7 @@ import com.kscold.blog.vault.agent.application.dto.response.ChatResponse;
 import com.kscold.blog.vault.agent.application.dto.response.ReindexResponse;
 import com.kscold.blog.vault.agent.application.dto.response.SourceNote;
 import com.kscold.blog.vault.agent.application.port.in.VaultAgentUseCase;
+import com.kscold.blog.vault.agent.domain.exception.AgentBusyException;
 import com.kscold.blog.vault.agent.domain.exception.AgentClientUnavailableException;
 import com.kscold.blog.vault.agent.domain.model.AgentChatMessage;
 import com.kscold.blog.vault.agent.domain.model.AgentChatResult;
@@ -34,16 +35,19 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class VaultAgentService implements VaultAgentUseCase {
 
-    private static final int HISTORY_LIMIT = 80;
+    static final int HISTORY_LIMIT = 80;
 
     private final VaultAgentClientPort vaultAgentClientPort;
     private final VaultAgentChatHistoryRepository chatHistoryRepository;
     private final VaultAgentAccessScopeResolver accessScopeResolver;
+    private final AgentAnswerCache answerCache;
+    private final AgentAdmissionGate admissionGate;
 
     @Override
     public ReindexResponse reindexAll() {
         try {
             var response = vaultAgentClientPort.reindex(false);
+            answerCache.invalidateAll();
             return new ReindexResponse(
                     response.totalNotes(), response.indexedNotes(), response.skippedNotes());
         } catch (AgentClientUnavailableException exception) {
@@ -57,15 +61,38 @@ public class VaultAgentService implements VaultAgentUseCase {
         String sessionId = normalizeSessionId(request.getSessionId());
         String scopeKey = scopeKey(userId, clientIdentifier, sessionId);
         AgentContentAccessScope contentAccessScope = accessScopeResolver.resolve(userId);
+        String client = admissionKey(userId, clientIdentifier);
+        Instant askedAt = Instant.now();
         try {
             AgentChatResult result =
-                    vaultAgentClientPort.chat(
-                            request.getMessage(),
-                            request.getActiveFolderName(),
-                            contentAccessScope);
-            saveUserMessage(scopeKey, sessionId, userId, clientIdentifier, request.getMessage());
-            saveAssistantMessage(scopeKey, sessionId, userId, clientIdentifier, result);
+                    answerCache.chat(
+                            answerCache.key(
+                                    request.getMessage(),
+                                    request.getActiveFolderName(),
+                                    contentAccessScope),
+                            () ->
+                                    admissionGate.call(
+                                            client,
+                                            position -> {},
+                                            () ->
+                                                    vaultAgentClientPort.chat(
+                                                            request.getMessage(),
+                                                            request.getActiveFolderName(),
+                                                            contentAccessScope)));
+            chatHistoryRepository.saveAll(
+                    List.of(
+                            userMessage(
+                                    scopeKey,
+                                    sessionId,
+                                    userId,
+                                    clientIdentifier,
+                                    request.getMessage(),
+                                    askedAt),
+                            assistantMessage(
+                                    scopeKey, sessionId, userId, clientIdentifier, result)));
             return toChatResponse(sessionId, result);
+        } catch (AgentBusyException exception) {
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, exception.getMessage());
         } catch (AgentClientUnavailableException exception) {
             throw agentUnavailable(exception);
         }
@@ -83,14 +110,29 @@ public class VaultAgentService implements VaultAgentUseCase {
         List<AgentChatStage> stages = new ArrayList<>();
         StringBuilder answerBuilder = new StringBuilder();
         AtomicReference<AgentChatResult> completedResult = new AtomicReference<>();
+        String client = admissionKey(userId, clientIdentifier);
 
-        saveUserMessage(scopeKey, sessionId, userId, clientIdentifier, request.getMessage());
+        // 질문과 답변은 답변이 끝난 뒤 한 번에 저장하고, 답변을 못 받으면 질문만 남김
+        AgentChatMessage question =
+                userMessage(
+                        scopeKey,
+                        sessionId,
+                        userId,
+                        clientIdentifier,
+                        request.getMessage(),
+                        Instant.now());
+        boolean answered = false;
         try {
-            vaultAgentClientPort.streamChat(
-                    request.getMessage(),
-                    request.getActiveFolderName(),
-                    contentAccessScope,
+            answerCache.stream(
+                    answerCache.key(
+                            request.getMessage(),
+                            request.getActiveFolderName(),
+                            contentAccessScope),
                     event -> {
+                        if (event.type() == AgentStreamEvent.Type.QUEUED) {
+                            eventConsumer.accept(event);
+                            return;
+                        }
                         if (event.type() == AgentStreamEvent.Type.STAGE && event.stage() != null) {
                             stages.add(event.stage());
                             eventConsumer.accept(event);
@@ -105,7 +147,17 @@ public class VaultAgentService implements VaultAgentUseCase {
                                 && event.result() != null) {
                             completedResult.set(event.result());
                         }
-                    });
+                    },
+                    handler ->
+                            admissionGate.run(
+                                    client,
+                                    position -> handler.accept(AgentStreamEvent.queued(position)),
+                                    () ->
+                                            vaultAgentClientPort.streamChat(
+                                                    request.getMessage(),
+                                                    request.getActiveFolderName(),
+                                                    contentAccessScope,
+                                                    handler)));
 
             AgentChatResult rawResult = completedResult.get();
             if (rawResult == null) {
@@ -115,10 +167,19 @@ public class VaultAgentService implements VaultAgentUseCase {
                     rawResult.answer().isBlank() ? answerBuilder.toString() : rawResult.answer();
             AgentChatResult result =
                     new AgentChatResult(answer, stages, rawResult.sources(), rawResult.followUps());
-            saveAssistantMessage(scopeKey, sessionId, userId, clientIdentifier, result);
+            chatHistoryRepository.saveAll(
+                    List.of(
+                            question,
+                            assistantMessage(
+                                    scopeKey, sessionId, userId, clientIdentifier, result)));
+            answered = true;
             eventConsumer.accept(AgentStreamEvent.completed(result));
+        } catch (AgentBusyException exception) {
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, exception.getMessage());
         } catch (AgentClientUnavailableException exception) {
             throw agentUnavailable(exception);
+        } finally {
+            if (!answered) chatHistoryRepository.saveAll(List.of(question));
         }
     }
 
@@ -128,7 +189,7 @@ public class VaultAgentService implements VaultAgentUseCase {
         String sessionId = normalizeSessionId(requestedSessionId);
         String scopeKey = scopeKey(userId, clientIdentifier, sessionId);
         List<ChatHistoryMessage> messages =
-                chatHistoryRepository.findByScopeKey(scopeKey, HISTORY_LIMIT).stream()
+                chatHistoryRepository.findLatestByScopeKey(scopeKey, HISTORY_LIMIT).stream()
                         .map(this::toHistoryMessage)
                         .toList();
         return new ChatHistoryResponse(sessionId, messages);
@@ -182,44 +243,43 @@ public class VaultAgentService implements VaultAgentUseCase {
                 source.excerpt());
     }
 
-    private void saveUserMessage(
+    private AgentChatMessage userMessage(
             String scopeKey,
             String sessionId,
             @Nullable String userId,
             String clientIdentifier,
-            String content) {
-        chatHistoryRepository.save(
-                new AgentChatMessage(
-                        "",
-                        scopeKey,
-                        sessionId,
-                        userId,
-                        clientIdentifier,
-                        "user",
-                        content,
-                        List.of(),
-                        List.of(),
-                        Instant.now()));
+            String content,
+            Instant askedAt) {
+        return new AgentChatMessage(
+                "",
+                scopeKey,
+                sessionId,
+                userId,
+                clientIdentifier,
+                "user",
+                content,
+                List.of(),
+                List.of(),
+                askedAt);
     }
 
-    private void saveAssistantMessage(
+    private AgentChatMessage assistantMessage(
             String scopeKey,
             String sessionId,
             @Nullable String userId,
             String clientIdentifier,
             AgentChatResult result) {
-        chatHistoryRepository.save(
-                new AgentChatMessage(
-                        "",
-                        scopeKey,
-                        sessionId,
-                        userId,
-                        clientIdentifier,
-                        "assistant",
-                        result.answer(),
-                        result.stages(),
-                        result.sources(),
-                        Instant.now()));
+        return new AgentChatMessage(
+                "",
+                scopeKey,
+                sessionId,
+                userId,
+                clientIdentifier,
+                "assistant",
+                result.answer(),
+                result.stages(),
+                result.sources(),
+                Instant.now());
     }
 
     private String normalizeSessionId(@Nullable String sessionId) {
@@ -233,6 +293,14 @@ public class VaultAgentService implements VaultAgentUseCase {
         return sanitizedSessionId.substring(0, Math.min(80, sanitizedSessionId.length()));
     }
 
+    /** 입장 대기열을 나누는 클라이언트 키. 로그인 사용자는 계정, 게스트는 클라이언트 식별자 단위 */
+    private String admissionKey(@Nullable String userId, String clientIdentifier) {
+        if (userId != null && !userId.isBlank()) {
+            return "user:" + userId;
+        }
+        return "guest:" + clientIdentifier;
+    }
+
     private String scopeKey(@Nullable String userId, String clientIdentifier, String sessionId) {
         if (userId != null && !userId.isBlank()) {
             return "user:%s:%s".formatted(userId, sessionId);
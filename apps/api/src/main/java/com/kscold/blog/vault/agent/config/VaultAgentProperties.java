@@ -14,4 +14,40 @@ public class VaultAgentProperties {
     private String host = "localhost";
     private int port = 9090;
     private long deadlineMillis = 60000;
+
+    /** 스트림마다 소비 전에 미리 받아 두는 이벤트 수 (gRPC 수동 흐름 제어 창) */
+    private int streamWindow = 16;
+
+    /** 동시에 열어 둘 수 있는 채팅 스트림 수. 넘으면 바로 거절함 */
+    private int maxConcurrentStreams = 256;
+
+    /** 에이전트 서버로 동시에 보내는 호출 수. 나머지는 대기열에서 차례를 기다림 */
+    private int maxConcurrentCalls = 6;
+
+    /** 클라이언트 하나가 대기열에 넣을 수 있는 요청 수 */
+    private int maxQueuedPerClient = 3;
+
+    /** 전체 대기열 길이 */
+    private int maxQueued = 200;
+
+    /** 대기열에서 기다리는 최대 시간. 지나면 포기시킴 */
+    private long queueTimeoutMillis = 30_000L;
+
+    /** 스트림 응답에서 답변 조각을 모아 보내는 기본 간격. 요청마다 바꿀 수 있음 */
+    private long deltaFlushMillis = 50;
+
+    /** 모인 답변 조각이 이 크기(UTF-8 바이트)를 넘으면 간격과 상관없이 보냄 */
+    private int deltaFlushBytes = 1024;
+
+    /** 답변 캐시에 둘 질문 수 (LRU) */
+    private int answerCacheSize = 500;
+
+    /** 답변 캐시 유지 시간 */
+    private long answerCacheTtlMillis = 10 * 60 * 1000L;
+
+    /** 연결이 끊긴 채팅 스트림을 다시 붙기를 기다리며 계속 돌리는 시간. 지나면 업스트림 호출을 취소함 */
+    private long resumeGraceMillis = 15_000L;
+
+    /** 끝난 채팅 스트림의 이벤트를 Last-Event-ID 재생용으로 보관하는 시간 */
+    private long replayRetentionMillis = 60_000L;
 }
@@ -1,21 +1,28 @@
 package com.kscold.blog.vault.agent.config;
 
-import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class VaultAgentSseConfiguration {
 
-    @Bean("vaultAgentSseExecutor")
-    public Executor vaultAgentSseExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(6);
-        executor.setQueueCapacity(24);
-        executor.setThreadNamePrefix("vault-agent-sse-");
-        executor.initialize();
-        return executor;
+    /**
+     * 채팅 스트림마다 가상 스레드 하나. 스트림 대부분의 시간은 에이전트 응답 대기라 플랫폼 스레드 풀 크기가 동시 사용자 수를 막지 않게 함. 동시 스트림 수 상한은
+     * 컨트롤러에서 vault.agent.max-concurrent-streams로 둠.
+     */
+    @Bean(name = "vaultAgentSseExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService vaultAgentSseExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("vault-agent-sse-", 0).factory());
+    }
+
+    /** 모아 둔 답변 조각의 시간 기준 전송 예약용. 예약만 하고 전송은 vaultAgentSseExecutor에서 함 */
+    @Bean(name = "vaultAgentDeltaFlushScheduler", destroyMethod = "shutdownNow")
+    public ScheduledExecutorService vaultAgentDeltaFlushScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("vault-agent-delta-flush").daemon().factory());
     }
 }
@@ -0,0 +1,9 @@
+package com.kscold.blog.vault.agent.domain.exception;
+
+/** 에이전트 호출 대기열이 가득 찼거나 대기 시간이 지나 호출하지 못함 */
+public class AgentBusyException extends AgentClientUnavailableException {
+
+    public AgentBusyException(String message) {
+        super(message, null);
+    }
+}
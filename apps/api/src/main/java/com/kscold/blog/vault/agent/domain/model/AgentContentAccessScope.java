@@ -1,6 +1,7 @@
 package com.kscold.blog.vault.agent.domain.model;
 
 import java.util.Set;
+import java.util.TreeSet;
 
 public record AgentContentAccessScope(
         boolean fullContentAccess, Set<String> allowedPostIds, Set<String> allowedCategoryIds) {
@@ -18,6 +19,16 @@ public record AgentContentAccessScope(
         return new AgentContentAccessScope(true, Set.of(), Set.of());
     }
 
+    /** 같은 열람 범위면 같은 값. 답변 캐시 키에 씀 */
+    public String fingerprint() {
+        if (fullContentAccess) return "full";
+        if (!hasAdditionalAccess()) return "public";
+        return "posts:"
+                + String.join(",", new TreeSet<>(allowedPostIds))
+                + "|categories:"
+                + String.join(",", new TreeSet<>(allowedCategoryIds));
+    }
+
     public boolean hasAdditionalAccess() {
         return !fullContentAccess && (!allowedPostIds.isEmpty() || !allowedCategoryIds.isEmpty());
     }
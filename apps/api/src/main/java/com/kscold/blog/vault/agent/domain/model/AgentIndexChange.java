@@ -0,0 +1,24 @@
+package com.kscold.blog.vault.agent.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Vault Agent 색인에 반영할 문서 변경 하나 (outbox 항목).
+ *
+ * @param sequence outbox 순번. 디스패처 체크포인트의 기준
+ * @param contentType 에이전트 문서 종류 (vault / blog / feed)
+ * @param documentId 문서 ID
+ * @param deleted 삭제면 true. 아니면 에이전트가 원본을 다시 읽어 색인함
+ * @param recordedAt 저장된 시각 (DB 서버 시계)
+ */
+public record AgentIndexChange(
+        long sequence,
+        String contentType,
+        String documentId,
+        boolean deleted,
+        Instant recordedAt) {
+
+    public String key() {
+        return contentType + ":" + documentId;
+    }
+}
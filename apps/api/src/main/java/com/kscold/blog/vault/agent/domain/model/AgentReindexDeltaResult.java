@@ -0,0 +1,4 @@
+package com.kscold.blog.vault.agent.domain.model;
+
+public record AgentReindexDeltaResult(
+        int indexedDocuments, int deletedDocuments, int skippedDocuments) {}
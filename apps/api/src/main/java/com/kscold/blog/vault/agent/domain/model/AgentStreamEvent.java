@@ -1,23 +1,29 @@
 package com.kscold.blog.vault.agent.domain.model;
 
 public record AgentStreamEvent(
-        Type type, AgentChatStage stage, String delta, AgentChatResult result) {
+        Type type, AgentChatStage stage, String delta, AgentChatResult result, int position) {
 
     public enum Type {
+        /** 에이전트 호출 대기열에서 차례를 기다리는 중. position은 대기 순서 (1이면 다음) */
+        QUEUED,
         STAGE,
         DELTA,
         COMPLETED
     }
 
     public static AgentStreamEvent stage(AgentChatStage stage) {
-        return new AgentStreamEvent(Type.STAGE, stage, "", null);
+        return new AgentStreamEvent(Type.STAGE, stage, "", null, 0);
     }
 
     public static AgentStreamEvent delta(String delta) {
-        return new AgentStreamEvent(Type.DELTA, null, delta, null);
+        return new AgentStreamEvent(Type.DELTA, null, delta, null, 0);
     }
 
     public static AgentStreamEvent completed(AgentChatResult result) {
-        return new AgentStreamEvent(Type.COMPLETED, null, "", result);
+        return new AgentStreamEvent(Type.COMPLETED, null, "", result, 0);
+    }
+
+    public static AgentStreamEvent queued(int position) {
+        return new AgentStreamEvent(Type.QUEUED, null, "", null, position);
     }
 }
@@ -0,0 +1,27 @@
+package com.kscold.blog.vault.agent.domain.port.out;
+
+import com.kscold.blog.vault.agent.domain.model.AgentIndexChange;
+import java.time.Instant;
+import java.util.List;
+
+/** Vault Agent 색인 변경 outbox. 순번이 붙은 변경 기록과 디스패처가 보낸 위치(체크포인트)를 보관함 */
+public interface AgentIndexOutboxRepository {
+
+    /** 변경을 다음 순번으로 기록함. 저장 시각은 DB 서버 시계로 남김 */
+    void append(String contentType, String documentId, boolean deleted);
+
+    /** 여러 문서의 같은 종류 변경을 이어지는 순번으로 한꺼번에 기록함 (순번 예약 한 번, 쓰기 한 번) */
+    void appendAll(String contentType, List<String> documentIds, boolean deleted);
+
+    /** 순번 sequence 뒤의 변경을 순번 순으로 최대 limit개 읽음. 순번을 받고 아직 저장되지 않은 항목은 빠져 있을 수 있음 */
+    List<AgentIndexChange> findAfter(long sequence, int limit);
+
+    /** DB 서버의 현재 시각. 기록 시각과 같은 시계로 비교할 때 씀 */
+    Instant serverTime();
+
+    /** 마지막으로 보낸 순번. 없으면 0 */
+    long loadCheckpoint();
+
+    /** 체크포인트를 sequence로 옮기고(뒤로 가지 않음) 그때까지의 항목을 지움 */
+    void acknowledge(long sequence);
+}
@@ -1,11 +1,28 @@
 package com.kscold.blog.vault.agent.domain.port.out;
 
 import com.kscold.blog.vault.agent.domain.model.AgentChatMessage;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.lang.Nullable;
 
 public interface VaultAgentChatHistoryRepository {
 
-    void save(AgentChatMessage message);
+    /** 한 턴(질문 · 답변)의 메시지를 한 번의 insertMany로 저장함 */
+    void saveAll(List<AgentChatMessage> messages);
 
-    List<AgentChatMessage> findByScopeKey(String scopeKey, int limit);
+    /** 대화의 최근 limit개 메시지를 오래된 순으로. (scopeKey, createdAt desc) 인덱스에서 끝부분만 읽음 */
+    List<AgentChatMessage> findLatestByScopeKey(String scopeKey, int limit);
+
+    /** 메시지가 threshold개를 넘는 대화 (최대 limit개). activeSince가 있으면 그 뒤로 메시지가 쓰인 대화만 셈. null이면 전체를 셈 */
+    List<SessionSize> findLargeSessions(int threshold, @Nullable Instant activeSince, int limit);
+
+    /** 대화의 가장 오래된 limit개 메시지를 오래된 순으로 */
+    List<AgentChatMessage> findOldestByScopeKey(String scopeKey, int limit);
+
+    /** 요약 문서를 넣고 요약된 메시지들을 지움 */
+    void replaceWithSummary(AgentChatMessage summary, Collection<String> messageIds);
+
+    /** 대화 키와 메시지 수 */
+    record SessionSize(String scopeKey, long count) {}
 }
@@ -2,8 +2,11 @@ package com.kscold.blog.vault.agent.domain.port.out;
 
 import com.kscold.blog.vault.agent.domain.model.AgentChatResult;
 import com.kscold.blog.vault.agent.domain.model.AgentContentAccessScope;
+import com.kscold.blog.vault.agent.domain.model.AgentIndexChange;
+import com.kscold.blog.vault.agent.domain.model.AgentReindexDeltaResult;
 import com.kscold.blog.vault.agent.domain.model.AgentReindexResult;
 import com.kscold.blog.vault.agent.domain.model.AgentStreamEvent;
+import java.util.List;
 import java.util.function.Consumer;
 
 public interface VaultAgentClientPort {
@@ -18,4 +21,7 @@ public interface VaultAgentClientPort {
             Consumer<AgentStreamEvent> eventConsumer);
 
     AgentReindexResult reindex(boolean force);
+
+    /** 바뀐 문서만 다시 색인하게 함. 삭제가 아닌 변경은 에이전트가 원본을 다시 읽음 */
+    AgentReindexDeltaResult reindexDelta(List<AgentIndexChange> changes);
 }
@@ -1,5 +1,7 @@
 package com.kscold.blog.vault.application.dto.response;
 
+import com.kscold.blog.vault.domain.model.GraphLayout;
+import com.kscold.blog.vault.domain.model.VaultGraph;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,6 +30,29 @@ public class GraphDataResponse {
         private Integer contentLength;
 
         private String folderId;
+
+        /** 서버에서 미리 계산한 좌표. 레이아웃이 아직 반영되지 않은 노드는 null (클라이언트가 직접 배치) */
+        private Double x;
+
+        private Double y;
+
+        public static GraphNode from(VaultGraph graph, int node) {
+            return from(graph, node, null);
+        }
+
+        public static GraphNode from(VaultGraph graph, int node, GraphLayout layout) {
+            int position = layout != null ? layout.indexOf(graph, node) : -1;
+            return GraphNode.builder()
+                    .id(graph.id(node))
+                    .name(graph.title(node))
+                    .slug(graph.slug(node))
+                    .size(graph.declaredLinkCount(node) + 1)
+                    .contentLength(graph.contentLength(node))
+                    .folderId(graph.folderId(node))
+                    .x(position >= 0 ? layout.x()[position] : null)
+                    .y(position >= 0 ? layout.y()[position] : null)
+                    .build();
+        }
     }
 
     @Getter
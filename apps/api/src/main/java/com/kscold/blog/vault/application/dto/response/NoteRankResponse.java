@@ -0,0 +1,22 @@
+package com.kscold.blog.vault.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/** 링크 그래프 중심성(PageRank) 순위 항목 */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NoteRankResponse {
+
+    private String id;
+    private String title;
+    private String slug;
+
+    /** PageRank 점수. 전체 노트 합이 1 */
+    private double score;
+
+    /** 이 노트를 가리키는 다른 노트 수 */
+    private int backlinks;
+}
@@ -0,0 +1,19 @@
+package com.kscold.blog.vault.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/** 본문 유사도(MinHash) 검색 결과 항목 */
+@Getter
+@Builder
+@AllArgsConstructor
+public class SimilarNoteResponse {
+
+    private String id;
+    private String title;
+    private String slug;
+
+    /** 본문 shingle 집합의 추정 Jaccard 유사도 (0~1) */
+    private double similarity;
+}
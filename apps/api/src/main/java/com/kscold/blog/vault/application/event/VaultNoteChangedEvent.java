@@ -0,0 +1,57 @@
+package com.kscold.blog.vault.application.event;
+
+import com.kscold.blog.vault.domain.model.VaultNote;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 노트가 저장 · 삭제되었거나(노트 하나 · 가져오기 한 묶음), 여러 노트에 한 노트로 가는 링크가 더해지거나 빠졌거나(LINKED · UNLINKED), 여러 노트의 링크가
+ * 한꺼번에 바뀌었음을(BULK) 알리는 애플리케이션 이벤트. 메모리 링크 그래프가 구독함.
+ *
+ * @param type 변경 종류
+ * @param noteId 변경된 노트 ID (SAVED · DELETED일 때), 링크 대상 노트 ID (LINKED · UNLINKED일 때)
+ * @param note 저장된 노트 (SAVED일 때만)
+ * @param notes 한꺼번에 저장된 노트들 (SAVED_ALL일 때만, 아니면 빈 목록)
+ * @param sourceIds 링크가 더해지거나 빠진 노트 ID들 (LINKED · UNLINKED일 때만, 아니면 빈 목록)
+ */
+public record VaultNoteChangedEvent(
+        Type type, String noteId, VaultNote note, List<VaultNote> notes, List<String> sourceIds) {
+
+    public enum Type {
+        SAVED,
+        SAVED_ALL,
+        DELETED,
+        LINKED,
+        UNLINKED,
+        BULK
+    }
+
+    public static VaultNoteChangedEvent saved(VaultNote note) {
+        return new VaultNoteChangedEvent(Type.SAVED, note.getId(), note, List.of(), List.of());
+    }
+
+    /** 가져오기처럼 한 번에 저장한 노트 묶음. 구독자가 노트마다가 아니라 묶음 단위로 처리함 */
+    public static VaultNoteChangedEvent savedAll(List<VaultNote> notes) {
+        return new VaultNoteChangedEvent(Type.SAVED_ALL, null, null, List.copyOf(notes), List.of());
+    }
+
+    public static VaultNoteChangedEvent deleted(String noteId) {
+        return new VaultNoteChangedEvent(Type.DELETED, noteId, null, List.of(), List.of());
+    }
+
+    /** sourceIds 노트들의 링크 끝에 targetId가 (없을 때만) 더해짐 */
+    public static VaultNoteChangedEvent linked(String targetId, Collection<String> sourceIds) {
+        return new VaultNoteChangedEvent(
+                Type.LINKED, targetId, null, List.of(), List.copyOf(sourceIds));
+    }
+
+    /** sourceIds 노트들의 링크에서 targetId가 모두 빠짐 */
+    public static VaultNoteChangedEvent unlinked(String targetId, Collection<String> sourceIds) {
+        return new VaultNoteChangedEvent(
+                Type.UNLINKED, targetId, null, List.of(), List.copyOf(sourceIds));
+    }
+
+    public static VaultNoteChangedEvent bulk() {
+        return new VaultNoteChangedEvent(Type.BULK, null, null, List.of(), List.of());
+    }
+}
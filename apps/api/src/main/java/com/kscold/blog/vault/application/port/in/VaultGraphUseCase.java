@@ -0,0 +1,17 @@
+package com.kscold.blog.vault.application.port.in;
+
+import com.kscold.blog.vault.application.dto.response.GraphDataResponse;
+import com.kscold.blog.vault.application.dto.response.NoteRankResponse;
+import java.util.List;
+
+public interface VaultGraphUseCase {
+
+    /** PageRank 상위 노트 */
+    List<NoteRankResponse> getTopRanked(int limit);
+
+    /** 노트 주변 depth 홉 이내 노드와 그 사이 링크 (로컬 그래프) */
+    GraphDataResponse getLocalGraph(String noteId, int depth, int limit);
+
+    /** 두 노트 사이 가장 짧은 링크 경로. 닿지 않으면 노드가 빈 응답 */
+    GraphDataResponse getShortestPath(String fromId, String toId, boolean directed);
+}
@@ -0,0 +1,12 @@
+package com.kscold.blog.vault.application.port.in;
+
+import com.kscold.blog.vault.domain.model.VaultImportProgress;
+import java.io.InputStream;
+
+public interface VaultImportUseCase {
+
+    /** Obsidian 볼트 zip을 스트림으로 읽어 폴더 · 노트로 저장함. 끝나면 최종 진행 상태를 반환 */
+    VaultImportProgress importArchive(InputStream archive, String userId);
+
+    VaultImportProgress getImportProgress();
+}
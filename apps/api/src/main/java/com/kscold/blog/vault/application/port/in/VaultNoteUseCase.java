@@ -1,8 +1,11 @@
 package com.kscold.blog.vault.application.port.in;
 
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
 import com.kscold.blog.vault.application.dto.command.NoteCreateCommand;
 import com.kscold.blog.vault.application.dto.command.NoteUpdateCommand;
 import com.kscold.blog.vault.application.dto.response.GraphDataResponse;
+import com.kscold.blog.vault.domain.model.LinkReindexProgress;
 import com.kscold.blog.vault.domain.model.VaultNote;
 import java.util.List;
 import org.springframework.data.domain.Page;
@@ -18,21 +21,31 @@ public interface VaultNoteUseCase {
 
     VaultNote getById(String id);
 
+    boolean existsBySlug(String slug);
+
+    List<String> getAllSlugs();
+
     VaultNote getBySlugWithView(String slug);
 
     Page<VaultNote> getAll(Pageable pageable);
 
+    CursorPage<VaultNote> getAllAfter(PageCursor after, int size);
+
     Page<VaultNote> getByFolder(String folderId, Pageable pageable);
 
     List<VaultNote> getBackreferences(String noteId);
 
     GraphDataResponse getGraphData();
 
+    String getGraphETag();
+
     Page<VaultNote> search(String query, Pageable pageable);
 
     void incrementCommentCount(String noteId);
 
     void decrementCommentCount(String noteId);
 
-    int reindexAllLinks();
+    LinkReindexProgress startLinkReindex();
+
+    LinkReindexProgress getLinkReindexProgress();
 }
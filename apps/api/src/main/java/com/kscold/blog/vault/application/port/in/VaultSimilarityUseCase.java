@@ -0,0 +1,13 @@
+package com.kscold.blog.vault.application.port.in;
+
+import com.kscold.blog.vault.application.dto.response.SimilarNoteResponse;
+import java.util.List;
+
+public interface VaultSimilarityUseCase {
+
+    /** 본문이 비슷한 노트 (링크 · 태그와 무관) */
+    List<SimilarNoteResponse> getRelatedNotes(String noteId, int limit);
+
+    /** 본문이 거의 같은 노트 (중복 의심) */
+    List<SimilarNoteResponse> getPossibleDuplicates(String noteId);
+}
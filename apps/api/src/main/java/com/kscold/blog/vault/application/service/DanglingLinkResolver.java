@@ -0,0 +1,67 @@
+package com.kscold.blog.vault.application.service;
+
+import com.kscold.blog.vault.application.event.VaultNoteChangedEvent;
+import com.kscold.blog.vault.domain.port.out.VaultDanglingLinkRepository;
+import com.kscold.blog.vault.domain.port.out.VaultNoteRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미해결 [[링크]] 등록부를 노트 변경에 맞춰 유지함. 노트가 생기거나 slug가 바뀌어 등록된 슬러그가 채워지면 그 슬러그를 기다리던 노트들의 outgoingLinks에 한
+ * 번의 updateMany로 새 노트를 넣고, 노트가 삭제되거나 slug를 잃으면 그 노트를 가리키던 노트들을 반대로 등록부로 옮김. 결과는 전체 재인덱싱과 같음 (추가된
+ * 링크는 본문 순서가 아니라 끝에 붙음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DanglingLinkResolver {
+
+    private final VaultDanglingLinkRepository vaultDanglingLinkRepository;
+    private final VaultNoteRepository vaultNoteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 저장된 노트의 미해결 링크 슬러그를 기록함 */
+    public void recordUnresolved(String noteId, Collection<String> unresolvedSlugs) {
+        vaultDanglingLinkRepository.replaceSources(noteId, unresolvedSlugs);
+    }
+
+    /**
+     * slug를 가진 노트가 생겼을 때 그 slug를 기다리던 노트들에 링크를 채움.
+     *
+     * @return 링크가 추가된 노트 수
+     */
+    public int resolve(String slug, String noteId) {
+        Set<String> sources = vaultDanglingLinkRepository.takeSources(slug);
+        if (sources.isEmpty()) return 0;
+        vaultNoteRepository.addOutgoingLink(sources, noteId);
+        eventPublisher.publishEvent(VaultNoteChangedEvent.linked(noteId, sources));
+        log.debug("미해결 링크 {}건 연결: slug={}, noteId={}", sources.size(), slug, noteId);
+        return sources.size();
+    }
+
+    /**
+     * 노트가 slug를 잃었을 때(삭제 · slug 변경) 그 노트를 가리키던 노트들의 링크를 빼고 slug 대기 목록으로 옮김.
+     *
+     * @return 링크가 빠진 노트 수
+     */
+    public int unresolve(String slug, String noteId) {
+        List<String> sources = vaultNoteRepository.findIdsLinkingTo(noteId);
+        if (sources.isEmpty()) return 0;
+        vaultNoteRepository.removeOutgoingLink(sources, noteId);
+        vaultDanglingLinkRepository.addSources(slug, sources);
+        eventPublisher.publishEvent(VaultNoteChangedEvent.unlinked(noteId, sources));
+        return sources.size();
+    }
+
+    /** 삭제된 노트를 등록부에서 지우고, 그 노트를 가리키던 링크를 미해결로 돌림 */
+    public void onDeleted(String slug, String noteId) {
+        unresolve(slug, noteId);
+        // 자기 자신을 가리키던 경우까지 함께 지워지도록 unresolve 뒤에 제거
+        vaultDanglingLinkRepository.removeNote(noteId);
+    }
+}
@@ -0,0 +1,367 @@
+package com.kscold.blog.vault.application.service;
+
+import com.kscold.blog.exception.InvalidRequestException;
+import com.kscold.blog.identity.application.port.in.UserQueryPort;
+import com.kscold.blog.shared.domain.event.PageRouteChangedEvent;
+import com.kscold.blog.shared.util.SlugUtils;
+import com.kscold.blog.vault.application.event.VaultNoteChangedEvent;
+import com.kscold.blog.vault.application.port.in.VaultImportUseCase;
+import com.kscold.blog.vault.domain.model.LinkReindexProgress;
+import com.kscold.blog.vault.domain.model.VaultFolder;
+import com.kscold.blog.vault.domain.model.VaultImportProgress;
+import com.kscold.blog.vault.domain.model.VaultNote;
+import com.kscold.blog.vault.domain.port.out.VaultFolderRepository;
+import com.kscold.blog.vault.domain.port.out.VaultNoteRepository;
+import com.kscold.blog.vault.domain.service.MinHash;
+import com.kscold.blog.vault.domain.service.ObsidianMarkdown;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * Obsidian 볼트 zip 가져오기. 요청 본문을 ZipInputStream으로 흘려 읽어 디스크에 풀지 않고, 디렉터리는 {@link VaultFolder}로(최대 깊이를
+ * 넘는 하위 디렉터리는 가장 깊은 폴더로 합침), .md 파일은 노트로 만듦. 마크다운 파싱은 전용 ForkJoinPool에서 batch 단위로 병렬 처리하고 batch마다
+ * insertMany 한 번으로 저장함. 힙에는 batch 하나(파일 수 · 바이트 상한)와 slug 집합만 올라감.
+ *
+ * <p>본문의 [[링크]]는 노트를 모두 저장한 뒤 {@link VaultLinkReindexer}로 한 번에 해석하고, 폴더 noteCount는 마지막에 폴더당 한 번 올림.
+ * 이미 있는 slug와 같은 노트, 숨김 경로(.obsidian 등), 마크다운이 아닌 첨부 파일은 건너뜀. 한 번에 하나만 실행됨.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VaultArchiveImportService implements VaultImportUseCase {
+
+    static final int BATCH_SIZE = 500;
+    static final int BATCH_MAX_BYTES = 16 * 1024 * 1024;
+    static final int MAX_NOTE_BYTES = 2 * 1024 * 1024;
+    static final int MAX_PARALLELISM = 4;
+    private static final int MAX_SKIPPED_PATHS = 100;
+
+    private final VaultNoteRepository vaultNoteRepository;
+    private final VaultFolderRepository vaultFolderRepository;
+    private final UserQueryPort userQueryPort;
+    private final VaultLinkReindexer vaultLinkReindexer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${vault.import.max-archive-bytes:536870912}")
+    private long maxArchiveBytes;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong foldersCreated = new AtomicLong();
+    private final List<String> skippedPaths = new ArrayList<>();
+    private volatile VaultImportProgress.Phase phase;
+    private volatile VaultImportProgress finished = VaultImportProgress.idle();
+    private volatile Instant startedAt;
+
+    /** 가져올 노트 하나 (아직 파싱 전) */
+    private record ArchiveEntry(String title, String slug, String folderId, byte[] bytes) {}
+
+    @Override
+    public VaultImportProgress importArchive(InputStream archive, String userId) {
+        if (!running.compareAndSet(false, true)) {
+            throw InvalidRequestException.invalidInput("볼트 가져오기가 이미 진행 중입니다");
+        }
+        begin();
+        Map<String, Integer> countsByFolderId = new HashMap<>();
+        try {
+            importNotes(archive, userId, countsByFolderId);
+            phase = VaultImportProgress.Phase.LINKS;
+            resolveLinks();
+            finished = snapshot(VaultImportProgress.State.COMPLETED, null);
+            log.info(
+                    "볼트 가져오기 완료: {}건 중 {}건 저장, {}건 건너뜀, 폴더 {}개 생성",
+                    scanned.get(),
+                    imported.get(),
+                    skipped.get(),
+                    foldersCreated.get());
+        } catch (IOException | RuntimeException e) {
+            finished = snapshot(VaultImportProgress.State.FAILED, e.getMessage());
+            log.warn("볼트 가져오기 실패: {}건 저장 후 중단", imported.get(), e);
+        } finally {
+            try {
+                vaultFolderRepository.incrementNoteCounts(countsByFolderId);
+            } catch (RuntimeException e) {
+                log.warn("가져온 노트의 폴더 noteCount 갱신 실패", e);
+            }
+            running.set(false);
+        }
+        return finished;
+    }
+
+    @Override
+    public VaultImportProgress getImportProgress() {
+        if (running.get()) {
+            return snapshot(VaultImportProgress.State.RUNNING, null);
+        }
+        return finished;
+    }
+
+    private void begin() {
+        scanned.set(0);
+        imported.set(0);
+        skipped.set(0);
+        foldersCreated.set(0);
+        synchronized (skippedPaths) {
+            skippedPaths.clear();
+        }
+        phase = VaultImportProgress.Phase.NOTES;
+        startedAt = Instant.now();
+    }
+
+    private void importNotes(InputStream archive, String userId, Map<String, Integer> counts)
+            throws IOException {
+        UserQueryPort.UserInfo user = userQueryPort.getUserById(userId);
+        VaultNote.AuthorInfo author =
+                VaultNote.AuthorInfo.builder().id(user.id()).name(user.displayName()).build();
+        Set<String> slugs = new HashSet<>(vaultNoteRepository.findAllSlugs());
+        Map<String, VaultFolder> folders = new HashMap<>();
+
+        int parallelism =
+                Math.max(1, Math.min(MAX_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        List<ArchiveEntry> batch = new ArrayList<>(BATCH_SIZE);
+        long batchBytes = 0;
+        try (ZipInputStream zip =
+                new ZipInputStream(
+                        new LimitedInputStream(archive, maxArchiveBytes),
+                        StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String path = entry.getName().replace('\\', '/');
+                if (entry.isDirectory() || !isNote(path)) continue;
+                scanned.incrementAndGet();
+
+                byte[] bytes = readEntry(zip);
+                String title = title(path);
+                String slug = SlugUtils.generate(title);
+                if (bytes == null) {
+                    skip(path, "파일이 너무 큼");
+                } else if (slug.isEmpty()) {
+                    skip(path, "제목으로 slug를 만들 수 없음");
+                } else if (!slugs.add(slug)) {
+                    skip(path, "slug 중복: " + slug);
+                } else {
+                    String folderId = resolveFolder(directory(path), folders);
+                    batch.add(new ArchiveEntry(title, slug, folderId, bytes));
+                    batchBytes += bytes.length;
+                    if (batch.size() == BATCH_SIZE || batchBytes >= BATCH_MAX_BYTES) {
+                        flush(batch, author, counts, pool);
+                        batch.clear();
+                        batchBytes = 0;
+                    }
+                }
+            }
+            flush(batch, author, counts, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** batch를 풀에서 병렬로 파싱해 insertMany 한 번으로 저장함 */
+    private void flush(
+            List<ArchiveEntry> batch,
+            VaultNote.AuthorInfo author,
+            Map<String, Integer> counts,
+            ForkJoinPool pool) {
+        if (batch.isEmpty()) return;
+        List<VaultNote> notes =
+                pool.submit(() -> batch.parallelStream().map(e -> toNote(e, author)).toList())
+                        .join();
+        List<VaultNote> inserted = vaultNoteRepository.insertAll(notes);
+        // 구독자가 노트마다 DB를 다시 부르지 않도록 묶음 하나로 알림
+        eventPublisher.publishEvent(VaultNoteChangedEvent.savedAll(inserted));
+        for (VaultNote note : inserted) {
+            if (note.getFolderId() != null) {
+                counts.merge(note.getFolderId(), 1, Integer::sum);
+            }
+            eventPublisher.publishEvent(
+                    PageRouteChangedEvent.added(
+                            PageRouteChangedEvent.RouteType.VAULT_NOTE, note.getSlug()));
+            imported.incrementAndGet();
+        }
+    }
+
+    private static VaultNote toNote(ArchiveEntry entry, VaultNote.AuthorInfo author) {
+        ObsidianMarkdown.ParsedNote parsed =
+                ObsidianMarkdown.parse(new String(entry.bytes(), StandardCharsets.UTF_8));
+        return VaultNote.builder()
+                .title(entry.title())
+                .slug(entry.slug())
+                .content(parsed.content())
+                .folderId(entry.folderId())
+                .author(author)
+                .tags(parsed.tags())
+                .minHash(MinHash.encode(MinHash.signature(parsed.content())))
+                .build();
+    }
+
+    /** 저장이 끝난 뒤 전체 링크를 한 번에 해석함. 이미 재인덱싱이 돌고 있으면 끝나길 기다렸다가 다시 실행 */
+    private void resolveLinks() {
+        // 다른 재인덱싱이 돌고 있으면 끝난 뒤 새로 실행되므로 방금 넣은 노트까지 반영됨
+        LinkReindexProgress result = vaultLinkReindexer.runNow();
+        if (result.state() == LinkReindexProgress.State.FAILED) {
+            throw new IllegalStateException("링크 해석 실패: " + result.error());
+        }
+    }
+
+    /**
+     * 디렉터리 경로의 폴더 ID. 경로 앞부분부터 폴더를 찾거나 만들며, slug는 경로 전체로 만들어 다른 부모 아래 같은 이름이 겹치지 않게 함 (최상위는 직접 만든
+     * 폴더와 같은 slug). 최대 깊이를 넘는 하위 디렉터리는 가장 깊은 폴더로 합침.
+     */
+    private String resolveFolder(String directory, Map<String, VaultFolder> folders) {
+        if (directory.isEmpty()) return null;
+        String[] segments = directory.split("/");
+        int levels = Math.min(segments.length, VaultFolderApplicationService.MAX_DEPTH + 1);
+        VaultFolder parent = null;
+        for (int depth = 0; depth < levels; depth++) {
+            String path = String.join("/", List.of(segments).subList(0, depth + 1));
+            VaultFolder folder = folders.get(path);
+            if (folder == null) {
+                String slug = SlugUtils.generate(path.replace('/', ' '));
+                if (slug.isEmpty()) break;
+                folder = vaultFolderRepository.findBySlug(slug).orElse(null);
+                if (folder == null) {
+                    folder = createFolder(segments[depth], slug, parent, depth);
+                }
+                folders.put(path, folder);
+            }
+            parent = folder;
+        }
+        return parent != null ? parent.getId() : null;
+    }
+
+    private VaultFolder createFolder(String name, String slug, VaultFolder parent, int depth) {
+        List<String> ancestors = new ArrayList<>();
+        if (parent != null) {
+            ancestors.addAll(parent.getAncestors());
+            ancestors.add(parent.getId());
+        }
+        VaultFolder folder =
+                VaultFolder.builder()
+                        .name(name)
+                        .slug(slug)
+                        .parent(parent != null ? parent.getId() : null)
+                        .ancestors(ancestors)
+                        .depth(depth)
+                        .order(0)
+                        .build();
+        foldersCreated.incrementAndGet();
+        return vaultFolderRepository.save(folder);
+    }
+
+    /** 본문 바이트. MAX_NOTE_BYTES를 넘으면 null (남은 부분은 다음 getNextEntry가 건너뜀) */
+    private static byte[] readEntry(ZipInputStream zip) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = zip.read(buffer)) > 0) {
+            if (out.size() + read > MAX_NOTE_BYTES) return null;
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /** .md 파일이고 숨김 경로(.obsidian, .trash 등)나 macOS 메타데이터가 아닌지 */
+    static boolean isNote(String path) {
+        if (!path.toLowerCase(Locale.ROOT).endsWith(".md")) return false;
+        for (String segment : path.split("/")) {
+            if (segment.startsWith(".") || segment.equals("__MACOSX")) return false;
+        }
+        return true;
+    }
+
+    static String directory(String path) {
+        String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        int slash = trimmed.lastIndexOf('/');
+        return slash < 0 ? "" : trimmed.substring(0, slash);
+    }
+
+    static String title(String path) {
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        return name.substring(0, name.length() - ".md".length()).strip();
+    }
+
+    private void skip(String path, String reason) {
+        skipped.incrementAndGet();
+        synchronized (skippedPaths) {
+            if (skippedPaths.size() < MAX_SKIPPED_PATHS) {
+                skippedPaths.add(path + " (" + reason + ")");
+            }
+        }
+    }
+
+    private VaultImportProgress snapshot(VaultImportProgress.State state, String error) {
+        List<String> paths;
+        synchronized (skippedPaths) {
+            paths = List.copyOf(skippedPaths);
+        }
+        boolean done = state != VaultImportProgress.State.RUNNING;
+        return new VaultImportProgress(
+                state,
+                phase,
+                scanned.get(),
+                imported.get(),
+                skipped.get(),
+                foldersCreated.get(),
+                paths,
+                startedAt,
+                done ? Instant.now() : null,
+                error);
+    }
+
+    /** 요청 본문이 상한을 넘으면 읽기를 멈춤 (압축된 크기 기준) */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) count(read);
+            return read;
+        }
+
+        private void count(int read) throws IOException {
+            count += read;
+            if (count > limit) {
+                throw new IOException("아카이브가 허용 크기(" + limit + " bytes)를 넘었습니다");
+            }
+        }
+    }
+}
@@ -21,7 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class VaultFolderApplicationService implements VaultFolderUseCase {
 
     private final VaultFolderRepository vaultFolderRepository;
-    private static final int MAX_DEPTH = 4;
+    static final int MAX_DEPTH = 4;
 
     @Transactional
     public VaultFolder create(FolderCreateCommand command) {
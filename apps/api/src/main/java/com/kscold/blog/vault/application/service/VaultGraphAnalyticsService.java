@@ -0,0 +1,197 @@
+package com.kscold.blog.vault.application.service;
+
+import com.kscold.blog.exception.ResourceNotFoundException;
+import com.kscold.blog.vault.application.dto.response.GraphDataResponse;
+import com.kscold.blog.vault.application.dto.response.NoteRankResponse;
+import com.kscold.blog.vault.application.port.in.VaultGraphUseCase;
+import com.kscold.blog.vault.domain.model.VaultGraph;
+import com.kscold.blog.vault.domain.service.VaultGraphAlgorithms;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 노트 링크 그래프 분석. 메모리 그래프 스냅샷 위에서 PageRank · k-hop 이웃 · 최단 경로를 계산함. PageRank는 주기적으로 다시 계산해 두고 조회 시에는
+ * 마지막 결과를 계산 당시 스냅샷과 함께 사용함 (그 사이 바뀐 노트는 다음 주기에 반영).
+ */
+@Slf4j
+@Service
+public class VaultGraphAnalyticsService implements VaultGraphUseCase {
+
+    static final double DAMPING = 0.85;
+    static final int MAX_ITERATIONS = 50;
+    static final double TOLERANCE = 1e-6;
+    static final int MAX_DEPTH = 3;
+    static final int MAX_LOCAL_NODES = 500;
+    static final int MAX_RANK_LIMIT = 100;
+
+    private final VaultGraphIndex vaultGraphIndex;
+    private final ForkJoinPool pool =
+            new ForkJoinPool(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
+
+    private volatile RankSnapshot ranks;
+
+    public VaultGraphAnalyticsService(VaultGraphIndex vaultGraphIndex) {
+        this.vaultGraphIndex = vaultGraphIndex;
+    }
+
+    @Scheduled(
+            initialDelayString = "${vault.graph.rank-interval-ms:600000}",
+            fixedDelayString = "${vault.graph.rank-interval-ms:600000}")
+    public void refreshRanksPeriodically() {
+        try {
+            VaultGraph graph = vaultGraphIndex.current();
+            RankSnapshot current = ranks;
+            if (current == null || current.graph().version() != graph.version()) {
+                ranks = computeRanks(graph);
+            }
+        } catch (RuntimeException e) {
+            log.warn("노트 PageRank 계산 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Override
+    public List<NoteRankResponse> getTopRanked(int limit) {
+        RankSnapshot snapshot = ranks();
+        VaultGraph graph = snapshot.graph();
+        double[] scores = snapshot.scores();
+        int[] top = topIndices(scores, Math.min(Math.max(limit, 1), MAX_RANK_LIMIT));
+        List<NoteRankResponse> result = new ArrayList<>(top.length);
+        for (int node : top) {
+            result.add(
+                    NoteRankResponse.builder()
+                            .id(graph.id(node))
+                            .title(graph.title(node))
+                            .slug(graph.slug(node))
+                            .score(scores[node])
+                            .backlinks(graph.inDegree(node))
+                            .build());
+        }
+        return result;
+    }
+
+    @Override
+    public GraphDataResponse getLocalGraph(String noteId, int depth, int limit) {
+        VaultGraph graph = vaultGraphIndex.current();
+        int start = requireNode(graph, noteId);
+        int[] nodes =
+                VaultGraphAlgorithms.neighborhood(
+                        graph,
+                        start,
+                        Math.min(Math.max(depth, 1), MAX_DEPTH),
+                        Math.min(Math.max(limit, 1), MAX_LOCAL_NODES));
+        return subgraph(graph, nodes, false);
+    }
+
+    @Override
+    public GraphDataResponse getShortestPath(String fromId, String toId, boolean directed) {
+        VaultGraph graph = vaultGraphIndex.current();
+        int from = requireNode(graph, fromId);
+        int to = requireNode(graph, toId);
+        int[] path = VaultGraphAlgorithms.shortestPath(graph, from, to, directed);
+        return subgraph(graph, path, true);
+    }
+
+    /** 마지막 PageRank 결과. 아직 없으면 지금 계산 */
+    private RankSnapshot ranks() {
+        RankSnapshot current = ranks;
+        if (current != null) return current;
+        synchronized (this) {
+            if (ranks == null) {
+                ranks = computeRanks(vaultGraphIndex.current());
+            }
+            return ranks;
+        }
+    }
+
+    private RankSnapshot computeRanks(VaultGraph graph) {
+        long started = System.nanoTime();
+        double[] scores =
+                VaultGraphAlgorithms.pageRank(graph, DAMPING, MAX_ITERATIONS, TOLERANCE, pool);
+        log.debug(
+                "노트 PageRank 계산: 노드 {}개, 링크 {}개, {}ms",
+                graph.nodeCount(),
+                graph.linkCount(),
+                (System.nanoTime() - started) / 1_000_000);
+        return new RankSnapshot(graph, scores);
+    }
+
+    private int requireNode(VaultGraph graph, String noteId) {
+        int node = graph.indexOf(noteId);
+        if (node < 0) {
+            throw ResourceNotFoundException.vaultNote(noteId);
+        }
+        return node;
+    }
+
+    /** 주어진 노드와 그 사이 링크만 담은 응답. path면 경로상 이웃한 노드 사이 링크만, 아니면 집합 안의 모든 링크 */
+    private GraphDataResponse subgraph(VaultGraph graph, int[] nodes, boolean path) {
+        List<GraphDataResponse.GraphNode> graphNodes = new ArrayList<>(nodes.length);
+        List<GraphDataResponse.GraphLink> links = new ArrayList<>();
+        boolean[] included = new boolean[graph.nodeCount()];
+        for (int node : nodes) {
+            included[node] = true;
+            graphNodes.add(GraphDataResponse.GraphNode.from(graph, node));
+        }
+        if (path) {
+            // 방향 없이 찾은 경로는 백링크를 거슬러 갔을 수 있으므로 실제 링크 방향으로 담음
+            for (int i = 1; i < nodes.length; i++) {
+                int a = nodes[i - 1];
+                int b = nodes[i];
+                links.add(hasLink(graph, a, b) ? link(graph, a, b) : link(graph, b, a));
+            }
+        } else {
+            for (int node : nodes) {
+                for (int k = 0, out = graph.outDegree(node); k < out; k++) {
+                    int target = graph.target(node, k);
+                    if (included[target]) {
+                        links.add(link(graph, node, target));
+                    }
+                }
+            }
+        }
+        return GraphDataResponse.builder().nodes(graphNodes).links(links).build();
+    }
+
+    private boolean hasLink(VaultGraph graph, int source, int target) {
+        for (int k = 0, out = graph.outDegree(source); k < out; k++) {
+            if (graph.target(source, k) == target) return true;
+        }
+        return false;
+    }
+
+    private GraphDataResponse.GraphLink link(VaultGraph graph, int source, int target) {
+        return GraphDataResponse.GraphLink.builder()
+                .source(graph.id(source))
+                .target(graph.id(target))
+                .build();
+    }
+
+    /** 점수 상위 k개 인덱스 (내림차순). k가 작으므로 삽입 정렬로 유지 */
+    static int[] topIndices(double[] scores, int k) {
+        int size = Math.min(k, scores.length);
+        int[] top = new int[size];
+        int filled = 0;
+        for (int node = 0; node < scores.length; node++) {
+            if (filled == size && scores[node] <= scores[top[size - 1]]) continue;
+            int i = filled < size ? filled++ : size - 1;
+            while (i > 0 && scores[top[i - 1]] < scores[node]) {
+                top[i] = top[i - 1];
+                i--;
+            }
+            top[i] = node;
+        }
+        return top;
+    }
+
+    private record RankSnapshot(VaultGraph graph, double[] scores) {}
+}
@@ -0,0 +1,207 @@
+package com.kscold.blog.vault.application.service;
+
+import com.kscold.blog.vault.application.event.VaultNoteChangedEvent;
+import com.kscold.blog.vault.domain.model.VaultGraph;
+import com.kscold.blog.vault.domain.model.VaultNote;
+import com.kscold.blog.vault.domain.port.out.VaultNoteRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리에 유지하는 노트 링크 그래프. 기동 시 한 번 DB에서 읽고, 이후에는 {@link VaultNoteChangedEvent}로 노드를 고칠 때마다 version을
+ * 올림. 읽을 때 스냅샷 version이 뒤처져 있으면 메모리의 노드로 CSR 스냅샷만 다시 만들고 DB는 읽지 않음.
+ *
+ * <p>다른 인스턴스에서 바뀐 노트는 이벤트가 오지 않으므로 주기적으로 DB와 비교해 달라졌을 때만 교체함.
+ */
+@Slf4j
+@Component
+public class VaultGraphIndex {
+
+    private final VaultNoteRepository vaultNoteRepository;
+
+    /** 재기동 뒤 같은 version이 다른 그래프를 가리키지 않도록 ETag에 섞는 값 */
+    private final String generation = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Map<String, VaultGraph.Node> nodes = new LinkedHashMap<>();
+    // 쓰기는 모두 synchronized 안에서, 읽기는 락 없이
+    private volatile long version;
+    private volatile boolean loaded;
+    private volatile VaultGraph snapshot;
+
+    public VaultGraphIndex(VaultNoteRepository vaultNoteRepository) {
+        this.vaultNoteRepository = vaultNoteRepository;
+    }
+
+    /** 최신 스냅샷. 노드가 바뀐 뒤 처음 읽을 때만 CSR을 다시 만듦 */
+    public VaultGraph current() {
+        VaultGraph current = snapshot;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+        synchronized (this) {
+            ensureLoaded();
+            if (snapshot == null || snapshot.version() != version) {
+                snapshot = VaultGraph.build(version, nodes.values());
+            }
+            return snapshot;
+        }
+    }
+
+    /** 현재 그래프를 식별하는 값 (따옴표 없음). ETag의 앞부분으로 씀 */
+    public String tag() {
+        if (!loaded) {
+            current();
+        }
+        return "graph-" + generation + "-" + version;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            current();
+        } catch (RuntimeException e) {
+            log.warn("노트 그래프 적재 실패, 첫 조회 때 다시 시도", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${vault.graph.resync-interval-ms:300000}",
+            fixedDelayString = "${vault.graph.resync-interval-ms:300000}")
+    public void resyncPeriodically() {
+        try {
+            resync();
+        } catch (RuntimeException e) {
+            log.warn("노트 그래프 재동기화 실패", e);
+        }
+    }
+
+    @EventListener
+    public synchronized void onNoteChanged(VaultNoteChangedEvent event) {
+        if (!loaded) return;
+        switch (event.type()) {
+            case SAVED -> {
+                if (put(event.note())) {
+                    version++;
+                }
+            }
+            case SAVED_ALL -> {
+                boolean changed = false;
+                for (VaultNote note : event.notes()) {
+                    changed |= put(note);
+                }
+                if (changed) {
+                    version++;
+                }
+            }
+            case DELETED -> {
+                if (nodes.remove(event.noteId()) != null) {
+                    version++;
+                }
+            }
+            case LINKED, UNLINKED -> {
+                boolean linked = event.type() == VaultNoteChangedEvent.Type.LINKED;
+                boolean changed = false;
+                for (String sourceId : event.sourceIds()) {
+                    changed |= relink(sourceId, event.noteId(), linked);
+                }
+                if (changed) {
+                    version++;
+                }
+            }
+            case BULK -> resync();
+        }
+    }
+
+    /** DB의 $addToSet · $pull과 같게 source 노드의 링크에 target을 더하거나 빼고, 바뀌었으면 true */
+    private boolean relink(String sourceId, String targetId, boolean linked) {
+        VaultGraph.Node node = nodes.get(sourceId);
+        if (node == null || node.outgoingLinks().contains(targetId) == linked) return false;
+        List<String> links = new ArrayList<>(node.outgoingLinks());
+        if (linked) {
+            links.add(targetId);
+        } else {
+            links.removeIf(targetId::equals);
+        }
+        nodes.put(
+                sourceId,
+                new VaultGraph.Node(
+                        node.id(),
+                        node.title(),
+                        node.slug(),
+                        node.folderId(),
+                        node.contentLength(),
+                        List.copyOf(links)));
+        return true;
+    }
+
+    /** @return 노드가 새로 생겼거나 바뀌었으면 true */
+    private boolean put(VaultNote note) {
+        VaultGraph.Node node = toNode(note, contentLength(note));
+        return !node.equals(nodes.put(node.id(), node));
+    }
+
+    /** DB에서 다시 읽어 메모리 노드와 다를 때만 교체하고 version을 올림 */
+    synchronized void resync() {
+        Map<String, VaultGraph.Node> fresh = loadNodes();
+        if (!loaded) {
+            nodes.putAll(fresh);
+            loaded = true;
+            version++;
+            return;
+        }
+        if (!fresh.equals(nodes)) {
+            nodes.clear();
+            nodes.putAll(fresh);
+            version++;
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            resync();
+            log.info("노트 그래프 적재: 노드 {}개", nodes.size());
+        }
+    }
+
+    private Map<String, VaultGraph.Node> loadNodes() {
+        Map<String, Integer> contentLengthById =
+                vaultNoteRepository.findAllContentLengths().stream()
+                        .collect(
+                                Collectors.toMap(
+                                        VaultNoteRepository.NoteContentLength::id,
+                                        VaultNoteRepository.NoteContentLength::contentLength,
+                                        (first, second) -> first));
+        Map<String, VaultGraph.Node> loadedNodes = new LinkedHashMap<>();
+        for (VaultNote note : vaultNoteRepository.findAllForGraph()) {
+            loadedNodes.put(
+                    note.getId(), toNode(note, contentLengthById.getOrDefault(note.getId(), 0)));
+        }
+        return loadedNodes;
+    }
+
+    private static VaultGraph.Node toNode(VaultNote note, int contentLength) {
+        List<String> links =
+                note.getOutgoingLinks() != null ? List.copyOf(note.getOutgoingLinks()) : List.of();
+        return new VaultGraph.Node(
+                note.getId(),
+                note.getTitle(),
+                note.getSlug(),
+                note.getFolderId(),
+                contentLength,
+                links);
+    }
+
+    /** DB의 $strLenCP와 같은 코드 포인트 기준 길이 */
+    private static int contentLength(VaultNote note) {
+        String content = note.getContent();
+        return content != null ? content.codePointCount(0, content.length()) : 0;
+    }
+}
@@ -0,0 +1,106 @@
+package com.kscold.blog.vault.application.service;
+
+import com.kscold.blog.vault.domain.model.GraphLayout;
+import com.kscold.blog.vault.domain.model.VaultGraph;
+import com.kscold.blog.vault.domain.service.ForceLayout;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노트 그래프 레이아웃을 백그라운드에서 미리 계산해 둠. 그래프 스냅샷 version이 바뀌었을 때만 다시 계산하며, 새 노드가 적으면 이전 좌표에서 이어서 짧게
+ * 돌리고(warm start) 많으면 처음부터 계산함. 조회는 마지막 결과만 읽고 기다리지 않음 (그 사이 생긴 노드는 좌표 없이 나감).
+ *
+ * <p>계산은 수 초씩 걸리므로 스케줄러 스레드는 전용 스레드에 넘기기만 하고, 이전 계산이 아직 돌고 있으면 이번 주기는 건너뜀.
+ */
+@Slf4j
+@Component
+public class VaultGraphLayoutService {
+
+    static final int COLD_ITERATIONS = 300;
+    static final int WARM_ITERATIONS = 60;
+
+    /** 새 노드 비율이 이보다 크면 이어서 계산하지 않고 처음부터 */
+    static final double WARM_START_MAX_NEW_RATIO = 0.2;
+
+    private final VaultGraphIndex vaultGraphIndex;
+    private final ForkJoinPool pool =
+            new ForkJoinPool(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
+    private final ExecutorService runner =
+            Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().name("vault-graph-layout").daemon().factory());
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile GraphLayout layout;
+
+    public VaultGraphLayoutService(VaultGraphIndex vaultGraphIndex) {
+        this.vaultGraphIndex = vaultGraphIndex;
+    }
+
+    @Scheduled(fixedDelayString = "${vault.graph.layout-interval-ms:10000}")
+    public void refreshPeriodically() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("이전 노트 그래프 레이아웃 계산이 진행 중이라 이번 주기는 건너뜀");
+            return;
+        }
+        try {
+            runner.execute(this::refreshInBackground);
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+        pool.shutdown();
+    }
+
+    /** 마지막으로 계산한 레이아웃. 아직 없으면 null */
+    public GraphLayout current() {
+        return layout;
+    }
+
+    /** 마지막 레이아웃을 계산한 그래프 version. 아직 없으면 0 */
+    public long version() {
+        GraphLayout current = layout;
+        return current != null ? current.graph().version() : 0;
+    }
+
+    private void refreshInBackground() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("노트 그래프 레이아웃 계산 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    synchronized void refresh() {
+        VaultGraph graph = vaultGraphIndex.current();
+        GraphLayout previous = layout;
+        if (previous != null && previous.graph().version() == graph.version()) return;
+
+        long started = System.nanoTime();
+        int added = previous != null ? ForceLayout.countNew(graph, previous) : graph.nodeCount();
+        boolean warm =
+                previous != null && added <= graph.nodeCount() * WARM_START_MAX_NEW_RATIO;
+        layout =
+                warm
+                        ? ForceLayout.relayout(graph, previous, WARM_ITERATIONS, pool)
+                        : ForceLayout.layout(graph, COLD_ITERATIONS, pool);
+        log.debug(
+                "노트 그래프 레이아웃 계산({}): 노드 {}개, 새 노드 {}개, {}ms",
+                warm ? "warm" : "cold",
+                graph.nodeCount(),
+                added,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+}
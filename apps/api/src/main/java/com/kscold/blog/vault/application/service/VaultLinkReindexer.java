@@ -0,0 +1,198 @@
+package com.kscold.blog.vault.application.service;
+
+import com.kscold.blog.vault.application.event.VaultNoteChangedEvent;
+import com.kscold.blog.vault.domain.model.LinkReindexProgress;
+import com.kscold.blog.vault.domain.port.out.VaultDanglingLinkRepository;
+import com.kscold.blog.vault.domain.port.out.VaultNoteRepository;
+import com.kscold.blog.vault.domain.port.out.VaultNoteRepository.NoteLinkSource;
+import com.kscold.blog.vault.domain.service.BacklinkParsingService;
+import com.kscold.blog.vault.domain.service.BacklinkParsingService.BacklinkResolution;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 노트 outgoingLinks 일괄 재인덱싱. slug -> ID 맵을 한 번 읽어 두고, 노트는 ID · 본문 · outgoingLinks만 커서로 흘려 읽어
+ * chunk 단위로 전용 ForkJoinPool에서 병렬 파싱한 뒤 바뀐 노트만 bulkWrite $set 함. 힙에는 chunk 하나와 slug 맵만 올라감.
+ *
+ * <p>미해결 링크 등록부도 이번 결과로 통째로 다시 만듦. 한 번에 하나만 실행되며 별도 스레드에서 돌고, 진행 상태는 {@link #progress()}로 확인함.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VaultLinkReindexer {
+
+    static final int CHUNK_SIZE = 1000;
+    static final int MAX_PARALLELISM = 4;
+
+    private final VaultNoteRepository vaultNoteRepository;
+    private final VaultDanglingLinkRepository vaultDanglingLinkRepository;
+    private final BacklinkParsingService backlinkParsingService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final ReentrantLock runLock = new ReentrantLock();
+    private final Condition idle = runLock.newCondition();
+    private volatile LinkReindexProgress finished = LinkReindexProgress.idle();
+    private volatile Instant startedAt;
+
+    /** 백그라운드에서 재인덱싱을 시작함. 이미 실행 중이면 새로 시작하지 않고 현재 진행 상태를 반환 */
+    public LinkReindexProgress start() {
+        if (!running.compareAndSet(false, true)) {
+            return progress();
+        }
+        begin();
+        Thread.ofPlatform().name("vault-link-reindex").daemon(true).start(this::runAndRecord);
+        return progress();
+    }
+
+    public LinkReindexProgress progress() {
+        if (running.get()) {
+            return new LinkReindexProgress(
+                    LinkReindexProgress.State.RUNNING,
+                    scanned.get(),
+                    updated.get(),
+                    startedAt,
+                    null,
+                    null);
+        }
+        return finished;
+    }
+
+    /**
+     * 호출 스레드에서 끝까지 실행함. 이미 실행 중이면 그 실행은 호출 전 변경을 못 봤을 수 있으므로 끝나기를 기다렸다가 새로 실행함. 대기와 시작 사이에 다른 실행이
+     * 끼어들지 않음.
+     */
+    LinkReindexProgress runNow() {
+        runLock.lock();
+        try {
+            while (!running.compareAndSet(false, true)) {
+                idle.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("링크 재인덱싱 대기 중 중단됨", e);
+        } finally {
+            runLock.unlock();
+        }
+        begin();
+        return runAndRecord();
+    }
+
+    private void begin() {
+        scanned.set(0);
+        updated.set(0);
+        startedAt = Instant.now();
+    }
+
+    private LinkReindexProgress runAndRecord() {
+        LinkReindexProgress result;
+        try {
+            reindex();
+            result = snapshot(LinkReindexProgress.State.COMPLETED, null);
+            log.info("reindexAllLinks 완료: {}건 중 {}건 업데이트", scanned.get(), updated.get());
+        } catch (RuntimeException e) {
+            result = snapshot(LinkReindexProgress.State.FAILED, e.getMessage());
+            log.warn("reindexAllLinks 실패: {}건 처리 후 중단", scanned.get(), e);
+        }
+        finished = result;
+        boolean changed = updated.get() > 0;
+        runLock.lock();
+        try {
+            running.set(false);
+            idle.signalAll();
+        } finally {
+            runLock.unlock();
+        }
+        if (changed) {
+            eventPublisher.publishEvent(VaultNoteChangedEvent.bulk());
+        }
+        return result;
+    }
+
+    private void reindex() {
+        Map<String, String> idsBySlug = vaultNoteRepository.findAllIdsBySlug();
+        int parallelism =
+                Math.max(1, Math.min(MAX_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Map<String, Set<String>> dangling = new ConcurrentHashMap<>();
+        try (Stream<NoteLinkSource> sources = vaultNoteRepository.streamLinkSources()) {
+            List<NoteLinkSource> chunk = new ArrayList<>(CHUNK_SIZE);
+            Iterator<NoteLinkSource> iterator = sources.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    relinkChunk(chunk, idsBySlug, dangling, pool);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                relinkChunk(chunk, idsBySlug, dangling, pool);
+            }
+            vaultDanglingLinkRepository.replaceAll(dangling);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void relinkChunk(
+            List<NoteLinkSource> chunk,
+            Map<String, String> idsBySlug,
+            Map<String, Set<String>> dangling,
+            ForkJoinPool pool) {
+        // 풀 안에서 시작한 parallelStream은 공용 풀이 아니라 이 풀의 워커로 나뉘어 실행됨
+        List<Map.Entry<String, List<String>>> changes =
+                pool.submit(
+                                () ->
+                                        chunk.parallelStream()
+                                                .map(
+                                                        source ->
+                                                                relink(source, idsBySlug, dangling))
+                                                .filter(Objects::nonNull)
+                                                .toList())
+                        .join();
+
+        Map<String, List<String>> linksById = new HashMap<>();
+        changes.forEach(change -> linksById.put(change.getKey(), change.getValue()));
+        vaultNoteRepository.updateOutgoingLinks(linksById);
+        scanned.addAndGet(chunk.size());
+        updated.addAndGet(linksById.size());
+    }
+
+    /** 링크가 바뀌었으면 (ID, 새 링크), 그대로면 null */
+    private Map.Entry<String, List<String>> relink(
+            NoteLinkSource source,
+            Map<String, String> idsBySlug,
+            Map<String, Set<String>> dangling) {
+        BacklinkResolution resolution =
+                backlinkParsingService.resolve(source.content(), idsBySlug);
+        for (String slug : resolution.unresolvedSlugs()) {
+            dangling.computeIfAbsent(slug, s -> ConcurrentHashMap.newKeySet()).add(source.id());
+        }
+        List<String> links = resolution.noteIds();
+        return links.equals(source.outgoingLinks()) ? null : Map.entry(source.id(), links);
+    }
+
+    private LinkReindexProgress snapshot(LinkReindexProgress.State state, String error) {
+        return new LinkReindexProgress(
+                state, scanned.get(), updated.get(), startedAt, Instant.now(), error);
+    }
+}
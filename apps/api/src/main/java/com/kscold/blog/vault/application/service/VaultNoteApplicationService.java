@@ -3,22 +3,30 @@ package com.kscold.blog.vault.application.service;
 import com.kscold.blog.exception.DuplicateResourceException;
 import com.kscold.blog.exception.ResourceNotFoundException;
 import com.kscold.blog.identity.application.port.in.UserQueryPort;
+import com.kscold.blog.shared.domain.event.PageRouteChangedEvent;
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
 import com.kscold.blog.shared.util.SlugUtils;
 import com.kscold.blog.vault.application.dto.command.NoteCreateCommand;
 import com.kscold.blog.vault.application.dto.command.NoteUpdateCommand;
 import com.kscold.blog.vault.application.dto.response.GraphDataResponse;
+import com.kscold.blog.vault.application.event.VaultNoteChangedEvent;
 import com.kscold.blog.vault.application.port.in.VaultNoteUseCase;
+import com.kscold.blog.vault.domain.model.GraphLayout;
+import com.kscold.blog.vault.domain.model.LinkReindexProgress;
+import com.kscold.blog.vault.domain.model.VaultGraph;
 import com.kscold.blog.vault.domain.model.VaultNote;
 import com.kscold.blog.vault.domain.port.out.VaultFolderRepository;
 import com.kscold.blog.vault.domain.port.out.VaultNoteCommentRepository;
 import com.kscold.blog.vault.domain.port.out.VaultNoteRepository;
 import com.kscold.blog.vault.domain.service.BacklinkParsingService;
+import com.kscold.blog.vault.domain.service.BacklinkParsingService.BacklinkResolution;
+import com.kscold.blog.vault.domain.service.MinHash;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,6 +42,11 @@ public class VaultNoteApplicationService implements VaultNoteUseCase {
     private final VaultFolderRepository vaultFolderRepository;
     private final UserQueryPort userQueryPort;
     private final BacklinkParsingService backlinkParsingService;
+    private final VaultLinkReindexer vaultLinkReindexer;
+    private final VaultGraphIndex vaultGraphIndex;
+    private final VaultGraphLayoutService vaultGraphLayoutService;
+    private final DanglingLinkResolver danglingLinkResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public VaultNote create(NoteCreateCommand command, String userId) {
@@ -55,7 +68,7 @@ public class VaultNoteApplicationService implements VaultNoteUseCase {
 
         UserQueryPort.UserInfo author = userQueryPort.getUserById(userId);
 
-        List<String> outgoingLinks = backlinkParsingService.parseBacklinks(command.getContent());
+        BacklinkResolution links = backlinkParsingService.resolve(command.getContent());
 
         VaultNote note =
                 VaultNote.builder()
@@ -68,12 +81,19 @@ public class VaultNoteApplicationService implements VaultNoteUseCase {
                                         .id(author.id())
                                         .name(author.displayName())
                                         .build())
-                        .outgoingLinks(outgoingLinks)
+                        .outgoingLinks(links.noteIds())
+                        .minHash(MinHash.encode(MinHash.signature(command.getContent())))
                         .tags(command.getTags() != null ? command.getTags() : new ArrayList<>())
                         .build();
 
         VaultNote saved = vaultNoteRepository.save(note);
         vaultFolderRepository.incrementNoteCount(command.getFolderId());
+        eventPublisher.publishEvent(VaultNoteChangedEvent.saved(saved));
+        danglingLinkResolver.recordUnresolved(saved.getId(), links.unresolvedSlugs());
+        danglingLinkResolver.resolve(saved.getSlug(), saved.getId());
+        eventPublisher.publishEvent(
+                PageRouteChangedEvent.added(
+                        PageRouteChangedEvent.RouteType.VAULT_NOTE, saved.getSlug()));
         return saved;
     }
 
@@ -84,15 +104,19 @@ public class VaultNoteApplicationService implements VaultNoteUseCase {
         if (command.getTitle() != null) {
             note.setTitle(command.getTitle());
         }
+        String previousSlug = note.getSlug();
         if (command.getSlug() != null && !command.getSlug().equals(note.getSlug())) {
             if (vaultNoteRepository.existsBySlug(command.getSlug())) {
                 throw DuplicateResourceException.slug(command.getSlug());
             }
             note.setSlug(command.getSlug());
         }
+        BacklinkResolution links = null;
         if (command.getContent() != null) {
+            links = backlinkParsingService.resolve(command.getContent());
             note.setContent(command.getContent());
-            note.setOutgoingLinks(backlinkParsingService.parseBacklinks(command.getContent()));
+            note.setOutgoingLinks(links.noteIds());
+            note.setMinHash(MinHash.encode(MinHash.signature(command.getContent())));
         }
         if (command.getFolderId() != null && !command.getFolderId().equals(note.getFolderId())) {
             vaultFolderRepository.decrementNoteCount(note.getFolderId());
@@ -103,7 +127,21 @@ public class VaultNoteApplicationService implements VaultNoteUseCase {
             note.setTags(command.getTags());
         }
 
-        return vaultNoteRepository.save(note);
+        VaultNote saved = vaultNoteRepository.save(note);
+        eventPublisher.publishEvent(VaultNoteChangedEvent.saved(saved));
+        if (links != null) {
+            danglingLinkResolver.recordUnresolved(saved.getId(), links.unresolvedSlugs());
+        }
+        if (!saved.getSlug().equals(previousSlug)) {
+            danglingLinkResolver.unresolve(previousSlug, saved.getId());
+            danglingLinkResolver.resolve(saved.getSlug(), saved.getId());
+            eventPublisher.publishEvent(
+                    PageRouteChangedEvent.renamed(
+                            PageRouteChangedEvent.RouteType.VAULT_NOTE,
+                            previousSlug,
+                            saved.getSlug()));
+        }
+        return saved;
     }
 
     @Transactional
@@ -112,6 +150,11 @@ public class VaultNoteApplicationService implements VaultNoteUseCase {
         vaultNoteCommentRepository.deleteAllByNoteId(id);
         vaultFolderRepository.decrementNoteCount(note.getFolderId());
         vaultNoteRepository.delete(note);
+        eventPublisher.publishEvent(VaultNoteChangedEvent.deleted(id));
+        danglingLinkResolver.onDeleted(note.getSlug(), id);
+        eventPublisher.publishEvent(
+                PageRouteChangedEvent.removed(
+                        PageRouteChangedEvent.RouteType.VAULT_NOTE, note.getSlug()));
     }
 
     private VaultNote findById(String id) {
@@ -130,6 +173,14 @@ public class VaultNoteApplicationService implements VaultNoteUseCase {
                 .orElseThrow(() -> ResourceNotFoundException.vaultNote(slug));
     }
 
+    public boolean existsBySlug(String slug) {
+        return vaultNoteRepository.existsBySlug(slug);
+    }
+
+    public List<String> getAllSlugs() {
+        return vaultNoteRepository.findAllSlugs();
+    }
+
     /** 조회수 증가는 controller에서 IP 기반으로 별도 집계 */
     public VaultNote getBySlugWithView(String slug) {
         return getBySlug(slug);
@@ -139,6 +190,11 @@ public class VaultNoteApplicationService implements VaultNoteUseCase {
         return vaultNoteRepository.findAll(pageable);
     }
 
+    /** 노트 커서 조회 (무한 스크롤용, 전체 개수 미집계). 스크롤 중 수정에 흔들리지 않도록 createdAt 내림차순 */
+    public CursorPage<VaultNote> getAllAfter(PageCursor after, int size) {
+        return vaultNoteRepository.findAllAfter(after, size);
+    }
+
     public Page<VaultNote> getByFolder(String folderId, Pageable pageable) {
         return vaultNoteRepository.findByFolderId(folderId, pageable);
     }
@@ -152,71 +208,37 @@ public class VaultNoteApplicationService implements VaultNoteUseCase {
         return vaultNoteRepository.findByOutgoingLinksContaining(noteId);
     }
 
-    /** 전체 노트의 그래프 데이터 (노드 + 링크) Projection 쿼리로 필요한 필드만 조회하여 메모리 최적화 */
+    /** 전체 노트의 그래프 데이터 (노드 + 링크 + 미리 계산한 좌표). 메모리 그래프 스냅샷으로 만들어 DB를 읽지 않음 */
     public GraphDataResponse getGraphData() {
-        List<VaultNote> allNotes = vaultNoteRepository.findAllForGraph();
-
-        // 그래프 조회는 본문을 제외한 프로젝션이라 길이를 알 수 없으므로, DB 에서 길이만 따로 계산해 합친다.
-        Map<String, Integer> contentLengthById =
-                vaultNoteRepository.findAllContentLengths().stream()
-                        .collect(
-                                Collectors.toMap(
-                                        VaultNoteRepository.NoteContentLength::id,
-                                        VaultNoteRepository.NoteContentLength::contentLength,
-                                        (first, second) -> first));
-
-        List<GraphDataResponse.GraphNode> nodes =
-                allNotes.stream()
-                        .map(
-                                note -> {
-                                    int size =
-                                            note.getOutgoingLinks() != null
-                                                    ? note.getOutgoingLinks().size() + 1
-                                                    : 1;
-                                    int contentLength =
-                                            contentLengthById.getOrDefault(note.getId(), 0);
-                                    return GraphDataResponse.GraphNode.builder()
-                                            .id(note.getId())
-                                            .name(note.getTitle())
-                                            .slug(note.getSlug())
-                                            .size(size)
-                                            .contentLength(contentLength)
-                                            .folderId(note.getFolderId())
-                                            .build();
-                                })
-                        .toList();
-
-        List<GraphDataResponse.GraphLink> links = new ArrayList<>();
-        for (VaultNote note : allNotes) {
-            if (note.getOutgoingLinks() != null) {
-                for (String targetId : note.getOutgoingLinks()) {
-                    links.add(
-                            GraphDataResponse.GraphLink.builder()
-                                    .source(note.getId())
-                                    .target(targetId)
-                                    .build());
-                }
+        VaultGraph graph = vaultGraphIndex.current();
+        GraphLayout layout = vaultGraphLayoutService.current();
+        List<GraphDataResponse.GraphNode> nodes = new ArrayList<>(graph.nodeCount());
+        List<GraphDataResponse.GraphLink> links = new ArrayList<>(graph.linkCount());
+        for (int i = 0; i < graph.nodeCount(); i++) {
+            nodes.add(GraphDataResponse.GraphNode.from(graph, i, layout));
+            for (int k = 0; k < graph.outDegree(i); k++) {
+                links.add(
+                        GraphDataResponse.GraphLink.builder()
+                                .source(graph.id(i))
+                                .target(graph.id(graph.target(i, k)))
+                                .build());
             }
         }
-
         return GraphDataResponse.builder().nodes(nodes).links(links).build();
     }
 
-    /** 전체 노트의 outgoingLinks 재인덱싱 (일괄 임포트 후 백링크 복원용) */
-    @Transactional
-    public int reindexAllLinks() {
-        List<VaultNote> allNotes = vaultNoteRepository.findAll();
-        int updated = 0;
-        for (VaultNote note : allNotes) {
-            List<String> links = backlinkParsingService.parseBacklinks(note.getContent());
-            if (!links.equals(note.getOutgoingLinks())) {
-                note.setOutgoingLinks(links);
-                vaultNoteRepository.save(note);
-                updated++;
-            }
-        }
-        log.info("reindexAllLinks 완료: {}건 업데이트", updated);
-        return updated;
+    /** 현재 그래프 ETag. 그래프도 레이아웃도 바뀌지 않았으면 같은 값 */
+    public String getGraphETag() {
+        return "\"" + vaultGraphIndex.tag() + "-l" + vaultGraphLayoutService.version() + "\"";
+    }
+
+    /** 전체 노트의 outgoingLinks 재인덱싱을 백그라운드로 시작 (일괄 임포트 후 백링크 복원용) */
+    public LinkReindexProgress startLinkReindex() {
+        return vaultLinkReindexer.start();
+    }
+
+    public LinkReindexProgress getLinkReindexProgress() {
+        return vaultLinkReindexer.progress();
     }
 
     /** 댓글 수 원자적 증가 */
@@ -0,0 +1,172 @@
+package com.kscold.blog.vault.application.service;
+
+import com.kscold.blog.exception.ResourceNotFoundException;
+import com.kscold.blog.vault.application.dto.response.SimilarNoteResponse;
+import com.kscold.blog.vault.application.event.VaultNoteChangedEvent;
+import com.kscold.blog.vault.application.port.in.VaultSimilarityUseCase;
+import com.kscold.blog.vault.domain.model.MinHashLshIndex;
+import com.kscold.blog.vault.domain.model.VaultGraph;
+import com.kscold.blog.vault.domain.model.VaultNote;
+import com.kscold.blog.vault.domain.port.out.VaultNoteRepository;
+import com.kscold.blog.vault.domain.port.out.VaultNoteRepository.NoteContent;
+import com.kscold.blog.vault.domain.service.MinHash;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 노트 본문 유사도 검색. 노트 저장 시 계산해 둔 MinHash 서명을 메모리 LSH 색인에 올려 두고, 관련 노트 · 중복 의심 노트 질의를 후보 버킷만 보고 답함. 제목
+ * · slug는 메모리 그래프 스냅샷에서 읽어 질의 중 DB를 읽지 않음.
+ *
+ * <p>서명이 없는 기존 노트는 적재할 때 본문을 커서로 읽어 계산 · 저장함 (한 번만). 다른 인스턴스에서 바뀐 노트는 주기적으로 다시 적재해 반영함.
+ */
+@Slf4j
+@Service
+public class VaultSimilarityService implements VaultSimilarityUseCase {
+
+    static final double RELATED_MIN_SIMILARITY = 0.2;
+    static final double DUPLICATE_MIN_SIMILARITY = 0.8;
+    static final int MAX_LIMIT = 50;
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final VaultNoteRepository vaultNoteRepository;
+    private final VaultGraphIndex vaultGraphIndex;
+
+    private volatile MinHashLshIndex index;
+
+    public VaultSimilarityService(
+            VaultNoteRepository vaultNoteRepository, VaultGraphIndex vaultGraphIndex) {
+        this.vaultNoteRepository = vaultNoteRepository;
+        this.vaultGraphIndex = vaultGraphIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            index();
+        } catch (RuntimeException e) {
+            log.warn("노트 유사도 색인 적재 실패, 첫 조회 때 다시 시도", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${vault.similarity.resync-interval-ms:300000}",
+            fixedDelayString = "${vault.similarity.resync-interval-ms:300000}")
+    public void resyncPeriodically() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("노트 유사도 색인 재적재 실패", e);
+        }
+    }
+
+    @EventListener
+    public synchronized void onNoteChanged(VaultNoteChangedEvent event) {
+        MinHashLshIndex current = index;
+        if (current == null) return;
+        switch (event.type()) {
+            case SAVED -> put(current, event.note());
+            case SAVED_ALL -> event.notes().forEach(note -> put(current, note));
+            case DELETED -> current.remove(event.noteId());
+            case LINKED, UNLINKED, BULK -> {
+                // 링크만 바뀌는 일괄 작업이라 본문 서명에는 영향 없음
+            }
+        }
+    }
+
+    private static void put(MinHashLshIndex current, VaultNote note) {
+        int[] signature = MinHash.decode(note.getMinHash());
+        if (signature != null) {
+            current.put(note.getId(), signature);
+        } else {
+            current.remove(note.getId());
+        }
+    }
+
+    @Override
+    public List<SimilarNoteResponse> getRelatedNotes(String noteId, int limit) {
+        return search(noteId, RELATED_MIN_SIMILARITY, Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+
+    @Override
+    public List<SimilarNoteResponse> getPossibleDuplicates(String noteId) {
+        return search(noteId, DUPLICATE_MIN_SIMILARITY, MAX_LIMIT);
+    }
+
+    private List<SimilarNoteResponse> search(String noteId, double minSimilarity, int limit) {
+        VaultGraph graph = vaultGraphIndex.current();
+        if (graph.indexOf(noteId) < 0) {
+            throw ResourceNotFoundException.vaultNote(noteId);
+        }
+        MinHashLshIndex current = index();
+        int[] signature = current.signature(noteId);
+        if (signature == null) return List.of();
+
+        List<SimilarNoteResponse> result = new ArrayList<>();
+        for (MinHashLshIndex.Match match : current.query(signature, noteId, minSimilarity, limit)) {
+            int node = graph.indexOf(match.noteId());
+            if (node < 0) continue;
+            result.add(
+                    SimilarNoteResponse.builder()
+                            .id(match.noteId())
+                            .title(graph.title(node))
+                            .slug(graph.slug(node))
+                            .similarity(match.similarity())
+                            .build());
+        }
+        return result;
+    }
+
+    private MinHashLshIndex index() {
+        MinHashLshIndex current = index;
+        if (current != null) return current;
+        synchronized (this) {
+            if (index == null) {
+                reload();
+            }
+            return index;
+        }
+    }
+
+    /** 서명이 없는 노트를 채운 뒤 저장된 서명 전체로 색인을 새로 만들어 교체함 */
+    synchronized void reload() {
+        int backfilled = backfill();
+        MinHashLshIndex fresh = new MinHashLshIndex();
+        vaultNoteRepository
+                .findAllMinHashes()
+                .forEach(
+                        (id, bytes) -> {
+                            int[] signature = MinHash.decode(bytes);
+                            if (signature != null) fresh.put(id, signature);
+                        });
+        index = fresh;
+        log.debug("노트 유사도 색인 적재: 서명 {}개, 새로 계산 {}개", fresh.size(), backfilled);
+    }
+
+    private int backfill() {
+        int count = 0;
+        Map<String, byte[]> batch = new HashMap<>();
+        try (Stream<NoteContent> notes = vaultNoteRepository.streamWithoutMinHash()) {
+            Iterator<NoteContent> iterator = notes.iterator();
+            while (iterator.hasNext()) {
+                NoteContent note = iterator.next();
+                batch.put(note.id(), MinHash.encode(MinHash.signature(note.content())));
+                if (batch.size() == BACKFILL_BATCH_SIZE) {
+                    vaultNoteRepository.updateMinHashes(batch);
+                    count += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+        vaultNoteRepository.updateMinHashes(batch);
+        return count + batch.size();
+    }
+}
@@ -0,0 +1,13 @@
+package com.kscold.blog.vault.domain.model;
+
+/**
+ * 그래프 스냅샷 하나에 대해 미리 계산한 노드 좌표. x · y 배열의 인덱스는 계산에 쓴 {@link VaultGraph}의 노드 인덱스와 같음. 배열은 만든 뒤 고치지
+ * 않음.
+ */
+public record GraphLayout(VaultGraph graph, double[] x, double[] y) {
+
+    /** 다른 스냅샷의 노드를 이 레이아웃의 인덱스로 바꿈. 같은 스냅샷이면 그대로, 레이아웃 뒤에 생긴 노드면 -1 */
+    public int indexOf(VaultGraph other, int node) {
+        return other == graph ? node : graph.indexOf(other.id(node));
+    }
+}
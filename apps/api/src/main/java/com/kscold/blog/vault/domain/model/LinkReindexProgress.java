@@ -0,0 +1,37 @@
+package com.kscold.blog.vault.domain.model;
+
+import java.time.Instant;
+
+/**
+ * 백링크 일괄 재인덱싱 진행 상태 (어드민 모니터링용)
+ *
+ * @param state 현재 상태
+ * @param scanned 지금까지 읽고 파싱한 노트 수
+ * @param updated outgoingLinks가 바뀌어 갱신한 노트 수
+ * @param startedAt 시작 시각 (실행한 적 없으면 null)
+ * @param finishedAt 종료 시각 (진행 중이면 null)
+ * @param error 실패 사유 (FAILED일 때만)
+ */
+public record LinkReindexProgress(
+        State state,
+        long scanned,
+        long updated,
+        Instant startedAt,
+        Instant finishedAt,
+        String error) {
+
+    public enum State {
+        IDLE,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static LinkReindexProgress idle() {
+        return new LinkReindexProgress(State.IDLE, 0, 0, null, null, null);
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+}
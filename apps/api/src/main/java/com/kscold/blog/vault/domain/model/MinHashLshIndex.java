@@ -0,0 +1,84 @@
+package com.kscold.blog.vault.domain.model;
+
+import com.kscold.blog.vault.domain.service.MinHash;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MinHash 서명의 LSH 색인. 밴드마다 (밴드 키 -> 노트 ID 집합) 버킷을 두어, 질의 서명과 한 밴드라도 같은 노트만 후보로 모은 뒤 서명으로 유사도를 다시
+ * 계산함. 전체 노트를 훑지 않으므로 질의 비용은 후보 수에만 비례함.
+ *
+ * <p>쓰기는 synchronized, 읽기는 락 없이 concurrent 맵에서 바로 함.
+ */
+public final class MinHashLshIndex {
+
+    private final Map<String, int[]> signatures = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+
+    /** 유사도 검색 결과 */
+    public record Match(String noteId, double similarity) {}
+
+    public synchronized void put(String noteId, int[] signature) {
+        remove(noteId);
+        signatures.put(noteId, signature);
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            buckets.computeIfAbsent(
+                            MinHash.bandKey(signature, band), key -> ConcurrentHashMap.newKeySet())
+                    .add(noteId);
+        }
+    }
+
+    public synchronized void remove(String noteId) {
+        int[] previous = signatures.remove(noteId);
+        if (previous == null) return;
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            long key = MinHash.bandKey(previous, band);
+            Set<String> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(noteId);
+                if (bucket.isEmpty()) buckets.remove(key);
+            }
+        }
+    }
+
+    public int[] signature(String noteId) {
+        return signatures.get(noteId);
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    /**
+     * 서명과 한 밴드 이상 겹치는 노트 중 추정 유사도가 minSimilarity 이상인 것을 유사도 내림차순으로 최대 limit개 반환.
+     *
+     * @param excludeId 결과에서 뺄 노트 (질의 노트 자신). 없으면 null
+     */
+    public List<Match> query(int[] signature, String excludeId, double minSimilarity, int limit) {
+        Set<String> candidates = new HashSet<>();
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            Set<String> bucket = buckets.get(MinHash.bandKey(signature, band));
+            if (bucket != null) candidates.addAll(bucket);
+        }
+        candidates.remove(excludeId);
+        List<Match> matches = new ArrayList<>();
+        for (String candidate : candidates) {
+            int[] other = signatures.get(candidate);
+            if (other == null) continue;
+            double similarity = MinHash.similarity(signature, other);
+            if (similarity >= minSimilarity) {
+                matches.add(new Match(candidate, similarity));
+            }
+        }
+        matches.sort(
+                Comparator.comparingDouble(Match::similarity)
+                        .reversed()
+                        .thenComparing(Match::noteId));
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+}
@@ -0,0 +1,33 @@
+package com.kscold.blog.vault.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 아직 없는 노트를 가리키는 [[링크]] 대상. 슬러그별로 그 링크를 가진 노트 ID를 모아 두어, 같은 슬러그의 노트가 생기면 전체 재인덱싱 없이 해당 노트들의
+ * outgoingLinks만 고침.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "vault_dangling_links")
+public class VaultDanglingLink {
+
+    /** 정규화된 링크 대상 슬러그 */
+    @Id private String slug;
+
+    @Indexed @Builder.Default private Set<String> sourceNoteIds = new HashSet<>();
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,208 @@
+package com.kscold.blog.vault.domain.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노트 링크 그래프의 불변 스냅샷. 노드 속성은 인덱스별 배열에, 링크는 CSR(offsets + targets) int 배열에 담아 노드 수 n, 링크 수 m에 대해 객체
+ * n개 수준의 메모리만 씀. 노드 i의 나가는 링크는 targets[offsets[i] .. offsets[i + 1]) 구간이고, 들어오는 링크(백링크)도 같은 방식으로
+ * inOffsets + sources에 담음.
+ *
+ * <p>존재하지 않는 노트를 가리키는 링크(삭제된 노트 등)와 같은 대상으로의 중복 링크는 CSR에 넣지 않음.
+ */
+public final class VaultGraph {
+
+    private final long version;
+    private final String[] ids;
+    private final String[] titles;
+    private final String[] slugs;
+    private final String[] folderIds;
+    private final int[] contentLengths;
+    private final int[] declaredLinks;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] inOffsets;
+    private final int[] sources;
+    private final Map<String, Integer> indexById;
+
+    private VaultGraph(
+            long version,
+            String[] ids,
+            String[] titles,
+            String[] slugs,
+            String[] folderIds,
+            int[] contentLengths,
+            int[] declaredLinks,
+            int[] offsets,
+            int[] targets,
+            int[] inOffsets,
+            int[] sources,
+            Map<String, Integer> indexById) {
+        this.version = version;
+        this.ids = ids;
+        this.titles = titles;
+        this.slugs = slugs;
+        this.folderIds = folderIds;
+        this.contentLengths = contentLengths;
+        this.declaredLinks = declaredLinks;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.inOffsets = inOffsets;
+        this.sources = sources;
+        this.indexById = indexById;
+    }
+
+    /** 그래프를 만드는 데 필요한 노트 필드 */
+    public record Node(
+            String id,
+            String title,
+            String slug,
+            String folderId,
+            int contentLength,
+            List<String> outgoingLinks) {}
+
+    public static VaultGraph build(long version, Collection<Node> nodes) {
+        int n = nodes.size();
+        String[] ids = new String[n];
+        String[] titles = new String[n];
+        String[] slugs = new String[n];
+        String[] folderIds = new String[n];
+        int[] contentLengths = new int[n];
+        int[] declaredLinks = new int[n];
+        Map<String, Integer> indexById = new HashMap<>(n * 2);
+
+        int i = 0;
+        int declaredTotal = 0;
+        for (Node node : nodes) {
+            ids[i] = node.id();
+            titles[i] = node.title();
+            slugs[i] = node.slug();
+            folderIds[i] = node.folderId();
+            contentLengths[i] = node.contentLength();
+            declaredLinks[i] = node.outgoingLinks() != null ? node.outgoingLinks().size() : 0;
+            declaredTotal += declaredLinks[i];
+            indexById.put(node.id(), i);
+            i++;
+        }
+
+        int[] offsets = new int[n + 1];
+        int[] buffer = new int[declaredTotal];
+        int m = 0;
+        i = 0;
+        for (Node node : nodes) {
+            offsets[i] = m;
+            if (node.outgoingLinks() != null) {
+                for (String targetId : node.outgoingLinks()) {
+                    Integer target = indexById.get(targetId);
+                    if (target != null && !containsBetween(buffer, offsets[i], m, target)) {
+                        buffer[m++] = target;
+                    }
+                }
+            }
+            i++;
+        }
+        offsets[n] = m;
+        int[] targets = m == buffer.length ? buffer : Arrays.copyOf(buffer, m);
+
+        // 역방향 CSR: 대상별 개수 -> 누적합 -> 채우기
+        int[] inOffsets = new int[n + 1];
+        for (int k = 0; k < m; k++) {
+            inOffsets[targets[k] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            inOffsets[v + 1] += inOffsets[v];
+        }
+        int[] sources = new int[m];
+        int[] cursor = Arrays.copyOf(inOffsets, n);
+        for (int u = 0; u < n; u++) {
+            for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                sources[cursor[targets[k]]++] = u;
+            }
+        }
+        return new VaultGraph(
+                version,
+                ids,
+                titles,
+                slugs,
+                folderIds,
+                contentLengths,
+                declaredLinks,
+                offsets,
+                targets,
+                inOffsets,
+                sources,
+                indexById);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int nodeCount() {
+        return ids.length;
+    }
+
+    public int linkCount() {
+        return targets.length;
+    }
+
+    /** 노트 ID의 노드 인덱스. 없으면 -1 */
+    public int indexOf(String id) {
+        Integer index = indexById.get(id);
+        return index != null ? index : -1;
+    }
+
+    public String id(int node) {
+        return ids[node];
+    }
+
+    public String title(int node) {
+        return titles[node];
+    }
+
+    public String slug(int node) {
+        return slugs[node];
+    }
+
+    public String folderId(int node) {
+        return folderIds[node];
+    }
+
+    public int contentLength(int node) {
+        return contentLengths[node];
+    }
+
+    /** 노트에 적힌 outgoingLinks 개수 (존재하지 않는 대상 포함) */
+    public int declaredLinkCount(int node) {
+        return declaredLinks[node];
+    }
+
+    public int outDegree(int node) {
+        return offsets[node + 1] - offsets[node];
+    }
+
+    /** 노드의 나가는 링크 대상 인덱스 중 k번째 */
+    public int target(int node, int k) {
+        return targets[offsets[node] + k];
+    }
+
+    public int inDegree(int node) {
+        return inOffsets[node + 1] - inOffsets[node];
+    }
+
+    /** 노드로 들어오는 링크의 출발 인덱스 중 k번째 */
+    public int source(int node, int k) {
+        return sources[inOffsets[node] + k];
+    }
+
+    private static boolean containsBetween(int[] values, int from, int to, int value) {
+        // 노트당 링크 수는 작아 선형 탐색이 해시보다 빠름
+        for (int k = from; k < to; k++) {
+            if (values[k] == value) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package com.kscold.blog.vault.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 볼트 아카이브 가져오기 진행 상태 (어드민 모니터링용)
+ *
+ * @param state 현재 상태
+ * @param phase 진행 중인 단계 (NOTES: 노트 저장, LINKS: 링크 해석)
+ * @param scanned 지금까지 읽은 마크다운 파일 수
+ * @param imported 저장한 노트 수
+ * @param skipped 건너뛴 마크다운 파일 수 (slug 중복 · 크기 초과 등)
+ * @param foldersCreated 새로 만든 폴더 수
+ * @param skippedPaths 건너뛴 파일 경로와 사유 (앞쪽 일부만)
+ * @param startedAt 시작 시각 (실행한 적 없으면 null)
+ * @param finishedAt 종료 시각 (진행 중이면 null)
+ * @param error 실패 사유 (FAILED일 때만)
+ */
+public record VaultImportProgress(
+        State state,
+        Phase phase,
+        long scanned,
+        long imported,
+        long skipped,
+        long foldersCreated,
+        List<String> skippedPaths,
+        Instant startedAt,
+        Instant finishedAt,
+        String error) {
+
+    public enum State {
+        IDLE,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public enum Phase {
+        NOTES,
+        LINKS
+    }
+
+    public static VaultImportProgress idle() {
+        return new VaultImportProgress(State.IDLE, null, 0, 0, 0, 0, List.of(), null, null, null);
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+}
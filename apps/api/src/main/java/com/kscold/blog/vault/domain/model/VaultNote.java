@@ -11,6 +11,8 @@ import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -21,6 +23,10 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "vault_notes")
+@CompoundIndexes({
+    @CompoundIndex(name = "updatedAt_id", def = "{'updatedAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "createdAt_id", def = "{'createdAt': -1, '_id': -1}")
+})
 public class VaultNote {
 
     @Id private String id;
@@ -36,10 +42,14 @@ public class VaultNote {
 
     private AuthorInfo author;
 
-    @Builder.Default private List<String> outgoingLinks = new ArrayList<>();
+    // 백링크 · 링크 끊김 처리에서 역참조 조회에 사용
+    @Indexed @Builder.Default private List<String> outgoingLinks = new ArrayList<>();
 
     @Builder.Default private List<String> tags = new ArrayList<>();
 
+    // 본문 MinHash 서명 (int 128개 = 512바이트). 빈 배열이면 서명을 만들 수 없는 짧은 본문
+    private byte[] minHash;
+
     @Builder.Default private Integer views = 0;
 
     @Builder.Default private Integer commentsCount = 0;
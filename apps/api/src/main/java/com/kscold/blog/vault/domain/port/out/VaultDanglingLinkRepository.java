@@ -0,0 +1,23 @@
+package com.kscold.blog.vault.domain.port.out;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/** 아직 없는 노트를 가리키는 링크 대상 저장소 (슬러그 -> 링크를 가진 노트 ID) */
+public interface VaultDanglingLinkRepository {
+
+    /** 노트의 미해결 링크 슬러그를 주어진 목록으로 바꿈 (이전에 기록된 슬러그에서는 빠짐) */
+    void replaceSources(String noteId, Collection<String> unresolvedSlugs);
+
+    /** 슬러그에 걸린 노트 ID를 가져오며 항목을 지움. 없으면 빈 집합 */
+    Set<String> takeSources(String slug);
+
+    void addSources(String slug, Collection<String> noteIds);
+
+    /** 모든 슬러그에서 노트를 뺌 (노트 삭제 시) */
+    void removeNote(String noteId);
+
+    /** 전체 항목을 교체함 (일괄 재인덱싱 결과로 다시 만들 때) */
+    void replaceAll(Map<String, Set<String>> sourcesBySlug);
+}
@@ -2,6 +2,7 @@ package com.kscold.blog.vault.domain.port.out;
 
 import com.kscold.blog.vault.domain.model.VaultFolder;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface VaultFolderRepository {
@@ -20,4 +21,7 @@ public interface VaultFolderRepository {
     void incrementNoteCount(String folderId);
 
     void decrementNoteCount(String folderId);
+
+    /** 폴더별 noteCount를 한 번의 unordered bulkWrite $inc로 올림 (폴더당 한 번) */
+    void incrementNoteCounts(Map<String, Integer> countsByFolderId);
 }
@@ -1,8 +1,13 @@
 package com.kscold.blog.vault.domain.port.out;
 
+import com.kscold.blog.shared.domain.model.CursorPage;
+import com.kscold.blog.shared.domain.vo.PageCursor;
 import com.kscold.blog.vault.domain.model.VaultNote;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -13,14 +18,28 @@ public interface VaultNoteRepository {
 
     boolean existsBySlug(String slug);
 
+    List<String> findAllSlugs();
+
+    /** slug 목록을 한 번의 $in 쿼리로 노트 ID에 매핑함. 없는 slug는 결과에 없음 */
+    Map<String, String> findIdsBySlugs(Collection<String> slugs);
+
+    /** 전체 노트의 slug -> ID 맵. ID와 slug만 프로젝션해 읽음 */
+    Map<String, String> findAllIdsBySlug();
+
     VaultNote save(VaultNote note);
 
+    /** 여러 노트를 한 번의 insertMany로 저장함. 반환 목록에 ID가 채워짐 */
+    List<VaultNote> insertAll(List<VaultNote> notes);
+
     void delete(VaultNote note);
 
     Page<VaultNote> findAll(Pageable pageable);
 
     List<VaultNote> findAll();
 
+    /** 노트를 (createdAt desc, _id desc) 키셋으로 조회함. count 쿼리 없음 */
+    CursorPage<VaultNote> findAllAfter(PageCursor after, int size);
+
     Page<VaultNote> findByFolderId(String folderId, Pageable pageable);
 
     Page<VaultNote> searchByText(String query, Pageable pageable);
@@ -38,6 +57,36 @@ public interface VaultNoteRepository {
     /** 노트 id 와 본문 글자 수 */
     record NoteContentLength(String id, int contentLength) {}
 
+    /** noteId를 outgoingLinks에 가진 노트 ID (ID만 프로젝션) */
+    List<String> findIdsLinkingTo(String noteId);
+
+    /** 여러 노트의 outgoingLinks에 targetId를 한 번의 updateMany로 추가함 (이미 있으면 그대로) */
+    void addOutgoingLink(Collection<String> noteIds, String targetId);
+
+    /** 여러 노트의 outgoingLinks에서 targetId를 한 번의 updateMany로 뺌 */
+    void removeOutgoingLink(Collection<String> noteIds, String targetId);
+
+    /** 링크 재인덱싱용으로 ID · 본문 · outgoingLinks만 커서로 흘려 읽음. 전체를 메모리에 올리지 않으며, 호출자가 스트림을 닫아야 커서가 해제됨. */
+    Stream<NoteLinkSource> streamLinkSources();
+
+    /** 노트 ID별 outgoingLinks를 한 번의 unordered bulkWrite $set으로 갱신함 */
+    void updateOutgoingLinks(Map<String, List<String>> linksById);
+
+    /** 링크 재인덱싱에 필요한 노트 필드 */
+    record NoteLinkSource(String id, String content, List<String> outgoingLinks) {}
+
+    /** MinHash 서명이 저장된 노트의 ID -> 서명 바이트 (ID와 서명만 프로젝션) */
+    Map<String, byte[]> findAllMinHashes();
+
+    /** MinHash 서명이 아직 없는 노트의 ID · 본문을 커서로 흘려 읽음. 호출자가 스트림을 닫아야 커서가 해제됨 */
+    Stream<NoteContent> streamWithoutMinHash();
+
+    /** 노트 ID별 MinHash 서명을 한 번의 unordered bulkWrite $set으로 저장함 */
+    void updateMinHashes(Map<String, byte[]> minHashById);
+
+    /** 노트 id 와 본문 */
+    record NoteContent(String id, String content) {}
+
     void incrementCommentCount(String noteId);
 
     void decrementCommentCount(String noteId);
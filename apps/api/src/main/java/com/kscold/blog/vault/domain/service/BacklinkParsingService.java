@@ -3,7 +3,11 @@ package com.kscold.blog.vault.domain.service;
 import com.kscold.blog.shared.util.SlugUtils;
 import com.kscold.blog.vault.domain.port.out.VaultNoteRepository;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
@@ -18,35 +22,85 @@ public class BacklinkParsingService {
 
     private static final Pattern BACKLINK_PATTERN = Pattern.compile("\\[\\[([^\\]]+)\\]\\]");
 
-    /** 마크다운 내 [[백링크]] 파싱 -> 참조 대상 노트 ID 목록 추출 [[제목]] 형태에서 제목을 슬러그로 변환 후 노트 ID 조회 */
+    /**
+     * 마크다운 내 [[백링크]] 파싱 -> 참조 대상 노트 ID 목록 추출. [[제목]]을 슬러그로 바꿔 모은 뒤 한 번의 $in 쿼리로 ID를 찾고, 본문에 처음 나온
+     * 순서대로 중복 없이 반환
+     */
     public List<String> parseBacklinks(String content) {
-        if (content == null) {
-            return new ArrayList<>();
+        return resolve(content).noteIds();
+    }
+
+    /** 미리 읽어 둔 slug -> ID 맵으로 파싱. DB를 조회하지 않아 여러 스레드에서 동시에 호출해도 됨 (일괄 재인덱싱용) */
+    public List<String> parseBacklinks(String content, Map<String, String> idsBySlug) {
+        return resolve(content, idsBySlug).noteIds();
+    }
+
+    /** 링크를 파싱해 찾은 노트 ID와 아직 없는 노트를 가리키는 슬러그를 함께 반환 */
+    public BacklinkResolution resolve(String content) {
+        Set<String> slugs = collectLinkSlugs(content);
+        if (slugs.isEmpty()) {
+            return new BacklinkResolution(new ArrayList<>(), Set.of());
         }
+        return resolve(slugs, vaultNoteRepository.findIdsBySlugs(slugs));
+    }
 
-        List<String> links = new ArrayList<>();
-        Matcher matcher = BACKLINK_PATTERN.matcher(content);
+    public BacklinkResolution resolve(String content, Map<String, String> idsBySlug) {
+        return resolve(collectLinkSlugs(content), idsBySlug);
+    }
+
+    private static BacklinkResolution resolve(Set<String> slugs, Map<String, String> idsBySlug) {
+        Set<String> unresolved = new LinkedHashSet<>();
+        for (String slug : slugs) {
+            if (!idsBySlug.containsKey(slug)) {
+                unresolved.add(slug);
+            }
+        }
+        return new BacklinkResolution(orderedIds(slugs, idsBySlug), unresolved);
+    }
+
+    /**
+     * 백링크 파싱 결과
+     *
+     * @param noteIds 찾은 대상 노트 ID (본문 순서, 중복 없음)
+     * @param unresolvedSlugs 대상 노트가 아직 없는 링크 슬러그
+     */
+    public record BacklinkResolution(List<String> noteIds, Set<String> unresolvedSlugs) {}
 
+    /** 본문에 나온 순서대로 링크 대상 슬러그를 중복 없이 모음 */
+    static Set<String> collectLinkSlugs(String content) {
+        Set<String> slugs = new LinkedHashSet<>();
+        if (content == null) {
+            return slugs;
+        }
+        // 같은 제목이 여러 번 나와도 슬러그 변환은 한 번만
+        Set<String> titles = new HashSet<>();
+        Matcher matcher = BACKLINK_PATTERN.matcher(content);
         while (matcher.find()) {
             String linkTitle = normalizeLinkTitle(matcher.group(1));
-            if (linkTitle.isBlank()) {
+            if (linkTitle.isBlank() || !titles.add(linkTitle)) {
                 continue;
             }
             String slug = SlugUtils.generate(linkTitle);
-            vaultNoteRepository
-                    .findBySlug(slug)
-                    .ifPresent(
-                            note -> {
-                                if (!links.contains(note.getId())) {
-                                    links.add(note.getId());
-                                }
-                            });
+            if (!slug.isEmpty()) {
+                slugs.add(slug);
+            }
         }
+        return slugs;
+    }
 
-        return links;
+    /** 슬러그 순서를 유지하며 ID로 바꿈. 서로 다른 제목이 같은 노트를 가리켜도 ID는 한 번만 */
+    static List<String> orderedIds(Set<String> slugs, Map<String, String> idsBySlug) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (String slug : slugs) {
+            String id = idsBySlug.get(slug);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return new ArrayList<>(ids);
     }
 
-    private String normalizeLinkTitle(String rawTitle) {
+    private static String normalizeLinkTitle(String rawTitle) {
         String title = rawTitle.trim();
         int pipeIndex = title.indexOf('|');
         if (pipeIndex >= 0) {
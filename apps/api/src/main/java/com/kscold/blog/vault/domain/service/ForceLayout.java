@@ -0,0 +1,348 @@
+package com.kscold.blog.vault.domain.service;
+
+import com.kscold.blog.vault.domain.model.GraphLayout;
+import com.kscold.blog.vault.domain.model.VaultGraph;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Fruchterman-Reingold 방식의 force-directed 레이아웃. 노드 사이 척력은 Barnes-Hut 사분 트리로 근사해 반복당 O(n log n), 링크
+ * 인력은 CSR을 따라 O(m)으로 계산함. 링크 방향은 무시하고, 원점으로 당기는 약한 중력으로 떨어진 컴포넌트가 흩어지지 않게 함.
+ *
+ * <p>노드별 변위 계산은 서로 독립이라 pool에서 병렬로 돌리고, 이동은 온도(최대 이동 거리)를 반복마다 낮추며 적용함.
+ */
+public final class ForceLayout {
+
+    /** 이상적인 링크 길이 (좌표 단위) */
+    public static final double LINK_DISTANCE = 30;
+
+    /** 셀 크기 / 거리가 이 값보다 작으면 셀 전체를 질량 중심 하나로 근사 */
+    private static final double THETA = 0.9;
+
+    private static final double GRAVITY = 0.1;
+    private static final double MIN_DISTANCE_SQ = 0.01;
+    private static final int MAX_DEPTH = 32;
+    private static final double GOLDEN_ANGLE = Math.PI * (3 - Math.sqrt(5));
+
+    private ForceLayout() {}
+
+    /** 나선 배치에서 시작해 처음부터 계산 */
+    public static GraphLayout layout(VaultGraph graph, int iterations, ForkJoinPool pool) {
+        int n = graph.nodeCount();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            spiral(i, x, y);
+        }
+        simulate(graph, x, y, iterations, LINK_DISTANCE * Math.sqrt(n) / 5, pool);
+        return new GraphLayout(graph, x, y);
+    }
+
+    /**
+     * 이전 레이아웃에서 이어서 계산 (warm start). 기존 노드는 이전 좌표에서, 새 노드는 이미 배치된 이웃의 평균 위치 근처에서 시작하고 낮은 온도로 짧게
+     * 돌리므로 바뀌지 않은 부분의 배치가 크게 흔들리지 않음.
+     */
+    public static GraphLayout relayout(
+            VaultGraph graph, GraphLayout previous, int iterations, ForkJoinPool pool) {
+        int n = graph.nodeCount();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        boolean[] placed = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            int old = previous.indexOf(graph, i);
+            if (old >= 0) {
+                x[i] = previous.x()[old];
+                y[i] = previous.y()[old];
+                placed[i] = true;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (!placed[i]) {
+                seed(graph, i, x, y, placed);
+            }
+        }
+        simulate(graph, x, y, iterations, LINK_DISTANCE, pool);
+        return new GraphLayout(graph, x, y);
+    }
+
+    /** 이전 레이아웃에 없던 노드 수 */
+    public static int countNew(VaultGraph graph, GraphLayout previous) {
+        int count = 0;
+        for (int i = 0; i < graph.nodeCount(); i++) {
+            if (previous.indexOf(graph, i) < 0) count++;
+        }
+        return count;
+    }
+
+    static void simulate(
+            VaultGraph graph,
+            double[] x,
+            double[] y,
+            int iterations,
+            double startTemperature,
+            ForkJoinPool pool) {
+        int n = x.length;
+        if (n == 0) return;
+        double[] dx = new double[n];
+        double[] dy = new double[n];
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            QuadTree tree = new QuadTree(x, y);
+            pool.submit(
+                            () ->
+                                    IntStream.range(0, n)
+                                            .parallel()
+                                            .forEach(i -> displace(graph, tree, i, x, y, dx, dy)))
+                    .join();
+            // 선형 냉각. 마지막 반복에서도 조금은 움직이도록 바닥을 둠
+            double temperature =
+                    Math.max(startTemperature * (1 - (double) iteration / iterations), 0.5);
+            for (int i = 0; i < n; i++) {
+                double length = Math.sqrt(dx[i] * dx[i] + dy[i] * dy[i]);
+                if (length > 0) {
+                    double scale = Math.min(length, temperature) / length;
+                    x[i] += dx[i] * scale;
+                    y[i] += dy[i] * scale;
+                }
+            }
+        }
+    }
+
+    /** 노드 i에 걸리는 힘(척력 + 인력 + 중력)을 dx · dy에 씀 */
+    private static void displace(
+            VaultGraph graph,
+            QuadTree tree,
+            int i,
+            double[] x,
+            double[] y,
+            double[] dx,
+            double[] dy) {
+        tree.repulse(i, LINK_DISTANCE * LINK_DISTANCE, dx, dy);
+        dx[i] -= GRAVITY * x[i];
+        dy[i] -= GRAVITY * y[i];
+        for (int k = 0, out = graph.outDegree(i); k < out; k++) {
+            attract(i, graph.target(i, k), x, y, dx, dy);
+        }
+        for (int k = 0, in = graph.inDegree(i); k < in; k++) {
+            attract(i, graph.source(i, k), x, y, dx, dy);
+        }
+    }
+
+    /** 링크 인력 (크기 d² / k): 방향 벡터에 d / k를 곱해 i를 v 쪽으로 당김 */
+    private static void attract(int i, int v, double[] x, double[] y, double[] dx, double[] dy) {
+        double ddx = x[i] - x[v];
+        double ddy = y[i] - y[v];
+        double f = Math.sqrt(ddx * ddx + ddy * ddy) / LINK_DISTANCE;
+        dx[i] -= ddx * f;
+        dy[i] -= ddy * f;
+    }
+
+    private static void spiral(int i, double[] x, double[] y) {
+        double radius = LINK_DISTANCE * Math.sqrt(0.5 + i);
+        double angle = i * GOLDEN_ANGLE;
+        x[i] = radius * Math.cos(angle);
+        y[i] = radius * Math.sin(angle);
+    }
+
+    /** 새 노드를 배치된 이웃들의 평균 위치 근처에 둠. 배치된 이웃이 없으면 나선 위치 */
+    private static void seed(VaultGraph graph, int i, double[] x, double[] y, boolean[] placed) {
+        double sumX = 0;
+        double sumY = 0;
+        int count = 0;
+        for (int k = 0, out = graph.outDegree(i); k < out; k++) {
+            int v = graph.target(i, k);
+            if (placed[v]) {
+                sumX += x[v];
+                sumY += y[v];
+                count++;
+            }
+        }
+        for (int k = 0, in = graph.inDegree(i); k < in; k++) {
+            int v = graph.source(i, k);
+            if (placed[v]) {
+                sumX += x[v];
+                sumY += y[v];
+                count++;
+            }
+        }
+        if (count == 0) {
+            spiral(i, x, y);
+        } else {
+            // 같은 이웃을 가진 새 노드끼리 겹치지 않도록 인덱스마다 다른 방향으로 조금 띄움
+            double angle = i * GOLDEN_ANGLE;
+            x[i] = sumX / count + LINK_DISTANCE / 2 * Math.cos(angle);
+            y[i] = sumY / count + LINK_DISTANCE / 2 * Math.sin(angle);
+        }
+        placed[i] = true;
+    }
+
+    /**
+     * Barnes-Hut 사분 트리. 노드 인덱스를 사분면별로 제자리 분할해 만들고, 셀은 배열로 들고 있음. 잎 셀은 order[start, end) 구간의 노드를 가짐
+     * (좌표가 겹쳐 MAX_DEPTH까지 나눠도 안 갈리면 여러 개).
+     */
+    static final class QuadTree {
+
+        private final double[] x;
+        private final double[] y;
+        private final int[] order;
+        private final int[] scratch;
+
+        private int cells;
+        private double[] centerX;
+        private double[] centerY;
+        private double[] size;
+        private int[] mass;
+        private int[] start;
+        private int[] firstChild;
+        private int[] childCount;
+
+        QuadTree(double[] x, double[] y) {
+            this.x = x;
+            this.y = y;
+            int n = x.length;
+            order = new int[n];
+            scratch = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            int capacity = 2 * n + 16;
+            centerX = new double[capacity];
+            centerY = new double[capacity];
+            size = new double[capacity];
+            mass = new int[capacity];
+            start = new int[capacity];
+            firstChild = new int[capacity];
+            childCount = new int[capacity];
+
+            double minX = Double.POSITIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                minX = Math.min(minX, x[i]);
+                minY = Math.min(minY, y[i]);
+                maxX = Math.max(maxX, x[i]);
+                maxY = Math.max(maxY, y[i]);
+            }
+            int root = allocate();
+            build(root, 0, n, minX, minY, Math.max(Math.max(maxX - minX, maxY - minY), 1e-9), 0);
+        }
+
+        /** 노드 i가 다른 모든 노드에서 받는 척력 (크기 k² / d) 합을 dx[i] · dy[i]에 씀 */
+        void repulse(int i, double k2, double[] dx, double[] dy) {
+            double fx = 0;
+            double fy = 0;
+            int[] stack = new int[3 * MAX_DEPTH + 4];
+            int top = 0;
+            stack[top++] = 0;
+            while (top > 0) {
+                int cell = stack[--top];
+                if (childCount[cell] == 0) {
+                    for (int p = start[cell], end = p + mass[cell]; p < end; p++) {
+                        int j = order[p];
+                        if (j == i) continue;
+                        double ddx = x[i] - x[j];
+                        double ddy = y[i] - y[j];
+                        double d2 = ddx * ddx + ddy * ddy;
+                        if (d2 < MIN_DISTANCE_SQ) {
+                            // 좌표가 겹친 두 노드는 인덱스 순서로 방향을 정해 떼어 놓음
+                            ddx = i < j ? -0.1 : 0.1;
+                            ddy = ddx;
+                            d2 = MIN_DISTANCE_SQ;
+                        }
+                        fx += ddx * k2 / d2;
+                        fy += ddy * k2 / d2;
+                    }
+                    continue;
+                }
+                double ddx = x[i] - centerX[cell];
+                double ddy = y[i] - centerY[cell];
+                double d2 = ddx * ddx + ddy * ddy;
+                if (size[cell] * size[cell] < THETA * THETA * d2) {
+                    double f = k2 * mass[cell] / d2;
+                    fx += ddx * f;
+                    fy += ddy * f;
+                } else {
+                    for (int c = firstChild[cell], e = c + childCount[cell]; c < e; c++) {
+                        stack[top++] = c;
+                    }
+                }
+            }
+            dx[i] = fx;
+            dy[i] = fy;
+        }
+
+        private void build(
+                int cell, int from, int to, double minX, double minY, double width, int depth) {
+            start[cell] = from;
+            mass[cell] = to - from;
+            size[cell] = width;
+            double sumX = 0;
+            double sumY = 0;
+            for (int p = from; p < to; p++) {
+                sumX += x[order[p]];
+                sumY += y[order[p]];
+            }
+            centerX[cell] = sumX / (to - from);
+            centerY[cell] = sumY / (to - from);
+            if (to - from <= 1 || depth >= MAX_DEPTH) return;
+
+            // 사분면별 개수 -> 시작 위치 -> scratch로 흩은 뒤 되돌려 씀
+            double half = width / 2;
+            double midX = minX + half;
+            double midY = minY + half;
+            int[] counts = new int[4];
+            for (int p = from; p < to; p++) {
+                counts[quadrant(order[p], midX, midY)]++;
+            }
+            int[] cursor = new int[4];
+            cursor[0] = from;
+            for (int q = 1; q < 4; q++) {
+                cursor[q] = cursor[q - 1] + counts[q - 1];
+            }
+            int[] bounds = Arrays.copyOf(cursor, 4);
+            for (int p = from; p < to; p++) {
+                int node = order[p];
+                scratch[cursor[quadrant(node, midX, midY)]++] = node;
+            }
+            System.arraycopy(scratch, from, order, from, to - from);
+
+            int children = 0;
+            for (int q = 0; q < 4; q++) {
+                if (counts[q] > 0) children++;
+            }
+            int first = cells;
+            for (int c = 0; c < children; c++) {
+                allocate();
+            }
+            firstChild[cell] = first;
+            childCount[cell] = children;
+            int child = first;
+            for (int q = 0; q < 4; q++) {
+                if (counts[q] == 0) continue;
+                double childX = (q & 1) == 0 ? minX : midX;
+                double childY = (q & 2) == 0 ? minY : midY;
+                build(child++, bounds[q], bounds[q] + counts[q], childX, childY, half, depth + 1);
+            }
+        }
+
+        private int quadrant(int node, double midX, double midY) {
+            return (x[node] < midX ? 0 : 1) | (y[node] < midY ? 0 : 2);
+        }
+
+        private int allocate() {
+            if (cells == mass.length) {
+                int capacity = cells * 2;
+                centerX = Arrays.copyOf(centerX, capacity);
+                centerY = Arrays.copyOf(centerY, capacity);
+                size = Arrays.copyOf(size, capacity);
+                mass = Arrays.copyOf(mass, capacity);
+                start = Arrays.copyOf(start, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                childCount = Arrays.copyOf(childCount, capacity);
+            }
+            childCount[cells] = 0;
+            return cells++;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.kscold.blog.vault.domain.service;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+/**
+ * 노트 본문의 MinHash 서명. 본문을 정규화(소문자 · 글자와 숫자 외 공백 하나로)한 뒤 길이 {@value #SHINGLE_LENGTH} 문자 shingle 집합을
+ * 만들고, 해시 {@value #SIGNATURE_SIZE}개 각각의 최솟값을 서명으로 삼음. 두 서명에서 같은 자리 값이 일치하는 비율이 shingle 집합 Jaccard
+ * 유사도의 추정치가 됨.
+ *
+ * <p>문자 단위 shingle이라 띄어쓰기가 적은 한글 본문에도 그대로 쓸 수 있음. LSH용으로 서명을 {@value #BANDS}개 밴드 × {@value
+ * #ROWS}행으로 나눠 밴드 키를 만듦 (유사도 약 0.42에서 후보가 될 확률 1/2).
+ */
+public final class MinHash {
+
+    public static final int SIGNATURE_SIZE = 128;
+    public static final int BANDS = 32;
+    public static final int ROWS = SIGNATURE_SIZE / BANDS;
+    static final int SHINGLE_LENGTH = 5;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /** 서명 자리별 해시 시드. 저장된 서명과 호환되도록 고정 시드로 만듦 */
+    private static final long[] SEEDS =
+            new SplittableRandom(0x5EEDL).longs(SIGNATURE_SIZE).toArray();
+
+    private MinHash() {}
+
+    /** 본문의 서명. shingle을 만들 수 없을 만큼 짧으면 null */
+    public static int[] signature(String content) {
+        long[] shingles = shingles(content);
+        if (shingles.length == 0) return null;
+        int[] signature = new int[SIGNATURE_SIZE];
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            long seed = SEEDS[i];
+            long min = Long.MAX_VALUE;
+            for (long shingle : shingles) {
+                min = Math.min(min, mix(shingle ^ seed) >>> 1);
+            }
+            // 63비트 최솟값의 상위 32비트. 단조 변환이라 최솟값이 같으면 값도 같음
+            signature[i] = (int) (min >>> 31);
+        }
+        return signature;
+    }
+
+    /** 두 서명의 추정 Jaccard 유사도 (일치하는 자리 비율) */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (a[i] == b[i]) equal++;
+        }
+        return (double) equal / SIGNATURE_SIZE;
+    }
+
+    /** band번째 밴드의 LSH 버킷 키. 밴드 번호를 섞어 밴드끼리 키가 겹치지 않게 함 */
+    public static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS, end = row + ROWS; row < end; row++) {
+            key = mix(key * 31 + signature[row]);
+        }
+        return key;
+    }
+
+    /** 정규화한 본문의 shingle 해시 (정렬 · 중복 제거) */
+    static long[] shingles(String content) {
+        if (content == null) return new long[0];
+        String text = NON_WORD.matcher(content.toLowerCase()).replaceAll(" ").strip();
+        int count = text.length() - SHINGLE_LENGTH + 1;
+        if (count <= 0) return new long[0];
+        long[] hashes = new long[count];
+        for (int start = 0; start < count; start++) {
+            long hash = 0;
+            for (int i = start; i < start + SHINGLE_LENGTH; i++) {
+                hash = hash * 0x100000001B3L + text.charAt(i);
+            }
+            hashes[start] = mix(hash);
+        }
+        Arrays.sort(hashes);
+        int unique = 0;
+        for (int i = 0; i < hashes.length; i++) {
+            if (i == 0 || hashes[i] != hashes[i - 1]) {
+                hashes[unique++] = hashes[i];
+            }
+        }
+        return Arrays.copyOf(hashes, unique);
+    }
+
+    /** 저장용 바이트 (서명 없음은 빈 배열 — 계산은 끝났음을 표시) */
+    public static byte[] encode(int[] signature) {
+        if (signature == null) return new byte[0];
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    /** encode의 역. 비었거나 길이가 맞지 않으면 null */
+    public static int[] decode(byte[] bytes) {
+        if (bytes == null || bytes.length != SIGNATURE_SIZE * Integer.BYTES) return null;
+        int[] signature = new int[SIGNATURE_SIZE];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    /** SplitMix64 마무리 단계 */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
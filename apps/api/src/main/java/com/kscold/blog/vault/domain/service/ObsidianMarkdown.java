@@ -0,0 +1,91 @@
+package com.kscold.blog.vault.domain.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Obsidian 마크다운 파일을 노트 본문과 태그로 나눔. 맨 앞 YAML frontmatter(--- 로 감싼 블록)는 본문에서 빼고, 그 안의 tags(또는 tag) 값만
+ * 읽음. 인라인 목록(tags: [a, b]), 쉼표 목록(tags: a, b), 블록 목록(- a) 형식을 지원하며 그 밖의 키는 무시함.
+ */
+public final class ObsidianMarkdown {
+
+    private static final String FENCE = "---";
+
+    private ObsidianMarkdown() {}
+
+    /** 본문과 frontmatter 태그 */
+    public record ParsedNote(String content, List<String> tags) {}
+
+    public static ParsedNote parse(String raw) {
+        String text = raw.startsWith("\uFEFF") ? raw.substring(1) : raw;
+        if (!text.startsWith(FENCE + "\n") && !text.startsWith(FENCE + "\r\n")) {
+            return new ParsedNote(text, List.of());
+        }
+        int bodyStart = text.indexOf('\n') + 1;
+        int close = findClosingFence(text, bodyStart);
+        if (close < 0) {
+            return new ParsedNote(text, List.of());
+        }
+        String frontmatter = text.substring(bodyStart, close);
+        int next = text.indexOf('\n', close);
+        String content = next < 0 ? "" : text.substring(next + 1);
+        return new ParsedNote(content.stripLeading(), tags(frontmatter));
+    }
+
+    /** from부터 줄 단위로 보며 --- 한 줄의 시작 위치. 없으면 -1 */
+    private static int findClosingFence(String text, int from) {
+        int lineStart = from;
+        while (lineStart < text.length()) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            int end = lineEnd < 0 ? text.length() : lineEnd;
+            if (text.substring(lineStart, end).strip().equals(FENCE)) {
+                return lineStart;
+            }
+            if (lineEnd < 0) break;
+            lineStart = lineEnd + 1;
+        }
+        return -1;
+    }
+
+    private static List<String> tags(String frontmatter) {
+        Set<String> tags = new LinkedHashSet<>();
+        boolean inList = false;
+        for (String line : frontmatter.split("\r?\n")) {
+            String trimmed = line.strip();
+            if (inList && trimmed.startsWith("- ")) {
+                addTag(tags, trimmed.substring(2));
+                continue;
+            }
+            inList = false;
+            int colon = trimmed.indexOf(':');
+            if (colon < 0) continue;
+            String key = trimmed.substring(0, colon).strip();
+            if (!key.equals("tags") && !key.equals("tag")) continue;
+            String value = trimmed.substring(colon + 1).strip();
+            if (value.isEmpty()) {
+                inList = true;
+                continue;
+            }
+            if (value.startsWith("[") && value.endsWith("]")) {
+                value = value.substring(1, value.length() - 1);
+            }
+            for (String tag : value.split(",")) {
+                addTag(tags, tag);
+            }
+        }
+        return new ArrayList<>(tags);
+    }
+
+    private static void addTag(Set<String> tags, String raw) {
+        String tag = raw.strip();
+        if (tag.length() >= 2
+                && (tag.startsWith("\"") && tag.endsWith("\"")
+                        || tag.startsWith("'") && tag.endsWith("'"))) {
+            tag = tag.substring(1, tag.length() - 1).strip();
+        }
+        if (tag.startsWith("#")) tag = tag.substring(1);
+        if (!tag.isEmpty()) tags.add(tag);
+    }
+}
@@ -0,0 +1,157 @@
+package com.kscold.blog.vault.domain.service;
+
+import com.kscold.blog.vault.domain.model.VaultGraph;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+/** {@link VaultGraph} CSR 배열 위에서 도는 그래프 알고리즘. 노드는 모두 int 인덱스로 다루고 박싱된 컬렉션을 만들지 않음. */
+public final class VaultGraphAlgorithms {
+
+    private VaultGraphAlgorithms() {}
+
+    /**
+     * PageRank (pull 방식). 각 반복에서 노드별 새 점수는 백링크 출발 노드의 점수/나가는 링크 수 합으로 구하며, 노드 단위로 독립이라 pool에서 병렬로
+     * 계산함. 나가는 링크가 없는 노드의 점수는 전체에 고르게 나눔.
+     *
+     * @return 노드 인덱스별 점수 (합 1)
+     */
+    public static double[] pageRank(
+            VaultGraph graph,
+            double damping,
+            int maxIterations,
+            double tolerance,
+            ForkJoinPool pool) {
+        int n = graph.nodeCount();
+        if (n == 0) return new double[0];
+
+        double[] rank = new double[n];
+        double[] next = new double[n];
+        double[] share = new double[n];
+        Arrays.fill(rank, 1.0 / n);
+
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            double dangling = 0;
+            for (int u = 0; u < n; u++) {
+                int out = graph.outDegree(u);
+                if (out == 0) {
+                    dangling += rank[u];
+                    share[u] = 0;
+                } else {
+                    share[u] = rank[u] / out;
+                }
+            }
+            double base = (1 - damping) / n + damping * dangling / n;
+            double[] current = rank;
+            double[] updated = next;
+            IntToDoubleFunction step =
+                    v -> pull(graph, v, share, current, updated, base, damping);
+            double delta =
+                    pool.submit(() -> IntStream.range(0, n).parallel().mapToDouble(step).sum())
+                            .join();
+            next = current;
+            rank = updated;
+            if (delta < tolerance) break;
+        }
+        return rank;
+    }
+
+    /** start에서 링크 방향과 무관하게 depth 홉 이내의 노드를 BFS 순서로 반환 (start 포함, 최대 maxNodes개) */
+    public static int[] neighborhood(VaultGraph graph, int start, int depth, int maxNodes) {
+        int n = graph.nodeCount();
+        int limit = Math.min(n, Math.max(1, maxNodes));
+        int[] distance = new int[n];
+        Arrays.fill(distance, -1);
+        int[] queue = new int[limit];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        distance[start] = 0;
+        while (head < tail && tail < limit) {
+            int u = queue[head++];
+            if (distance[u] == depth) continue;
+            for (int k = 0, out = graph.outDegree(u); k < out && tail < limit; k++) {
+                tail = visit(graph.target(u, k), u, distance, queue, tail);
+            }
+            for (int k = 0, in = graph.inDegree(u); k < in && tail < limit; k++) {
+                tail = visit(graph.source(u, k), u, distance, queue, tail);
+            }
+        }
+        return Arrays.copyOf(queue, tail);
+    }
+
+    /**
+     * from에서 to까지 링크 수가 가장 적은 경로 (BFS). directed면 나가는 링크만 따라가고, 아니면 백링크도 따라감.
+     *
+     * @return 경로의 노드 인덱스 (from, ..., to). 닿지 않으면 빈 배열
+     */
+    public static int[] shortestPath(VaultGraph graph, int from, int to, boolean directed) {
+        if (from == to) return new int[] {from};
+        int n = graph.nodeCount();
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        parent[from] = from;
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = from;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int k = 0, out = graph.outDegree(u); k < out; k++) {
+                int v = graph.target(u, k);
+                if (parent[v] < 0) {
+                    parent[v] = u;
+                    if (v == to) return trace(parent, from, to);
+                    queue[tail++] = v;
+                }
+            }
+            if (directed) continue;
+            for (int k = 0, in = graph.inDegree(u); k < in; k++) {
+                int v = graph.source(u, k);
+                if (parent[v] < 0) {
+                    parent[v] = u;
+                    if (v == to) return trace(parent, from, to);
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return new int[0];
+    }
+
+    /** v의 새 점수를 updated에 쓰고 이전 점수와의 차이를 반환 */
+    private static double pull(
+            VaultGraph graph,
+            int v,
+            double[] share,
+            double[] current,
+            double[] updated,
+            double base,
+            double damping) {
+        double sum = 0;
+        for (int k = 0, in = graph.inDegree(v); k < in; k++) {
+            sum += share[graph.source(v, k)];
+        }
+        updated[v] = base + damping * sum;
+        return Math.abs(updated[v] - current[v]);
+    }
+
+    private static int visit(int v, int from, int[] distance, int[] queue, int tail) {
+        if (distance[v] >= 0) return tail;
+        distance[v] = distance[from] + 1;
+        queue[tail] = v;
+        return tail + 1;
+    }
+
+    private static int[] trace(int[] parent, int from, int to) {
+        int length = 1;
+        for (int v = to; v != from; v = parent[v]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int v = to, i = length - 1; i >= 0; v = parent[v], i--) {
+            path[i] = v;
+        }
+        return path;
+    }
+}
@@ -0,0 +1,78 @@
+package com.kscold.blog.analytics.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kscold.blog.blog.application.port.in.PostUseCase;
+import com.kscold.blog.shared.domain.event.PageRouteChangedEvent;
+import com.kscold.blog.shared.domain.event.PageRouteChangedEvent.RouteType;
+import com.kscold.blog.social.application.port.in.FeedUseCase;
+import com.kscold.blog.vault.application.port.in.VaultNoteUseCase;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PageExistenceIndexTest {
+
+    @Mock private PostUseCase postUseCase;
+    @Mock private FeedUseCase feedUseCase;
+    @Mock private VaultNoteUseCase vaultNoteUseCase;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private PageExistenceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PageExistenceIndex(postUseCase, feedUseCase, vaultNoteUseCase, now::get);
+        when(postUseCase.getAllSlugs()).thenReturn(List.of("hello"));
+        when(feedUseCase.getAllIds()).thenReturn(List.of("f1"));
+        when(vaultNoteUseCase.getAllSlugs()).thenReturn(List.of("note"));
+        index.reload();
+    }
+
+    @Test
+    @DisplayName("시나리오: 적재된 키는 DB 조회 없이 존재로 판정된다")
+    void warmedKeysNeedNoReads() {
+        assertThat(index.exists(RouteType.POST, "hello")).isTrue();
+        assertThat(index.exists(RouteType.FEED, "f1")).isTrue();
+        assertThat(index.exists(RouteType.VAULT_NOTE, "note")).isTrue();
+
+        verify(postUseCase, never()).existsBySlug("hello");
+        verify(feedUseCase, never()).existsById("f1");
+        verify(vaultNoteUseCase, never()).existsBySlug("note");
+    }
+
+    @Test
+    @DisplayName("시나리오: 없는 경로는 한 번만 DB에 확인하고 만료 전까지 부정 캐시로 답한다")
+    void missingKeysAreNegativelyCached() {
+        assertThat(index.exists(RouteType.POST, "junk")).isFalse();
+        assertThat(index.exists(RouteType.POST, "junk")).isFalse();
+        verify(postUseCase, times(1)).existsBySlug("junk");
+
+        now.addAndGet(PageExistenceIndex.NEGATIVE_TTL_MILLIS + 1);
+        assertThat(index.exists(RouteType.POST, "junk")).isFalse();
+        verify(postUseCase, times(2)).existsBySlug("junk");
+    }
+
+    @Test
+    @DisplayName("시나리오: slug 변경 이벤트는 이전 키를 지우고 새 키를 부정 캐시에서 꺼낸다")
+    void routeEventsUpdateIndex() {
+        assertThat(index.exists(RouteType.VAULT_NOTE, "renamed")).isFalse();
+
+        index.onRouteChanged(
+                PageRouteChangedEvent.renamed(RouteType.VAULT_NOTE, "note", "renamed"));
+
+        assertThat(index.exists(RouteType.VAULT_NOTE, "renamed")).isTrue();
+        assertThat(index.exists(RouteType.VAULT_NOTE, "note")).isFalse();
+        assertThat(index.negativeCacheSize()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,161 @@
+package com.kscold.blog.analytics.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kscold.blog.analytics.domain.model.PageVisitIngestionStats;
+import com.kscold.blog.analytics.domain.model.PageVisitLog;
+import com.kscold.blog.analytics.domain.model.PageVisitOverflowPolicy;
+import com.kscold.blog.analytics.domain.model.PageVisitRollup;
+import com.kscold.blog.analytics.domain.port.out.PageVisitIngestionSettings;
+import com.kscold.blog.analytics.domain.port.out.PageVisitLogRepository;
+import com.kscold.blog.analytics.domain.port.out.PageVisitRollupRepository;
+import com.kscold.blog.analytics.domain.port.out.PageVisitSketchRepository;
+import com.kscold.blog.identity.application.port.in.UserQueryPort;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PageVisitIngestionPipelineTest {
+
+    @Mock private PageVisitLogRepository pageVisitLogRepository;
+
+    @Mock private PageVisitRollupRepository pageVisitRollupRepository;
+
+    @Mock private PageVisitSketchRepository pageVisitSketchRepository;
+
+    @Mock private PageExistenceChecker pageExistenceChecker;
+
+    @Mock private UserQueryPort userQueryPort;
+
+    private PageVisitIngestionPipeline pipeline(int capacity, PageVisitOverflowPolicy policy) {
+        return pipeline(capacity, 100, policy);
+    }
+
+    private PageVisitIngestionPipeline pipeline(
+            int capacity, int batchSize, PageVisitOverflowPolicy policy) {
+        PageVisitIngestionSettings settings =
+                new PageVisitIngestionSettings() {
+                    @Override
+                    public int getQueueCapacity() {
+                        return capacity;
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batchSize;
+                    }
+
+                    @Override
+                    public PageVisitOverflowPolicy getOverflowPolicy() {
+                        return policy;
+                    }
+                };
+        return new PageVisitIngestionPipeline(
+                pageVisitLogRepository,
+                pageVisitRollupRepository,
+                pageVisitSketchRepository,
+                pageExistenceChecker,
+                userQueryPort,
+                settings);
+    }
+
+    @Test
+    @DisplayName("시나리오: 모인 방문은 사용자 이름을 한 번에 조회해 insertMany로 저장된다")
+    @SuppressWarnings("unchecked")
+    void drainResolvesUsersInBatch() {
+        PageVisitIngestionPipeline pipeline = pipeline(10, PageVisitOverflowPolicy.DROP_OLDEST);
+        when(pageExistenceChecker.exists(anyString())).thenReturn(true);
+        when(userQueryPort.getUsersByIds(List.of("user-1")))
+                .thenReturn(
+                        Map.of(
+                                "user-1",
+                                new UserQueryPort.UserInfo(
+                                        "user-1", "kscold", "김승찬", null, false, null)));
+
+        pipeline.offer("/blog", "1.1.1.1", "user-1");
+        pipeline.offer("/blog", "2.2.2.2", null);
+        pipeline.offer("/feed", "1.1.1.1", "user-1");
+
+        assertThat(pipeline.drain()).isEqualTo(3);
+
+        ArgumentCaptor<List<PageVisitLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pageVisitLogRepository).insertAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(PageVisitLog::getUsername)
+                .containsExactly("김승찬", null, "김승찬");
+        // 같은 배치의 같은 경로는 한 번만 검증
+        verify(pageExistenceChecker, times(1)).exists("/blog");
+
+        ArgumentCaptor<Map<PageVisitRollup.Key, Long>> rollups = ArgumentCaptor.forClass(Map.class);
+        verify(pageVisitRollupRepository).increment(rollups.capture());
+        assertThat(rollups.getValue().values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("시나리오: 주기마다 한 배치만 저장하고 나머지는 다음 주기로 넘긴다")
+    void drainsOneBatchPerTick() {
+        PageVisitIngestionPipeline pipeline = pipeline(10, 2, PageVisitOverflowPolicy.DROP_OLDEST);
+        when(pageExistenceChecker.exists(anyString())).thenReturn(true);
+
+        pipeline.offer("/blog", "1.1.1.1", null);
+        pipeline.offer("/feed", "1.1.1.1", null);
+        pipeline.offer("/vault", "1.1.1.1", null);
+
+        assertThat(pipeline.drainBatch()).isEqualTo(2);
+        assertThat(pipeline.stats().queueDepth()).isEqualTo(1);
+        assertThat(pipeline.drainBatch()).isEqualTo(1);
+        assertThat(pipeline.drainBatch()).isZero();
+        verify(pageVisitLogRepository, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("시나리오: 큐가 가득 차면 가장 오래된 방문을 버리고 버린 수를 집계한다")
+    void dropOldestWhenFull() {
+        PageVisitIngestionPipeline pipeline = pipeline(2, PageVisitOverflowPolicy.DROP_OLDEST);
+
+        pipeline.offer("/blog", "ip", null);
+        pipeline.offer("/feed", "ip", null);
+        assertThat(pipeline.offer("/vault", "ip", null)).isTrue();
+
+        PageVisitIngestionStats stats = pipeline.stats();
+        assertThat(stats.queueDepth()).isEqualTo(2);
+        assertThat(stats.dropped()).isEqualTo(1);
+        assertThat(stats.accepted()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("시나리오: DROP_NEWEST면 새 방문을 버리고 쌓인 방문은 그대로 둔다")
+    void dropNewestWhenFull() {
+        PageVisitIngestionPipeline pipeline = pipeline(1, PageVisitOverflowPolicy.DROP_NEWEST);
+
+        pipeline.offer("/blog", "ip", null);
+
+        assertThat(pipeline.offer("/feed", "ip", null)).isFalse();
+        assertThat(pipeline.stats().dropped()).isEqualTo(1);
+        assertThat(pipeline.stats().queueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시나리오: 실존하지 않는 경로는 저장하지 않고 rejected로 집계한다")
+    void rejectsMissingPages() {
+        PageVisitIngestionPipeline pipeline = pipeline(10, PageVisitOverflowPolicy.DROP_OLDEST);
+        when(pageExistenceChecker.exists("/blog/nope")).thenReturn(false);
+
+        pipeline.offer("/blog/nope", "ip", null);
+
+        assertThat(pipeline.drain()).isZero();
+        assertThat(pipeline.stats().rejected()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,55 @@
+package com.kscold.blog.analytics.application.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.kscold.blog.analytics.domain.port.out.PageVisitBackfillMarkerRepository;
+import com.kscold.blog.analytics.domain.port.out.PageVisitLogRepository;
+import com.kscold.blog.analytics.domain.port.out.PageVisitRollupRepository;
+import com.kscold.blog.analytics.domain.port.out.PageVisitSketchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PageVisitRollupBackfillTest {
+
+    @Mock private PageVisitLogRepository pageVisitLogRepository;
+    @Mock private PageVisitRollupRepository pageVisitRollupRepository;
+    @Mock private PageVisitSketchRepository pageVisitSketchRepository;
+    @Mock private PageVisitBackfillMarkerRepository backfillMarkerRepository;
+
+    @InjectMocks private PageVisitRollupBackfill backfill;
+
+    @Test
+    @DisplayName("시나리오: 완료 표시가 없으면 수집 파이프라인이 이미 롤업을 썼더라도 90일 백필을 돌리고 표시를 남긴다")
+    void runsUntilMarked() {
+        when(backfillMarkerRepository.isDone(PageVisitRollupBackfill.INITIAL_BACKFILL))
+                .thenReturn(false);
+
+        backfill.run(null);
+
+        verify(pageVisitRollupRepository, times(PageVisitRollupBackfill.RAW_RETENTION_DAYS))
+                .replace(any());
+        verify(backfillMarkerRepository).markDone(PageVisitRollupBackfill.INITIAL_BACKFILL);
+    }
+
+    @Test
+    @DisplayName("시나리오: 완료 표시가 있으면 기동 시 백필을 건너뛴다")
+    void skipsWhenMarked() {
+        when(backfillMarkerRepository.isDone(PageVisitRollupBackfill.INITIAL_BACKFILL))
+                .thenReturn(true);
+
+        backfill.run(null);
+
+        verifyNoInteractions(pageVisitLogRepository, pageVisitRollupRepository);
+        verify(backfillMarkerRepository, never()).markDone(any());
+    }
+}
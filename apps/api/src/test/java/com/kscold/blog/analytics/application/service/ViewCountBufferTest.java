@@ -0,0 +1,66 @@
+package com.kscold.blog.analytics.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.kscold.blog.analytics.domain.port.out.ViewLogRepository;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    @Mock private ViewLogRepository viewLogRepository;
+
+    @InjectMocks private ViewCountBuffer viewCountBuffer;
+
+    @Test
+    @DisplayName("시나리오: 모인 조회수는 컬렉션마다 한 번의 일괄 $inc로 반영된다")
+    void flushGroupsIncrementsPerCollection() {
+        viewCountBuffer.add("posts", "p1");
+        viewCountBuffer.add("posts", "p1");
+        viewCountBuffer.add("posts", "p2");
+        viewCountBuffer.add("feeds", "f1");
+
+        int flushed = viewCountBuffer.flush();
+
+        assertThat(flushed).isEqualTo(4);
+        assertThat(viewCountBuffer.pendingCount()).isZero();
+        verify(viewLogRepository).incrementViewsBatch("posts", Map.of("p1", 2, "p2", 1));
+        verify(viewLogRepository).incrementViewsBatch("feeds", Map.of("f1", 1));
+    }
+
+    @Test
+    @DisplayName("시나리오: 비어 있으면 DB에 아무것도 보내지 않는다")
+    void flushSkipsWhenEmpty() {
+        assertThat(viewCountBuffer.flush()).isZero();
+
+        verify(viewLogRepository, never()).incrementViewsBatch(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("시나리오: 일괄 반영이 실패하면 증가분을 버리지 않고 다음 주기에 다시 보낸다")
+    void flushRequeuesOnFailure() {
+        viewCountBuffer.add("posts", "p1");
+        doThrow(new IllegalStateException("mongo down"))
+                .when(viewLogRepository)
+                .incrementViewsBatch(eq("posts"), anyMap());
+
+        assertThat(viewCountBuffer.flush()).isZero();
+        assertThat(viewCountBuffer.pendingCount()).isEqualTo(1);
+
+        viewCountBuffer.flush();
+        verify(viewLogRepository, times(2)).incrementViewsBatch("posts", Map.of("p1", 1));
+    }
+}
@@ -0,0 +1,73 @@
+package com.kscold.blog.analytics.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HyperLogLogTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 1_000, 50_000, 300_000})
+    @DisplayName("시나리오: 추정 고유 방문자수는 정확한 값과 표준 오차의 3배 이내로 맞는다")
+    void estimateMatchesExactCount(int visits) {
+        Random random = new Random(visits);
+        HyperLogLog sketch = new HyperLogLog();
+        Set<String> exact = new HashSet<>();
+        for (int i = 0; i < visits; i++) {
+            // 같은 방문자의 재방문이 섞이도록 범위를 방문수보다 좁게 잡음
+            String ipHash = Long.toHexString(random.nextLong(visits * 2L / 3 + 1));
+            sketch.add(ipHash);
+            exact.add(ipHash);
+        }
+
+        // p=12 표준 오차 1.04/sqrt(4096) ≈ 1.6%, 3σ ≈ 5%
+        assertThat((double) sketch.estimate())
+                .isCloseTo(exact.size(), within(exact.size() * 0.05 + 1));
+    }
+
+    @Test
+    @DisplayName("시나리오: 날짜별 스케치를 합치면 기간 전체의 고유 방문자수가 나오고 겹친 방문자는 한 번만 센다")
+    void mergeCountsUnionOnce() {
+        HyperLogLog monday = new HyperLogLog();
+        HyperLogLog tuesday = new HyperLogLog();
+        for (int i = 0; i < 20_000; i++) monday.add("visitor-" + i);
+        for (int i = 10_000; i < 30_000; i++) tuesday.add("visitor-" + i);
+
+        long union = monday.merge(tuesday).estimate();
+
+        assertThat((double) union).isCloseTo(30_000, within(30_000 * 0.05));
+    }
+
+    @Test
+    @DisplayName("시나리오: 방문이 적은 스케치는 희소 형식으로 작게 저장되고 복원해도 추정값이 같다")
+    void serializationRoundTrips() {
+        HyperLogLog small = new HyperLogLog();
+        for (int i = 0; i < 20; i++) small.add("visitor-" + i);
+        HyperLogLog large = new HyperLogLog();
+        for (int i = 0; i < 100_000; i++) large.add("visitor-" + i);
+
+        byte[] smallBytes = small.toBytes();
+        byte[] largeBytes = large.toBytes();
+
+        assertThat(smallBytes.length).isLessThan(100);
+        assertThat(largeBytes.length).isEqualTo(2 + 4096);
+        assertThat(HyperLogLog.fromBytes(smallBytes).estimate()).isEqualTo(small.estimate());
+        assertThat(HyperLogLog.fromBytes(largeBytes).estimate()).isEqualTo(large.estimate());
+    }
+
+    @Test
+    @DisplayName("시나리오: 같은 방문자를 여러 번 넣어도 추정값이 늘지 않는다")
+    void duplicatesDoNotInflate() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 1_000; i++) sketch.add("same-visitor");
+
+        assertThat(sketch.estimate()).isEqualTo(1);
+    }
+}
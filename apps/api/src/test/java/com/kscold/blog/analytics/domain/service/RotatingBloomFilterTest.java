@@ -0,0 +1,63 @@
+package com.kscold.blog.analytics.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RotatingBloomFilterTest {
+
+    private static final long WINDOW = TimeUnit.HOURS.toMillis(1);
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+
+    @Test
+    @DisplayName("시나리오: window 안의 재조회는 중복으로 걸러지고 window가 지나면 다시 집계된다")
+    void duplicatesExpireAfterWindow() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(WINDOW, 4, 10_000, 0.001, now::get);
+
+        assertThat(filter.putIfAbsent("POST:p1:ip")).isTrue();
+        assertThat(filter.putIfAbsent("POST:p1:ip")).isFalse();
+
+        now.addAndGet(WINDOW - 1);
+        assertThat(filter.putIfAbsent("POST:p1:ip")).isFalse();
+
+        // 세대 하나 길이만큼 더 지나면 확실히 만료
+        now.addAndGet(WINDOW / 4 + 1);
+        assertThat(filter.putIfAbsent("POST:p1:ip")).isTrue();
+    }
+
+    @Test
+    @DisplayName("시나리오: 예상 용량만큼 채워도 처음 보는 키의 오탐률은 목표 근처에 머문다")
+    void falsePositiveRateStaysNearTarget() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(WINDOW, 1, 50_000, 0.01, now::get);
+        for (int i = 0; i < 50_000; i++) {
+            filter.putIfAbsent("POST:seen-" + i + ":ip");
+        }
+
+        int falsePositives = 0;
+        int probes = 50_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("POST:unseen-" + i + ":ip")) falsePositives++;
+        }
+
+        double observed = (double) falsePositives / probes;
+        assertThat(observed).isLessThan(0.02);
+        assertThat(filter.estimatedFalsePositiveRate()).isLessThan(0.03);
+        assertThat(filter.memoryBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("시나리오: 오래 비어 있다가 들어와도 만료된 세대는 모두 비워진다")
+    void longIdleClearsAllGenerations() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(WINDOW, 4, 10_000, 0.001, now::get);
+        filter.putIfAbsent("FEED:f1:ip");
+
+        now.addAndGet(WINDOW * 10);
+
+        assertThat(filter.mightContain("FEED:f1:ip")).isFalse();
+        assertThat(filter.estimatedFalsePositiveRate()).isZero();
+    }
+}
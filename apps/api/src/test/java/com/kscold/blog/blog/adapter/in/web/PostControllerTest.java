@@ -1,17 +1,23 @@
 package com.kscold.blog.blog.adapter.in.web;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.kscold.blog.analytics.application.service.ViewCounter;
 import com.kscold.blog.blog.adapter.in.web.dto.response.PostResponse;
+import com.kscold.blog.blog.adapter.in.web.dto.response.PostSummaryResponse;
 import com.kscold.blog.blog.application.port.in.AccessRequestUseCase;
 import com.kscold.blog.blog.application.port.in.CategoryUseCase;
 import com.kscold.blog.blog.application.port.in.PostUseCase;
 import com.kscold.blog.blog.domain.model.Category;
+import com.kscold.blog.blog.domain.model.CategorySnapshot;
 import com.kscold.blog.blog.domain.model.Post;
+import com.kscold.blog.blog.domain.model.PostSummary;
 import com.kscold.blog.shared.web.ApiResponse;
 import com.kscold.blog.shared.web.ClientIdentifierResolver;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +29,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -75,7 +84,7 @@ class PostControllerTest {
         Category restrictedCategory =
                 Category.builder().id("cat-1").name("개발 이야기").restricted(true).build();
         when(postUseCase.getById("post-1")).thenReturn(post);
-        when(categoryUseCase.getById("cat-1")).thenReturn(restrictedCategory);
+        when(categoryUseCase.getSnapshot()).thenReturn(snapshotOf(restrictedCategory));
         when(accessRequestUseCase.hasAccess("user-1", "post-1", "cat-1")).thenReturn(false);
 
         ResponseEntity<ApiResponse<PostResponse>> response =
@@ -101,7 +110,7 @@ class PostControllerTest {
         Category restrictedCategory =
                 Category.builder().id("cat-1").name("개발 이야기").restricted(true).build();
         when(postUseCase.getById("post-1")).thenReturn(post);
-        when(categoryUseCase.getById("cat-1")).thenReturn(restrictedCategory);
+        when(categoryUseCase.getSnapshot()).thenReturn(snapshotOf(restrictedCategory));
 
         ResponseEntity<ApiResponse<PostResponse>> response =
                 postController.getPostById("post-1", "admin-1", httpServletRequest);
@@ -113,6 +122,48 @@ class PostControllerTest {
         verify(accessRequestUseCase, never()).hasAccess("admin-1", "post-1", "cat-1");
     }
 
+    @Test
+    @DisplayName("시나리오: 목록 조회는 카테고리 스냅샷 한 번으로 글마다 제한 여부를 판단하고 카테고리를 개별 조회하지 않는다")
+    void getAllPostsResolvesRestrictionFromSnapshotWithoutPerPostLookup() {
+        Category restrictedCategory =
+                Category.builder().id("cat-1").name("개발 이야기").restricted(true).build();
+        Post restrictedPost = post(false);
+        Post openPost = post(false);
+        openPost.setId("post-2");
+        openPost.setExcerpt(null);
+        openPost.setCategory(Post.CategoryInfo.builder().id("cat-2").name("일상").build());
+        when(postUseCase.getAll(any()))
+                .thenReturn(
+                        new PageImpl<>(
+                                List.of(
+                                        PostSummary.from(restrictedPost),
+                                        PostSummary.from(openPost)),
+                                PageRequest.of(0, 10),
+                                2));
+        when(categoryUseCase.getSnapshot())
+                .thenReturn(
+                        snapshotOf(
+                                restrictedCategory,
+                                Category.builder().id("cat-2").name("일상").build()));
+
+        ResponseEntity<ApiResponse<Page<PostSummaryResponse>>> response =
+                postController.getAllPosts(0, 10, "publishedAt", "desc");
+
+        assertThat(response.getBody()).isNotNull();
+        List<PostSummaryResponse> data = response.getBody().getData().getContent();
+        assertThat(data.get(0).getRestricted()).isTrue();
+        assertThat(data.get(0).getExcerpt()).isEqualTo("요약");
+        assertThat(data.get(0).getContentPreview()).isNull();
+        assertThat(data.get(1).getRestricted()).isNull();
+        assertThat(data.get(1).getContentPreview()).isEqualTo("본문");
+        verify(categoryUseCase, times(1)).getSnapshot();
+        verify(categoryUseCase, never()).getById(anyString());
+    }
+
+    private static CategorySnapshot snapshotOf(Category... categories) {
+        return CategorySnapshot.of(1, List.of(categories));
+    }
+
     private static Post post(boolean publicOverride) {
         return Post.builder()
                 .id("post-1")
@@ -4,9 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.kscold.blog.blog.application.event.AccessGrantsChangedEvent;
 import com.kscold.blog.blog.application.port.in.PostUseCase;
 import com.kscold.blog.blog.domain.model.AccessRequest;
 import com.kscold.blog.blog.domain.model.Post;
@@ -18,9 +20,12 @@ import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class AccessRequestApplicationServiceTest {
@@ -31,6 +36,10 @@ class AccessRequestApplicationServiceTest {
 
     @Mock private UserQueryPort userQueryPort;
 
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @Spy private AccessGrantCache accessGrantCache = new AccessGrantCache();
+
     @InjectMocks private AccessRequestApplicationService accessRequestService;
 
     @Test
@@ -41,7 +50,7 @@ class AccessRequestApplicationServiceTest {
         when(userQueryPort.getUserById("user-1"))
                 .thenReturn(
                         new UserQueryPort.UserInfo("user-1", "kscold", "김승찬", null, false, null));
-        when(accessRequestRepository.findAllByUserIdAndCategoryId("user-1", "cat-1"))
+        when(accessRequestRepository.findByUserIdOrderByCreatedAtDesc("user-1"))
                 .thenReturn(List.of());
         when(accessRequestRepository.findByUserIdAndPostId("user-1", "post-1"))
                 .thenReturn(Optional.empty());
@@ -77,12 +86,8 @@ class AccessRequestApplicationServiceTest {
         when(userQueryPort.getUserById("user-1"))
                 .thenReturn(
                         new UserQueryPort.UserInfo("user-1", "kscold", "김승찬", null, false, null));
-        when(accessRequestRepository.findAllByUserIdAndCategoryId("user-1", "cat-1"))
+        when(accessRequestRepository.findByUserIdOrderByCreatedAtDesc("user-1"))
                 .thenReturn(List.of(approvedPostGrant));
-        when(accessRequestRepository.findByUserIdAndPostId("user-1", "post-1"))
-                .thenReturn(Optional.of(approvedPostGrant));
-        when(accessRequestRepository.findByUserIdAndPostId("user-1", "post-2"))
-                .thenReturn(Optional.empty());
 
         assertThat(accessRequestService.hasAccess("user-1", "post-1", "cat-1")).isTrue();
         assertThat(accessRequestService.hasAccess("user-1", "post-2", "cat-1")).isFalse();
@@ -103,7 +108,7 @@ class AccessRequestApplicationServiceTest {
         when(userQueryPort.getUserById("user-1"))
                 .thenReturn(
                         new UserQueryPort.UserInfo("user-1", "kscold", "김승찬", null, false, null));
-        when(accessRequestRepository.findAllByUserIdAndCategoryId("user-1", "cat-1"))
+        when(accessRequestRepository.findByUserIdOrderByCreatedAtDesc("user-1"))
                 .thenReturn(List.of(approvedCategoryGrant));
 
         assertThat(accessRequestService.hasAccess("user-1", "post-999", "cat-1")).isTrue();
@@ -124,7 +129,7 @@ class AccessRequestApplicationServiceTest {
         when(userQueryPort.getUserById("user-1"))
                 .thenReturn(
                         new UserQueryPort.UserInfo("user-1", "kscold", "김승찬", null, false, null));
-        when(accessRequestRepository.findAllByUserIdAndCategoryId("user-1", "cat-1"))
+        when(accessRequestRepository.findByUserIdOrderByCreatedAtDesc("user-1"))
                 .thenReturn(List.of(categoryApprovedRequest));
 
         assertThat(accessRequestService.hasAccess("user-1", "post-legacy", "cat-1")).isTrue();
@@ -153,7 +158,7 @@ class AccessRequestApplicationServiceTest {
         when(userQueryPort.getUserById("user-1"))
                 .thenReturn(
                         new UserQueryPort.UserInfo("user-1", "kscold", "김승찬", null, false, null));
-        when(accessRequestRepository.findAllByUserIdAndCategoryId("user-1", "cat-1"))
+        when(accessRequestRepository.findByUserIdOrderByCreatedAtDesc("user-1"))
                 .thenReturn(List.of(rejectedPostRequest));
         when(accessRequestRepository.findByUserIdAndPostId("user-1", "post-1"))
                 .thenReturn(Optional.of(rejectedPostRequest));
@@ -218,6 +223,40 @@ class AccessRequestApplicationServiceTest {
         verify(accessRequestRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("시나리오: 권한은 캐시에서 답하고, 승인되면 그 사용자 캐시가 비워져 바로 열람할 수 있다")
+    void approvalInvalidatesCachedGrants() {
+        AccessRequest pendingRequest =
+                AccessRequest.builder()
+                        .id("req-1")
+                        .userId("user-1")
+                        .postId("post-1")
+                        .categoryId("cat-1")
+                        .status(AccessRequest.Status.PENDING)
+                        .grantScope(AccessRequest.GrantScope.POST)
+                        .build();
+        when(userQueryPort.getUserById("user-1"))
+                .thenReturn(
+                        new UserQueryPort.UserInfo("user-1", "kscold", "김승찬", null, false, null));
+        when(accessRequestRepository.findByUserIdOrderByCreatedAtDesc("user-1"))
+                .thenReturn(List.of(pendingRequest));
+        when(accessRequestRepository.findById("req-1")).thenReturn(Optional.of(pendingRequest));
+        when(accessRequestRepository.save(any(AccessRequest.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(accessRequestService.hasAccess("user-1", "post-1", "cat-1")).isFalse();
+        assertThat(accessRequestService.hasAccess("user-1", "post-1", "cat-1")).isFalse();
+
+        accessRequestService.approve("req-1", null);
+        ArgumentCaptor<AccessGrantsChangedEvent> event =
+                ArgumentCaptor.forClass(AccessGrantsChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        accessGrantCache.onGrantsChanged(event.getValue());
+
+        assertThat(accessRequestService.hasAccess("user-1", "post-1", "cat-1")).isTrue();
+        verify(accessRequestRepository, times(2)).findByUserIdOrderByCreatedAtDesc("user-1");
+    }
+
     private static Post post(
             String id, String title, String slug, String categoryId, String categoryName) {
         return Post.builder()
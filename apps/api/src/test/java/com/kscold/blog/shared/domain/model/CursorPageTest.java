@@ -0,0 +1,41 @@
+package com.kscold.blog.shared.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorPageTest {
+
+    @Test
+    @DisplayName("시나리오: size + 1개를 받으면 초과분을 버리고 마지막으로 보여준 항목을 다음 커서로 쓴다")
+    void cutsExtraRowAndPointsCursorAtLastShownItem() {
+        CursorPage<String> page =
+                CursorPage.of(List.of("c", "b", "a"), 2, item -> "cursor-" + item);
+
+        assertThat(page.content()).containsExactly("c", "b");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo("cursor-b");
+    }
+
+    @Test
+    @DisplayName("시나리오: size 이하로 받으면 마지막 페이지라 커서가 없다")
+    void lastPageHasNoCursor() {
+        CursorPage<String> page = CursorPage.of(List.of("b", "a"), 2, item -> "cursor-" + item);
+
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.map(String::toUpperCase).content()).containsExactly("B", "A");
+    }
+
+    @Test
+    @DisplayName("시나리오: 마지막으로 보여준 항목의 커서를 만들 수 없으면 오류 없이 마지막 페이지로 끝낸다")
+    void endsWhenLastItemHasNoCursor() {
+        CursorPage<String> page = CursorPage.of(List.of("c", "b", "a"), 2, item -> null);
+
+        assertThat(page.content()).containsExactly("c", "b");
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+}
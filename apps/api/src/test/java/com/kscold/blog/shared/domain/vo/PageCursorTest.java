@@ -0,0 +1,58 @@
+package com.kscold.blog.shared.domain.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.kscold.blog.exception.InvalidRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+    @Test
+    @DisplayName("시나리오: 인코딩한 커서는 나노초와 구분자가 든 id까지 그대로 복원된다")
+    void roundTrip() {
+        PageCursor cursor =
+                new PageCursor(LocalDateTime.of(2024, 3, 1, 9, 30, 0, 123_456_789), "a|b");
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(PageCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("시나리오: 정렬 키가 없는 항목은 예외 없이 커서를 만들지 않는다")
+    void noTokenWithoutSortValue() {
+        LocalDateTime publishedAt = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+        assertThat(PageCursor.encode(null, "legacy")).isNull();
+        assertThat(PageCursor.encode(publishedAt, "a"))
+                .isEqualTo(new PageCursor(publishedAt, "a").encode());
+    }
+
+    @Test
+    @DisplayName("시나리오: 빈 토큰은 첫 페이지(null)이고, 형식이 깨진 토큰은 잘못된 요청으로 거절한다")
+    void rejectsMalformedTokens() {
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode("  ")).isNull();
+
+        assertThatThrownBy(() -> PageCursor.decode("%%%"))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PageCursor.decode(token("no-separator")))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PageCursor.decode(token("2024-03-01T09:30|")))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PageCursor.decode(token("yesterday|abc")))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,62 @@
+package com.kscold.blog.shared.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kscold.blog.shared.domain.vo.PageCursor;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+class KeysetQueryUtilsTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+    @Test
+    @DisplayName("시나리오: 첫 페이지는 기본 조건에 (정렬 키, _id) 내림차순과 size + 1 limit만 붙는다")
+    void firstPage() {
+        Query query =
+                KeysetQueryUtils.after(
+                        Criteria.where("status").is("PUBLISHED"), "createdAt", null, 20);
+
+        assertThat(query.getQueryObject()).isEqualTo(new Document("status", "PUBLISHED"));
+        assertThat(query.getSortObject())
+                .isEqualTo(new Document("createdAt", -1).append("_id", -1));
+        assertThat(query.getLimit()).isEqualTo(21);
+    }
+
+    @Test
+    @DisplayName("시나리오: 정렬 키가 같은 문서는 _id로 이어 읽어 경계에서 빠지거나 겹치지 않는다")
+    void breaksTiesOnId() {
+        ObjectId last = new ObjectId();
+
+        Query query =
+                KeysetQueryUtils.after(
+                        new Criteria(), "createdAt", new PageCursor(AT, last.toHexString()), 500);
+
+        List<?> and = query.getQueryObject().get("$and", List.class);
+        List<?> or = ((Document) and.get(1)).get("$or", List.class);
+        assertThat(or)
+                .containsExactly(
+                        new Document("createdAt", new Document("$lt", AT)),
+                        new Document("createdAt", AT).append("_id", new Document("$lt", last)));
+        assertThat(query.getLimit()).isEqualTo(KeysetQueryUtils.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("시나리오: ObjectId 형식이 아닌 id는 문자열 그대로 비교한다")
+    void keepsNonObjectIdAsString() {
+        Query query =
+                KeysetQueryUtils.after(
+                        new Criteria(), "createdAt", new PageCursor(AT, "note-1"), 0);
+
+        List<?> and = query.getQueryObject().get("$and", List.class);
+        List<?> or = ((Document) and.get(1)).get("$or", List.class);
+        assertThat(((Document) or.get(1)).get("_id")).isEqualTo(new Document("$lt", "note-1"));
+        assertThat(query.getLimit()).isEqualTo(2);
+    }
+}
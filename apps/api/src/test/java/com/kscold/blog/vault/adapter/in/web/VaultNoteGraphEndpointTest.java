@@ -0,0 +1,87 @@
+package com.kscold.blog.vault.adapter.in.web;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kscold.blog.analytics.application.service.ViewCounter;
+import com.kscold.blog.shared.web.ClientIdentifierResolver;
+import com.kscold.blog.vault.application.dto.response.GraphDataResponse;
+import com.kscold.blog.vault.application.port.in.VaultNoteUseCase;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class VaultNoteGraphEndpointTest {
+
+    private static final String ETAG = "\"graph-abc-3-l1\"";
+
+    @Mock private VaultNoteUseCase vaultNoteUseCase;
+    @Mock private ViewCounter viewCounter;
+    @Mock private ClientIdentifierResolver clientIdentifierResolver;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        VaultNoteController controller =
+                new VaultNoteController(
+                        vaultNoteUseCase,
+                        viewCounter,
+                        clientIdentifierResolver,
+                        new ObjectMapper().findAndRegisterModules());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        when(vaultNoteUseCase.getGraphETag()).thenReturn(ETAG);
+    }
+
+    @Test
+    @DisplayName("시나리오: 첫 요청은 ETag와 본문을 받고, 같은 ETag로 다시 물으면 본문 없이 304를 받는다")
+    void notModifiedWhenETagMatches() throws Exception {
+        when(vaultNoteUseCase.getGraphData())
+                .thenReturn(GraphDataResponse.builder().nodes(List.of()).links(List.of()).build());
+
+        mockMvc.perform(get("/vault/notes/graph"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(jsonPath("$.data.nodes").isArray());
+
+        mockMvc.perform(get("/vault/notes/graph").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().bytes(new byte[0]));
+
+        mockMvc.perform(
+                        get("/vault/notes/graph")
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"old\", W/" + ETAG))
+                .andExpect(status().isNotModified());
+
+        // 그래프가 그대로면 본문도 다시 만들지 않음
+        mockMvc.perform(get("/vault/notes/graph")).andExpect(status().isOk());
+        verify(vaultNoteUseCase, times(1)).getGraphData();
+    }
+
+    @Test
+    @DisplayName("시나리오: ETag가 다르면 최신 그래프 본문을 내려준다")
+    void servesBodyWhenETagDiffers() throws Exception {
+        when(vaultNoteUseCase.getGraphData())
+                .thenReturn(GraphDataResponse.builder().nodes(List.of()).links(List.of()).build());
+
+        mockMvc.perform(get("/vault/notes/graph").header(HttpHeaders.IF_NONE_MATCH, "\"old\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG));
+    }
+}
@@ -0,0 +1,81 @@
+package com.kscold.blog.vault.agent.adapter.in.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class AgentStreamRegistryTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AgentStreamRegistry registry = new AgentStreamRegistry(1000, 5000, now::get);
+
+    @Test
+    @DisplayName("시나리오: 끊긴 뒤 Last-Event-ID로 다시 붙으면 놓친 이벤트부터 이어 받는다")
+    void resumesFromLastEventId() {
+        RecordingEmitter first = new RecordingEmitter();
+        AgentStreamRun run = registry.start("user:u1", first);
+        registry.publish(run, "delta", "a");
+        registry.publish(run, "delta", "b");
+        first.disconnected = true;
+        registry.publish(run, "delta", "c");
+
+        RecordingEmitter second = new RecordingEmitter();
+        assertThat(registry.resume(run.id() + ":1", "user:u2", second)).isFalse();
+        assertThat(registry.resume(run.id() + ":1", "user:u1", second)).isTrue();
+        registry.publish(run, "complete", "d");
+
+        assertThat(first.ids).containsExactly(run.id() + ":1", run.id() + ":2");
+        assertThat(second.ids)
+                .containsExactly(run.id() + ":2", run.id() + ":3", run.id() + ":4");
+    }
+
+    @Test
+    @DisplayName("시나리오: 아무도 다시 붙지 않으면 유예 뒤 업스트림을 취소하고, 끝난 스트림은 보관 기간 뒤 지운다")
+    void cancelsAbandonedAndEvictsFinished() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        AgentStreamRun run = registry.start("guest:1.2.3.4", emitter);
+        Thread worker = new Thread(() -> {});
+        run.bindWorker(worker);
+        emitter.disconnected = true;
+        registry.publish(run, "delta", "a");
+
+        now.set(999);
+        registry.sweep();
+        assertThat(worker.isInterrupted()).isFalse();
+        now.set(1000);
+        registry.sweep();
+        assertThat(worker.isInterrupted()).isTrue();
+
+        registry.finish(run);
+        now.set(6000);
+        registry.sweep();
+        assertThat(registry.size()).isZero();
+    }
+
+    /** 보낸 이벤트 id를 기록하고, disconnected면 끊긴 연결처럼 IOException을 던짐 */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> ids = new ArrayList<>();
+        private boolean disconnected;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (disconnected) throw new IOException("closed");
+            builder.build().stream()
+                    .map(part -> part.getData().toString())
+                    .filter(data -> data.startsWith("id:"))
+                    .forEach(data -> ids.add(data.lines().findFirst().orElseThrow().substring(3)));
+        }
+
+        @Override
+        public void send(Object object, MediaType mediaType) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.kscold.blog.vault.agent.adapter.in.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DeltaCoalescerTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<String> frames = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("시나리오: 조각은 크기 한도나 다른 이벤트가 올 때 한 프레임으로 묶여 순서대로 나간다")
+    void coalescesUntilBytesOrOtherEvent() {
+        DeltaCoalescer coalescer = coalescer(60_000, 8);
+
+        coalescer.delta("ab");
+        coalescer.delta("\"c\n");
+        assertThat(frames).isEmpty();
+        coalescer.delta("한글"); // 6바이트라 한도 8을 넘김
+        coalescer.delta("d");
+        coalescer.event("complete", "{}");
+
+        assertThat(frames)
+                .containsExactly(
+                        "delta {\"delta\":\"ab\\\"c\\n한글\"}",
+                        "delta {\"delta\":\"d\"}",
+                        "complete {}");
+    }
+
+    @Test
+    @DisplayName("시나리오: 간격이 지나면 남은 조각을 보내고, 간격 0이면 조각마다 바로 보낸다")
+    void flushesOnIntervalOrImmediately() throws Exception {
+        coalescer(20, 1024).delta("tail");
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (frames.isEmpty() && System.currentTimeMillis() < deadline) Thread.sleep(5);
+        assertThat(frames).containsExactly("delta {\"delta\":\"tail\"}");
+
+        frames.clear();
+        DeltaCoalescer immediate = coalescer(0, 1024);
+        immediate.delta("a");
+        immediate.delta("b");
+        assertThat(frames).containsExactly("delta {\"delta\":\"a\"}", "delta {\"delta\":\"b\"}");
+    }
+
+    private DeltaCoalescer coalescer(long flushMillis, int flushBytes) {
+        return new DeltaCoalescer(
+                flushMillis,
+                flushBytes,
+                scheduler,
+                Runnable::run,
+                (name, data) -> frames.add(name + " " + data));
+    }
+}
@@ -0,0 +1,119 @@
+package com.kscold.blog.vault.agent.adapter.in.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kscold.blog.shared.web.ClientIdentifierResolver;
+import com.kscold.blog.vault.agent.application.port.in.VaultAgentUseCase;
+import com.kscold.blog.vault.agent.config.VaultAgentProperties;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class VaultAgentControllerStreamTest {
+
+    private static final String BUSY = "지금은 대화 요청이 많습니다";
+
+    @Mock private VaultAgentUseCase vaultAgentUseCase;
+    @Mock private ClientIdentifierResolver clientIdentifierResolver;
+
+    private final HeldExecutor executor = new HeldExecutor();
+    private final ScheduledExecutorService flushScheduler =
+            Executors.newSingleThreadScheduledExecutor();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        VaultAgentProperties properties = new VaultAgentProperties();
+        properties.setMaxConcurrentStreams(1);
+        mockMvc =
+                MockMvcBuilders.standaloneSetup(
+                                new VaultAgentController(
+                                        vaultAgentUseCase,
+                                        clientIdentifierResolver,
+                                        new ObjectMapper(),
+                                        properties,
+                                        executor,
+                                        new AgentStreamRegistry(properties),
+                                        flushScheduler))
+                        .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        flushScheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("시나리오: 동시 스트림 상한에 닿으면 바로 거절하고, 앞선 스트림이 끝나면 다시 받는다")
+    void rejectsAtMaxConcurrentStreams() throws Exception {
+        assertThat(stream()).doesNotContain(BUSY);
+        assertThat(stream()).contains("event:error").contains(BUSY);
+
+        executor.runHeld();
+
+        assertThat(stream()).doesNotContain(BUSY);
+    }
+
+    @Test
+    @DisplayName("시나리오: 실행기가 작업을 거절하면 오류 이벤트로 스트림을 닫고 자리를 돌려준다")
+    void releasesPermitWhenExecutorRejects() throws Exception {
+        executor.rejectNext = true;
+
+        assertThat(stream()).contains("event:error").contains(BUSY);
+
+        // 자리가 새지 않았다면 상한 1에서도 다음 요청은 받아짐
+        assertThat(stream()).doesNotContain(BUSY);
+        assertThat(executor.held).hasSize(1);
+    }
+
+    private String stream() throws Exception {
+        return mockMvc.perform(
+                        post("/vault/agent/chat/stream")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"message\":\"질문\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    /** 작업을 바로 실행하지 않고 쥐고 있다가 runHeld()에서 실행함. rejectNext면 다음 작업 하나를 거절함 */
+    private static class HeldExecutor implements Executor {
+        private final List<Runnable> held = new ArrayList<>();
+        private boolean rejectNext;
+
+        @Override
+        public void execute(Runnable command) {
+            if (rejectNext) {
+                rejectNext = false;
+                throw new RejectedExecutionException("shutting down");
+            }
+            held.add(command);
+        }
+
+        void runHeld() {
+            List<Runnable> tasks = List.copyOf(held);
+            held.clear();
+            tasks.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.kscold.blog.vault.agent.adapter.out.grpc;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.kscold.blog.vault.agent.config.VaultAgentProperties;
+import com.kscold.blog.vault.agent.domain.exception.AgentClientUnavailableException;
+import com.kscold.blog.vault.agent.domain.model.AgentContentAccessScope;
+import com.kscold.blog.vault.agent.domain.model.AgentStreamEvent;
+import com.kscold.blog.vault.agent.grpc.ChatRequest;
+import com.kscold.blog.vault.agent.grpc.ChatStreamEvent;
+import com.kscold.blog.vault.agent.grpc.VaultAgentServiceGrpc;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GrpcVaultAgentClientStreamTest {
+
+    private static final int WINDOW = 2;
+
+    private final FakeAgent agent = new FakeAgent();
+
+    private Server server;
+    private GrpcVaultAgentClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server =
+                InProcessServerBuilder.forName(name)
+                        .directExecutor()
+                        .addService(agent)
+                        .build()
+                        .start();
+        VaultAgentProperties properties = new VaultAgentProperties();
+        properties.setStreamWindow(WINDOW);
+        client =
+                new GrpcVaultAgentClient(
+                        properties, InProcessChannelBuilder.forName(name).directExecutor().build());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        client.shutdown();
+        server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("시나리오: 소비하지 않은 이벤트는 창 크기를 넘지 않고, 하나를 처리할 때마다 하나씩 더 받는다")
+    void keepsAtMostWindowEventsInFlight() {
+        agent.total = 10;
+        agent.completeWhenDone = true;
+        List<String> deltas = new ArrayList<>();
+        List<Integer> unconsumed = new ArrayList<>();
+
+        client.streamChat(
+                "질문",
+                null,
+                AgentContentAccessScope.publicOnly(),
+                event -> {
+                    unconsumed.add(agent.sent.get() - deltas.size());
+                    deltas.add(event.delta());
+                });
+
+        assertThat(deltas).hasSize(10).startsWith("d1", "d2").endsWith("d10");
+        assertThat(unconsumed).allSatisfy(count -> assertThat(count).isBetween(1, WINDOW));
+    }
+
+    @Test
+    @DisplayName("시나리오: 내용 없는 이벤트를 받아도 스트림을 끝내지 않고 뒤의 이벤트를 계속 받는다")
+    void skipsEmptyEventsWithoutEndingStream() {
+        agent.total = 2;
+        agent.leadingEmptyEvent = true;
+        agent.completeWhenDone = true;
+        List<String> deltas = new ArrayList<>();
+
+        client.streamChat(
+                "질문",
+                null,
+                AgentContentAccessScope.publicOnly(),
+                event -> deltas.add(event.delta()));
+
+        assertThat(deltas).containsExactly("d1", "d2");
+    }
+
+    @Test
+    @DisplayName("시나리오: 소비자가 예외를 던지면 에이전트 호출을 바로 취소한다")
+    void cancelsUpstreamWhenConsumerFails() throws InterruptedException {
+        agent.total = 1;
+
+        assertThatThrownBy(
+                        () ->
+                                client.streamChat(
+                                        "질문",
+                                        null,
+                                        AgentContentAccessScope.publicOnly(),
+                                        event -> {
+                                            throw new IllegalStateException("연결 끊김");
+                                        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("연결 끊김");
+
+        assertThat(agent.cancelled.await(5, SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("시나리오: 기다리던 스레드가 인터럽트되면 에이전트 호출을 취소하고 사용 불가 예외로 끝낸다")
+    void cancelsUpstreamWhenInterrupted() throws InterruptedException {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<AgentStreamEvent> received = new ArrayList<>();
+        Thread consumer =
+                Thread.ofVirtual()
+                        .start(
+                                () -> {
+                                    try {
+                                        client.streamChat(
+                                                "질문",
+                                                null,
+                                                AgentContentAccessScope.publicOnly(),
+                                                received::add);
+                                    } catch (RuntimeException exception) {
+                                        failure.set(exception);
+                                    }
+                                });
+
+        assertThat(agent.started.await(5, SECONDS)).isTrue();
+        consumer.interrupt();
+        consumer.join(5000);
+
+        assertThat(failure.get()).isInstanceOf(AgentClientUnavailableException.class);
+        assertThat(received).isEmpty();
+        assertThat(agent.cancelled.await(5, SECONDS)).isTrue();
+    }
+
+    /**
+     * 클라이언트가 요청한 만큼만(isReady) total개의 delta를 보내는 가짜 에이전트. completeWhenDone이 아니면 다 보낸 뒤에도 열어 둠.
+     * leadingEmptyEvent면 delta 앞에 빈 이벤트를 하나 먼저 보냄
+     */
+    private static class FakeAgent extends VaultAgentServiceGrpc.VaultAgentServiceImplBase {
+
+        final AtomicInteger sent = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        volatile int total;
+        volatile boolean completeWhenDone;
+        volatile boolean leadingEmptyEvent;
+        private boolean completed;
+
+        @Override
+        public void chatStream(ChatRequest request, StreamObserver<ChatStreamEvent> observer) {
+            ServerCallStreamObserver<ChatStreamEvent> call =
+                    (ServerCallStreamObserver<ChatStreamEvent>) observer;
+            call.setOnCancelHandler(cancelled::countDown);
+            call.setOnReadyHandler(
+                    () -> {
+                        if (leadingEmptyEvent && call.isReady()) {
+                            leadingEmptyEvent = false;
+                            call.onNext(ChatStreamEvent.getDefaultInstance());
+                        }
+                        while (call.isReady() && sent.get() < total) {
+                            call.onNext(
+                                    ChatStreamEvent.newBuilder()
+                                            .setDelta("d" + sent.incrementAndGet())
+                                            .build());
+                        }
+                        if (completeWhenDone && sent.get() == total && !completed) {
+                            completed = true;
+                            call.onCompleted();
+                        }
+                    });
+            started.countDown();
+        }
+    }
+}
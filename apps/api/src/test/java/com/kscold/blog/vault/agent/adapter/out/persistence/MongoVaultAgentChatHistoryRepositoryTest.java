@@ -0,0 +1,65 @@
+package com.kscold.blog.vault.agent.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.kscold.blog.vault.agent.domain.model.AgentChatMessage;
+import java.util.Date;
+import java.util.List;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+@ExtendWith(MockitoExtension.class)
+class MongoVaultAgentChatHistoryRepositoryTest {
+
+    private static final String COLLECTION = "vault_agent_chat_messages";
+
+    @Mock private MongoTemplate mongoTemplate;
+
+    @InjectMocks private MongoVaultAgentChatHistoryRepository repository;
+
+    @Test
+    @DisplayName("시나리오: 최근 메시지는 (createdAt, _id) 내림차순으로 limit개 읽어 오래된 순으로 돌려준다")
+    void findsLatestNewestFirstAndReturnsOldestFirst() {
+        ObjectId older = new ObjectId("000000000000000000000001");
+        ObjectId newer = new ObjectId("000000000000000000000002");
+        Date sameTime = new Date(1_000);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.find(query.capture(), eq(Document.class), eq(COLLECTION)))
+                .thenReturn(
+                        List.of(
+                                message(newer, "assistant", sameTime),
+                                message(older, "user", sameTime),
+                                message(new ObjectId(), "summary", new Date(999))));
+
+        List<AgentChatMessage> latest = repository.findLatestByScopeKey("user:u1:s1", 3);
+
+        assertThat(latest)
+                .extracting(AgentChatMessage::role)
+                .containsExactly("summary", "user", "assistant");
+        assertThat(latest.get(1).id()).isEqualTo(older.toHexString());
+        assertThat(query.getValue().getQueryObject())
+                .isEqualTo(new Document("scopeKey", "user:u1:s1"));
+        assertThat(query.getValue().getSortObject())
+                .isEqualTo(new Document("createdAt", -1).append("_id", -1));
+        assertThat(query.getValue().getLimit()).isEqualTo(3);
+    }
+
+    private static Document message(ObjectId id, String role, Date createdAt) {
+        return new Document("_id", id)
+                .append("scopeKey", "user:u1:s1")
+                .append("role", role)
+                .append("content", role)
+                .append("createdAt", createdAt);
+    }
+}
@@ -0,0 +1,101 @@
+package com.kscold.blog.vault.agent.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.kscold.blog.vault.agent.domain.exception.AgentBusyException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AgentAdmissionGateTest {
+
+    private final AgentAdmissionGate admission =
+            new AgentAdmissionGate(1, 3, 10, 5_000);
+
+    @Test
+    @DisplayName("시나리오: 한 게스트가 요청을 몰아 보내도 다른 클라이언트가 한 바퀴 안에 입장하고 대기 순서를 받는다")
+    void admitsClientsRoundRobin() throws Exception {
+        admission.acquire("guest:a", position -> {});
+        List<String> admitted = new CopyOnWriteArrayList<>();
+        Map<String, Integer> positions = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(4);
+
+        for (String name : List.of("a1", "a2", "a3", "b1")) {
+            String client = "guest:" + name.charAt(0);
+            int before = admission.queued();
+            Thread.ofVirtual()
+                    .start(
+                            () -> {
+                                admission.acquire(
+                                        client, position -> positions.put(name, position));
+                                admitted.add(name);
+                                admission.release();
+                                done.countDown();
+                            });
+            while (admission.queued() == before) Thread.onSpinWait();
+        }
+        assertThatThrownBy(() -> admission.acquire("guest:a", position -> {}))
+                .isInstanceOf(AgentBusyException.class);
+        awaitUntil(() -> Integer.valueOf(4).equals(positions.get("a3")));
+        assertThat(positions).containsEntry("a1", 1).containsEntry("b1", 2).containsEntry("a2", 3);
+
+        admission.release();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(admitted).containsExactly("a1", "b1", "a2", "a3");
+        assertThat(admission.active()).isZero();
+    }
+
+    @Test
+    @DisplayName("시나리오: 대기 시간이 지나면 포기시키고 자리를 차지하지 않는다")
+    void timesOutStaleWaiters() {
+        AgentAdmissionGate shortWait = new AgentAdmissionGate(1, 3, 10, 50);
+        shortWait.acquire("user:1", position -> {});
+
+        assertThatThrownBy(() -> shortWait.acquire("user:2", position -> {}))
+                .isInstanceOf(AgentBusyException.class);
+        assertThat(shortWait.queued()).isZero();
+        shortWait.release();
+        assertThat(shortWait.active()).isZero();
+    }
+
+    @Test
+    @DisplayName("시나리오: 대기 순서는 기다리는 스레드에서만 알리고, 입장한 뒤에는 더 알리지 않는다")
+    void reportsPositionsOnWaiterThreadOnly() throws Exception {
+        admission.acquire("user:1", position -> {});
+        List<String> events = new CopyOnWriteArrayList<>();
+        List<Thread> reporters = new CopyOnWriteArrayList<>();
+        Thread waiter =
+                Thread.ofVirtual()
+                        .start(
+                                () -> {
+                                    admission.acquire(
+                                            "user:2",
+                                            position -> {
+                                                reporters.add(Thread.currentThread());
+                                                events.add("queued:" + position);
+                                            });
+                                    events.add("admitted");
+                                });
+        awaitUntil(() -> events.contains("queued:1"));
+
+        admission.release();
+        waiter.join(5000);
+
+        assertThat(events).containsExactly("queued:1", "admitted");
+        assertThat(reporters).containsOnly(waiter);
+        admission.release();
+        assertThat(admission.active()).isZero();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) Thread.onSpinWait();
+    }
+}
@@ -0,0 +1,125 @@
+package com.kscold.blog.vault.agent.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kscold.blog.vault.agent.domain.model.AgentChatResult;
+import com.kscold.blog.vault.agent.domain.model.AgentChatStage;
+import com.kscold.blog.vault.agent.domain.model.AgentContentAccessScope;
+import com.kscold.blog.vault.agent.domain.model.AgentStreamEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AgentAnswerCacheTest {
+
+    private static final AgentContentAccessScope PUBLIC =
+            new AgentContentAccessScope(false, Set.of(), Set.of());
+
+    private final AtomicLong now = new AtomicLong();
+    private final AgentAnswerCache cache = new AgentAnswerCache(10, 1000, now::get);
+
+    @Test
+    @DisplayName("시나리오: 표기만 다른 같은 질문은 캐시에서 답하고, 범위 · TTL · 재인덱싱이 바뀌면 다시 묻는다")
+    void cachesByNormalizedQuestionScopeAndVersion() {
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.chat(cache.key("Vault 가 뭐야?", null, PUBLIC), () -> answer(calls));
+        cache.chat(cache.key("  vault   가 뭐야 ", null, PUBLIC), () -> answer(calls));
+        assertThat(calls).hasValue(1);
+
+        var member = new AgentContentAccessScope(false, Set.of("p1"), Set.of());
+        cache.chat(cache.key("vault 가 뭐야", null, member), () -> answer(calls));
+        assertThat(calls).hasValue(2);
+
+        cache.invalidateAll();
+        cache.chat(cache.key("vault 가 뭐야", null, PUBLIC), () -> answer(calls));
+        assertThat(calls).hasValue(3);
+
+        now.addAndGet(1000);
+        cache.chat(cache.key("vault 가 뭐야", null, PUBLIC), () -> answer(calls));
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("시나리오: 처리 중인 질문이 또 오면 업스트림을 한 번만 부르고 결과를 스트림으로 재생한다")
+    void sharesInFlightCallAndReplaysStream() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        var key = cache.key("질문", null, PUBLIC);
+
+        CompletableFuture<Void> leader =
+                CompletableFuture.runAsync(
+                        () ->
+                                cache.stream(
+                                        key,
+                                        event -> {},
+                                        handler -> {
+                                            calls.incrementAndGet();
+                                            started.countDown();
+                                            await(release);
+                                            handler.accept(AgentStreamEvent.delta("답변"));
+                                            handler.accept(
+                                                    AgentStreamEvent.completed(
+                                                            new AgentChatResult(
+                                                                    "",
+                                                                    List.of(
+                                                                            new AgentChatStage(
+                                                                                    "검색", "")),
+                                                                    List.of(),
+                                                                    List.of())));
+                                        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<AgentStreamEvent> followerEvents = new ArrayList<>();
+        CompletableFuture<Void> follower =
+                CompletableFuture.runAsync(
+                        () ->
+                                cache.stream(
+                                        key,
+                                        followerEvents::add,
+                                        handler -> calls.incrementAndGet()));
+        // 뒤에 온 요청이 앞선 요청을 기다리기 시작한 뒤에 풀어야 캐시 적중이 아니라 공유된 결과를 받았는지 확인됨
+        awaitWaiting(1);
+        release.countDown();
+        leader.get(5, TimeUnit.SECONDS);
+        follower.get(5, TimeUnit.SECONDS);
+
+        assertThat(calls).hasValue(1);
+        assertThat(followerEvents)
+                .extracting(AgentStreamEvent::type)
+                .containsExactly(
+                        AgentStreamEvent.Type.STAGE,
+                        AgentStreamEvent.Type.DELTA,
+                        AgentStreamEvent.Type.COMPLETED);
+        assertThat(followerEvents.get(2).result().answer()).isEqualTo("답변");
+    }
+
+    private static AgentChatResult answer(AtomicInteger calls) {
+        calls.incrementAndGet();
+        return new AgentChatResult("답", List.of(), List.of(), List.of());
+    }
+
+    private void awaitWaiting(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.waitingCount() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.kscold.blog.vault.agent.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kscold.blog.vault.agent.adapter.out.grpc.GrpcVaultAgentClient;
+import com.kscold.blog.vault.agent.config.VaultAgentProperties;
+import com.kscold.blog.vault.agent.domain.model.AgentContentAccessScope;
+import com.kscold.blog.vault.agent.domain.model.AgentIndexChange;
+import com.kscold.blog.vault.agent.domain.port.out.AgentIndexOutboxRepository;
+import com.kscold.blog.vault.agent.grpc.IndexDelta;
+import com.kscold.blog.vault.agent.grpc.ReindexDeltaRequest;
+import com.kscold.blog.vault.agent.grpc.ReindexDeltaResponse;
+import com.kscold.blog.vault.agent.grpc.VaultAgentServiceGrpc;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AgentIndexOutboxDispatcherTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final FakeAgent agent = new FakeAgent();
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private final AgentAnswerCache answerCache = new AgentAnswerCache(10, 600_000L, now::get);
+
+    private Server server;
+    private GrpcVaultAgentClient client;
+    private AgentIndexOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server =
+                InProcessServerBuilder.forName(name)
+                        .directExecutor()
+                        .addService(agent)
+                        .build()
+                        .start();
+        client =
+                new GrpcVaultAgentClient(
+                        new VaultAgentProperties(),
+                        InProcessChannelBuilder.forName(name).directExecutor().build());
+        dispatcher = new AgentIndexOutboxDispatcher(outbox, client, answerCache, now::get);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        client.shutdown();
+        server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("시나리오: 같은 문서의 변경은 마지막 것만 한 묶음으로 보내고 체크포인트를 옮기며 답변 캐시 버전을 올린다")
+    void coalescesAndAcknowledges() {
+        outbox.append("blog", "p1", false);
+        outbox.append("vault", "n1", false);
+        outbox.append("blog", "p1", true);
+        long cachedVersion = indexVersion();
+
+        assertThat(dispatcher.dispatch()).isEqualTo(3);
+        assertThat(indexVersion()).isGreaterThan(cachedVersion);
+
+        assertThat(agent.requests).hasSize(1);
+        assertThat(keys(agent.requests.get(0)))
+                .containsExactly("vault:n1:UPSERT", "blog:p1:DELETE");
+        assertThat(outbox.loadCheckpoint()).isEqualTo(3);
+        assertThat(outbox.entries).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시나리오: 에이전트 호출이 실패하면 체크포인트를 두고 백오프 뒤 같은 순번부터 다시 보낸다")
+    void retriesAfterBackoff() {
+        agent.failures.set(1);
+        outbox.append("feed", "f1", false);
+        outbox.append("vault", "n2", true);
+
+        long cachedVersion = indexVersion();
+        assertThat(dispatcher.dispatch()).isZero();
+        assertThat(outbox.loadCheckpoint()).isZero();
+        assertThat(indexVersion()).isEqualTo(cachedVersion);
+
+        // 백오프 동안은 호출하지 않음
+        assertThat(dispatcher.dispatch()).isZero();
+        assertThat(agent.requests).hasSize(1);
+
+        now.addAndGet(AgentIndexOutboxDispatcher.BASE_BACKOFF_MILLIS);
+        assertThat(dispatcher.dispatch()).isEqualTo(2);
+
+        assertThat(agent.requests).hasSize(2);
+        assertThat(keys(agent.requests.get(1)))
+                .containsExactly("feed:f1:UPSERT", "vault:n2:DELETE");
+        assertThat(outbox.loadCheckpoint()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("시나리오: 순번이 비면 그 앞까지만 보내고, 빈 순번이 채워지거나 서버 시계로 오래 비어 있으면 이어서 보낸다")
+    void advancesOnlyThroughContiguousSequences() {
+        outbox.append("blog", "p1", false);
+        long late = outbox.reserve();
+        outbox.append("vault", "n1", false);
+
+        assertThat(dispatcher.dispatch()).isEqualTo(1);
+        assertThat(outbox.loadCheckpoint()).isEqualTo(1);
+
+        // 늦게 저장된 항목은 건너뛰지 않고 순서대로 보냄
+        outbox.insert(late, "feed", "f1", false);
+        assertThat(dispatcher.dispatch()).isEqualTo(2);
+        assertThat(keys(agent.requests.get(1)))
+                .containsExactly("feed:f1:UPSERT", "vault:n1:UPSERT");
+        assertThat(outbox.loadCheckpoint()).isEqualTo(3);
+
+        // 저장되지 못한 순번은 뒤 항목이 기록된 뒤 제한 시간이 지나야 건너뜀
+        outbox.reserve();
+        outbox.append("blog", "p2", false);
+        assertThat(dispatcher.dispatch()).isZero();
+        outbox.serverTime.addAndGet(AgentIndexOutboxDispatcher.GAP_TIMEOUT_MILLIS);
+        assertThat(dispatcher.dispatch()).isZero();
+        outbox.serverTime.incrementAndGet();
+        assertThat(dispatcher.dispatch()).isEqualTo(1);
+        assertThat(outbox.loadCheckpoint()).isEqualTo(5);
+    }
+
+    private long indexVersion() {
+        return answerCache.key("질문", null, AgentContentAccessScope.publicOnly()).indexVersion();
+    }
+
+    private static List<String> keys(ReindexDeltaRequest request) {
+        return request.getDeltasList().stream()
+                .map(d -> d.getContentType() + ":" + d.getDocumentId() + ":" + d.getOperation())
+                .toList();
+    }
+
+    /** ReindexDelta만 응답하는 가짜 에이전트. failures만큼은 UNAVAILABLE로 실패함 */
+    private static class FakeAgent extends VaultAgentServiceGrpc.VaultAgentServiceImplBase {
+
+        final List<ReindexDeltaRequest> requests = new CopyOnWriteArrayList<>();
+        final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        public void reindexDelta(
+                ReindexDeltaRequest request, StreamObserver<ReindexDeltaResponse> observer) {
+            requests.add(request);
+            if (failures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                observer.onError(Status.UNAVAILABLE.asRuntimeException());
+                return;
+            }
+            int deleted =
+                    (int)
+                            request.getDeltasList().stream()
+                                    .filter(d -> d.getOperation() == IndexDelta.Operation.DELETE)
+                                    .count();
+            observer.onNext(
+                    ReindexDeltaResponse.newBuilder()
+                            .setIndexedDocuments(request.getDeltasCount() - deleted)
+                            .setDeletedDocuments(deleted)
+                            .build());
+            observer.onCompleted();
+        }
+    }
+
+    /** 기록 시각은 디스패처 시계와 따로 움직이는 serverTime으로 남김 */
+    private static class InMemoryOutbox implements AgentIndexOutboxRepository {
+
+        final TreeMap<Long, AgentIndexChange> entries = new TreeMap<>();
+        final AtomicLong serverTime = new AtomicLong(5_000_000L);
+        private long sequence;
+        private long checkpoint;
+
+        @Override
+        public void append(String contentType, String documentId, boolean deleted) {
+            insert(reserve(), contentType, documentId, deleted);
+        }
+
+        @Override
+        public void appendAll(String contentType, List<String> documentIds, boolean deleted) {
+            documentIds.forEach(documentId -> append(contentType, documentId, deleted));
+        }
+
+        /** 순번만 받고 아직 저장하지 않음 */
+        long reserve() {
+            return ++sequence;
+        }
+
+        void insert(long reserved, String contentType, String documentId, boolean deleted) {
+            entries.put(
+                    reserved,
+                    new AgentIndexChange(
+                            reserved,
+                            contentType,
+                            documentId,
+                            deleted,
+                            Instant.ofEpochMilli(serverTime.get())));
+        }
+
+        @Override
+        public List<AgentIndexChange> findAfter(long after, int limit) {
+            return entries.tailMap(after, false).values().stream().limit(limit).toList();
+        }
+
+        @Override
+        public Instant serverTime() {
+            return Instant.ofEpochMilli(serverTime.get());
+        }
+
+        @Override
+        public long loadCheckpoint() {
+            return checkpoint;
+        }
+
+        @Override
+        public void acknowledge(long acknowledged) {
+            checkpoint = Math.max(checkpoint, acknowledged);
+            entries.headMap(acknowledged, true).clear();
+        }
+    }
+}
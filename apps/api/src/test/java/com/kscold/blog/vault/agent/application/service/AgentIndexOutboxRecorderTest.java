@@ -0,0 +1,36 @@
+package com.kscold.blog.vault.agent.application.service;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.kscold.blog.vault.agent.domain.port.out.AgentIndexOutboxRepository;
+import com.kscold.blog.vault.application.event.VaultNoteChangedEvent;
+import com.kscold.blog.vault.domain.model.VaultNote;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AgentIndexOutboxRecorderTest {
+
+    @Mock private AgentIndexOutboxRepository outboxRepository;
+
+    @InjectMocks private AgentIndexOutboxRecorder recorder;
+
+    @Test
+    @DisplayName("시나리오: 가져오기로 한꺼번에 저장된 노트는 outbox에 한 번에 기록한다")
+    void recordsSavedBatchWithSingleAppend() {
+        recorder.onVaultNoteChanged(
+                VaultNoteChangedEvent.savedAll(
+                        List.of(
+                                VaultNote.builder().id("n1").build(),
+                                VaultNote.builder().id("n2").build())));
+
+        verify(outboxRepository).appendAll("vault", List.of("n1", "n2"), false);
+        verifyNoMoreInteractions(outboxRepository);
+    }
+}
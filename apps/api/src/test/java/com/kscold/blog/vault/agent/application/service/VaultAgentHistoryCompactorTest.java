@@ -0,0 +1,91 @@
+package com.kscold.blog.vault.agent.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kscold.blog.vault.agent.domain.model.AgentChatMessage;
+import com.kscold.blog.vault.agent.domain.port.out.VaultAgentChatHistoryRepository;
+import com.kscold.blog.vault.agent.domain.port.out.VaultAgentChatHistoryRepository.SessionSize;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VaultAgentHistoryCompactorTest {
+
+    @Mock private VaultAgentChatHistoryRepository chatHistoryRepository;
+
+    @InjectMocks private VaultAgentHistoryCompactor compactor;
+
+    @Test
+    @DisplayName("시나리오: 긴 대화는 최근 창만 남기고 그 앞 메시지와 이전 요약을 요약 하나로 접는다")
+    void foldsOldMessagesIntoSummary() {
+        when(chatHistoryRepository.findLargeSessions(
+                        eq(VaultAgentHistoryCompactor.COMPACT_THRESHOLD),
+                        isNull(),
+                        eq(VaultAgentHistoryCompactor.MAX_SESSIONS_PER_RUN)))
+                .thenReturn(List.of(new SessionSize("user:u1:s1", 203)));
+        when(chatHistoryRepository.findOldestByScopeKey(
+                        "user:u1:s1", 203 - VaultAgentHistoryCompactor.KEEP_RECENT))
+                .thenReturn(
+                        List.of(
+                                message("m0", "summary", "Q: 처음 질문\nA: 처음 답", 1),
+                                message("m1", "user", "Vault가\n뭐야?", 2),
+                                message("m2", "assistant", "x".repeat(400), 3)));
+
+        assertThat(compactor.compact()).isEqualTo(1);
+
+        ArgumentCaptor<AgentChatMessage> summary = ArgumentCaptor.forClass(AgentChatMessage.class);
+        verify(chatHistoryRepository)
+                .replaceWithSummary(summary.capture(), eq(List.of("m0", "m1", "m2")));
+        assertThat(summary.getValue().role()).isEqualTo("summary");
+        // 남긴 메시지가 접은 마지막 메시지와 같은 시각이어도 요약이 그보다 앞에 정렬됨
+        assertThat(summary.getValue().createdAt())
+                .isEqualTo(Instant.ofEpochSecond(3).minusMillis(1));
+        assertThat(summary.getValue().content())
+                .isEqualTo("Q: 처음 질문\nA: 처음 답\nQ: Vault가 뭐야?\nA: " + "x".repeat(300) + "…");
+    }
+
+    @Test
+    @DisplayName("시나리오: 처음에는 전체 대화를 세고, 그 뒤로는 지난 실행 이후 메시지가 쓰인 대화만 센다")
+    void countsOnlyRecentlyActiveSessionsAfterFirstRun() {
+        Instant before = Instant.now();
+
+        compactor.compact();
+        compactor.compact();
+
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        verify(chatHistoryRepository, times(2))
+                .findLargeSessions(
+                        eq(VaultAgentHistoryCompactor.COMPACT_THRESHOLD),
+                        since.capture(),
+                        eq(VaultAgentHistoryCompactor.MAX_SESSIONS_PER_RUN));
+        assertThat(since.getAllValues().get(0)).isNull();
+        assertThat(since.getAllValues().get(1))
+                .isAfterOrEqualTo(before.minus(VaultAgentHistoryCompactor.ACTIVE_SINCE_SLACK));
+    }
+
+    private static AgentChatMessage message(String id, String role, String content, long at) {
+        return new AgentChatMessage(
+                id,
+                "user:u1:s1",
+                "s1",
+                "u1",
+                "client",
+                role,
+                content,
+                List.of(),
+                List.of(),
+                Instant.ofEpochSecond(at));
+    }
+}
@@ -0,0 +1,67 @@
+package com.kscold.blog.vault.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kscold.blog.vault.application.event.VaultNoteChangedEvent;
+import com.kscold.blog.vault.domain.port.out.VaultDanglingLinkRepository;
+import com.kscold.blog.vault.domain.port.out.VaultNoteRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DanglingLinkResolverTest {
+
+    @Mock private VaultDanglingLinkRepository vaultDanglingLinkRepository;
+    @Mock private VaultNoteRepository vaultNoteRepository;
+
+    private final List<Object> events = new ArrayList<>();
+    private DanglingLinkResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver =
+                new DanglingLinkResolver(
+                        vaultDanglingLinkRepository, vaultNoteRepository, events::add);
+    }
+
+    @Test
+    @DisplayName("시나리오: 새 노트가 기다리던 slug를 채우면 대기 중이던 노트들에 링크가 한 번에 추가된다")
+    void resolve() {
+        when(vaultDanglingLinkRepository.takeSources("future-note"))
+                .thenReturn(Set.of("n1", "n2"));
+
+        int resolved = resolver.resolve("future-note", "n9");
+
+        assertThat(resolved).isEqualTo(2);
+        verify(vaultNoteRepository).addOutgoingLink(Set.of("n1", "n2"), "n9");
+        VaultNoteChangedEvent event = (VaultNoteChangedEvent) events.get(0);
+        assertThat(event.type()).isEqualTo(VaultNoteChangedEvent.Type.LINKED);
+        assertThat(event.noteId()).isEqualTo("n9");
+        assertThat(event.sourceIds()).containsExactlyInAnyOrder("n1", "n2");
+    }
+
+    @Test
+    @DisplayName("시나리오: 삭제된 노트를 가리키던 링크는 빠지고 그 slug의 대기 목록으로 돌아간다")
+    void onDeleted() {
+        when(vaultNoteRepository.findIdsLinkingTo("n9")).thenReturn(List.of("n1"));
+
+        resolver.onDeleted("future-note", "n9");
+
+        InOrder order = inOrder(vaultNoteRepository, vaultDanglingLinkRepository);
+        order.verify(vaultNoteRepository).removeOutgoingLink(List.of("n1"), "n9");
+        order.verify(vaultDanglingLinkRepository).addSources("future-note", List.of("n1"));
+        order.verify(vaultDanglingLinkRepository).removeNote("n9");
+        assertThat(events).containsExactly(VaultNoteChangedEvent.unlinked("n9", List.of("n1")));
+    }
+}
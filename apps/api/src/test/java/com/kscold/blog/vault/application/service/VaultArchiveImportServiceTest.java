@@ -0,0 +1,129 @@
+package com.kscold.blog.vault.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kscold.blog.identity.application.port.in.UserQueryPort;
+import com.kscold.blog.vault.domain.model.LinkReindexProgress;
+import com.kscold.blog.vault.domain.model.VaultFolder;
+import com.kscold.blog.vault.domain.model.VaultImportProgress;
+import com.kscold.blog.vault.domain.model.VaultNote;
+import com.kscold.blog.vault.domain.port.out.VaultFolderRepository;
+import com.kscold.blog.vault.domain.port.out.VaultNoteRepository;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class VaultArchiveImportServiceTest {
+
+    @Mock private VaultNoteRepository vaultNoteRepository;
+    @Mock private VaultFolderRepository vaultFolderRepository;
+    @Mock private UserQueryPort userQueryPort;
+    @Mock private VaultLinkReindexer vaultLinkReindexer;
+
+    private final List<VaultNote> inserted = new ArrayList<>();
+    private VaultArchiveImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service =
+                new VaultArchiveImportService(
+                        vaultNoteRepository,
+                        vaultFolderRepository,
+                        userQueryPort,
+                        vaultLinkReindexer,
+                        event -> {});
+        ReflectionTestUtils.setField(service, "maxArchiveBytes", 1024 * 1024L);
+    }
+
+    @Test
+    @DisplayName("시나리오: zip의 디렉터리는 폴더로, 마크다운은 노트로 한 번에 저장되고 링크는 마지막에 일괄 해석된다")
+    void importArchive() throws IOException {
+        when(userQueryPort.getUserById("admin"))
+                .thenReturn(new UserQueryPort.UserInfo("admin", "admin", "관리자", null, true, null));
+        when(vaultNoteRepository.findAllSlugs()).thenReturn(List.of("existing"));
+        when(vaultFolderRepository.findBySlug(any())).thenReturn(Optional.empty());
+        when(vaultFolderRepository.save(any()))
+                .thenAnswer(
+                        invocation -> {
+                            VaultFolder folder = invocation.getArgument(0);
+                            folder.setId("folder-" + folder.getSlug());
+                            return folder;
+                        });
+        when(vaultNoteRepository.insertAll(anyList()))
+                .thenAnswer(
+                        invocation -> {
+                            List<VaultNote> notes = invocation.getArgument(0);
+                            notes.forEach(note -> note.setId("id-" + note.getSlug()));
+                            inserted.addAll(notes);
+                            return notes;
+                        });
+        when(vaultLinkReindexer.runNow()).thenReturn(LinkReindexProgress.idle());
+
+        byte[] archive =
+                zip(
+                        Map.of(
+                                "Projects/Blog/Graph.md",
+                                "---\ntags: [graph, \"#vault\"]\n---\n[[Memory]] 참고",
+                                "Projects/Memory.md",
+                                "메모리 노트",
+                                "Existing.md",
+                                "이미 있는 노트",
+                                ".obsidian/workspace.md",
+                                "설정",
+                                "Projects/image.png",
+                                "png"));
+
+        VaultImportProgress progress =
+                service.importArchive(new ByteArrayInputStream(archive), "admin");
+
+        assertThat(progress.state()).isEqualTo(VaultImportProgress.State.COMPLETED);
+        assertThat(progress.scanned()).isEqualTo(3);
+        assertThat(progress.imported()).isEqualTo(2);
+        assertThat(progress.skipped()).isEqualTo(1);
+        assertThat(progress.foldersCreated()).isEqualTo(2);
+
+        VaultNote graph =
+                inserted.stream()
+                        .filter(note -> note.getSlug().equals("graph"))
+                        .findFirst()
+                        .orElseThrow();
+        assertThat(graph.getFolderId()).isEqualTo("folder-projects-blog");
+        assertThat(graph.getTags()).containsExactly("graph", "vault");
+        assertThat(graph.getContent()).isEqualTo("[[Memory]] 참고");
+
+        verify(vaultLinkReindexer).runNow();
+        verify(vaultFolderRepository)
+                .incrementNoteCounts(Map.of("folder-projects-blog", 1, "folder-projects", 1));
+    }
+
+    private static byte[] zip(Map<String, String> files) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> file : files.entrySet()) {
+                zip.putNextEntry(new ZipEntry(file.getKey()));
+                zip.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
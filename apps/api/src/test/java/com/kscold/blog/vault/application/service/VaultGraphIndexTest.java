@@ -0,0 +1,101 @@
+package com.kscold.blog.vault.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kscold.blog.vault.application.event.VaultNoteChangedEvent;
+import com.kscold.blog.vault.domain.model.VaultGraph;
+import com.kscold.blog.vault.domain.model.VaultNote;
+import com.kscold.blog.vault.domain.port.out.VaultNoteRepository;
+import com.kscold.blog.vault.domain.port.out.VaultNoteRepository.NoteContentLength;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VaultGraphIndexTest {
+
+    @Mock private VaultNoteRepository vaultNoteRepository;
+
+    private VaultGraphIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(vaultNoteRepository.findAllContentLengths())
+                .thenReturn(List.of(new NoteContentLength("a", 3), new NoteContentLength("b", 3)));
+        when(vaultNoteRepository.findAllForGraph())
+                .thenReturn(List.of(note("a", "본문a", "b"), note("b", "본문b")));
+        index = new VaultGraphIndex(vaultNoteRepository);
+    }
+
+    @Test
+    @DisplayName("시나리오: 노트 저장 · 삭제 이벤트는 DB를 다시 읽지 않고 그래프를 고치며 version과 태그를 올린다")
+    void savedAndDeletedEventsBumpVersion() {
+        VaultGraph initial = index.current();
+        String initialTag = index.tag();
+        assertThat(initial.nodeCount()).isEqualTo(2);
+
+        index.onNoteChanged(VaultNoteChangedEvent.saved(note("c", "새 노트", "a")));
+        VaultGraph afterSave = index.current();
+        assertThat(afterSave.version()).isGreaterThan(initial.version());
+        assertThat(afterSave.indexOf("c")).isNotNegative();
+        assertThat(index.tag()).isNotEqualTo(initialTag);
+
+        index.onNoteChanged(VaultNoteChangedEvent.deleted("b"));
+        VaultGraph afterDelete = index.current();
+        assertThat(afterDelete.version()).isGreaterThan(afterSave.version());
+        assertThat(afterDelete.indexOf("b")).isNegative();
+
+        verify(vaultNoteRepository, times(1)).findAllForGraph();
+    }
+
+    @Test
+    @DisplayName("시나리오: 그래프에 영향이 없는 이벤트는 version을 그대로 두어 ETag가 유지된다")
+    void unchangedEventsKeepVersion() {
+        index.current();
+        String tag = index.tag();
+
+        index.onNoteChanged(VaultNoteChangedEvent.saved(note("a", "본문a", "b")));
+        index.onNoteChanged(VaultNoteChangedEvent.deleted("missing"));
+
+        assertThat(index.tag()).isEqualTo(tag);
+    }
+
+    @Test
+    @DisplayName("시나리오: 미해결 링크가 연결 · 해제되면 DB를 다시 읽지 않고 그 노트들의 링크만 고친다")
+    void linkedAndUnlinkedEventsPatchSources() {
+        VaultGraph initial = index.current();
+
+        index.onNoteChanged(VaultNoteChangedEvent.linked("a", List.of("b", "missing")));
+        VaultGraph afterLink = index.current();
+        assertThat(afterLink.version()).isGreaterThan(initial.version());
+        assertThat(afterLink.linkCount()).isEqualTo(2);
+
+        index.onNoteChanged(VaultNoteChangedEvent.unlinked("b", List.of("a")));
+        VaultGraph afterUnlink = index.current();
+        assertThat(afterUnlink.version()).isGreaterThan(afterLink.version());
+        assertThat(afterUnlink.linkCount()).isEqualTo(1);
+
+        String tag = index.tag();
+        index.onNoteChanged(VaultNoteChangedEvent.unlinked("b", List.of("a")));
+        assertThat(index.tag()).isEqualTo(tag);
+
+        verify(vaultNoteRepository, times(1)).findAllForGraph();
+    }
+
+    private static VaultNote note(String id, String content, String... links) {
+        return VaultNote.builder()
+                .id(id)
+                .title(id)
+                .slug(id)
+                .content(content)
+                .outgoingLinks(List.of(links))
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.kscold.blog.vault.application.service;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kscold.blog.vault.domain.model.LinkReindexProgress;
+import com.kscold.blog.vault.domain.port.out.VaultDanglingLinkRepository;
+import com.kscold.blog.vault.domain.port.out.VaultNoteRepository;
+import com.kscold.blog.vault.domain.port.out.VaultNoteRepository.NoteLinkSource;
+import com.kscold.blog.vault.domain.service.BacklinkParsingService;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VaultLinkReindexerTest {
+
+    @Mock private VaultNoteRepository vaultNoteRepository;
+    @Mock private VaultDanglingLinkRepository vaultDanglingLinkRepository;
+
+    private VaultLinkReindexer reindexer;
+
+    @BeforeEach
+    void setUp() {
+        reindexer =
+                new VaultLinkReindexer(
+                        vaultNoteRepository,
+                        vaultDanglingLinkRepository,
+                        new BacklinkParsingService(vaultNoteRepository),
+                        event -> {});
+    }
+
+    @Test
+    @DisplayName("시나리오: 링크가 바뀐 노트만 한 번의 일괄 $set으로 갱신한다")
+    void updatesOnlyChangedNotes() {
+        when(vaultNoteRepository.findAllIdsBySlug())
+                .thenReturn(Map.of("ai-agent", "n1", "memory", "n2"));
+        when(vaultNoteRepository.streamLinkSources())
+                .thenReturn(
+                        Stream.of(
+                                new NoteLinkSource("n1", "[[Memory]]", List.of("n2")),
+                                new NoteLinkSource("n2", "[[AI Agent]] [[Memory]]", List.of()),
+                                new NoteLinkSource("n3", "[[Future Note]]", null)));
+
+        LinkReindexProgress progress = reindexer.runNow();
+
+        assertThat(progress.state()).isEqualTo(LinkReindexProgress.State.COMPLETED);
+        assertThat(progress.scanned()).isEqualTo(3);
+        assertThat(progress.updated()).isEqualTo(2);
+        verify(vaultNoteRepository)
+                .updateOutgoingLinks(Map.of("n2", List.of("n1", "n2"), "n3", List.of()));
+        verify(vaultDanglingLinkRepository).replaceAll(Map.of("future-note", Set.of("n3")));
+    }
+
+    @Test
+    @DisplayName("시나리오: 읽기 도중 실패하면 FAILED와 처리한 건수를 남긴다")
+    void recordsFailure() {
+        when(vaultNoteRepository.findAllIdsBySlug()).thenReturn(Map.of());
+        when(vaultNoteRepository.streamLinkSources())
+                .thenThrow(new IllegalStateException("cursor closed"));
+
+        LinkReindexProgress progress = reindexer.runNow();
+
+        assertThat(progress.state()).isEqualTo(LinkReindexProgress.State.FAILED);
+        assertThat(progress.error()).isEqualTo("cursor closed");
+        assertThat(reindexer.progress()).isEqualTo(progress);
+    }
+
+    @Test
+    @DisplayName("시나리오: 다른 재인덱싱이 돌고 있으면 예외 없이 끝나기를 기다렸다가 새로 한 번 더 실행한다")
+    void runNowQueuesAfterCurrentRun() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        when(vaultNoteRepository.findAllIdsBySlug()).thenReturn(Map.of());
+        when(vaultNoteRepository.streamLinkSources())
+                .thenAnswer(
+                        invocation -> {
+                            firstStarted.countDown();
+                            releaseFirst.await();
+                            return Stream.<NoteLinkSource>empty();
+                        })
+                .thenReturn(Stream.of(new NoteLinkSource("n1", "본문", null)));
+
+        reindexer.start();
+        assertThat(firstStarted.await(5, SECONDS)).isTrue();
+        CompletableFuture<LinkReindexProgress> queued =
+                CompletableFuture.supplyAsync(reindexer::runNow);
+
+        assertThatThrownBy(() -> queued.get(200, MILLISECONDS))
+                .isInstanceOf(TimeoutException.class);
+        releaseFirst.countDown();
+
+        LinkReindexProgress progress = queued.get(5, SECONDS);
+        assertThat(progress.state()).isEqualTo(LinkReindexProgress.State.COMPLETED);
+        assertThat(progress.scanned()).isEqualTo(1);
+        verify(vaultNoteRepository, times(2)).streamLinkSources();
+    }
+}
@@ -0,0 +1,39 @@
+package com.kscold.blog.vault.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VaultGraphTest {
+
+    @Test
+    @DisplayName("시나리오: 링크는 존재하는 노트만 CSR 인덱스로 담고 중복은 한 번만 둔다")
+    void buildsCsrAdjacency() {
+        VaultGraph graph =
+                VaultGraph.build(
+                        7,
+                        List.of(
+                                node("a", List.of("b", "c", "b", "deleted")),
+                                node("b", List.of()),
+                                node("c", List.of("a"))));
+
+        assertThat(graph.version()).isEqualTo(7);
+        assertThat(graph.nodeCount()).isEqualTo(3);
+        assertThat(graph.linkCount()).isEqualTo(3);
+
+        int a = graph.indexOf("a");
+        assertThat(graph.outDegree(a)).isEqualTo(2);
+        assertThat(graph.id(graph.target(a, 0))).isEqualTo("b");
+        assertThat(graph.id(graph.target(a, 1))).isEqualTo("c");
+        assertThat(graph.declaredLinkCount(a)).isEqualTo(4);
+        assertThat(graph.outDegree(graph.indexOf("b"))).isZero();
+        assertThat(graph.id(graph.target(graph.indexOf("c"), 0))).isEqualTo("a");
+        assertThat(graph.indexOf("deleted")).isEqualTo(-1);
+    }
+
+    private VaultGraph.Node node(String id, List<String> links) {
+        return new VaultGraph.Node(id, id.toUpperCase(), id, null, 10, links);
+    }
+}
@@ -1,11 +1,15 @@
 package com.kscold.blog.vault.domain.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.kscold.blog.vault.domain.model.VaultNote;
 import com.kscold.blog.vault.domain.port.out.VaultNoteRepository;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,10 +32,8 @@ class BacklinkParsingServiceTest {
     @Test
     @DisplayName("[[title|alias]]와 [[title#anchor]]를 대상 노트 ID로 파싱한다")
     void parseBacklinksWithAliasAndAnchor() {
-        when(vaultNoteRepository.findBySlug("ai-agent"))
-                .thenReturn(Optional.of(note("note-ai-agent")));
-        when(vaultNoteRepository.findBySlug("memory")).thenReturn(Optional.of(note("note-memory")));
-        when(vaultNoteRepository.findBySlug("missing-note")).thenReturn(Optional.empty());
+        when(vaultNoteRepository.findIdsBySlugs(Set.of("ai-agent", "memory", "missing-note")))
+                .thenReturn(Map.of("ai-agent", "note-ai-agent", "memory", "note-memory"));
 
         var links =
                 backlinkParsingService.parseBacklinks(
@@ -43,9 +45,14 @@ class BacklinkParsingServiceTest {
                 """);
 
         assertThat(links).containsExactly("note-ai-agent", "note-memory");
+        verify(vaultNoteRepository, never()).findBySlug(anyString());
     }
 
-    private VaultNote note(String id) {
-        return VaultNote.builder().id(id).build();
+    @Test
+    @DisplayName("링크가 없으면 DB를 조회하지 않는다")
+    void parseBacklinksWithoutLinksSkipsQuery() {
+        assertThat(backlinkParsingService.parseBacklinks("링크 없는 본문")).isEmpty();
+
+        verify(vaultNoteRepository, never()).findIdsBySlugs(anyCollection());
     }
 }
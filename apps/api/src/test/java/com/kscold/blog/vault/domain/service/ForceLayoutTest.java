@@ -0,0 +1,85 @@
+package com.kscold.blog.vault.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kscold.blog.vault.domain.model.GraphLayout;
+import com.kscold.blog.vault.domain.model.VaultGraph;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ForceLayoutTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    // 서로 이어지지 않은 두 삼각형 a-b-c, d-e-f
+    private final VaultGraph graph =
+            VaultGraph.build(
+                    1,
+                    List.of(
+                            node("a", "b"),
+                            node("b", "c"),
+                            node("c", "a"),
+                            node("d", "e"),
+                            node("e", "f"),
+                            node("f", "d")));
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("시나리오: 링크로 이어진 노트끼리는 이어지지 않은 노트보다 가깝게 배치된다")
+    void layout() {
+        GraphLayout layout = ForceLayout.layout(graph, 300, pool);
+
+        double linked = distance(layout, "a", "b");
+        assertThat(linked).isLessThan(distance(layout, "a", "d"));
+        assertThat(distance(layout, "e", "f")).isLessThan(distance(layout, "c", "f"));
+    }
+
+    @Test
+    @DisplayName("시나리오: 노트가 하나 늘면 이전 좌표에서 이어서 계산해 기존 배치가 크게 흔들리지 않는다")
+    void relayout() {
+        GraphLayout before = ForceLayout.layout(graph, 300, pool);
+        VaultGraph grown =
+                VaultGraph.build(
+                        2,
+                        List.of(
+                                node("a", "b"),
+                                node("b", "c"),
+                                node("c", "a"),
+                                node("d", "e"),
+                                node("e", "f"),
+                                node("f", "d"),
+                                node("g", "a")));
+
+        GraphLayout after = ForceLayout.relayout(grown, before, 60, pool);
+
+        assertThat(ForceLayout.countNew(grown, before)).isEqualTo(1);
+        for (String id : List.of("a", "b", "c", "d", "e", "f")) {
+            double moved = Math.hypot(x(after, id) - x(before, id), y(after, id) - y(before, id));
+            assertThat(moved).isLessThan(ForceLayout.LINK_DISTANCE * 2);
+        }
+        assertThat(distance(after, "g", "a")).isLessThan(distance(after, "g", "d"));
+    }
+
+    private static double distance(GraphLayout layout, String from, String to) {
+        return Math.hypot(x(layout, from) - x(layout, to), y(layout, from) - y(layout, to));
+    }
+
+    private static double x(GraphLayout layout, String id) {
+        return layout.x()[layout.graph().indexOf(id)];
+    }
+
+    private static double y(GraphLayout layout, String id) {
+        return layout.y()[layout.graph().indexOf(id)];
+    }
+
+    private static VaultGraph.Node node(String id, String... links) {
+        return new VaultGraph.Node(id, id, id, null, 0, List.of(links));
+    }
+}
@@ -0,0 +1,102 @@
+package com.kscold.blog.vault.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kscold.blog.vault.domain.model.MinHashLshIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MinHashTest {
+
+    private static final String[] WORDS = {
+        "노트", "그래프", "링크", "백링크", "옵시디언", "볼트", "검색", "인덱스", "캐시", "스프링",
+        "mongo", "query", "cursor", "layout", "signature", "shingle", "bucket", "agent"
+    };
+
+    @Test
+    @DisplayName("시나리오: MinHash 추정 유사도는 shingle 집합의 정확한 Jaccard와 가깝다")
+    void estimateMatchesExactJaccard() {
+        Random random = new Random(7);
+        double totalError = 0;
+        double maxError = 0;
+        int pairs = 0;
+        for (int variant = 0; variant <= 10; variant++) {
+            for (int repeat = 0; repeat < 5; repeat++) {
+                List<String> base = words(random, 300);
+                String a = String.join(" ", base);
+                String b = String.join(" ", mutate(random, base, variant / 10.0));
+
+                double exact = jaccard(MinHash.shingles(a), MinHash.shingles(b));
+                double estimate = MinHash.similarity(MinHash.signature(a), MinHash.signature(b));
+                double error = Math.abs(estimate - exact);
+                totalError += error;
+                maxError = Math.max(maxError, error);
+                pairs++;
+            }
+        }
+        // 서명 128개의 표준오차는 최대 sqrt(0.25 / 128) ≈ 0.044
+        assertThat(totalError / pairs).isLessThan(0.05);
+        assertThat(maxError).isLessThan(0.15);
+    }
+
+    @Test
+    @DisplayName("시나리오: LSH 색인은 거의 같은 노트를 찾고 무관한 노트는 후보로 내지 않는다")
+    void lshFindsNearDuplicates() {
+        Random random = new Random(11);
+        MinHashLshIndex index = new MinHashLshIndex();
+        List<String> base = words(random, 300);
+        index.put("original", MinHash.signature(String.join(" ", base)));
+        index.put("copy", MinHash.signature(String.join(" ", mutate(random, base, 0.02))));
+        for (int i = 0; i < 50; i++) {
+            index.put("other-" + i, MinHash.signature(String.join(" ", words(random, 300))));
+        }
+
+        List<MinHashLshIndex.Match> matches =
+                index.query(index.signature("original"), "original", 0.5, 10);
+
+        assertThat(matches).extracting(MinHashLshIndex.Match::noteId).containsExactly("copy");
+        assertThat(MinHash.decode(MinHash.encode(index.signature("copy"))))
+                .isEqualTo(index.signature("copy"));
+    }
+
+    private static List<String> words(Random random, int count) {
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            words.add(WORDS[random.nextInt(WORDS.length)] + random.nextInt(50));
+        }
+        return words;
+    }
+
+    /** 단어를 ratio 비율만큼 다른 단어로 바꿈 */
+    private static List<String> mutate(Random random, List<String> words, double ratio) {
+        List<String> result = new ArrayList<>(words);
+        for (int i = 0; i < result.size(); i++) {
+            if (random.nextDouble() < ratio) {
+                result.set(i, "변경" + random.nextInt(1000));
+            }
+        }
+        return result;
+    }
+
+    /** 정렬 · 중복 제거된 두 배열의 Jaccard 유사도 */
+    private static double jaccard(long[] a, long[] b) {
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) common / (a.length + b.length - common);
+    }
+}
@@ -0,0 +1,74 @@
+package com.kscold.blog.vault.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.kscold.blog.vault.domain.model.VaultGraph;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VaultGraphAlgorithmsTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    // a -> b -> c -> a 순환 + d -> c, e는 고립
+    private final VaultGraph graph =
+            VaultGraph.build(
+                    1,
+                    List.of(
+                            node("a", "b"),
+                            node("b", "c"),
+                            node("c", "a"),
+                            node("d", "c"),
+                            node("e")));
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("시나리오: PageRank 점수 합은 1이고 백링크가 많은 노트가 더 높다")
+    void pageRank() {
+        double[] scores = VaultGraphAlgorithms.pageRank(graph, 0.85, 100, 1e-9, pool);
+
+        assertThat(Arrays.stream(scores).sum()).isCloseTo(1.0, within(1e-6));
+        assertThat(scores[graph.indexOf("c")]).isGreaterThan(scores[graph.indexOf("b")]);
+        assertThat(scores[graph.indexOf("b")]).isGreaterThan(scores[graph.indexOf("d")]);
+    }
+
+    @Test
+    @DisplayName("시나리오: k-hop 이웃은 링크 방향과 무관하게 depth 안의 노드만 담는다")
+    void neighborhood() {
+        int[] oneHop = VaultGraphAlgorithms.neighborhood(graph, graph.indexOf("c"), 1, 100);
+        assertThat(ids(oneHop)).containsExactlyInAnyOrder("c", "a", "b", "d");
+
+        int[] fromE = VaultGraphAlgorithms.neighborhood(graph, graph.indexOf("e"), 3, 100);
+        assertThat(ids(fromE)).containsExactly("e");
+    }
+
+    @Test
+    @DisplayName("시나리오: 최단 경로는 방향 옵션에 따라 백링크를 거슬러 갈 수 있다")
+    void shortestPath() {
+        int d = graph.indexOf("d");
+        int b = graph.indexOf("b");
+
+        assertThat(ids(VaultGraphAlgorithms.shortestPath(graph, d, b, true)))
+                .containsExactly("d", "c", "a", "b");
+        assertThat(ids(VaultGraphAlgorithms.shortestPath(graph, b, d, false)))
+                .containsExactly("b", "c", "d");
+        assertThat(VaultGraphAlgorithms.shortestPath(graph, b, d, true)).isEmpty();
+    }
+
+    private List<String> ids(int[] nodes) {
+        return Arrays.stream(nodes).mapToObj(graph::id).toList();
+    }
+
+    private static VaultGraph.Node node(String id, String... links) {
+        return new VaultGraph.Node(id, id, id, null, 0, List.of(links));
+    }
+}
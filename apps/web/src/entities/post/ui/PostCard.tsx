@@ -56,7 +56,11 @@ export function PostCard({ post, featured = false, titleOnly = false }: PostCard
   const { allowRichEffects, supportsHover, reduceMotion, isTouchDevice } = usePerformanceMode();
   const visibleTags = filterVisibleTagInfos(post.tags);
   const isRestricted = Boolean(post.restricted);
-  const previewText = toPreviewText(post.excerpt || post.content, post.title, featured ? 220 : 160);
+  const previewText = toPreviewText(
+    post.excerpt || post.contentPreview || post.content,
+    post.title,
+    featured ? 220 : 160
+  );
   const formattedDate = post.publishedAt
     ? new Date(post.publishedAt).toLocaleDateString('ko-KR', {
         year: 'numeric',
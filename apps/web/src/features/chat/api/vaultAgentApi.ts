@@ -34,10 +34,14 @@ export interface VaultAgentContentScope {
 }
 
 export type VaultAgentStreamEvent =
+  /** 에이전트 호출 대기열에서 기다리는 중. position이 1이면 다음 차례 */
+  | { type: 'queued'; position: number }
   | { type: 'stage'; stage: VaultAgentStage }
   | { type: 'delta'; delta: string }
   | { type: 'complete'; response: VaultAgentChatResponse }
-  | { type: 'error'; message: string };
+  | { type: 'error'; message: string }
+  /** 이어 받지 못하고 처음부터 다시 받는 중. 지금까지 받은 단계 · 답변을 비워야 함 */
+  | { type: 'reset' };
 
 export interface VaultAgentHistoryMessage {
   id: string;
@@ -78,6 +82,14 @@ export function sendVaultAgentMessage(
   );
 }
 
+const STREAM_RESUME_ATTEMPTS = 3;
+const STREAM_RESUME_DELAY_MS = 1_000;
+
+/**
+ * 채팅 스트림. 응답 도중 연결이 끊기면 마지막으로 받은 이벤트 id를 Last-Event-ID로 보내 다시 붙고,
+ * 서버가 놓친 이벤트부터 이어 보냄. 서버가 이어 줄 스트림이 없으면 새 id로 처음부터 다시 보내므로
+ * 그때는 지금까지 받은 내용을 버리도록 reset 이벤트를 먼저 알림.
+ */
 export async function streamVaultAgentMessage(
   message: string,
   activeFolderName: string | undefined,
@@ -85,33 +97,17 @@ export async function streamVaultAgentMessage(
   onEvent: (event: VaultAgentStreamEvent) => void,
   signal?: AbortSignal
 ) {
-  const accessToken = await apiClient.getValidToken();
-  const response = await fetch(`${resolveApiBaseUrl()}/vault/agent/chat/stream`, {
-    method: 'POST',
-    headers: {
-      'Content-Type': 'application/json',
-      Accept: 'text/event-stream',
-      ...(accessToken ? { Authorization: `Bearer ${accessToken}` } : {}),
-    },
-    body: JSON.stringify({
-      message,
-      activeFolderName,
-      sessionId,
-    }),
-    signal,
-  });
-
-  if (!response.ok || !response.body) {
-    const errorMessage = await response.text().catch(() => '');
-    throw new Error(errorMessage || 'Agent 응답 연결을 시작하지 못했습니다.');
-  }
+  let lastEventId: string | undefined;
+  let finished = false;
 
-  const reader = response.body.getReader();
-  const decoder = new TextDecoder();
-  let buffer = '';
+  const streamIdOf = (eventId?: string) => eventId?.slice(0, eventId.lastIndexOf(':'));
 
   const consumePacket = (packet: string) => {
     const lines = packet.split(/\r?\n/);
+    const eventId = lines
+      .find(line => line.startsWith('id:'))
+      ?.slice('id:'.length)
+      .trim();
     const eventName = lines
       .find(line => line.startsWith('event:'))
       ?.slice('event:'.length)
@@ -124,8 +120,18 @@ export async function streamVaultAgentMessage(
     if (!eventName || !rawData) {
       return;
     }
+    if (eventId) {
+      if (lastEventId && streamIdOf(eventId) !== streamIdOf(lastEventId)) {
+        onEvent({ type: 'reset' });
+      }
+      lastEventId = eventId;
+    }
 
     const payload = parseStreamPayload(rawData);
+    if (eventName === 'queued' && isRecord(payload) && typeof payload.position === 'number') {
+      onEvent({ type: 'queued', position: payload.position });
+      return;
+    }
     if (eventName === 'stage' && isStage(payload)) {
       onEvent({ type: 'stage', stage: payload });
       return;
@@ -135,10 +141,12 @@ export async function streamVaultAgentMessage(
       return;
     }
     if (eventName === 'complete' && isChatResponse(payload)) {
+      finished = true;
       onEvent({ type: 'complete', response: payload });
       return;
     }
     if (eventName === 'error' && isRecord(payload)) {
+      finished = true;
       onEvent({
         type: 'error',
         message: typeof payload.message === 'string' ? payload.message : '응답을 만들지 못했습니다.',
@@ -146,29 +154,75 @@ export async function streamVaultAgentMessage(
     }
   };
 
-  try {
-    while (true) {
-      const { done, value } = await reader.read();
-      buffer += decoder.decode(value, { stream: !done });
-
-      let separatorIndex = buffer.search(/\r?\n\r?\n/);
-      while (separatorIndex >= 0) {
-        const packet = buffer.slice(0, separatorIndex);
-        const separatorLength = buffer[separatorIndex] === '\r' ? 4 : 2;
-        buffer = buffer.slice(separatorIndex + separatorLength);
-        consumePacket(packet);
-        separatorIndex = buffer.search(/\r?\n\r?\n/);
-      }
+  const readOnce = async () => {
+    const accessToken = await apiClient.getValidToken();
+    const response = await fetch(`${resolveApiBaseUrl()}/vault/agent/chat/stream`, {
+      method: 'POST',
+      headers: {
+        'Content-Type': 'application/json',
+        Accept: 'text/event-stream',
+        ...(accessToken ? { Authorization: `Bearer ${accessToken}` } : {}),
+        ...(lastEventId ? { 'Last-Event-ID': lastEventId } : {}),
+      },
+      body: JSON.stringify({
+        message,
+        activeFolderName,
+        sessionId,
+      }),
+      signal,
+    });
+
+    if (!response.ok || !response.body) {
+      const errorMessage = await response.text().catch(() => '');
+      throw new Error(errorMessage || 'Agent 응답 연결을 시작하지 못했습니다.');
+    }
+
+    const reader = response.body.getReader();
+    const decoder = new TextDecoder();
+    let buffer = '';
+
+    try {
+      while (true) {
+        const { done, value } = await reader.read();
+        buffer += decoder.decode(value, { stream: !done });
+
+        let separatorIndex = buffer.search(/\r?\n\r?\n/);
+        while (separatorIndex >= 0) {
+          const packet = buffer.slice(0, separatorIndex);
+          const separatorLength = buffer[separatorIndex] === '\r' ? 4 : 2;
+          buffer = buffer.slice(separatorIndex + separatorLength);
+          consumePacket(packet);
+          separatorIndex = buffer.search(/\r?\n\r?\n/);
+        }
 
-      if (done) {
-        if (buffer.trim()) {
-          consumePacket(buffer);
+        if (done) {
+          if (buffer.trim()) {
+            consumePacket(buffer);
+          }
+          return;
         }
+      }
+    } finally {
+      reader.releaseLock();
+    }
+  };
+
+  for (let attempt = 0; ; attempt++) {
+    try {
+      await readOnce();
+      if (finished || !lastEventId) {
         return;
       }
+    } catch (error) {
+      // complete · error 프레임을 받은 뒤 onEvent가 던진 오류는 연결 끊김이 아니므로 다시 붙지 않음
+      if (finished || signal?.aborted || !lastEventId || attempt >= STREAM_RESUME_ATTEMPTS) {
+        throw error;
+      }
+    }
+    if (attempt >= STREAM_RESUME_ATTEMPTS) {
+      throw new Error('Agent 응답 연결이 끊겼습니다.');
     }
-  } finally {
-    reader.releaseLock();
+    await new Promise(resolve => setTimeout(resolve, STREAM_RESUME_DELAY_MS * (attempt + 1)));
   }
 }
 
@@ -22,6 +22,8 @@ export interface Post {
   slug: string;
   content: string;
   excerpt: string;
+  /** 목록 응답에서 excerpt가 없을 때 내려오는 본문 앞부분 (목록은 content를 싣지 않음) */
+  contentPreview?: string;
   coverImage?: string;
   category: {
     id: string;
@@ -153,6 +153,25 @@ export function useAgentChat(isOpen: boolean) {
         undefined,
         sessionId,
         event => {
+          if (event.type === 'queued') {
+            setAgentMessages(previous =>
+              previous.map(message =>
+                message.id === assistantMessageId
+                  ? {
+                      ...message,
+                      stages: [
+                        {
+                          name: '차례 기다리는 중',
+                          detail: `앞선 질문을 처리하고 있어요. 대기 ${event.position}번째입니다.`,
+                        },
+                      ],
+                    }
+                  : message
+              )
+            );
+            return;
+          }
+
           if (event.type === 'stage') {
             setAgentMessages(previous =>
               previous.map(message => {
@@ -175,6 +194,18 @@ export function useAgentChat(isOpen: boolean) {
             return;
           }
 
+          if (event.type === 'reset') {
+            resetBuffer();
+            setAgentMessages(previous =>
+              previous.map(message =>
+                message.id === assistantMessageId
+                  ? { ...message, content: '', stages: [INITIAL_STREAM_STAGE] }
+                  : message
+              )
+            );
+            return;
+          }
+
           if (event.type === 'complete') {
             completedResponse = event.response;
             flushPendingDelta(assistantMessageId);